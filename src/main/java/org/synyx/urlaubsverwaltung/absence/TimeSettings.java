@@ -2,9 +2,10 @@ package org.synyx.urlaubsverwaltung.absence;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import java.io.Serializable;
 
 @Embeddable
-public class TimeSettings {
+public class TimeSettings implements Serializable {
 
     @Column(name = "timezoneid")
     private String timeZoneId = "Europe/Berlin";
@@ -0,0 +1,59 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.time.temporal.TemporalAdjusters.firstDayOfNextMonth;
+import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
+
+/**
+ * Read-only list of the months of the absence overview which creates every month on access.
+ *
+ * <p>
+ * The months are not kept by this list. Iterating over it while rendering (or serializing) keeps only one month
+ * in memory at a time, regardless of the number of months and persons of the overview.
+ * </p>
+ */
+final class AbsenceOverviewMonths extends AbstractList<AbsenceOverviewMonthDto> {
+
+    private final List<DateRange> monthDateRanges;
+    private final Function<DateRange, AbsenceOverviewMonthDto> monthFactory;
+
+    /**
+     * @param dateRange    of the overview, is split into one date range per month
+     * @param monthFactory creates the month for the given date range
+     */
+    AbsenceOverviewMonths(DateRange dateRange, Function<DateRange, AbsenceOverviewMonthDto> monthFactory) {
+        this.monthDateRanges = splitIntoMonths(dateRange);
+        this.monthFactory = monthFactory;
+    }
+
+    @Override
+    public AbsenceOverviewMonthDto get(int index) {
+        return monthFactory.apply(monthDateRanges.get(index));
+    }
+
+    @Override
+    public int size() {
+        return monthDateRanges.size();
+    }
+
+    private static List<DateRange> splitIntoMonths(DateRange dateRange) {
+        final List<DateRange> monthDateRanges = new ArrayList<>();
+
+        LocalDate monthStart = dateRange.getStartDate();
+        while (!monthStart.isAfter(dateRange.getEndDate())) {
+            final LocalDate lastDayOfMonth = monthStart.with(lastDayOfMonth());
+            final LocalDate monthEnd = lastDayOfMonth.isBefore(dateRange.getEndDate()) ? lastDayOfMonth : dateRange.getEndDate();
+            monthDateRanges.add(new DateRange(monthStart, monthEnd));
+            monthStart = monthStart.with(firstDayOfNextMonth());
+        }
+
+        return monthDateRanges;
+    }
+}
@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Absence records, public holidays and working days of one person for the date range of the absence overview.
+ *
+ * <p>
+ * Everything is indexed by the day offset to the start of the date range once, so filling the overview grid
+ * is a constant time lookup per person and day.
+ * </p>
+ */
+final class AbsenceOverviewPersonCalendar {
+
+    private final long startEpochDay;
+    private final List<List<AbsencePeriod.Record>> absenceRecordsByDay;
+    private final PublicHoliday[] publicHolidaysByDay;
+    private final boolean[] workdayByDay;
+
+    AbsenceOverviewPersonCalendar(DateRange dateRange, List<AbsencePeriod.Record> absenceRecords,
+                                  Collection<PublicHoliday> publicHolidays, List<WorkingTime> workingTimes) {
+
+        final LocalDate startDate = dateRange.getStartDate();
+        final LocalDate endDate = dateRange.getEndDate();
+        final int numberOfDays = Math.toIntExact(endDate.toEpochDay() - startDate.toEpochDay() + 1);
+
+        this.startEpochDay = startDate.toEpochDay();
+        this.absenceRecordsByDay = new ArrayList<>(numberOfDays);
+        this.publicHolidaysByDay = new PublicHoliday[numberOfDays];
+        this.workdayByDay = new boolean[numberOfDays];
+
+        for (int index = 0; index < numberOfDays; index++) {
+            absenceRecordsByDay.add(List.of());
+        }
+
+        for (AbsencePeriod.Record absenceRecord : absenceRecords) {
+            final int index = indexOf(absenceRecord.getDate());
+            if (index >= 0 && index < numberOfDays) {
+                if (absenceRecordsByDay.get(index).isEmpty()) {
+                    absenceRecordsByDay.set(index, new ArrayList<>(1));
+                }
+                absenceRecordsByDay.get(index).add(absenceRecord);
+            }
+        }
+
+        for (PublicHoliday publicHoliday : publicHolidays) {
+            final int index = indexOf(publicHoliday.getDate());
+            if (index >= 0 && index < numberOfDays) {
+                publicHolidaysByDay[index] = publicHoliday;
+            }
+        }
+
+        final List<WorkingTime> workingTimesNewestFirst = workingTimes.stream()
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .collect(toList());
+
+        LocalDate nextEnd = endDate;
+        for (WorkingTime workingTime : workingTimesNewestFirst) {
+            final LocalDate validFrom = workingTime.getValidFrom().isBefore(startDate) ? startDate : workingTime.getValidFrom();
+            for (LocalDate date = validFrom; !date.isAfter(nextEnd); date = date.plusDays(1)) {
+                workdayByDay[indexOf(date)] = workingTime.isWorkingDay(date.getDayOfWeek());
+            }
+
+            if (!validFrom.isAfter(startDate)) {
+                break;
+            }
+            if (!validFrom.isAfter(nextEnd)) {
+                nextEnd = validFrom.minusDays(1);
+            }
+        }
+    }
+
+    /**
+     * @param date within the date range of this calendar
+     * @return the absence records of the date, never {@code null}
+     */
+    List<AbsencePeriod.Record> getAbsenceRecords(LocalDate date) {
+        return absenceRecordsByDay.get(indexOf(date));
+    }
+
+    /**
+     * @param date within the date range of this calendar
+     * @return the public holiday of the date, empty optional if there is none
+     */
+    Optional<PublicHoliday> getPublicHoliday(LocalDate date) {
+        return Optional.ofNullable(publicHolidaysByDay[indexOf(date)]);
+    }
+
+    /**
+     * @param date within the date range of this calendar
+     * @return {@code true} if the date is a working day according to the valid working time, {@code false} otherwise
+     */
+    boolean isWorkday(LocalDate date) {
+        return workdayByDay[indexOf(date)];
+    }
+
+    private int indexOf(LocalDate date) {
+        return (int) (date.toEpochDay() - startEpochDay);
+    }
+}
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.absence.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.propertyeditors.CustomCollectionEditor;
 import org.springframework.context.MessageSource;
@@ -29,6 +31,8 @@ import org.synyx.urlaubsverwaltung.workingtime.FederalState;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -37,7 +41,6 @@ import java.time.format.TextStyle;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -47,6 +50,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
 import static java.util.Comparator.comparing;
@@ -55,6 +59,7 @@ import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toUnmodifiableList;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.util.StringUtils.hasText;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -77,13 +82,14 @@ public class AbsenceOverviewViewController {
     private final AbsenceService absenceService;
     private final WorkingTimeService workingTimeService;
     private final VacationTypeService vacationTypeService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public AbsenceOverviewViewController(PersonService personService, DepartmentService departmentService,
                                          MessageSource messageSource, Clock clock,
                                          PublicHolidaysService publicHolidaysService, SettingsService settingsService,
                                          AbsenceService absenceService, WorkingTimeService workingTimeService,
-                                         VacationTypeService vacationTypeService) {
+                                         VacationTypeService vacationTypeService, ObjectMapper objectMapper) {
         this.personService = personService;
         this.departmentService = departmentService;
         this.messageSource = messageSource;
@@ -93,6 +99,7 @@ public class AbsenceOverviewViewController {
         this.absenceService = absenceService;
         this.workingTimeService = workingTimeService;
         this.vacationTypeService = vacationTypeService;
+        this.objectMapper = objectMapper;
     }
 
     @InitBinder
@@ -106,6 +113,42 @@ public class AbsenceOverviewViewController {
         @RequestParam(required = false) String month,
         @RequestParam(name = "department", required = false, defaultValue = "") List<String> rawSelectedDepartments, Model model, Locale locale) {
 
+        final AbsenceOverviewDto absenceOverview = prepareAbsenceOverview(year, month, rawSelectedDepartments, model, locale);
+        model.addAttribute("absenceOverview", absenceOverview);
+
+        return "thymeleaf/absences/absences-overview";
+    }
+
+    /**
+     * Writes the absence overview as JSON. Every month is created, written and flushed to the response
+     * before the next one is created.
+     */
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    public void absenceOverviewJson(
+        @RequestParam(required = false) Integer year,
+        @RequestParam(required = false) String month,
+        @RequestParam(name = "department", required = false, defaultValue = "") List<String> rawSelectedDepartments, Model model, Locale locale,
+        HttpServletResponse response) throws IOException {
+
+        final AbsenceOverviewDto absenceOverview = prepareAbsenceOverview(year, month, rawSelectedDepartments, model, locale);
+
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(UTF_8.name());
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("months");
+            for (AbsenceOverviewMonthDto absenceOverviewMonth : absenceOverview.getMonths()) {
+                generator.writeObject(absenceOverviewMonth);
+                generator.flush();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private AbsenceOverviewDto prepareAbsenceOverview(Integer year, String month, List<String> rawSelectedDepartments, Model model, Locale locale) {
+
         final Person signedInUser = personService.getSignedInUser();
 
         final List<Person> overviewPersons;
@@ -163,10 +206,7 @@ public class AbsenceOverviewViewController {
 
         final DateRange dateRange = new DateRange(startDate, endDate);
         final List<AbsenceOverviewMonthDto> months = getAbsenceOverViewMonthModels(dateRange, overviewPersons, locale, shouldAnonymizeAbsenceType, recordInfoToColor);
-        final AbsenceOverviewDto absenceOverview = new AbsenceOverviewDto(months);
-        model.addAttribute("absenceOverview", absenceOverview);
-
-        return "thymeleaf/absences/absences-overview";
+        return new AbsenceOverviewDto(months);
     }
 
     private List<VacationTypeColorDto> prepareVacationTypeColorsForLegend(boolean isSignedInUserAllowedToSeeAbsences, boolean isSignedInUserInOverview, List<VacationType> vacationTypes) {
@@ -200,7 +240,6 @@ public class AbsenceOverviewViewController {
         final List<WorkingTime> workingTimeList = workingTimeService.getByPersons(personList);
         final List<AbsencePeriod> openAbsences = absenceService.getOpenAbsences(personList, dateRange.getStartDate(), dateRange.getEndDate());
 
-        final HashMap<Integer, AbsenceOverviewMonthDto> monthsByNr = new HashMap<>();
         final FederalState defaultFederalState = settingsService.getSettings().getWorkingTimeSettings().getFederalState();
 
         final Map<Person, List<AbsencePeriod.Record>> absencePeriodRecordsByPerson = openAbsences.stream()
@@ -208,70 +247,58 @@ public class AbsenceOverviewViewController {
             .flatMap(List::stream)
             .collect(groupingBy(AbsencePeriod.Record::getPerson));
 
-        final Map<Person, Map<LocalDate, PublicHoliday>> publicHolidaysOfAllPersons = new HashMap<>();
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeList.stream()
+            .collect(groupingBy(WorkingTime::getPerson));
+
+        final List<AbsenceOverviewPersonCalendar> personCalendars = new ArrayList<>(personList.size());
         for (Person person : personList) {
-            publicHolidaysOfAllPersons.put(person, getPublicHolidaysOfPerson(dateRange, person));
+            personCalendars.add(new AbsenceOverviewPersonCalendar(dateRange,
+                absencePeriodRecordsByPerson.getOrDefault(person, List.of()),
+                getPublicHolidaysOfPerson(dateRange, person),
+                workingTimesByPerson.getOrDefault(person, List.of())));
         }
 
-        for (LocalDate date : dateRange) {
-            final AbsenceOverviewMonthDto monthView = monthsByNr.computeIfAbsent(date.getMonthValue(),
-                monthValue -> this.initializeAbsenceOverviewMonthDto(date, personList, locale));
+        return new AbsenceOverviewMonths(dateRange, monthDateRange ->
+            getAbsenceOverviewMonthModel(monthDateRange, personList, personCalendars, defaultFederalState, today, locale, shouldAnonymizeAbsenceType, recordInfoToColor));
+    }
 
-            final AbsenceOverviewMonthDayDto tableHeadDay = tableHeadDay(date, defaultFederalState, today, locale);
-            monthView.getDays().add(tableHeadDay);
+    private AbsenceOverviewMonthDto getAbsenceOverviewMonthModel(DateRange monthDateRange, List<Person> personList, List<AbsenceOverviewPersonCalendar> personCalendars,
+                                                                 FederalState defaultFederalState, LocalDate today, Locale locale,
+                                                                 Function<AbsencePeriod.RecordInfo, Boolean> shouldAnonymizeAbsenceType, Function<AbsencePeriod.RecordInfo, VacationTypeColor> recordInfoToColor) {
 
-            final Map<AbsenceOverviewMonthPersonDto, Person> personByView = personList.stream()
-                .collect(
-                    toMap(person -> monthView.getPersons().stream()
-                        .filter(view -> view.getId().equals(person.getId()))
-                        .findFirst()
-                        .orElse(null), Function.identity())
-                );
+        final AbsenceOverviewMonthDto monthView = initializeAbsenceOverviewMonthDto(monthDateRange.getStartDate(), personList, locale);
 
-            // create an absence day dto for every person of the department
-            for (AbsenceOverviewMonthPersonDto personView : monthView.getPersons()) {
+        for (LocalDate date : monthDateRange) {
 
-                final Person person = personByView.get(personView);
+            final AbsenceOverviewMonthDayDto tableHeadDay = tableHeadDay(date, defaultFederalState, today, locale);
+            monthView.getDays().add(tableHeadDay);
 
-                final List<WorkingTime> personWorkingTimeList = workingTimeList
-                    .stream()
-                    .filter(workingTime -> workingTime.getPerson().equals(person))
-                    .sorted(comparing(WorkingTime::getValidFrom).reversed())
-                    .collect(toList());
+            // create an absence day dto for every person of the department
+            // month view persons and person calendars have the same order as the given person list
+            final List<AbsenceOverviewMonthPersonDto> personViews = monthView.getPersons();
+            for (int personIndex = 0; personIndex < personViews.size(); personIndex++) {
 
-                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = Optional.ofNullable(absencePeriodRecordsByPerson.get(person))
-                    .stream()
-                    .flatMap(List::stream)
-                    .filter(absenceRecord -> absenceRecord.getDate().isEqual(date))
-                    .collect(toUnmodifiableList());
+                final AbsenceOverviewPersonCalendar personCalendar = personCalendars.get(personIndex);
+                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = personCalendar.getAbsenceRecords(date);
 
-                final AbsenceOverviewDayType personViewDayType = Optional.ofNullable(publicHolidaysOfAllPersons.get(person).get(date))
+                final AbsenceOverviewDayType personViewDayType = personCalendar.getPublicHoliday(date)
                     .map(publicHoliday -> getAbsenceOverviewDayType(personAbsenceRecordsForDate, shouldAnonymizeAbsenceType, publicHoliday, recordInfoToColor))
                     .orElseGet(() -> getAbsenceOverviewDayType(personAbsenceRecordsForDate, shouldAnonymizeAbsenceType, recordInfoToColor))
                     .build();
 
-                personView.getDays().add(new AbsenceOverviewPersonDayDto(personViewDayType, isWorkday(date, personWorkingTimeList)));
+                personViews.get(personIndex).getDays().add(new AbsenceOverviewPersonDayDto(personViewDayType, personCalendar.isWorkday(date)));
             }
         }
 
-        return new ArrayList<>(monthsByNr.values());
+        return monthView;
     }
 
-    private boolean isWorkday(LocalDate date, List<WorkingTime> workingTimeList) {
-        return workingTimeList
-            .stream()
-            .filter(w -> w.getValidFrom().isBefore(date) || w.getValidFrom().isEqual(date))
-            .findFirst()
-            .map(w -> w.isWorkingDay(date.getDayOfWeek()))
-            .orElse(false);
-    }
-
-    private Map<LocalDate, PublicHoliday> getPublicHolidaysOfPerson(DateRange dateRange, Person person) {
+    private List<PublicHoliday> getPublicHolidaysOfPerson(DateRange dateRange, Person person) {
         return workingTimeService.getFederalStatesByPersonAndDateRange(person, dateRange)
             .entrySet().stream()
             .map(entry -> publicHolidaysService.getPublicHolidays(entry.getKey().getStartDate(), entry.getKey().getEndDate(), entry.getValue()))
             .flatMap(List::stream)
-            .collect(toMap(PublicHoliday::getDate, Function.identity()));
+            .collect(toList());
     }
 
     private AbsenceOverviewMonthDto initializeAbsenceOverviewMonthDto(LocalDate date, List<Person> personList, Locale locale) {
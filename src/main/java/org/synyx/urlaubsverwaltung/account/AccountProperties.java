@@ -9,6 +9,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.time.Duration;
 
 @Component
 @ConfigurationProperties("uv.account")
@@ -61,6 +62,32 @@ public class AccountProperties {
         @CronExpression
         private String cron = "0 0 5 1 1 *";
 
+        /**
+         * Resumes an update of the users accounts that has been interrupted by default every 15 minutes
+         */
+        @CronExpression
+        private String resumeCron = "0 */15 * * * *";
+
+        /**
+         * Number of persons whose accounts are updated in one chunk
+         */
+        @Min(1)
+        private int chunkSize = 100;
+
+        /**
+         * Number of chunks that are processed in parallel
+         */
+        @Min(1)
+        private int threads = 2;
+
+        /**
+         * A chunk that is claimed for longer than this duration is considered as abandoned, e.g. because the
+         * claiming application instance crashed, and may be claimed again. Has to be longer than updating
+         * the accounts of one chunk takes.
+         */
+        @NotNull
+        private Duration claimTimeout = Duration.ofMinutes(15);
+
         public String getCron() {
             return cron;
         }
@@ -68,6 +95,38 @@ public class AccountProperties {
         public void setCron(String cron) {
             this.cron = cron;
         }
+
+        public String getResumeCron() {
+            return resumeCron;
+        }
+
+        public void setResumeCron(String resumeCron) {
+            this.resumeCron = resumeCron;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
     }
 
     public static class VacationDaysReminder {
@@ -84,6 +143,18 @@ public class AccountProperties {
         @CronExpression
         private String expiredRemainingVacationDaysCron = "0 0 6 * * *";
 
+        /**
+         * Number of persons whose holidays accounts and vacation days are loaded together
+         */
+        @Min(1)
+        private int chunkSize = 100;
+
+        /**
+         * Number of chunks that are processed in parallel
+         */
+        @Min(1)
+        private int threads = 2;
+
         public String getVacationDaysLeftCron() {
             return vacationDaysLeftCron;
         }
@@ -99,5 +170,21 @@ public class AccountProperties {
         public void setExpiredRemainingVacationDaysCron(String expiredRemainingVacationDaysCron) {
             this.expiredRemainingVacationDaysCron = expiredRemainingVacationDaysCron;
         }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
     }
 }
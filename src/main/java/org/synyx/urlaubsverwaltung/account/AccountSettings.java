@@ -1,12 +1,13 @@
 package org.synyx.urlaubsverwaltung.account;
 
 import javax.persistence.Embeddable;
+import java.io.Serializable;
 
 /**
  * Settings concerning absence of persons because of vacation or sick days.
  */
 @Embeddable
-public class AccountSettings {
+public class AccountSettings implements Serializable {
 
     /**
      * Based on http://www.gesetze-im-internet.de/burlg/__3.html the default is 24 days
@@ -0,0 +1,102 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.persistence.EnumType.STRING;
+import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * Checkpoint of the turn of the year update: the persons of one chunk and whether their accounts have been updated.
+ */
+@Entity(name = "account_update_chunk")
+class AccountUpdateChunkEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "update_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int chunkNumber;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private AccountUpdateChunkStatus status;
+
+    private Instant claimedAt;
+
+    private Instant completedAt;
+
+    @ElementCollection(fetch = EAGER)
+    @CollectionTable(name = "account_update_chunk_person", joinColumns = @JoinColumn(name = "account_update_chunk_id"))
+    private List<AccountUpdateChunkPersonEmbeddable> persons = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    public int getChunkNumber() {
+        return chunkNumber;
+    }
+
+    public void setChunkNumber(int chunkNumber) {
+        this.chunkNumber = chunkNumber;
+    }
+
+    public AccountUpdateChunkStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AccountUpdateChunkStatus status) {
+        this.status = status;
+    }
+
+    public Instant getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(Instant claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public List<AccountUpdateChunkPersonEmbeddable> getPersons() {
+        return persons;
+    }
+
+    public void setPersons(List<AccountUpdateChunkPersonEmbeddable> persons) {
+        this.persons = persons;
+    }
+}
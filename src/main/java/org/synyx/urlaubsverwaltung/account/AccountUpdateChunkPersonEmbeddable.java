@@ -0,0 +1,35 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+class AccountUpdateChunkPersonEmbeddable {
+
+    @Column(name = "person_id", nullable = false)
+    private Integer personId;
+
+    @Column(name = "updated", nullable = false)
+    private boolean updated;
+
+    protected AccountUpdateChunkPersonEmbeddable() {
+        // ok
+    }
+
+    AccountUpdateChunkPersonEmbeddable(Integer personId, boolean updated) {
+        this.personId = personId;
+        this.updated = updated;
+    }
+
+    public Integer getPersonId() {
+        return personId;
+    }
+
+    public boolean isUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(boolean updated) {
+        this.updated = updated;
+    }
+}
@@ -0,0 +1,41 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+interface AccountUpdateChunkRepository extends CrudRepository<AccountUpdateChunkEntity, Long> {
+
+    boolean existsByYear(int year);
+
+    boolean existsByYearAndStatusNot(int year, AccountUpdateChunkStatus status);
+
+    List<AccountUpdateChunkEntity> findByYearOrderByChunkNumber(int year);
+
+    List<AccountUpdateChunkEntity> findByYearAndStatusInOrderByChunkNumber(int year, List<AccountUpdateChunkStatus> status);
+
+    /**
+     * Claims a chunk that is pending or whose claim is older than the given instant,
+     * e.g. because the claiming application instance crashed.
+     *
+     * @return 1 if the chunk has been claimed, 0 if it is claimed by another application instance or completed
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        "update account_update_chunk c set c.status = :inProgress, c.claimedAt = :now " +
+            "where c.id = :id and (c.status = :pending or (c.status = :inProgress and c.claimedAt < :claimedBefore))"
+    )
+    int claim(@Param("id") Long id, @Param("now") Instant now, @Param("claimedBefore") Instant claimedBefore,
+              @Param("pending") AccountUpdateChunkStatus pending, @Param("inProgress") AccountUpdateChunkStatus inProgress);
+
+    @Modifying
+    @Transactional
+    @Query("update account_update_chunk c set c.status = :newStatus where c.year = :year and c.status = :status")
+    int updateStatus(@Param("year") int year, @Param("status") AccountUpdateChunkStatus status, @Param("newStatus") AccountUpdateChunkStatus newStatus);
+}
@@ -0,0 +1,24 @@
+package org.synyx.urlaubsverwaltung.account;
+
+enum AccountUpdateChunkStatus {
+
+    /**
+     * The accounts of the chunk have not been updated yet
+     */
+    PENDING,
+
+    /**
+     * The chunk is claimed by an application instance that updates the accounts
+     */
+    IN_PROGRESS,
+
+    /**
+     * The accounts of the chunk have been updated
+     */
+    COMPLETED,
+
+    /**
+     * The accounts of the chunk have been updated and are part of the sent summary
+     */
+    SUMMARIZED
+}
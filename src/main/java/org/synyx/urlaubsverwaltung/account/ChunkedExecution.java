@@ -0,0 +1,73 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.slf4j.Logger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Splits the work of the account jobs into chunks and processes them in a fixed pool of threads
+ * that only exists while the chunks are processed.
+ */
+final class ChunkedExecution {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private ChunkedExecution() {
+        // ok
+    }
+
+    static <T> List<List<T>> partition(List<T> items, int chunkSize) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Processes the given chunks with at most the given number of threads and waits until all chunks are processed.
+     * A failing chunk is logged and does not stop the other chunks.
+     *
+     * @param name      of the job, used for the thread names and logging
+     * @param chunks    to process
+     * @param threads   maximum number of chunks that are processed in parallel
+     * @param processor processes one chunk
+     */
+    static <T> void forEachInParallel(String name, List<T> chunks, int threads, Consumer<T> processor) {
+
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(threads, chunks.size()), new CustomizableThreadFactory(name + "-"));
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (T chunk : chunks) {
+                futures.add(executorService.submit(() -> processor.accept(chunk)));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    LOG.error("Failed to process a chunk of {}", name, e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while processing the chunks of {}", name);
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
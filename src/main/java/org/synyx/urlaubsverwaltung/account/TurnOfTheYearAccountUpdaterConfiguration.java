@@ -30,5 +30,10 @@ public class TurnOfTheYearAccountUpdaterConfiguration implements SchedulingConfi
             scheduleLocking.withLock("UpdateAccountsForNextPeriod", turnOfTheYearAccountUpdaterService::updateAccountsForNextPeriod),
             accountProperties.getUpdate().getCron()
         );
+        // same lock as the update, so an update is not resumed while it is still running
+        taskRegistrar.addCronTask(
+            scheduleLocking.withLock("UpdateAccountsForNextPeriod", turnOfTheYearAccountUpdaterService::resumeUpdateAccountsForNextPeriod),
+            accountProperties.getUpdate().getResumeCron()
+        );
     }
 }
@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.account;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
@@ -10,21 +11,36 @@ import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.COMPLETED;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.IN_PROGRESS;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.PENDING;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.SUMMARIZED;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_OFFICE;
 
 
 /**
  * Is to be scheduled every turn of the year: calculates the remaining vacation days for the new year.
+ *
+ * <p>The active persons are split into chunks that are persisted as checkpoints. A chunk is claimed before its accounts
+ * are updated, so chunks are not processed twice by concurrent application instances, and an interrupted update is
+ * resumed with the chunks that have not been completed. The summary is sent once all chunks are completed.</p>
  */
 @Service
 public class TurnOfTheYearAccountUpdaterService {
@@ -36,17 +52,23 @@ public class TurnOfTheYearAccountUpdaterService {
     private final AccountInteractionService accountInteractionService;
     private final VacationDaysReminderService vacationDaysReminderService;
     private final MailService mailService;
+    private final AccountUpdateChunkRepository accountUpdateChunkRepository;
+    private final AccountProperties accountProperties;
     private final Clock clock;
 
     @Autowired
     public TurnOfTheYearAccountUpdaterService(PersonService personService, AccountService accountService,
-                                              AccountInteractionService accountInteractionService, VacationDaysReminderService vacationDaysReminderService, MailService mailService, Clock clock) {
+                                              AccountInteractionService accountInteractionService, VacationDaysReminderService vacationDaysReminderService,
+                                              MailService mailService, AccountUpdateChunkRepository accountUpdateChunkRepository,
+                                              AccountProperties accountProperties, Clock clock) {
 
         this.personService = personService;
         this.accountService = accountService;
         this.accountInteractionService = accountInteractionService;
         this.vacationDaysReminderService = vacationDaysReminderService;
         this.mailService = mailService;
+        this.accountUpdateChunkRepository = accountUpdateChunkRepository;
+        this.accountProperties = accountProperties;
         this.clock = clock;
     }
 
@@ -57,22 +79,138 @@ public class TurnOfTheYearAccountUpdaterService {
         // what's the new year?
         final int year = Year.now(clock).getValue();
 
-        // get all persons
+        createChunks(year);
+        processChunks(year);
+    }
+
+    /**
+     * Continues an update of the holidays accounts of the current year that has not been finished,
+     * e.g. because the application instance crashed.
+     */
+    void resumeUpdateAccountsForNextPeriod() {
+
+        final int year = Year.now(clock).getValue();
+
+        if (accountUpdateChunkRepository.existsByYearAndStatusNot(year, SUMMARIZED)) {
+            LOG.info("Resuming update of holidays accounts of {}.", year);
+            processChunks(year);
+        }
+    }
+
+    private void createChunks(int year) {
+
+        if (accountUpdateChunkRepository.existsByYear(year)) {
+            LOG.info("Update of holidays accounts of {} has already been started, resuming it.", year);
+            return;
+        }
+
         final List<Person> persons = personService.getActivePersons();
+        final List<List<Person>> personChunks = ChunkedExecution.partition(persons, accountProperties.getUpdate().getChunkSize());
+        if (personChunks.isEmpty()) {
+            // the summary is built from the chunks, so there has to be one even without persons
+            personChunks.add(List.of());
+        }
+
+        final List<AccountUpdateChunkEntity> chunks = new ArrayList<>();
+        for (int index = 0; index < personChunks.size(); index++) {
+            final AccountUpdateChunkEntity chunk = new AccountUpdateChunkEntity();
+            chunk.setYear(year);
+            chunk.setChunkNumber(index + 1);
+            chunk.setStatus(PENDING);
+            chunk.setPersons(personChunks.get(index).stream()
+                .map(person -> new AccountUpdateChunkPersonEmbeddable(person.getId(), false))
+                .collect(toList()));
+            chunks.add(chunk);
+        }
+
+        try {
+            accountUpdateChunkRepository.saveAll(chunks);
+            LOG.info("Created {} chunks to update the holidays accounts of {} persons.", chunks.size(), persons.size());
+        } catch (DataIntegrityViolationException e) {
+            LOG.info("Chunks to update the holidays accounts of {} have been created by another instance.", year);
+        }
+    }
+
+    private void processChunks(int year) {
+
+        final List<AccountUpdateChunkEntity> chunks = accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(year, List.of(PENDING, IN_PROGRESS));
+        if (!chunks.isEmpty()) {
+            final Map<Integer, Person> activePersonsById = personService.getActivePersons().stream()
+                .collect(toMap(Person::getId, identity()));
+
+            ChunkedExecution.forEachInParallel("account-update", chunks, accountProperties.getUpdate().getThreads(),
+                chunk -> processChunk(year, chunk, activePersonsById));
+        }
+
+        sendSummaryIfCompleted(year);
+    }
+
+    private void processChunk(int year, AccountUpdateChunkEntity chunk, Map<Integer, Person> activePersonsById) {
+
+        final Instant now = Instant.now(clock);
+        final Instant claimedBefore = now.minus(accountProperties.getUpdate().getClaimTimeout());
+        if (accountUpdateChunkRepository.claim(chunk.getId(), now, claimedBefore, PENDING, IN_PROGRESS) == 0) {
+            LOG.info("Chunk {} of the holidays accounts update is processed by another instance.", chunk.getChunkNumber());
+            return;
+        }
 
-        // get all their accounts and calculate the remaining vacation days for the new year
-        final List<Account> updatedAccounts = new ArrayList<>();
-        for (Person person : persons) {
-            final Optional<Account> accountLastYear = accountService.getHolidaysAccount(year - 1, person);
-            if (accountLastYear.isPresent() && accountLastYear.get().getAnnualVacationDays() != null) {
+        final List<Person> persons = chunk.getPersons().stream()
+            .map(AccountUpdateChunkPersonEmbeddable::getPersonId)
+            .map(activePersonsById::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
+
+        // updating the accounts again after an interruption is fine, the account of the new year is created or updated
+        final Set<Integer> updatedPersonIds = new HashSet<>();
+        for (Account accountLastYear : persons.isEmpty() ? List.<Account>of() : accountService.getHolidaysAccount(year - 1, persons)) {
+            if (accountLastYear.getAnnualVacationDays() != null) {
+                final Person person = accountLastYear.getPerson();
                 LOG.info("Updating account of person with id {}", person.getId());
-                final Account holidaysAccount = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(accountLastYear.get());
+                final Account holidaysAccount = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(accountLastYear);
                 LOG.info("Setting remaining vacation days of person with id {} to {} for {}", person.getId(), holidaysAccount.getRemainingVacationDays(), year);
-                updatedAccounts.add(holidaysAccount);
+                updatedPersonIds.add(person.getId());
             }
         }
 
-        LOG.info("Updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
+        chunk.getPersons().forEach(chunkPerson -> chunkPerson.setUpdated(updatedPersonIds.contains(chunkPerson.getPersonId())));
+        chunk.setStatus(COMPLETED);
+        chunk.setClaimedAt(now);
+        chunk.setCompletedAt(Instant.now(clock));
+        accountUpdateChunkRepository.save(chunk);
+
+        LOG.info("Completed chunk {} of the holidays accounts update with {} updated accounts.", chunk.getChunkNumber(), updatedPersonIds.size());
+    }
+
+    private void sendSummaryIfCompleted(int year) {
+
+        final List<AccountUpdateChunkEntity> chunks = accountUpdateChunkRepository.findByYearOrderByChunkNumber(year);
+        if (chunks.isEmpty() || chunks.stream().anyMatch(chunk -> chunk.getStatus() != COMPLETED)) {
+            return;
+        }
+
+        // only the instance that marks the chunks as summarized sends the summary
+        if (accountUpdateChunkRepository.updateStatus(year, COMPLETED, SUMMARIZED) == 0) {
+            return;
+        }
+
+        final Set<Integer> updatedPersonIds = chunks.stream()
+            .flatMap(chunk -> chunk.getPersons().stream())
+            .filter(AccountUpdateChunkPersonEmbeddable::isUpdated)
+            .map(AccountUpdateChunkPersonEmbeddable::getPersonId)
+            .collect(toSet());
+        final int numberOfPersons = chunks.stream().mapToInt(chunk -> chunk.getPersons().size()).sum();
+
+        final List<Person> updatedPersons = personService.getActivePersons().stream()
+            .filter(person -> updatedPersonIds.contains(person.getId()))
+            .collect(toList());
+        final Map<Person, Account> accountsByPerson = updatedPersons.isEmpty() ? Map.of() : accountService.getHolidaysAccount(year, updatedPersons).stream()
+            .collect(toMap(Account::getPerson, identity()));
+        final List<Account> updatedAccounts = updatedPersons.stream()
+            .map(accountsByPerson::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
+
+        LOG.info("Updated holidays accounts: {} / {}", updatedAccounts.size(), numberOfPersons);
         sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
         vacationDaysReminderService.remindForRemainingVacationDays();
     }
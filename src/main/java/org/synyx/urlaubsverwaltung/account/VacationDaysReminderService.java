@@ -1,24 +1,36 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.BigDecimal.ZERO;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
@@ -26,40 +38,65 @@ public class VacationDaysReminderService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final String METRIC_CHUNK_DURATION = "vacation.days.reminder.chunk.duration";
+    private static final String METRIC_PERSONS = "vacation.days.reminder.persons";
+
     private final PersonService personService;
     private final AccountService accountService;
     private final VacationDaysService vacationDaysService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
     private final MailService mailService;
+    private final AccountProperties accountProperties;
     private final Clock clock;
+    private final Map<Job, Timer> chunkDurations = new EnumMap<>(Job.class);
+    private final Map<Job, Counter> processedPersons = new EnumMap<>(Job.class);
 
     @Autowired
     VacationDaysReminderService(PersonService personService, AccountService accountService, VacationDaysService vacationDaysService,
-                                MailService mailService, Clock clock) {
+                                WorkingTimeCalendarService workingTimeCalendarService, MailService mailService,
+                                AccountProperties accountProperties, Clock clock, MeterRegistry meterRegistry) {
         this.personService = personService;
         this.accountService = accountService;
         this.vacationDaysService = vacationDaysService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
         this.mailService = mailService;
+        this.accountProperties = accountProperties;
         this.clock = clock;
+
+        for (Job job : Job.values()) {
+            chunkDurations.put(job, Timer.builder(METRIC_CHUNK_DURATION)
+                .description("Time to process one chunk of persons")
+                .tag("job", job.tag)
+                .register(meterRegistry));
+            processedPersons.put(job, Counter.builder(METRIC_PERSONS)
+                .description("Number of processed persons")
+                .tag("job", job.tag)
+                .register(meterRegistry));
+        }
     }
 
     /**
      * Reminds for vacation days left for <b>current year</b>.
      */
     void remindForCurrentlyLeftVacationDays() {
-        final int year = Year.now(clock).getValue();
-        final List<Person> persons = personService.getActivePersons();
-
-        for (Person person : persons) {
-            accountService.getHolidaysAccount(year, person)
-                .filter(Account::doRemainingVacationDaysExpire)
-                .ifPresent(account -> {
-                    final BigDecimal vacationDaysLeft = vacationDaysService.calculateTotalLeftVacationDays(account);
-                    if (vacationDaysLeft.compareTo(ZERO) > 0) {
-                        sendReminderForCurrentlyLeftVacationDays(person, vacationDaysLeft, year + 1);
-                        LOG.info("Reminded person with id {} for {} currently left vacation days", person.getId(), vacationDaysLeft);
-                    }
-                });
-        }
+        final LocalDate today = LocalDate.now(clock);
+        final int year = today.getYear();
+
+        forEachChunkOfActivePersons(Job.CURRENTLY_LEFT_VACATION_DAYS, persons -> {
+            final List<Account> accounts = accountsWithExpiringRemainingVacationDays(year, persons, account -> true);
+
+            for (HolidayAccountVacationDays holidayAccountVacationDays : vacationDaysOfYear(year, accounts)) {
+                final Account account = holidayAccountVacationDays.getAccount();
+                final BigDecimal vacationDaysLeft = holidayAccountVacationDays.getVacationDaysYear()
+                    .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
+
+                if (vacationDaysLeft.compareTo(ZERO) > 0) {
+                    final Person person = account.getPerson();
+                    sendReminderForCurrentlyLeftVacationDays(person, vacationDaysLeft, year + 1);
+                    LOG.info("Reminded person with id {} for {} currently left vacation days", person.getId(), vacationDaysLeft);
+                }
+            }
+        });
     }
 
     /**
@@ -68,25 +105,24 @@ public class VacationDaysReminderService {
      */
     void remindForRemainingVacationDays() {
         final int year = Year.now(clock).getValue();
-        final List<Person> persons = personService.getActivePersons();
 
-        for (Person person : persons) {
+        forEachChunkOfActivePersons(Job.REMAINING_VACATION_DAYS, persons -> {
+            final List<Account> accounts = accountsWithExpiringRemainingVacationDays(year, persons, account -> true);
 
-            accountService.getHolidaysAccount(year, person)
-                .filter(Account::doRemainingVacationDaysExpire)
-                .ifPresent(account -> {
-                    final Optional<Account> accountOfNextYear = accountService.getHolidaysAccount(year + 1, person);
-                    final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountOfNextYear);
+            for (HolidayAccountVacationDays holidayAccountVacationDays : vacationDaysOfYear(year, accounts)) {
+                final Account account = holidayAccountVacationDays.getAccount();
+                final VacationDaysLeft vacationDaysLeft = holidayAccountVacationDays.getVacationDaysYear();
 
-                    final BigDecimal remainingVacationDaysLeft = vacationDaysLeft.getRemainingVacationDays()
-                        .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+                final BigDecimal remainingVacationDaysLeft = vacationDaysLeft.getRemainingVacationDays()
+                    .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
 
-                    if (remainingVacationDaysLeft.compareTo(ZERO) > 0) {
-                        sendReminderForRemainingVacationDaysNotification(person, remainingVacationDaysLeft, account.getExpiryDate().minusDays(1));
-                        LOG.info("Reminded person with id {} for {} remaining vacation days in year {}.", person.getId(), remainingVacationDaysLeft, year);
-                    }
-                });
-        }
+                if (remainingVacationDaysLeft.compareTo(ZERO) > 0) {
+                    final Person person = account.getPerson();
+                    sendReminderForRemainingVacationDaysNotification(person, remainingVacationDaysLeft, account.getExpiryDate().minusDays(1));
+                    LOG.info("Reminded person with id {} for {} remaining vacation days in year {}.", person.getId(), remainingVacationDaysLeft, year);
+                }
+            }
+        });
     }
 
     /**
@@ -96,31 +132,69 @@ public class VacationDaysReminderService {
         final LocalDate now = LocalDate.now(clock);
         final int year = now.getYear();
 
+        forEachChunkOfActivePersons(Job.EXPIRED_REMAINING_VACATION_DAYS, persons -> {
+            final List<Account> accounts = accountsWithExpiringRemainingVacationDays(year, persons,
+                account -> account.getExpiryNotificationSentDate() == null && !now.isBefore(account.getExpiryDate()));
+
+            for (HolidayAccountVacationDays holidayAccountVacationDays : vacationDaysOfYear(year, accounts)) {
+                final Account account = holidayAccountVacationDays.getAccount();
+                final VacationDaysLeft vacationDaysLeft = holidayAccountVacationDays.getVacationDaysYear();
+
+                final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getRemainingVacationDays()
+                    .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+                if (expiredRemainingVacationDays.compareTo(ZERO) > 0) {
+                    final BigDecimal totalLeftVacationDays = vacationDaysLeft.getLeftVacationDays(now, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
+
+                    final Person person = account.getPerson();
+                    sendNotificationForExpiredRemainingVacationDays(person, expiredRemainingVacationDays, totalLeftVacationDays, vacationDaysLeft.getRemainingVacationDaysNotExpiring(), account.getExpiryDate());
+                    LOG.info("Notified person with id {} for {} expired remaining vacation days in year {}.", person.getId(), expiredRemainingVacationDays, year);
+
+                    account.setExpiryNotificationSentDate(now);
+                    accountService.save(account);
+                }
+            }
+        });
+    }
+
+    /**
+     * Splits the active persons into chunks of the configured size and processes them in a pool
+     * with the configured number of threads.
+     */
+    private void forEachChunkOfActivePersons(Job job, Consumer<List<Person>> chunkProcessor) {
+
         final List<Person> persons = personService.getActivePersons();
-        for (Person person : persons) {
-            accountService.getHolidaysAccount(year, person)
-                .filter(Account::doRemainingVacationDaysExpire)
-                .ifPresent(account -> {
-                    final LocalDate expiryDate = account.getExpiryDate();
-                    if (account.getExpiryNotificationSentDate() == null && (now.isEqual(expiryDate) || now.isAfter(expiryDate))) {
-
-                        final Optional<Account> accountOfNextYear = accountService.getHolidaysAccount(year + 1, person);
-                        final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountOfNextYear);
-
-                        final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getRemainingVacationDays()
-                            .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
-                        if (expiredRemainingVacationDays.compareTo(ZERO) > 0) {
-                            final BigDecimal totalLeftVacationDays = vacationDaysService.calculateTotalLeftVacationDays(account);
-
-                            sendNotificationForExpiredRemainingVacationDays(person, expiredRemainingVacationDays, totalLeftVacationDays, vacationDaysLeft.getRemainingVacationDaysNotExpiring(), account.getExpiryDate());
-                            LOG.info("Notified person with id {} for {} expired remaining vacation days in year {}.", person.getId(), expiredRemainingVacationDays, year);
-
-                            account.setExpiryNotificationSentDate(now);
-                            accountService.save(account);
-                        }
-                    }
-                });
+        final List<List<Person>> chunks = ChunkedExecution.partition(persons, accountProperties.getVacationDaysReminder().getChunkSize());
+
+        final List<Integer> chunkNumbers = IntStream.rangeClosed(1, chunks.size()).boxed().collect(toList());
+        ChunkedExecution.forEachInParallel(job.tag, chunkNumbers, accountProperties.getVacationDaysReminder().getThreads(),
+            chunkNumber -> processChunk(job, chunks.get(chunkNumber - 1), chunkNumber, chunks.size(), chunkProcessor));
+    }
+
+    private void processChunk(Job job, List<Person> chunk, int chunkNumber, int numberOfChunks, Consumer<List<Person>> chunkProcessor) {
+        chunkDurations.get(job).record(() -> chunkProcessor.accept(chunk));
+        processedPersons.get(job).increment(chunk.size());
+        LOG.info("Processed chunk {} of {} with {} persons for {}", chunkNumber, numberOfChunks, chunk.size(), job);
+    }
+
+    private List<Account> accountsWithExpiringRemainingVacationDays(int year, List<Person> persons, Predicate<Account> predicate) {
+        return accountService.getHolidaysAccount(year, persons).stream()
+            .filter(Account::doRemainingVacationDaysExpire)
+            .filter(predicate)
+            .collect(toList());
+    }
+
+    private Collection<HolidayAccountVacationDays> vacationDaysOfYear(int year, List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return List.of();
         }
+
+        final List<Person> persons = accounts.stream().map(Account::getPerson).collect(toList());
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson = workingTimeCalendarService.getWorkingTimesByPersons(persons, Year.of(year));
+
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final DateRange dateRange = new DateRange(firstDayOfYear, firstDayOfYear.with(lastDayOfYear()));
+
+        return vacationDaysService.getVacationDaysLeft(accounts, workingTimeCalendarsByPerson, dateRange).values();
     }
 
     private void sendReminderForCurrentlyLeftVacationDays(Person person, BigDecimal vacationDaysLeft, int nextYear) {
@@ -161,4 +235,16 @@ public class VacationDaysReminderService {
             .build();
         mailService.send(mailToPerson);
     }
+
+    private enum Job {
+        CURRENTLY_LEFT_VACATION_DAYS("currently_left_vacation_days"),
+        REMAINING_VACATION_DAYS("remaining_vacation_days"),
+        EXPIRED_REMAINING_VACATION_DAYS("expired_remaining_vacation_days");
+
+        private final String tag;
+
+        Job(String tag) {
+            this.tag = tag;
+        }
+    }
 }
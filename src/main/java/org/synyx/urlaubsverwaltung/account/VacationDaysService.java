@@ -93,6 +93,94 @@ public class VacationDaysService {
         return getVacationDaysLeft(firstDayOfYear, lastDayOfYear, account, nextYear);
     }
 
+    /**
+     * Calculates the vacation days left like {@link #getVacationDaysLeft(Account, Optional)}, but the used vacation days
+     * are calculated with the given {@link WorkingTimeCalendar}s. So the applications for leave of both years are loaded
+     * at once instead of once per milestone, and no working times are loaded per application for leave.
+     *
+     * @param account                      the account for the year to calculate the vacation days for
+     * @param nextYear                     the account for following year, if available
+     * @param workingTimeCalendarsByPerson {@link WorkingTimeCalendar} of the account's person, covering the year of the
+     *                                     account and the following year
+     * @return information about the vacation days left for that year
+     */
+    public VacationDaysLeft getVacationDaysLeft(Account account, Optional<Account> nextYear, Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson) {
+
+        final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
+        final LocalDate lastDayOfYearOrNextYear = isUsingRemainingVacationDays(nextYear)
+            ? firstDayOfYear.plusYears(1).with(lastDayOfYear())
+            : firstDayOfYear.with(lastDayOfYear());
+
+        final List<ApplicationStatus> statuses = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        final List<Application> applications = applicationService.getForStatesAndPerson(statuses, List.of(account.getPerson()), firstDayOfYear, lastDayOfYearOrNextYear);
+
+        return getVacationDaysLeft(account, nextYear, applications, workingTimeCalendarsByPerson);
+    }
+
+    /**
+     * Calculates the vacation days left like {@link #getVacationDaysLeft(Account, Optional, Map)} with the given
+     * applications for leave, so callers that need the applications for leave of the person anyway load them only once.
+     *
+     * @param account                      the account for the year to calculate the vacation days for
+     * @param nextYear                     the account for following year, if available
+     * @param applications                 applications for leave of the account's person that are waiting, temporary
+     *                                     allowed, allowed or allowed with requested cancellation and touch the year of
+     *                                     the account or the following year
+     * @param workingTimeCalendarsByPerson {@link WorkingTimeCalendar} of the account's person, covering the year of the
+     *                                     account and the following year
+     * @return information about the vacation days left for that year
+     */
+    public VacationDaysLeft getVacationDaysLeft(Account account, Optional<Account> nextYear, List<Application> applications,
+                                                Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson) {
+
+        final BigDecimal vacationDaysUsedNextYear = nextYear
+            .filter(VacationDaysService::isUsingRemainingVacationDays)
+            .map(accountNextYear -> getUsedRemainingVacationDays(accountNextYear, getVacationDaysLeftOfYear(accountNextYear, applications, workingTimeCalendarsByPerson, ZERO)))
+            .orElse(ZERO);
+
+        return getVacationDaysLeftOfYear(account, applications, workingTimeCalendarsByPerson, vacationDaysUsedNextYear);
+    }
+
+    private static boolean isUsingRemainingVacationDays(Optional<Account> nextYear) {
+        return nextYear.map(VacationDaysService::isUsingRemainingVacationDays).orElse(false);
+    }
+
+    private static boolean isUsingRemainingVacationDays(Account account) {
+        return account.getRemainingVacationDays().signum() > 0;
+    }
+
+    private VacationDaysLeft getVacationDaysLeftOfYear(Account account, List<Application> applications,
+                                                       Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson,
+                                                       BigDecimal vacationDaysUsedNextYear) {
+
+        final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
+        final DateRange year = new DateRange(firstDayOfYear, firstDayOfYear.with(lastDayOfYear()));
+        final List<Application> applicationsTouchingYear = applications.stream()
+            .filter(application -> !application.getStartDate().isAfter(year.getEndDate()) && !application.getEndDate().isBefore(year.getStartDate()))
+            .collect(toList());
+        final UsedVacationDaysYear usedVacationDaysYear = getUsedVacationDaysBetweenTwoMilestones(List.of(account), applicationsTouchingYear, year, workingTimeCalendarsByPerson)
+            .get(account).getUsedVacationDaysYear();
+
+        final BigDecimal usedVacationDaysBeforeExpiryDate;
+        final BigDecimal usedVacationDaysAfterExpiryDate;
+        if (account.doRemainingVacationDaysExpire()) {
+            usedVacationDaysBeforeExpiryDate = usedVacationDaysYear.getUsedVacationDaysBeforeExpiryDate();
+            usedVacationDaysAfterExpiryDate = usedVacationDaysYear.getUsedVacationDaysAfterExpiryDate();
+        } else {
+            usedVacationDaysBeforeExpiryDate = usedVacationDaysYear.getUsedVacationDaysBeforeExpiryDate().add(usedVacationDaysYear.getUsedVacationDaysAfterExpiryDate());
+            usedVacationDaysAfterExpiryDate = ZERO;
+        }
+
+        return VacationDaysLeft.builder()
+            .withAnnualVacation(account.getActualVacationDays())
+            .withRemainingVacation(account.getRemainingVacationDays())
+            .notExpiring(account.getRemainingVacationDaysNotExpiring())
+            .forUsedVacationDaysBeforeExpiry(usedVacationDaysBeforeExpiryDate)
+            .forUsedVacationDaysAfterExpiry(usedVacationDaysAfterExpiryDate)
+            .withVacationDaysUsedNextYear(vacationDaysUsedNextYear)
+            .build();
+    }
+
     /**
      * @param holidayAccounts              {@link Account} to determine configured expiryDate of {@link Application}s
      * @param workingTimeCalendarsByPerson {@link WorkingTimeCalendar} to calculate the used vacation days for the {@link Account}s persons.
@@ -418,22 +506,22 @@ public class VacationDaysService {
         }
 
         if (account.getRemainingVacationDays().signum() > 0) {
+            return getUsedRemainingVacationDays(account, getVacationDaysLeft(start, end, account));
+        }
 
-            final VacationDaysLeft left = getVacationDaysLeft(start, end, account);
+        return ZERO;
+    }
 
-            final BigDecimal totalUsed = account.getActualVacationDays()
-                .add(account.getRemainingVacationDays())
-                .subtract(left.getVacationDays())
-                .subtract(left.getRemainingVacationDays());
+    private static BigDecimal getUsedRemainingVacationDays(Account account, VacationDaysLeft left) {
 
-            final BigDecimal remainingUsed = totalUsed.subtract(account.getActualVacationDays());
+        final BigDecimal totalUsed = account.getActualVacationDays()
+            .add(account.getRemainingVacationDays())
+            .subtract(left.getVacationDays())
+            .subtract(left.getRemainingVacationDays());
 
-            if (remainingUsed.signum() > 0) {
-                return remainingUsed;
-            }
-        }
+        final BigDecimal remainingUsed = totalUsed.subtract(account.getActualVacationDays());
 
-        return ZERO;
+        return remainingUsed.signum() > 0 ? remainingUsed : ZERO;
     }
 
     private BigDecimal getUsedVacationDays(Application application, Person person, LocalDate firstMilestone, LocalDate lastMilestone) {
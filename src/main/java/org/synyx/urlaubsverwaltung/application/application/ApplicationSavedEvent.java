@@ -0,0 +1,20 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever an {@link Application} is created or changed.
+ */
+public class ApplicationSavedEvent extends ApplicationEvent {
+
+    private final Integer personId;
+
+    public ApplicationSavedEvent(Object source, Integer personId) {
+        super(source);
+        this.personId = personId;
+    }
+
+    public Integer getPersonId() {
+        return personId;
+    }
+}
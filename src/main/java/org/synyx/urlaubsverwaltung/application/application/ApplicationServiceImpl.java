@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.application.application;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
@@ -35,10 +36,12 @@ import static org.synyx.urlaubsverwaltung.util.DecimalConverter.toFormattedDecim
 class ApplicationServiceImpl implements ApplicationService {
 
     private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    ApplicationServiceImpl(ApplicationRepository applicationRepository) {
+    ApplicationServiceImpl(ApplicationRepository applicationRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.applicationRepository = applicationRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -48,7 +51,9 @@ class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     public Application save(Application application) {
-        return applicationRepository.save(application);
+        final Application savedApplication = applicationRepository.save(application);
+        applicationEventPublisher.publishEvent(new ApplicationSavedEvent(this, application.getPerson().getId()));
+        return savedApplication;
     }
 
     @Override
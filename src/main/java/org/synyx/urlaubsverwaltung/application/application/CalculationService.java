@@ -12,18 +12,24 @@ import org.synyx.urlaubsverwaltung.account.VacationDaysService;
 import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.BigDecimal.ZERO;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.getLastDayOfYear;
 
 /**
@@ -38,18 +44,18 @@ class CalculationService {
     private final VacationDaysService vacationDaysService;
     private final AccountInteractionService accountInteractionService;
     private final AccountService accountService;
-    private final WorkDaysCountService workDaysCountService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
     private final OverlapService overlapService;
     private final ApplicationService applicationService;
 
     @Autowired
     CalculationService(VacationDaysService vacationDaysService, AccountService accountService,
-                       AccountInteractionService accountInteractionService, WorkDaysCountService workDaysCountService,
+                       AccountInteractionService accountInteractionService, WorkingTimeCalendarService workingTimeCalendarService,
                        OverlapService overlapService, ApplicationService applicationService) {
         this.vacationDaysService = vacationDaysService;
         this.accountService = accountService;
         this.accountInteractionService = accountInteractionService;
-        this.workDaysCountService = workDaysCountService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
         this.overlapService = overlapService;
         this.applicationService = applicationService;
     }
@@ -58,6 +64,11 @@ class CalculationService {
      * Checks if applying for leave is possible, i.e. there are enough vacation days left to be used for the given
      * {@link Application} for leave.
      *
+     * <p>The work days are calculated with one {@link WorkingTimeCalendar} of the person and the applications for leave
+     * of the affected years and the following year are loaded at once, so the check does not depend on the number of
+     * applications for leave the person already has. The work days are counted like the work days shown for an
+     * application for leave, see {@link WorkingTimeCalendar#workDaysCount(DayLength, LocalDate, LocalDate)}.</p>
+     *
      * @param application for leave to check
      * @return {@code true} if the {@link Application} for leave
      * may be saved because there are enough vacation days left, {@code false} else
@@ -73,25 +84,39 @@ class CalculationService {
 
         final Optional<Application> maybeSavedApplication = getSavedApplicationForEditing(application);
 
+        // we also need to look at the next year, because "remaining days" from this year may already have been booked then
+        final LocalDate firstDayOfYear = Year.of(yearOfStartDate).atDay(1);
+        final LocalDate lastDayOfNextYear = getLastDayOfYear(yearOfEndDate + 1);
+        final List<ApplicationStatus> statuses = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        final List<Application> applications = applicationService.getForStatesAndPerson(statuses, List.of(person), firstDayOfYear, lastDayOfNextYear);
+
+        // the saved application may have been in other years before editing
+        final DateRange calendarDateRange = maybeSavedApplication
+            .map(savedApplication -> new DateRange(min(firstDayOfYear, savedApplication.getStartDate()), max(lastDayOfNextYear, savedApplication.getEndDate())))
+            .orElseGet(() -> new DateRange(firstDayOfYear, lastDayOfNextYear));
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendars = workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), calendarDateRange);
+        final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendars.get(person);
+
         if (yearOfStartDate == yearOfEndDate) {
-            final BigDecimal oldWorkDays = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(dayLength, startDate, endDate, person).subtract(oldWorkDays);
-            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDays, application);
+            final BigDecimal oldWorkDays = maybeSavedApplication.map(savedApplication -> workingTimeCalendar.workDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), savedApplication.getEndDate())).orElse(ZERO);
+            final BigDecimal workDays = workingTimeCalendar.workDaysCount(dayLength, startDate, endDate).subtract(oldWorkDays);
+            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDays, application, applications, workingTimeCalendars);
         } else {
             // ensure that applying for leave for the period in the old year is possible
-            final BigDecimal oldWorkDaysInOldYear = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), getLastDayOfYear(savedApplication.getStartDate().getYear()), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDaysInOldYear = workDaysCountService.getWorkDaysCount(dayLength, startDate, getLastDayOfYear(yearOfStartDate), person).subtract(oldWorkDaysInOldYear);
+            final BigDecimal oldWorkDaysInOldYear = maybeSavedApplication.map(savedApplication -> workingTimeCalendar.workDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), getLastDayOfYear(savedApplication.getStartDate().getYear()))).orElse(ZERO);
+            final BigDecimal workDaysInOldYear = workingTimeCalendar.workDaysCount(dayLength, startDate, getLastDayOfYear(yearOfStartDate)).subtract(oldWorkDaysInOldYear);
 
             // ensure that applying for leave for the period in the new year is possible
-            final BigDecimal oldWorkDaysInNewYear = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), Year.of(savedApplication.getEndDate().getYear()).atDay(1), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDaysInNewYear = workDaysCountService.getWorkDaysCount(dayLength, Year.of(yearOfEndDate).atDay(1), endDate, person).subtract(oldWorkDaysInNewYear);
+            final BigDecimal oldWorkDaysInNewYear = maybeSavedApplication.map(savedApplication -> workingTimeCalendar.workDaysCount(savedApplication.getDayLength(), Year.of(savedApplication.getEndDate().getYear()).atDay(1), savedApplication.getEndDate())).orElse(ZERO);
+            final BigDecimal workDaysInNewYear = workingTimeCalendar.workDaysCount(dayLength, Year.of(yearOfEndDate).atDay(1), endDate).subtract(oldWorkDaysInNewYear);
 
-            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDaysInOldYear, application)
-                && accountHasEnoughVacationDaysLeft(person, yearOfEndDate, workDaysInNewYear, application);
+            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDaysInOldYear, application, applications, workingTimeCalendars)
+                && accountHasEnoughVacationDaysLeft(person, yearOfEndDate, workDaysInNewYear, application, applications, workingTimeCalendars);
         }
     }
 
-    boolean accountHasEnoughVacationDaysLeft(Person person, int year, BigDecimal workDays, Application application) {
+    private boolean accountHasEnoughVacationDaysLeft(Person person, int year, BigDecimal workDays, Application application,
+                                                     List<Application> applications, Map<Person, WorkingTimeCalendar> workingTimeCalendars) {
 
         if (workDays.signum() <= 0) {
             return true;
@@ -102,17 +127,16 @@ class CalculationService {
             return false;
         }
 
-        // we also need to look at the next year, because "remaining days" from this year may already have been booked then
         // call accountService directly to avoid auto-creating a new account for next year
         final Optional<Account> accountNextYear = accountService.getHolidaysAccount(year + 1, person);
-        final BigDecimal vacationDaysAlreadyUsedNextYear = accountNextYear.map(vacationDaysService::getUsedRemainingVacationDays).orElse(ZERO);
 
         final Account account = maybeAccount.get();
-        final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountNextYear);
+        final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountNextYear, applications, workingTimeCalendars);
+        final BigDecimal vacationDaysAlreadyUsedNextYear = vacationDaysLeft.getVacationDaysUsedNextYear();
         LOG.debug("vacation days left of years {} and {} are {} days", year, year + 1, vacationDaysLeft);
 
         // now we need to consider which remaining vacation days expire
-        final BigDecimal vacationDaysRequestedBeforeExpiryDate = getWorkdaysBeforeExpiryDate(account, application);
+        final BigDecimal vacationDaysRequestedBeforeExpiryDate = getWorkdaysBeforeExpiryDate(account, application, workingTimeCalendars.get(person));
         final BigDecimal vacationDaysLeftUntilExpiryDate = vacationDaysLeft.getVacationDays()
             .add(vacationDaysLeft.getRemainingVacationDays())
             .subtract(vacationDaysRequestedBeforeExpiryDate)
@@ -144,7 +168,7 @@ class CalculationService {
         return vacationDaysLeftAfterExpiryDate;
     }
 
-    private BigDecimal getWorkdaysBeforeExpiryDate(Account account, Application application) {
+    private BigDecimal getWorkdaysBeforeExpiryDate(Account account, Application application, WorkingTimeCalendar workingTimeCalendar) {
         final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
         final LocalDate lastDayOfPeriod = account.doRemainingVacationDaysExpire() ?
             account.getExpiryDate().minusDays(1) : firstDayOfYear.with(lastDayOfYear());
@@ -156,17 +180,12 @@ class CalculationService {
             List.of()
         );
 
-        return beforeExpiryDate.isEmpty() ? ZERO : calculateWorkDaysBeforeExpiryDate(application, beforeExpiryDate);
-    }
+        if (beforeExpiryDate.isEmpty()) {
+            return ZERO;
+        }
 
-    private BigDecimal calculateWorkDaysBeforeExpiryDate(Application application, List<DateRange> beforeExpiryDate) {
-        final LocalDate start = beforeExpiryDate.get(0).getStartDate();
-        final LocalDate end = beforeExpiryDate.get(0).getEndDate();
-        return workDaysCountService.getWorkDaysCount(
-            application.getDayLength(),
-            LocalDate.of(start.getYear(), start.getMonth(), start.getDayOfMonth()),
-            LocalDate.of(end.getYear(), end.getMonth(), end.getDayOfMonth()),
-            application.getPerson());
+        final DateRange dateRangeBeforeExpiryDate = beforeExpiryDate.get(0);
+        return workingTimeCalendar.workDaysCount(application.getDayLength(), dateRangeBeforeExpiryDate.getStartDate(), dateRangeBeforeExpiryDate.getEndDate());
     }
 
     private Optional<Account> getHolidaysAccount(int year, Person person) {
@@ -187,4 +206,12 @@ class CalculationService {
         }
         return maybeSavedApplication;
     }
+
+    private static LocalDate min(LocalDate localDate, LocalDate localDate2) {
+        return localDate.isBefore(localDate2) ? localDate : localDate2;
+    }
+
+    private static LocalDate max(LocalDate localDate, LocalDate localDate2) {
+        return localDate.isBefore(localDate2) ? localDate2 : localDate;
+    }
 }
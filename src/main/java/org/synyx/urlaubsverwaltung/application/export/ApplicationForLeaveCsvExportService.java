@@ -22,6 +22,7 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
 
     private static final Locale LOCALE = Locale.GERMAN;
     private static final String DATE_FORMAT = "ddMMyyyy";
+    private static final int CSV_COLUMNS = 9;
 
     private final MessageSource messageSource;
     private final DateFormatAware dateFormatAware;
@@ -39,19 +40,12 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
     }
 
     @Override
-    public void write(FilterPeriod period, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
-        final String[] csvHeader = {
-            getTranslation("person.account.basedata.personnelNumber"),
-            getTranslation("person.data.firstName"),
-            getTranslation("person.data.lastName"),
-            getTranslation("applications.export.departments"),
-            getTranslation("applications.export.from"),
-            getTranslation("applications.export.to"),
-            getTranslation("applications.export.length"),
-            getTranslation("applications.export.type"),
-            getTranslation("applications.export.days"),
-        };
+    public void writeHeader(FilterPeriod period, CSVWriter csvWriter) {
+        csvWriter.writeNext(csvHeader());
+    }
 
+    @Override
+    public void writeRows(FilterPeriod period, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
         final DecimalFormatSymbols newSymbols = new DecimalFormatSymbols(LOCALE);
         newSymbols.setDecimalSeparator(',');
         newSymbols.setGroupingSeparator('.');
@@ -59,11 +53,9 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
         final DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getInstance(LOCALE);
         decimalFormat.setDecimalFormatSymbols(newSymbols);
 
-        csvWriter.writeNext(csvHeader);
-
         applicationForLeaveExports.forEach(applicationForLeaveExport ->
             applicationForLeaveExport.getApplicationForLeaves().forEach(applicationForLeave -> {
-                final String[] applicationCsvRow = new String[csvHeader.length];
+                final String[] applicationCsvRow = new String[CSV_COLUMNS];
                 applicationCsvRow[0] = applicationForLeaveExport.getPersonalNumber();
                 applicationCsvRow[1] = applicationForLeaveExport.getFirstName();
                 applicationCsvRow[2] = applicationForLeaveExport.getLastName();
@@ -79,6 +71,20 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
         );
     }
 
+    private String[] csvHeader() {
+        return new String[]{
+            getTranslation("person.account.basedata.personnelNumber"),
+            getTranslation("person.data.firstName"),
+            getTranslation("person.data.lastName"),
+            getTranslation("applications.export.departments"),
+            getTranslation("applications.export.from"),
+            getTranslation("applications.export.to"),
+            getTranslation("applications.export.length"),
+            getTranslation("applications.export.type"),
+            getTranslation("applications.export.days"),
+        };
+    }
+
     private String getTranslation(String key, Object... args) {
         return messageSource.getMessage(key, args, LOCALE);
     }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -19,7 +20,8 @@ import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,6 +29,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.util.Comparator.naturalOrder;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -47,17 +50,17 @@ class ApplicationForLeaveExportService {
     private final DepartmentService departmentService;
     private final PersonBasedataService personBasedataService;
     private final PersonService personService;
-    private final WorkDaysCountService workDaysCountService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
 
     @Autowired
     ApplicationForLeaveExportService(ApplicationService applicationService, DepartmentService departmentService,
                                      PersonBasedataService personBasedataService, PersonService personService,
-                                     WorkDaysCountService workDaysCountService) {
+                                     WorkingTimeCalendarService workingTimeCalendarService) {
         this.applicationService = applicationService;
         this.departmentService = departmentService;
         this.personBasedataService = personBasedataService;
         this.personService = personService;
-        this.workDaysCountService = workDaysCountService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
     }
 
     /**
@@ -90,34 +93,51 @@ class ApplicationForLeaveExportService {
 
         final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(relevantPersonIds);
         final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(relevantMembers);
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson = getWorkingTimeCalendars(relevantMembers, applications, from, to);
 
         Stream<ApplicationForLeaveExport> exportsStream = applicationsByPerson.entrySet()
             .stream()
-            .map(toApplicationForLeaveExport(basedataByPersonId, departmentsByPersonId));
+            .map(toApplicationForLeaveExport(basedataByPersonId, departmentsByPersonId, workingTimeCalendarsByPerson))
+            .sorted(new SortComparator<>(ApplicationForLeaveExport.class, pageable.getSort()));
 
         if (relevantMembersPage.getPageable().isUnpaged()) {
             // we don't have to restrict the statistics if persons page is paged and or sorted already.
-            // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
+            // otherwise we have fetched ALL persons -> therefore sort before skipping and limiting the statistics content.
             exportsStream = exportsStream
                 .skip((long) pageable.getPageNumber() * pageable.getPageSize())
                 .limit(pageable.getPageSize());
         }
 
-        final List<ApplicationForLeaveExport> content = exportsStream
-            .sorted(new SortComparator<>(ApplicationForLeaveExport.class, pageable.getSort()))
-            .collect(toList());
+        final List<ApplicationForLeaveExport> content = exportsStream.collect(toList());
 
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
-    private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
+    /**
+     * Loads the working times of all persons at once for the whole period of all their applications for leave,
+     * as applications for leave may start before or end after the exported period.
+     */
+    private Map<Person, WorkingTimeCalendar> getWorkingTimeCalendars(List<Person> persons, List<Application> applications, LocalDate from, LocalDate to) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+
+        final LocalDate start = applications.stream().map(Application::getStartDate).filter(from::isAfter).min(naturalOrder()).orElse(from);
+        final LocalDate end = applications.stream().map(Application::getEndDate).filter(to::isBefore).max(naturalOrder()).orElse(to);
+        return workingTimeCalendarService.getWorkingTimesByPersons(persons, new DateRange(start, end));
+    }
+
+    private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons,
+                                                                                                           Map<PersonId, List<String>> departmentsForPersons,
+                                                                                                           Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson) {
         return personListEntry ->
         {
             final Person person = personListEntry.getKey();
             final PersonId personId = new PersonId(person.getId());
             final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).getPersonnelNumber();
             final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
-            final List<ApplicationForLeave> applicationForLeaves = personListEntry.getValue().stream().map(app -> new ApplicationForLeave(app, workDaysCountService)).collect(toList());
+            final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarsByPerson.get(person);
+            final List<ApplicationForLeave> applicationForLeaves = personListEntry.getValue().stream().map(app -> new ApplicationForLeave(app, workingTimeCalendar.workingTime(app))).collect(toList());
             return new ApplicationForLeaveExport(personnelNumber, person.getFirstName(), person.getLastName(), applicationForLeaves, departments);
         };
     }
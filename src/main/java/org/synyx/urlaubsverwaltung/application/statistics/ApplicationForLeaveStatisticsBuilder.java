@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.application.statistics;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
@@ -22,19 +23,26 @@ import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.time.Duration.ZERO;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.application.statistics.ApplicationForLeaveStatisticsBuilder.Aggregate.OVERTIME_LEFT;
+import static org.synyx.urlaubsverwaltung.application.statistics.ApplicationForLeaveStatisticsBuilder.Aggregate.VACATION_DAYS_LEFT;
+import static org.synyx.urlaubsverwaltung.application.statistics.ApplicationForLeaveStatisticsBuilder.Aggregate.VACATION_DAYS_USED;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeServiceImpl.convert;
 
 /**
@@ -64,17 +72,46 @@ class ApplicationForLeaveStatisticsBuilder {
     }
 
     public Map<Person, ApplicationForLeaveStatistics> build(List<Person> persons, LocalDate from, LocalDate to, List<VacationType> vacationTypes) {
+        return build(persons, from, to, vacationTypes, EnumSet.allOf(Aggregate.class));
+    }
+
+    /**
+     * Builds {@link ApplicationForLeaveStatistics} that only contain the aggregates the given sort relies on, so that
+     * the statistics of many persons can be sorted without calculating everything else for each of them.
+     *
+     * @param persons       persons to build the statistics for
+     * @param from          start of the period
+     * @param to            end of the period, must be in the same year as from
+     * @param vacationTypes vacation types of the statistics
+     * @param sort          sort of the statistics, unknown properties lead to complete statistics
+     * @return statistics that are sortable by the given sort
+     */
+    public Map<Person, ApplicationForLeaveStatistics> buildSortable(List<Person> persons, LocalDate from, LocalDate to, List<VacationType> vacationTypes, Sort sort) {
+        return build(persons, from, to, vacationTypes, Aggregate.requiredBy(sort));
+    }
+
+    private Map<Person, ApplicationForLeaveStatistics> build(List<Person> persons, LocalDate from, LocalDate to, List<VacationType> vacationTypes, Set<Aggregate> aggregates) {
         Assert.isTrue(from.getYear() == to.getYear(), "From and to must be in the same year");
 
         final LocalDate today = LocalDate.now(clock);
         final DateRange dateRange = new DateRange(from, to);
 
         final List<Account> holidayAccounts = accountService.getHolidaysAccount(from.getYear(), persons);
-        final Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson = workingTimeCalendarService.getWorkingTimesByPersons(persons, Year.of(from.getYear()));
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson = aggregates.contains(VACATION_DAYS_LEFT) || aggregates.contains(VACATION_DAYS_USED)
+            ? workingTimeCalendarService.getWorkingTimesByPersons(persons, Year.of(from.getYear()))
+            : Map.of();
+
+        final Map<Person, LeftOvertime> leftOvertimeForPersons;
+        if (aggregates.contains(OVERTIME_LEFT)) {
+            final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndStatus(from.with(firstDayOfYear()), from.with(lastDayOfYear()), persons, List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED));
+            leftOvertimeForPersons = overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(persons, applications, from, to);
+        } else {
+            leftOvertimeForPersons = Map.of();
+        }
 
-        final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndStatus(from.with(firstDayOfYear()), from.with(lastDayOfYear()), persons, List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED));
-        final Map<Person, LeftOvertime> leftOvertimeForPersons = overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(persons, applications, from, to);
-        final Map<Account, HolidayAccountVacationDays> holidayAccountVacationDaysByAccount = vacationDaysService.getVacationDaysLeft(holidayAccounts, workingTimeCalendarsByPerson, dateRange);
+        final Map<Account, HolidayAccountVacationDays> holidayAccountVacationDaysByAccount = aggregates.contains(VACATION_DAYS_LEFT)
+            ? vacationDaysService.getVacationDaysLeft(holidayAccounts, workingTimeCalendarsByPerson, dateRange)
+            : Map.of();
 
         final Map<Person, ApplicationForLeaveStatistics> statisticsByPerson = holidayAccounts.stream()
             .map(account -> {
@@ -105,6 +142,10 @@ class ApplicationForLeaveStatisticsBuilder {
                 return statistics;
             }).collect(toMap(ApplicationForLeaveStatistics::getPerson, identity()));
 
+        if (!aggregates.contains(VACATION_DAYS_USED)) {
+            return statisticsByPerson;
+        }
+
         final Map<Person, List<Application>> applicationsByPerson =
             applicationService.getApplicationsForACertainPeriodAndStatus(from, to, persons, List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED))
                 .stream()
@@ -127,4 +168,42 @@ class ApplicationForLeaveStatisticsBuilder {
 
         return statisticsByPerson;
     }
+
+    /**
+     * Parts of the {@link ApplicationForLeaveStatistics} that are calculated independently of each other.
+     */
+    enum Aggregate {
+
+        VACATION_DAYS_LEFT("leftVacationDays", "leftRemainingVacationDays"),
+        VACATION_DAYS_USED("totalAllowedVacationDays", "totalWaitingVacationDays", "allowedVacationDays", "waitingVacationDays"),
+        OVERTIME_LEFT("leftOvertime");
+
+        private final List<String> propertyPrefixes;
+
+        Aggregate(String... propertyPrefixes) {
+            this.propertyPrefixes = List.of(propertyPrefixes);
+        }
+
+        static Set<Aggregate> requiredBy(Sort sort) {
+            final Set<Aggregate> aggregates = EnumSet.noneOf(Aggregate.class);
+
+            for (Sort.Order order : sort) {
+                final String property = order.getProperty();
+                if (property.startsWith("person.")) {
+                    continue;
+                }
+
+                final List<Aggregate> matching = Arrays.stream(values())
+                    .filter(aggregate -> aggregate.propertyPrefixes.stream().anyMatch(property::startsWith))
+                    .collect(toList());
+
+                if (matching.isEmpty()) {
+                    return EnumSet.allOf(Aggregate.class);
+                }
+                aggregates.addAll(matching);
+            }
+
+            return aggregates;
+        }
+    }
 }
@@ -27,6 +27,7 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
 
     private static final Locale LOCALE = Locale.GERMAN;
     private static final String DATE_FORMAT = "ddMMyyyy";
+    private static final int CSV_COLUMNS = 11;
 
     private final MessageSource messageSource;
     private final VacationTypeService vacationTypeService;
@@ -47,7 +48,7 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
     }
 
     @Override
-    public void write(FilterPeriod period, List<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, CSVWriter csvWriter) {
         final String[] csvHeader = {
             getTranslation("person.account.basedata.personnelNumber"),
             getTranslation("person.data.firstName"),
@@ -78,6 +79,13 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
         final String endDateString = dateFormatAware.format(period.getEndDate());
         final String headerNote = getTranslation("absence.period") + ": " + startDateString + " - " + endDateString;
 
+        csvWriter.writeNext(new String[]{headerNote});
+        csvWriter.writeNext(csvHeader);
+        csvWriter.writeNext(csvSubHeader);
+    }
+
+    @Override
+    public void writeRows(FilterPeriod period, List<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
         final DecimalFormatSymbols newSymbols = new DecimalFormatSymbols(LOCALE);
         newSymbols.setDecimalSeparator(',');
         newSymbols.setGroupingSeparator('.');
@@ -85,16 +93,12 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
         final DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getInstance(LOCALE);
         decimalFormat.setDecimalFormatSymbols(newSymbols);
 
-        csvWriter.writeNext(new String[]{headerNote});
-        csvWriter.writeNext(csvHeader);
-        csvWriter.writeNext(csvSubHeader);
-
         final List<VacationType> allVacationTypes = vacationTypeService.getAllVacationTypes();
 
         final String translatedTextTotal = getTranslation("applications.statistics.total");
         for (ApplicationForLeaveStatistics applicationForLeaveStatistics : statistics) {
 
-            final String[] csvRow = new String[csvHeader.length];
+            final String[] csvRow = new String[CSV_COLUMNS];
             csvRow[0] = applicationForLeaveStatistics.getPersonBasedata().map(PersonBasedata::getPersonnelNumber).orElse("");
             csvRow[1] = applicationForLeaveStatistics.getPerson().getFirstName();
             csvRow[2] = applicationForLeaveStatistics.getPerson().getLastName();
@@ -113,7 +117,7 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
 
             for (final VacationType type : allVacationTypes) {
                 if (applicationForLeaveStatistics.hasVacationType(type)) {
-                    final String[] csvRowVacationTypes = new String[csvHeader.length];
+                    final String[] csvRowVacationTypes = new String[CSV_COLUMNS];
                     csvRowVacationTypes[3] = getTranslation(type.getMessageKey());
                     csvRowVacationTypes[4] = decimalFormat.format(applicationForLeaveStatistics.getAllowedVacationDays(type));
                     csvRowVacationTypes[5] = decimalFormat.format(applicationForLeaveStatistics.getWaitingVacationDays(type));
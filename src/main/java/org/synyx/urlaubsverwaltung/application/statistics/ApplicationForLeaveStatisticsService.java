@@ -22,7 +22,7 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Objects;
 
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
@@ -51,6 +51,11 @@ class ApplicationForLeaveStatisticsService {
      * Get {@link ApplicationForLeaveStatistics} the given person is allowed to see.
      * A person with {@link org.synyx.urlaubsverwaltung.person.Role} BOSS or OFFICE is allowed to see statistics of everyone for instance.
      *
+     * <p>
+     * Sorting by person attributes is done by the person query, so only the statistics of the requested page are built.
+     * Sorting by statistics attributes only calculates the sorted aggregates of all relevant persons once, pages them
+     * in memory and builds the complete statistics for the persons of the requested page afterwards.
+     *
      * @param person              person to restrict the returned page content
      * @param period              filter result set for a given period of time
      * @param pageableSearchQuery the page request
@@ -59,48 +64,73 @@ class ApplicationForLeaveStatisticsService {
     Page<ApplicationForLeaveStatistics> getStatistics(Person person, FilterPeriod period, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
         final List<VacationType> activeVacationTypes = vacationTypeService.getActiveVacationTypes();
-        final Page<Person> relevantPersonsPage = getAllRelevantPersons(person, pageableSearchQuery);
-        final List<Integer> personIdValues = relevantPersonsPage.getContent().stream().map(Person::getId).collect(toList());
-        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIdValues);
 
-        final Collection<ApplicationForLeaveStatistics> statisticsCollection = applicationForLeaveStatisticsBuilder
-            .build(relevantPersonsPage.getContent(), period.getStartDate(), period.getEndDate(), activeVacationTypes).values();
+        final Page<ApplicationForLeaveStatistics> statisticsPage = isSortByPersonAttribute(pageable)
+            ? getStatisticsSortedByPerson(person, period, pageableSearchQuery, activeVacationTypes)
+            : getStatisticsSortedByStatistics(person, period, pageableSearchQuery, activeVacationTypes);
 
-        statisticsCollection.forEach(statistics -> {
+        final List<Integer> personIdValues = statisticsPage.getContent().stream().map(statistics -> statistics.getPerson().getId()).collect(toList());
+        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIdValues);
+        statisticsPage.getContent().forEach(statistics -> {
             final PersonId personId = new PersonId(statistics.getPerson().getId());
             statistics.setPersonBasedata(basedataByPersonId.getOrDefault(personId, null));
         });
 
-        Stream<ApplicationForLeaveStatistics> statisticsStream = statisticsCollection.stream();
-        if (relevantPersonsPage.getPageable().isUnpaged()) {
-            // we don't have to restrict the statistics if persons page is paged and or sorted already.
-            // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
-            statisticsStream = statisticsStream
-                .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-                .limit(pageable.getPageSize());
-        }
+        return statisticsPage;
+    }
 
-        final List<ApplicationForLeaveStatistics> content = statisticsStream
-            .sorted(new SortComparator<>(ApplicationForLeaveStatistics.class, pageable.getSort()))
+    private Page<ApplicationForLeaveStatistics> getStatisticsSortedByPerson(Person person, FilterPeriod period, PageableSearchQuery pageableSearchQuery,
+                                                                            List<VacationType> vacationTypes) {
+        final Pageable pageable = pageableSearchQuery.getPageable();
+        final PageableSearchQuery personQuery = new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery());
+        final Page<Person> relevantPersonsPage = getRelevantPersons(person, personQuery);
+
+        final Map<Person, ApplicationForLeaveStatistics> statisticsByPerson = applicationForLeaveStatisticsBuilder
+            .build(relevantPersonsPage.getContent(), period.getStartDate(), period.getEndDate(), vacationTypes);
+
+        // the persons page is sorted already, statistics must keep this order
+        final List<ApplicationForLeaveStatistics> content = relevantPersonsPage.getContent().stream()
+            .map(statisticsByPerson::get)
+            .filter(Objects::nonNull)
             .collect(toList());
 
         return new PageImpl<>(content, pageable, relevantPersonsPage.getTotalElements());
     }
 
-    private Page<Person> getAllRelevantPersons(Person person, PageableSearchQuery pageableSearchQuery) {
+    private Page<ApplicationForLeaveStatistics> getStatisticsSortedByStatistics(Person person, FilterPeriod period, PageableSearchQuery pageableSearchQuery,
+                                                                                List<VacationType> vacationTypes) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final PageableSearchQuery personQuery = new PageableSearchQuery(Pageable.unpaged(), pageableSearchQuery.getQuery());
+        final List<Person> relevantPersons = getRelevantPersons(person, personQuery).getContent();
 
-        if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
-            final PageableSearchQuery query = sortByPerson
-                ? new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery())
-                : new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), pageableSearchQuery.getQuery());
+        final Collection<ApplicationForLeaveStatistics> sortableStatistics = applicationForLeaveStatisticsBuilder
+            .buildSortable(relevantPersons, period.getStartDate(), period.getEndDate(), vacationTypes, pageable.getSort()).values();
 
-            return personService.getActivePersons(query);
+        final List<Person> pagePersons = sortableStatistics.stream()
+            .sorted(new SortComparator<>(ApplicationForLeaveStatistics.class, pageable.getSort()))
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .map(ApplicationForLeaveStatistics::getPerson)
+            .collect(toList());
+
+        final Map<Person, ApplicationForLeaveStatistics> statisticsByPerson = applicationForLeaveStatisticsBuilder
+            .build(pagePersons, period.getStartDate(), period.getEndDate(), vacationTypes);
+
+        // the persons of the page are sorted already, statistics must keep this order
+        final List<ApplicationForLeaveStatistics> content = pagePersons.stream()
+            .map(statisticsByPerson::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
+
+        return new PageImpl<>(content, pageable, relevantPersons.size());
+    }
+
+    private Page<Person> getRelevantPersons(Person person, PageableSearchQuery personQuery) {
+        if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
+            return personService.getActivePersons(personQuery);
         }
 
-        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? mapToPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
-        return departmentService.getManagedMembersOfPerson(person, query);
+        return departmentService.getManagedMembersOfPerson(person, personQuery);
     }
 
     private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
@@ -0,0 +1,26 @@
+package org.synyx.urlaubsverwaltung.avatar;
+
+/**
+ * A rendered avatar svg with the entity tag for conditional requests.
+ */
+final class Avatar {
+
+    private final byte[] content;
+    private final String eTag;
+
+    Avatar(byte[] content, String eTag) {
+        this.content = content;
+        this.eTag = eTag;
+    }
+
+    byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return strong entity tag of the content, including the quotes
+     */
+    String getETag() {
+        return eTag;
+    }
+}
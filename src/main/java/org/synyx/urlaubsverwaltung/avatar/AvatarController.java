@@ -9,30 +9,32 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.Locale;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+
 @Controller
 public class AvatarController {
 
     private static final String UNKNOWN_PERSON = "?";
-    private final SvgService svgService;
+    private final AvatarRenderer avatarRenderer;
 
-    AvatarController(final SvgService svgService) {
-        this.svgService = svgService;
+    AvatarController(final AvatarRenderer avatarRenderer) {
+        this.avatarRenderer = avatarRenderer;
     }
 
     @GetMapping(value = "/web/avatar", produces = "image/svg+xml")
     @ResponseBody
-    public ResponseEntity<String> avatar(@RequestParam(value = "name", defaultValue = UNKNOWN_PERSON) String name, Locale locale) {
+    public ResponseEntity<byte[]> avatar(@RequestParam(value = "name", defaultValue = UNKNOWN_PERSON) String name, Locale locale) {
 
-        final Map<String, Object> model = Map.of("initials", getInitials(name.trim()));
-        final String svg = svgService.createSvg("thymeleaf/svg/avatar", locale, model);
+        final Avatar avatar = avatarRenderer.render(getInitials(name.trim()), locale);
 
+        // answered with 304 Not Modified by spring if the entity tag matches
         return ResponseEntity.ok()
-            .cacheControl(CacheControl.maxAge(60, TimeUnit.MINUTES))
+            .header(CACHE_CONTROL, CacheControl.maxAge(60, TimeUnit.MINUTES).getHeaderValue() + ", immutable")
+            .eTag(avatar.getETag())
             .contentType(MediaType.valueOf("image/svg+xml"))
-            .body(svg);
+            .body(avatar.getContent());
     }
 
     private static String getInitials(String niceName) {
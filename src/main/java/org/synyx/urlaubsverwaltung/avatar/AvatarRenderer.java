@@ -0,0 +1,90 @@
+package org.synyx.urlaubsverwaltung.avatar;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Renders the avatars and keeps the most recently requested ones, so the avatars of a page listing many persons
+ * are answered without processing the template again. An avatar only depends on the initials and the locale,
+ * so the cached avatars never become stale.
+ */
+@Component
+class AvatarRenderer {
+
+    private static final String AVATAR_TEMPLATE = "thymeleaf/svg/avatar";
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final SvgService svgService;
+    private final Map<Key, Avatar> avatars;
+
+    @Autowired
+    AvatarRenderer(SvgService svgService) {
+        this(svgService, DEFAULT_CACHE_SIZE);
+    }
+
+    AvatarRenderer(SvgService svgService, int cacheSize) {
+        this.svgService = svgService;
+        this.avatars = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Avatar> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    Avatar render(String initials, Locale locale) {
+
+        final Key key = new Key(initials, locale);
+        synchronized (avatars) {
+            final Avatar cachedAvatar = avatars.get(key);
+            if (cachedAvatar != null) {
+                return cachedAvatar;
+            }
+        }
+
+        // rendered without holding the lock, an avatar that is requested concurrently is just rendered twice
+        final byte[] content = svgService.createSvg(AVATAR_TEMPLATE, locale, Map.of("initials", initials)).getBytes(UTF_8);
+        final Avatar avatar = new Avatar(content, '"' + DigestUtils.md5Hex(content) + '"');
+        synchronized (avatars) {
+            avatars.put(key, avatar);
+        }
+
+        return avatar;
+    }
+
+    private static final class Key {
+
+        private final String initials;
+        private final Locale locale;
+
+        private Key(String initials, Locale locale) {
+            this.initials = initials;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return Objects.equals(initials, key.initials) && Objects.equals(locale, key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(initials, locale);
+        }
+    }
+}
@@ -41,7 +41,7 @@ class SvgService {
         final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
         resolver.setPrefix(RESOURCES_TEMPLATES_DIR_PREFIX);
         resolver.setSuffix(".svg");
-        resolver.setCacheable(false);
+        resolver.setCacheable(true);
         resolver.setTemplateMode(HTML);
         return resolver;
     }
@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import java.time.Instant;
+
+/**
+ * A serialized iCal feed with the values for conditional requests.
+ */
+final class CalendarFeed {
+
+    private final byte[] content;
+    private final String eTag;
+    private final Instant lastModified;
+
+    CalendarFeed(byte[] content, String eTag, Instant lastModified) {
+        this.content = content;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return strong entity tag of the content, including the quotes
+     */
+    String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return the time the content has been changed the last time, in seconds precision
+     */
+    Instant getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,318 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationSavedEvent;
+import org.synyx.urlaubsverwaltung.department.DepartmentUpdatedEvent;
+import org.synyx.urlaubsverwaltung.department.PersonLeftDepartmentEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteSavedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * Caches the serialized iCal feeds, so the frequent polling of the calendar clients is answered without loading
+ * and converting the absences again.
+ *
+ * <p>The feeds are cached by their content, not by their secret: the secret is checked against the database on every
+ * request, so a deleted calendar is not served anymore by any application instance. A department or company feed is
+ * kept once for all of its subscribers, see {@link SharedCalendar}. The cache is limited by the number of bytes of
+ * the cached feeds, the least recently requested feeds are removed first.</p>
+ *
+ * <p>A person feed only contains the absences of its person, so it is removed from the cache when an application
+ * for leave, a sick note or the person itself changes. Department and company feeds contain the absences of
+ * several persons and are removed on every change, a department feed also when its department changes. The feeds
+ * are removed after the change has been committed, so they are not regenerated from the previous state. A feed is
+ * regenerated at the latest after the configured maximum age to see the changes of other application instances,
+ * and at the turn of the day, as the feeds start at a date relative to today.</p>
+ */
+@Component
+class CalendarFeedCache {
+
+    private final CalendarProperties calendarProperties;
+    private final Clock clock;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Number of bytes of all cached feeds.
+     */
+    private long size;
+
+    /**
+     * Counts the evictions, so a feed that has been generated while its data changed is not cached.
+     */
+    private long evictions;
+
+    @Autowired
+    CalendarFeedCache(CalendarProperties calendarProperties, Clock clock) {
+        this.calendarProperties = calendarProperties;
+        this.clock = clock;
+    }
+
+    CalendarFeed getForPerson(Integer personId, Period calendarPeriod, Locale locale, Supplier<ByteArrayResource> calendar) {
+        return get(new Key(Type.PERSON, null, personId, calendarPeriod, locale), () -> Content.of(calendar.get().getByteArray()))
+            .getFeed(null);
+    }
+
+    CalendarFeed getForDepartment(Integer departmentId, Period calendarPeriod, Locale locale, Person recipient, Supplier<SharedCalendar> calendar) {
+        return get(new Key(Type.DEPARTMENT, departmentId, null, calendarPeriod, locale), () -> Content.of(calendar.get()))
+            .getFeed(recipient);
+    }
+
+    CalendarFeed getForCompany(Period calendarPeriod, Locale locale, Person recipient, Supplier<SharedCalendar> calendar) {
+        return get(new Key(Type.COMPANY, null, null, calendarPeriod, locale), () -> Content.of(calendar.get()))
+            .getFeed(recipient);
+    }
+
+    /**
+     * Removes all feeds that contain the absences of the given person.
+     *
+     * @param personId of the person that has been changed
+     */
+    void evict(int personId) {
+        evict(key -> key.type != Type.PERSON || key.personId == personId);
+    }
+
+    /**
+     * Removes the feeds of the given department.
+     *
+     * @param departmentId of the department that has been changed
+     */
+    void evictDepartment(Integer departmentId) {
+        evict(key -> key.type == Type.DEPARTMENT && Objects.equals(key.departmentId, departmentId));
+    }
+
+    void evictAll() {
+        synchronized (entries) {
+            entries.clear();
+            size = 0;
+            evictions++;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationSavedEvent event) {
+        evict(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(SickNoteSavedEvent event) {
+        evict(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonUpdatedEvent event) {
+        evict(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonDisabledEvent event) {
+        evict(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonDeletedEvent event) {
+        evict(event.getPerson().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonLeftDepartmentEvent event) {
+        evict(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(DepartmentUpdatedEvent event) {
+        evictDepartment(event.getDepartmentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(SettingsUpdatedEvent event) {
+        evictAll();
+    }
+
+    private void evict(Predicate<Key> keysToEvict) {
+        synchronized (entries) {
+            final Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<Key, Entry> entry = iterator.next();
+                if (keysToEvict.test(entry.getKey())) {
+                    size -= entry.getValue().content.getSize();
+                    iterator.remove();
+                }
+            }
+            evictions++;
+        }
+    }
+
+    private Entry get(Key key, Supplier<Content> generator) {
+
+        final Instant now = Instant.now(clock);
+        final LocalDate today = LocalDate.now(clock);
+
+        final Entry cachedEntry;
+        final long evictionsBefore;
+        synchronized (entries) {
+            cachedEntry = entries.get(key);
+            evictionsBefore = evictions;
+        }
+        if (cachedEntry != null && cachedEntry.isValid(now.minus(calendarProperties.getFeedCacheMaxAge()), today)) {
+            return cachedEntry;
+        }
+
+        // generated without holding the lock, a feed that is requested concurrently is just generated twice
+        final Content content = generator.get();
+        final Instant lastModified = cachedEntry != null && cachedEntry.content.getHash().equals(content.getHash())
+            ? cachedEntry.lastModified
+            : now.truncatedTo(SECONDS);
+
+        final Entry entry = new Entry(content, lastModified, now, today);
+        synchronized (entries) {
+            if (evictions == evictionsBefore) {
+                put(key, entry);
+            }
+        }
+
+        return entry;
+    }
+
+    private void put(Key key, Entry entry) {
+
+        final long maxSize = calendarProperties.getFeedCacheMaxSize().toBytes();
+        if (entry.content.getSize() > maxSize) {
+            return;
+        }
+
+        final Entry replacedEntry = entries.put(key, entry);
+        size += entry.content.getSize() - (replacedEntry == null ? 0 : replacedEntry.content.getSize());
+
+        final Iterator<Entry> leastRecentlyRequested = entries.values().iterator();
+        while (size > maxSize) {
+            size -= leastRecentlyRequested.next().content.getSize();
+            leastRecentlyRequested.remove();
+        }
+    }
+
+    private enum Type {
+        PERSON, DEPARTMENT, COMPANY
+    }
+
+    private static final class Key {
+
+        private final Type type;
+        private final Integer departmentId;
+        private final Integer personId;
+        private final Period calendarPeriod;
+        private final Locale locale;
+
+        private Key(Type type, Integer departmentId, Integer personId, Period calendarPeriod, Locale locale) {
+            this.type = type;
+            this.departmentId = departmentId;
+            this.personId = personId;
+            this.calendarPeriod = calendarPeriod;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return type == key.type && Objects.equals(departmentId, key.departmentId)
+                && Objects.equals(personId, key.personId) && Objects.equals(calendarPeriod, key.calendarPeriod)
+                && Objects.equals(locale, key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, departmentId, personId, calendarPeriod, locale);
+        }
+    }
+
+    /**
+     * The serialized feed of a person or the {@link SharedCalendar} of a department or the company.
+     */
+    private static final class Content {
+
+        private final byte[] feed;
+        private final SharedCalendar sharedCalendar;
+        private final String hash;
+
+        private Content(byte[] feed, SharedCalendar sharedCalendar, String hash) {
+            this.feed = feed;
+            this.sharedCalendar = sharedCalendar;
+            this.hash = hash;
+        }
+
+        private static Content of(byte[] feed) {
+            return new Content(feed, null, DigestUtils.md5Hex(feed));
+        }
+
+        private static Content of(SharedCalendar sharedCalendar) {
+            return new Content(null, sharedCalendar, sharedCalendar.getHash());
+        }
+
+        private String getHash() {
+            return hash;
+        }
+
+        private long getSize() {
+            return feed != null ? feed.length : sharedCalendar.getSize();
+        }
+    }
+
+    private static final class Entry {
+
+        private final Content content;
+        private final Instant lastModified;
+        private final Instant createdAt;
+        private final LocalDate createdOn;
+
+        private Entry(Content content, Instant lastModified, Instant createdAt, LocalDate createdOn) {
+            this.content = content;
+            this.lastModified = lastModified;
+            this.createdAt = createdAt;
+            this.createdOn = createdOn;
+        }
+
+        private boolean isValid(Instant createdNotBefore, LocalDate today) {
+            return !createdAt.isBefore(createdNotBefore) && createdOn.isEqual(today);
+        }
+
+        private CalendarFeed getFeed(Person recipient) {
+
+            if (content.feed != null) {
+                return new CalendarFeed(content.feed, '"' + content.hash + '"', lastModified);
+            }
+
+            // the feed of a recipient with own absences differs from the feed of all other recipients
+            final String eTag = content.sharedCalendar.containsAbsencesOf(recipient)
+                ? '"' + content.hash + '-' + recipient.getId() + '"'
+                : '"' + content.hash + '"';
+            return new CalendarFeed(content.sharedCalendar.getContent(recipient), eTag, lastModified);
+        }
+    }
+}
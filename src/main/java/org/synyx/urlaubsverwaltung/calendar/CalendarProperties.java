@@ -3,10 +3,12 @@ package org.synyx.urlaubsverwaltung.calendar;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DurationUnit;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
@@ -45,6 +47,22 @@ public class CalendarProperties {
     @DurationUnit(ChronoUnit.MINUTES)
     private Duration refreshInterval = Duration.ofDays(1);
 
+    /**
+     * Defines how long a generated iCal feed is served from the cache. Changes of applications for leave,
+     * sick notes and persons made by this application instance remove the affected feeds from the cache
+     * immediately, changes made by other instances are served after this duration at the latest.
+     * Default is ten minutes (PT10M).
+     */
+    @DurationUnit(ChronoUnit.MINUTES)
+    private Duration feedCacheMaxAge = Duration.ofMinutes(10);
+
+    /**
+     * Defines the maximum size of the iCal feeds in the cache, the least recently requested feeds are removed first.
+     * A department or company feed is cached once for all of its subscribers. Default is 50 megabytes (50MB).
+     */
+    @NotNull
+    private DataSize feedCacheMaxSize = DataSize.ofMegabytes(50);
+
     public String getOrganizer() {
         return organizer;
     }
@@ -60,4 +78,20 @@ public class CalendarProperties {
     public void setRefreshInterval(Duration refreshInterval) {
         this.refreshInterval = refreshInterval;
     }
+
+    public Duration getFeedCacheMaxAge() {
+        return feedCacheMaxAge;
+    }
+
+    public void setFeedCacheMaxAge(Duration feedCacheMaxAge) {
+        this.feedCacheMaxAge = feedCacheMaxAge;
+    }
+
+    public DataSize getFeedCacheMaxSize() {
+        return feedCacheMaxSize;
+    }
+
+    public void setFeedCacheMaxSize(DataSize feedCacheMaxSize) {
+        this.feedCacheMaxSize = feedCacheMaxSize;
+    }
 }
@@ -4,7 +4,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.absence.Absence;
@@ -31,15 +30,18 @@ class CompanyCalendarService {
     private final ICalService iCalService;
     private final PersonService personService;
     private final MessageSource messageSource;
+    private final CalendarFeedCache calendarFeedCache;
     private final Clock clock;
 
     @Autowired
-    CompanyCalendarService(AbsenceService absenceService, CompanyCalendarRepository companyCalendarRepository, ICalService iCalService, PersonService personService, MessageSource messageSource, Clock clock) {
+    CompanyCalendarService(AbsenceService absenceService, CompanyCalendarRepository companyCalendarRepository, ICalService iCalService,
+                           PersonService personService, MessageSource messageSource, CalendarFeedCache calendarFeedCache, Clock clock) {
         this.absenceService = absenceService;
         this.companyCalendarRepository = companyCalendarRepository;
         this.iCalService = iCalService;
         this.personService = personService;
         this.messageSource = messageSource;
+        this.calendarFeedCache = calendarFeedCache;
         this.clock = clock;
     }
 
@@ -63,25 +65,31 @@ class CompanyCalendarService {
         return companyCalendarRepository.findByPerson(person);
     }
 
-    ByteArrayResource getCalendarForAll(Integer personId, String secret, Locale locale) {
+    CalendarFeed getCalendarForAll(Integer personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
         }
 
+        // the secret is checked on every request, the cached feed is shared by all subscribers
         final Person person = getPersonOrThrow(personId);
         final Optional<CompanyCalendar> maybeCompanyCalendar = companyCalendarRepository.findBySecretAndPerson(secret, person);
         if (maybeCompanyCalendar.isEmpty()) {
             throw new IllegalArgumentException("No calendar found for secret=" + secret);
         }
 
+        final Period calendarPeriod = maybeCompanyCalendar.get().getCalendarPeriod();
+        return calendarFeedCache.getForCompany(calendarPeriod, locale, person, () -> generateCalendarForAll(calendarPeriod, locale));
+    }
+
+    private SharedCalendar generateCalendarForAll(Period calendarPeriod, Locale locale) {
+
         final String title = messageSource.getMessage("calendar.company.title", new Object[]{}, locale);
 
-        final CompanyCalendar companyCalendar = maybeCompanyCalendar.get();
-        final LocalDate sinceDate = LocalDate.now(clock).minus(companyCalendar.getCalendarPeriod());
+        final LocalDate sinceDate = LocalDate.now(clock).minus(calendarPeriod);
         final List<Absence> absences = absenceService.getOpenAbsencesSince(sinceDate);
 
-        return iCalService.getCalendar(title, absences, person);
+        return iCalService.getSharedCalendar(title, absences);
     }
 
     @Transactional
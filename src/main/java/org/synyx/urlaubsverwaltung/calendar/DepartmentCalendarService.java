@@ -4,7 +4,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.absence.Absence;
@@ -32,11 +31,13 @@ class DepartmentCalendarService {
     private final DepartmentCalendarRepository departmentCalendarRepository;
     private final ICalService iCalService;
     private final MessageSource messageSource;
+    private final CalendarFeedCache calendarFeedCache;
     private final Clock clock;
 
     @Autowired
     public DepartmentCalendarService(AbsenceService absenceService, DepartmentService departmentService,
-                                     PersonService personService, DepartmentCalendarRepository departmentCalendarRepository, ICalService iCalService, MessageSource messageSource, Clock clock) {
+                                     PersonService personService, DepartmentCalendarRepository departmentCalendarRepository, ICalService iCalService, MessageSource messageSource,
+                                     CalendarFeedCache calendarFeedCache, Clock clock) {
 
         this.absenceService = absenceService;
         this.departmentService = departmentService;
@@ -44,6 +45,7 @@ class DepartmentCalendarService {
         this.departmentCalendarRepository = departmentCalendarRepository;
         this.iCalService = iCalService;
         this.messageSource = messageSource;
+        this.calendarFeedCache = calendarFeedCache;
         this.clock = clock;
     }
 
@@ -80,33 +82,40 @@ class DepartmentCalendarService {
         return departmentCalendarRepository.findByDepartmentIdAndPerson(departmentId, person);
     }
 
-    ByteArrayResource getCalendarForDepartment(Integer departmentId, Integer personId, String secret, Locale locale) {
+    CalendarFeed getCalendarForDepartment(Integer departmentId, Integer personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
         }
 
+        // the secret is checked on every request, the cached feed is shared by all subscribers
         final Person person = getPersonOrThrow(personId);
         final Optional<DepartmentCalendar> maybeDepartmentCalendar = departmentCalendarRepository.findBySecretAndPerson(secret, person);
         if (maybeDepartmentCalendar.isEmpty()) {
             throw new IllegalArgumentException("No calendar found for secret=" + secret);
         }
 
-        final Department department = getDepartmentOrThrow(departmentId);
         final DepartmentCalendar departmentCalendar = maybeDepartmentCalendar.get();
         if (!departmentCalendar.getDepartmentId().equals(departmentId)) {
             throw new IllegalArgumentException(String.format("Secret=%s does not match the given departmentId=%s", secret, departmentId));
         }
 
+        final Period calendarPeriod = departmentCalendar.getCalendarPeriod();
+        return calendarFeedCache.getForDepartment(departmentId, calendarPeriod, locale, person, () -> generateCalendarForDepartment(departmentId, calendarPeriod, locale));
+    }
+
+    private SharedCalendar generateCalendarForDepartment(Integer departmentId, Period calendarPeriod, Locale locale) {
+
+        final Department department = getDepartmentOrThrow(departmentId);
         final String title = messageSource.getMessage("calendar.department.title", List.of(department.getName()).toArray(), locale);
 
-        final LocalDate chosenCalendarPeriodSinceDate = LocalDate.now(clock).minus(departmentCalendar.getCalendarPeriod());
+        final LocalDate chosenCalendarPeriodSinceDate = LocalDate.now(clock).minus(calendarPeriod);
         final LocalDate departmentExistsSinceDate = department.getCreatedAt();
         final LocalDate sinceDate = departmentExistsSinceDate.isAfter(chosenCalendarPeriodSinceDate) ? departmentExistsSinceDate : chosenCalendarPeriodSinceDate;
 
         final List<Absence> absences = absenceService.getOpenAbsencesSince(department.getMembers(), sinceDate);
 
-        return iCalService.getCalendar(title, absences, person);
+        return iCalService.getSharedCalendar(title, absences);
     }
 
     @Transactional
@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.calendar;
 
 import net.fortuna.ical4j.data.CalendarOutputter;
+import net.fortuna.ical4j.data.FoldingWriter;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.Date;
 import net.fortuna.ical4j.model.DateTime;
@@ -26,20 +27,28 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.net.URI;
 import java.text.ParseException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Date.from;
+import static net.fortuna.ical4j.data.FoldingWriter.MAX_FOLD_LENGTH;
+import static net.fortuna.ical4j.data.FoldingWriter.REDUCED_FOLD_LENGTH;
 import static net.fortuna.ical4j.model.parameter.Role.REQ_PARTICIPANT;
 import static net.fortuna.ical4j.model.property.CalScale.GREGORIAN;
 import static net.fortuna.ical4j.model.property.Method.CANCEL;
 import static net.fortuna.ical4j.model.property.Transp.VALUE_TRANSPARENT;
 import static net.fortuna.ical4j.model.property.Version.VERSION_2_0;
+import static net.fortuna.ical4j.util.CompatibilityHints.KEY_OUTLOOK_COMPATIBILITY;
+import static net.fortuna.ical4j.util.CompatibilityHints.isHintEnabled;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.calendar.ICalType.CANCELLED;
 import static org.synyx.urlaubsverwaltung.calendar.ICalType.PUBLISHED;
@@ -60,8 +69,76 @@ public class ICalService {
     }
 
     public ByteArrayResource getCalendar(String title, List<Absence> absences, Person recipient) {
-        final Calendar calendar = generateCalendar(title, absences, recipient);
-        return writeCalenderIntoRessource(calendar);
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        writeCalendar(title, absences, recipient, byteArrayOutputStream);
+        return new ByteArrayResource(byteArrayOutputStream.toByteArray());
+    }
+
+    /**
+     * Writes the calendar with the given absences event by event into the given output stream. The output is the
+     * same as of the {@link CalendarOutputter}, but neither the {@link Calendar} with all its events nor the whole
+     * calendar as string is held in memory.
+     *
+     * @param title of the calendar
+     * @param absences to write as events
+     * @param recipient of the calendar, the absences of other persons are marked as transparent
+     * @param outputStream to write the calendar into, is not closed
+     */
+    void writeCalendar(String title, List<Absence> absences, Person recipient, OutputStream outputStream) {
+
+        final Calendar calendar = generateCalendar(title);
+
+        try {
+            calendar.validate();
+
+            final FoldingWriter writer = new FoldingWriter(new OutputStreamWriter(outputStream, UTF_8), foldLength());
+            writer.write(Calendar.BEGIN + ':' + Calendar.VCALENDAR + "\r\n");
+            writer.write(calendar.getProperties().toString());
+            for (Absence absence : absences) {
+                final Optional<VEvent> event = toVEvent(absence, PUBLISHED, absence.getPerson().equals(recipient));
+                if (event.isPresent()) {
+                    event.get().validate();
+                    writer.write(event.get().toString());
+                }
+            }
+            writer.write(Calendar.END + ':' + Calendar.VCALENDAR + "\r\n");
+            writer.flush();
+        } catch (ValidationException | IOException e) {
+            throw new CalendarException("iCal calendar could not be written to OutputStream", e);
+        }
+    }
+
+    /**
+     * Serializes the calendar with the given absences once for all of its recipients.
+     *
+     * @param title of the calendar
+     * @param absences to write as events
+     * @return the calendar to assemble the calendar of every recipient from
+     */
+    SharedCalendar getSharedCalendar(String title, List<Absence> absences) {
+
+        final Calendar calendar = generateCalendar(title);
+
+        try {
+            calendar.validate();
+
+            final byte[] header = fold(Calendar.BEGIN + ':' + Calendar.VCALENDAR + "\r\n" + calendar.getProperties());
+            final List<SharedCalendar.Event> events = new ArrayList<>();
+            for (Absence absence : absences) {
+                final Optional<VEvent> ownEvent = toVEvent(absence, PUBLISHED, true);
+                final Optional<VEvent> otherEvent = toVEvent(absence, PUBLISHED, false);
+                if (ownEvent.isPresent() && otherEvent.isPresent()) {
+                    ownEvent.get().validate();
+                    otherEvent.get().validate();
+                    events.add(new SharedCalendar.Event(absence.getPerson(), fold(ownEvent.get().toString()), fold(otherEvent.get().toString())));
+                }
+            }
+            final byte[] footer = fold(Calendar.END + ':' + Calendar.VCALENDAR + "\r\n");
+
+            return new SharedCalendar(header, events, footer);
+        } catch (ValidationException | IOException e) {
+            throw new CalendarException("iCal calendar could not be serialized", e);
+        }
     }
 
     public ByteArrayResource getSingleAppointment(Absence absence, ICalType method, Person recipient) {
@@ -69,8 +146,8 @@ public class ICalService {
         return writeCalenderIntoRessource(calendar);
     }
 
-    private Calendar generateCalendar(String title, List<Absence> absences, Person recipient) {
-        final Calendar calendar = prepareCalendar(absences, PUBLISHED, recipient);
+    private Calendar generateCalendar(String title) {
+        final Calendar calendar = prepareCalendar(List.of(), PUBLISHED, null);
         calendar.getProperties().add(new XProperty("X-WR-CALNAME", title));
         calendar.getProperties().add(new RefreshInterval(new ParameterList(), calendarProperties.getRefreshInterval()));
         return calendar;
@@ -165,6 +242,18 @@ public class ICalService {
         return DigestUtils.md5Hex(data).toUpperCase();
     }
 
+    private static byte[] fold(String value) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final FoldingWriter writer = new FoldingWriter(new OutputStreamWriter(byteArrayOutputStream, UTF_8), foldLength());
+        writer.write(value);
+        writer.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static int foldLength() {
+        return isHintEnabled(KEY_OUTLOOK_COMPATIBILITY) ? MAX_FOLD_LENGTH : REDUCED_FOLD_LENGTH;
+    }
+
     private ByteArrayResource writeCalenderIntoRessource(Calendar calendar) {
         final ByteArrayResource byteArrayResource;
         try (final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
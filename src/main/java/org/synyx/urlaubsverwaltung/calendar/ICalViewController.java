@@ -2,18 +2,19 @@ package org.synyx.urlaubsverwaltung.calendar;
 
 import io.swagger.v3.oas.annotations.Hidden;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import javax.servlet.http.HttpServletResponse;
 import java.util.Locale;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
@@ -37,9 +38,9 @@ public class ICalViewController {
 
     @GetMapping("/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForPerson(Locale locale, HttpServletResponse response, @PathVariable Integer personId, @RequestParam String secret) {
+    public String getCalendarForPerson(Locale locale, WebRequest request, HttpServletResponse response, @PathVariable Integer personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
+        final CalendarFeed iCal;
         try {
             iCal = personCalendarService.getCalendarForPerson(personId, secret, locale);
         } catch (IllegalArgumentException e) {
@@ -48,16 +49,14 @@ public class ICalViewController {
             throw new ResponseStatusException(NO_CONTENT);
         }
 
-        setContentTypeAndHeaders(response);
-
-        return new String(iCal.getByteArray());
+        return respond(iCal, request, response);
     }
 
     @GetMapping("/departments/{departmentId}/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForDepartment(Locale locale, HttpServletResponse response, @PathVariable Integer departmentId, @PathVariable Integer personId, @RequestParam String secret) {
+    public String getCalendarForDepartment(Locale locale, WebRequest request, HttpServletResponse response, @PathVariable Integer departmentId, @PathVariable Integer personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
+        final CalendarFeed iCal;
         try {
             iCal = departmentCalendarService.getCalendarForDepartment(departmentId, personId, secret, locale);
         } catch (IllegalArgumentException e) {
@@ -66,16 +65,14 @@ public class ICalViewController {
             throw new ResponseStatusException(NO_CONTENT);
         }
 
-        setContentTypeAndHeaders(response);
-
-        return new String(iCal.getByteArray());
+        return respond(iCal, request, response);
     }
 
     @GetMapping("/company/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForCompany(Locale locale, HttpServletResponse response, @PathVariable Integer personId, @RequestParam String secret) {
+    public String getCalendarForCompany(Locale locale, WebRequest request, HttpServletResponse response, @PathVariable Integer personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
+        final CalendarFeed iCal;
         try {
             iCal = companyCalendarService.getCalendarForAll(personId, secret, locale);
         } catch (IllegalArgumentException e) {
@@ -84,14 +81,27 @@ public class ICalViewController {
             throw new ResponseStatusException(NO_CONTENT);
         }
 
+        return respond(iCal, request, response);
+    }
+
+    /**
+     * Answers with {@code 304 Not Modified} if the client already has the current state of the calendar.
+     */
+    private String respond(CalendarFeed iCal, WebRequest request, HttpServletResponse response) {
+
         setContentTypeAndHeaders(response);
 
-        return new String(iCal.getByteArray());
+        if (request.checkNotModified(iCal.getETag(), iCal.getLastModified().toEpochMilli())) {
+            return null;
+        }
+
+        return new String(iCal.getContent(), UTF_8);
     }
 
     private void setContentTypeAndHeaders(HttpServletResponse response) {
         response.setContentType("text/calendar");
         response.setCharacterEncoding("UTF-8");
         response.setHeader("Content-Disposition", "attachment; filename=calendar.ics");
+        response.setHeader("Cache-Control", "no-cache");
     }
 }
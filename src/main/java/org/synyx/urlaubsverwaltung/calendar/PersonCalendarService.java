@@ -29,17 +29,20 @@ class PersonCalendarService {
     private final PersonCalendarRepository personCalendarRepository;
     private final ICalService iCalService;
     private final MessageSource messageSource;
+    private final CalendarFeedCache calendarFeedCache;
     private final Clock clock;
 
     @Autowired
     PersonCalendarService(AbsenceService absenceService, PersonService personService,
-                          PersonCalendarRepository personCalendarRepository, ICalService iCalService, MessageSource messageSource, Clock clock) {
+                          PersonCalendarRepository personCalendarRepository, ICalService iCalService, MessageSource messageSource,
+                          CalendarFeedCache calendarFeedCache, Clock clock) {
 
         this.absenceService = absenceService;
         this.personService = personService;
         this.personCalendarRepository = personCalendarRepository;
         this.iCalService = iCalService;
         this.messageSource = messageSource;
+        this.calendarFeedCache = calendarFeedCache;
         this.clock = clock;
     }
 
@@ -63,12 +66,13 @@ class PersonCalendarService {
         return personCalendarRepository.findByPerson(person);
     }
 
-    ByteArrayResource getCalendarForPerson(Integer personId, String secret, Locale locale) {
+    CalendarFeed getCalendarForPerson(Integer personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
         }
 
+        // the secret is checked on every request, the feed is cached by its content
         final Optional<PersonCalendar> maybePersonCalendar = personCalendarRepository.findBySecret(secret);
         if (maybePersonCalendar.isEmpty()) {
             throw new IllegalArgumentException("No calendar found for secret=" + secret);
@@ -80,9 +84,15 @@ class PersonCalendarService {
             throw new IllegalArgumentException(String.format("Secret=%s does not match the given personId=%s", secret, personId));
         }
 
+        final Period calendarPeriod = personCalendar.getCalendarPeriod();
+        return calendarFeedCache.getForPerson(personId, calendarPeriod, locale, () -> generateCalendarForPerson(person, calendarPeriod, locale));
+    }
+
+    private ByteArrayResource generateCalendarForPerson(Person person, Period calendarPeriod, Locale locale) {
+
         final String title = messageSource.getMessage("calendar.person.title", List.of(person.getNiceName()).toArray(), locale);
 
-        final LocalDate sinceDate = LocalDate.now(clock).minus(personCalendar.getCalendarPeriod());
+        final LocalDate sinceDate = LocalDate.now(clock).minus(calendarPeriod);
         final List<Absence> absences = absenceService.getOpenAbsencesSince(List.of(person), sinceDate);
 
         return iCalService.getCalendar(title, absences, person);
@@ -0,0 +1,100 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.util.List;
+
+import static org.apache.commons.codec.binary.Hex.encodeHexString;
+import static org.apache.commons.codec.digest.DigestUtils.getMd5Digest;
+
+/**
+ * A serialized iCal calendar that is shared by all of its recipients, e.g. the department or company calendar.
+ *
+ * <p>The calendars of the recipients only differ in the transparency of the events: the absences of the recipient
+ * block the time, the absences of other persons do not. Therefore every event is kept serialized in both variants
+ * and the calendar of a recipient is assembled from them.</p>
+ */
+final class SharedCalendar {
+
+    private final byte[] header;
+    private final List<Event> events;
+    private final byte[] footer;
+    private final long size;
+    private final String hash;
+
+    SharedCalendar(byte[] header, List<Event> events, byte[] footer) {
+        this.header = header;
+        this.events = events;
+        this.footer = footer;
+        this.size = header.length + footer.length
+            + events.stream().mapToLong(event -> event.ownEvent.length + event.otherEvent.length).sum();
+        this.hash = hash(header, events, footer);
+    }
+
+    /**
+     * @param recipient of the calendar
+     * @return the serialized calendar of the given recipient
+     */
+    byte[] getContent(Person recipient) {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.writeBytes(header);
+        for (Event event : events) {
+            content.writeBytes(event.person.equals(recipient) ? event.ownEvent : event.otherEvent);
+        }
+        content.writeBytes(footer);
+        return content.toByteArray();
+    }
+
+    /**
+     * @param recipient of the calendar
+     * @return {@code true} if the calendar contains absences of the given recipient, that are serialized differently
+     */
+    boolean containsAbsencesOf(Person recipient) {
+        return events.stream().anyMatch(event -> event.person.equals(recipient));
+    }
+
+    /**
+     * @return number of bytes of the serialized calendar in both variants
+     */
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * @return hex encoded MD5 hash of the serialized calendar in both variants
+     */
+    String getHash() {
+        return hash;
+    }
+
+    private static String hash(byte[] header, List<Event> events, byte[] footer) {
+        final MessageDigest digest = getMd5Digest();
+        digest.update(header);
+        for (Event event : events) {
+            digest.update(event.ownEvent);
+            digest.update(event.otherEvent);
+        }
+        digest.update(footer);
+        return encodeHexString(digest.digest());
+    }
+
+    static final class Event {
+
+        private final Person person;
+        private final byte[] ownEvent;
+        private final byte[] otherEvent;
+
+        /**
+         * @param person of the absence
+         * @param ownEvent serialized event as it is shown to the person of the absence
+         * @param otherEvent serialized event as it is shown to all other persons
+         */
+        Event(Person person, byte[] ownEvent, byte[] otherEvent) {
+            this.person = person;
+            this.ownEvent = ownEvent;
+            this.otherEvent = otherEvent;
+        }
+    }
+}
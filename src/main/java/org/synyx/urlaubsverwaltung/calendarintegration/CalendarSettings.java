@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.calendarintegration;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import java.io.Serializable;
 
 
 /**
@@ -9,7 +10,7 @@ import javax.persistence.Embeddable;
  */
 @Deprecated(since = "4.0.0", forRemoval = true)
 @Embeddable
-public class CalendarSettings {
+public class CalendarSettings implements Serializable {
 
     private GoogleCalendarSettings googleCalendarSettings;
 
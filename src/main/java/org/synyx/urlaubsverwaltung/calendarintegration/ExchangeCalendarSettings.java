@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.calendarintegration;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import java.io.Serializable;
 import java.util.Base64;
 
 
@@ -10,7 +11,7 @@ import java.util.Base64;
  */
 @Deprecated(since = "4.0.0", forRemoval = true)
 @Embeddable
-public class ExchangeCalendarSettings {
+public class ExchangeCalendarSettings implements Serializable {
 
     @Column(name = "calendar_ews_email")
     private String email;
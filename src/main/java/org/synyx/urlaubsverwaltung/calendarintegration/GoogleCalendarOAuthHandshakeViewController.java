@@ -79,7 +79,7 @@ public class GoogleCalendarOAuthHandshakeViewController {
                 new com.google.api.services.calendar.Calendar.Builder(httpTransport, JSON_FACTORY, credential)
                     .setApplicationName(APPLICATION_NAME).build();
 
-            Settings settings = settingsService.getSettings();
+            Settings settings = settingsService.getSettingsForUpdate();
             HttpResponse httpResponse = checkGoogleCalendar(client, settings);
 
             if (httpResponse.getStatusCode() == HttpStatus.SC_OK) {
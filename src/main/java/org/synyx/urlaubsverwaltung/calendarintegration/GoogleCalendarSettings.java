@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.calendarintegration;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import java.io.Serializable;
 import java.util.Objects;
 
 
@@ -10,7 +11,7 @@ import java.util.Objects;
  */
 @Deprecated(since = "4.0.0", forRemoval = true)
 @Embeddable
-public class GoogleCalendarSettings {
+public class GoogleCalendarSettings implements Serializable {
 
     @Column(name = "calendar_google_client_id")
     private String clientId;
@@ -3,11 +3,13 @@ package org.synyx.urlaubsverwaltung.csv;
 
 import com.opencsv.CSVWriter;
 import net.fortuna.ical4j.validate.ValidationException;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
-import java.io.ByteArrayOutputStream;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.List;
 
@@ -15,17 +17,26 @@ import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
 import static com.opencsv.ICSVWriter.DEFAULT_QUOTE_CHARACTER;
 import static com.opencsv.ICSVWriter.NO_QUOTE_CHARACTER;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 
 public interface CsvExportService<T> {
 
     /**
-     * Writes the data and other information from the filter period into the csv writer
+     * Writes the header of the csv file, e.g. with information from the filter period, into the csv writer
+     *
+     * @param period    to add period to csv
+     * @param csvWriter to write the header into
+     */
+    void writeHeader(FilterPeriod period, CSVWriter csvWriter);
+
+    /**
+     * Writes the rows of the given data into the csv writer
      *
      * @param period    to add period to csv
      * @param data      are the main information for the csv
-     * @param csvWriter to write data that will be used to create the ByteArrayResource
+     * @param csvWriter to write the rows into
      */
-    void write(FilterPeriod period, List<T> data, CSVWriter csvWriter);
+    void writeRows(FilterPeriod period, List<T> data, CSVWriter csvWriter);
 
     /**
      * Contains the algorithm to create a unique filename
@@ -36,14 +47,15 @@ public interface CsvExportService<T> {
     String fileName(FilterPeriod period);
 
     /**
-     * Main method of this interface to retrieve the {@link CSVFile} containing the filename and resource.
+     * Writes the header and the rows of the data and other information from the filter period into the csv writer
      *
-     * @param period will be used to create the content of the csv file
-     * @param data   will be used to create the content of the csv file
-     * @return a {@link CSVFile} containing the filename and resource
+     * @param period    to add period to csv
+     * @param data      are the main information for the csv
+     * @param csvWriter to write the csv into
      */
-    default CSVFile generateCSV(FilterPeriod period, List<T> data) {
-        return new CSVFile(fileName(period), resource(period, data));
+    default void write(FilterPeriod period, List<T> data, CSVWriter csvWriter) {
+        writeHeader(period, csvWriter);
+        writeRows(period, data, csvWriter);
     }
 
     /**
@@ -64,29 +76,47 @@ public interface CsvExportService<T> {
         return ';';
     }
 
+    /**
+     * Writes the csv file of the given data as attachment into the given response. The rows are written into the output
+     * stream of the response as they are produced, so the csv file is never kept in memory as a whole.
+     *
+     * <p>
+     * The data has to be loaded completely before, so that an error while loading the data results in an error response
+     * instead of a cut-off csv file.
+     * </p>
+     *
+     * @param period   to create content
+     * @param data     to create content
+     * @param response to write the csv file into
+     * @throws IOException if the output stream of the response could not be opened
+     */
+    default void writeCSV(FilterPeriod period, List<T> data, HttpServletResponse response) throws IOException {
+        response.setContentType(new MediaType("text", "csv").toString());
+        response.setHeader(CONTENT_DISPOSITION, ContentDisposition.builder("attachment").filename(fileName(period)).build().toString());
+        writeCSV(period, data, response.getOutputStream());
+    }
 
     /**
-     * Helper method to create a ByteArrayResource from the filter period and the provided data.
+     * Writes the csv file of the given data into the given output stream. The output stream is flushed but not closed.
      *
-     * @param period to create content
-     * @param data   to create content
-     * @return {@link ByteArrayResource} based on the filter period and data
+     * @param period       to create content
+     * @param data         to create content
+     * @param outputStream to write the csv file into
      */
-    default ByteArrayResource resource(FilterPeriod period, List<T> data) {
-        final ByteArrayResource byteArrayResource;
+    default void writeCSV(FilterPeriod period, List<T> data, OutputStream outputStream) {
+        try {
+            outputStream.write(bom());
 
-        try (final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-            byteArrayOutputStream.write(bom());
+            // the csv writer is not closed as it would close the output stream of the caller
+            final CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(outputStream, UTF_8), separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END);
+            write(period, data, csvWriter);
+            csvWriter.flush();
 
-            try (final OutputStreamWriter outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream, UTF_8)) {
-                try (final CSVWriter csvWriter = new CSVWriter(outputStreamWriter, separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END)) {
-                    write(period, data, csvWriter);
-                }
+            if (csvWriter.checkError()) {
+                throw new CsvExportException("csv data could not be written to output stream", csvWriter.getException());
             }
-            byteArrayResource = new ByteArrayResource(byteArrayOutputStream.toByteArray());
-            return byteArrayResource;
         } catch (ValidationException | IOException e) {
-            throw new CsvExportException("csv data not be written to ByteArrayResource", e);
+            throw new CsvExportException("csv data could not be written to output stream", e);
         }
     }
 }
@@ -0,0 +1,142 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Immutable snapshot of the department members, department heads and second stage authorities
+ * referenced by their person id to answer permission checks without loading departments.
+ * Changes of a department result in a new snapshot.
+ */
+final class DepartmentMembershipGraph {
+
+    private final Map<Integer, DepartmentNode> departmentsById;
+    private final Map<Integer, Set<DepartmentNode>> departmentsByDepartmentHeadId = new HashMap<>();
+    private final Map<Integer, Set<DepartmentNode>> departmentsBySecondStageAuthorityId = new HashMap<>();
+    private final long version;
+
+    private DepartmentMembershipGraph(Map<Integer, DepartmentNode> departmentsById, long version) {
+        this.departmentsById = departmentsById;
+        this.version = version;
+
+        departmentsById.values().forEach(department -> {
+            department.departmentHeadIds.forEach(id -> departmentsByDepartmentHeadId.computeIfAbsent(id, key -> new HashSet<>()).add(department));
+            department.secondStageAuthorityIds.forEach(id -> departmentsBySecondStageAuthorityId.computeIfAbsent(id, key -> new HashSet<>()).add(department));
+        });
+    }
+
+    static DepartmentMembershipGraph of(Collection<DepartmentEntity> departmentEntities, long version) {
+        final Map<Integer, DepartmentNode> departmentsById = new HashMap<>();
+        departmentEntities.forEach(departmentEntity -> departmentsById.put(departmentEntity.getId(), DepartmentNode.of(departmentEntity)));
+        return new DepartmentMembershipGraph(departmentsById, version);
+    }
+
+    DepartmentMembershipGraph with(DepartmentEntity departmentEntity) {
+        final Map<Integer, DepartmentNode> departments = new HashMap<>(departmentsById);
+        departments.put(departmentEntity.getId(), DepartmentNode.of(departmentEntity));
+        return new DepartmentMembershipGraph(departments, version);
+    }
+
+    DepartmentMembershipGraph without(Integer departmentId) {
+        final Map<Integer, DepartmentNode> departments = new HashMap<>(departmentsById);
+        departments.remove(departmentId);
+        return new DepartmentMembershipGraph(departments, version);
+    }
+
+    /**
+     * @return true if the graph has been created from another version of the departments, false otherwise.
+     * A graph changed by {@link #with(DepartmentEntity)} or {@link #without(Integer)} keeps the version it has been
+     * created from, so it is outdated as soon as the change has been recorded.
+     */
+    boolean isOutdated(long currentVersion) {
+        return version != currentVersion;
+    }
+
+    /**
+     * @return true if the person is member of a department of the department head, false otherwise
+     */
+    boolean isMemberOfDepartmentHead(Person departmentHead, Person person) {
+        return departmentsOf(departmentsByDepartmentHeadId, departmentHead).stream()
+            .anyMatch(department -> department.hasMember(person));
+    }
+
+    /**
+     * @return true if the person is member of a department of the department head and not second stage authority
+     * of this department, false otherwise
+     */
+    boolean isManagedByDepartmentHead(Person departmentHead, Person person) {
+        return departmentsOf(departmentsByDepartmentHeadId, departmentHead).stream()
+            .anyMatch(department -> department.hasMember(person) && !department.hasSecondStageAuthority(person));
+    }
+
+    /**
+     * @return true if the person is member of a department of the second stage authority, false otherwise
+     */
+    boolean isMemberOfSecondStageAuthority(Person secondStageAuthority, Person person) {
+        return departmentsOf(departmentsBySecondStageAuthorityId, secondStageAuthority).stream()
+            .anyMatch(department -> department.hasMember(person));
+    }
+
+    /**
+     * @return true if the person is member of a department of the second stage authority and not second stage authority
+     * of this department, false otherwise
+     */
+    boolean isManagedBySecondStageAuthority(Person secondStageAuthority, Person person) {
+        return departmentsOf(departmentsBySecondStageAuthorityId, secondStageAuthority).stream()
+            .anyMatch(department -> department.hasMember(person) && !department.hasSecondStageAuthority(person));
+    }
+
+    private static Set<DepartmentNode> departmentsOf(Map<Integer, Set<DepartmentNode>> departmentsByPersonId, Person person) {
+        if (person.getId() == null) {
+            return Set.of();
+        }
+        return departmentsByPersonId.getOrDefault(person.getId(), Set.of());
+    }
+
+    private static final class DepartmentNode {
+
+        private final Set<Integer> memberIds;
+        private final Set<Integer> departmentHeadIds;
+        private final Set<Integer> secondStageAuthorityIds;
+
+        private DepartmentNode(Set<Integer> memberIds, Set<Integer> departmentHeadIds, Set<Integer> secondStageAuthorityIds) {
+            this.memberIds = memberIds;
+            this.departmentHeadIds = departmentHeadIds;
+            this.secondStageAuthorityIds = secondStageAuthorityIds;
+        }
+
+        static DepartmentNode of(DepartmentEntity departmentEntity) {
+            final Set<Integer> memberIds = departmentEntity.getMembers().stream()
+                .map(DepartmentMemberEmbeddable::getPerson)
+                .map(Person::getId)
+                .filter(Objects::nonNull)
+                .collect(toUnmodifiableSet());
+
+            return new DepartmentNode(memberIds, personIds(departmentEntity.getDepartmentHeads()), personIds(departmentEntity.getSecondStageAuthorities()));
+        }
+
+        boolean hasMember(Person person) {
+            return person.getId() != null && memberIds.contains(person.getId());
+        }
+
+        boolean hasSecondStageAuthority(Person person) {
+            return person.getId() != null && secondStageAuthorityIds.contains(person.getId());
+        }
+
+        private static Set<Integer> personIds(List<Person> persons) {
+            return persons.stream()
+                .map(Person::getId)
+                .filter(Objects::nonNull)
+                .collect(toUnmodifiableSet());
+        }
+    }
+}
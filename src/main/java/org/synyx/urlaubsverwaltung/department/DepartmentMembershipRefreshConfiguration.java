@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Every instance has to refresh its own membership graph, therefore the task is not guarded by a schedule lock.
+ */
+@Configuration
+class DepartmentMembershipRefreshConfiguration implements SchedulingConfigurer {
+
+    private final DepartmentProperties departmentProperties;
+    private final DepartmentServiceImpl departmentService;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    DepartmentMembershipRefreshConfiguration(DepartmentProperties departmentProperties, DepartmentServiceImpl departmentService, ThreadPoolTaskScheduler taskScheduler) {
+        this.departmentProperties = departmentProperties;
+        this.departmentService = departmentService;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        taskRegistrar.addFixedDelayTask(departmentService::refreshMembershipGraph, departmentProperties.getMembershipRefresh().getDelay().toMillis());
+    }
+}
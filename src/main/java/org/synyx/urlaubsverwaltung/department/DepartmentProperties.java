@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.department")
+@Validated
+public class DepartmentProperties {
+
+    @Valid
+    private MembershipRefresh membershipRefresh = new MembershipRefresh();
+
+    public MembershipRefresh getMembershipRefresh() {
+        return membershipRefresh;
+    }
+
+    public void setMembershipRefresh(MembershipRefresh membershipRefresh) {
+        this.membershipRefresh = membershipRefresh;
+    }
+
+    public static class MembershipRefresh {
+
+        /**
+         * Delay between two checks whether the departments have been changed by another instance.
+         * Permission checks of department heads and second stage authorities may use outdated
+         * departments for this duration.
+         */
+        @NotNull
+        private Duration delay = Duration.ofSeconds(5);
+
+        public Duration getDelay() {
+            return delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package org.synyx.urlaubsverwaltung.department;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.Role;
 
 import java.util.List;
 
@@ -20,4 +25,48 @@ interface DepartmentRepository extends JpaRepository<DepartmentEntity, Integer>
     List<DepartmentEntity> findByMembersPerson(Person person);
 
     List<DepartmentEntity> findDistinctByMembersPersonIn(List<Person> person);
+
+    /**
+     * Finds the distinct members of all departments managed by the given person as department head and/or as second
+     * stage authority, that do not have the given permission and whose name contains the given query, ignoring the case.
+     */
+    @Query(
+        value = "select distinct p from Person p, department d join d.members m " +
+            "where m.person = p " +
+            "and ((:asDepartmentHead = true and :person member of d.departmentHeads) or (:asSecondStageAuthority = true and :person member of d.secondStageAuthorities)) " +
+            "and :permission not member of p.permissions " +
+            "and (lower(p.firstName) like lower(concat('%', :query, '%')) or lower(p.lastName) like lower(concat('%', :query, '%')) " +
+            "or lower(concat(p.firstName, ' ', p.lastName)) like lower(concat('%', :query, '%')))",
+        countQuery = "select count(distinct p) from Person p, department d join d.members m " +
+            "where m.person = p " +
+            "and ((:asDepartmentHead = true and :person member of d.departmentHeads) or (:asSecondStageAuthority = true and :person member of d.secondStageAuthorities)) " +
+            "and :permission not member of p.permissions " +
+            "and (lower(p.firstName) like lower(concat('%', :query, '%')) or lower(p.lastName) like lower(concat('%', :query, '%')) " +
+            "or lower(concat(p.firstName, ' ', p.lastName)) like lower(concat('%', :query, '%')))"
+    )
+    Page<Person> findManagedMembersByPermissionsNotContainingAndNiceNameContaining(@Param("person") Person person, @Param("asDepartmentHead") boolean asDepartmentHead,
+                                                                                   @Param("asSecondStageAuthority") boolean asSecondStageAuthority, @Param("permission") Role permission,
+                                                                                   @Param("query") String query, Pageable pageable);
+
+    /**
+     * Finds the distinct members of all departments managed by the given person as department head and/or as second
+     * stage authority, that have the given permission and whose name contains the given query, ignoring the case.
+     */
+    @Query(
+        value = "select distinct p from Person p, department d join d.members m " +
+            "where m.person = p " +
+            "and ((:asDepartmentHead = true and :person member of d.departmentHeads) or (:asSecondStageAuthority = true and :person member of d.secondStageAuthorities)) " +
+            "and :permission member of p.permissions " +
+            "and (lower(p.firstName) like lower(concat('%', :query, '%')) or lower(p.lastName) like lower(concat('%', :query, '%')) " +
+            "or lower(concat(p.firstName, ' ', p.lastName)) like lower(concat('%', :query, '%')))",
+        countQuery = "select count(distinct p) from Person p, department d join d.members m " +
+            "where m.person = p " +
+            "and ((:asDepartmentHead = true and :person member of d.departmentHeads) or (:asSecondStageAuthority = true and :person member of d.secondStageAuthorities)) " +
+            "and :permission member of p.permissions " +
+            "and (lower(p.firstName) like lower(concat('%', :query, '%')) or lower(p.lastName) like lower(concat('%', :query, '%')) " +
+            "or lower(concat(p.firstName, ' ', p.lastName)) like lower(concat('%', :query, '%')))"
+    )
+    Page<Person> findManagedMembersByPermissionsContainingAndNiceNameContaining(@Param("person") Person person, @Param("asDepartmentHead") boolean asDepartmentHead,
+                                                                                @Param("asSecondStageAuthority") boolean asSecondStageAuthority, @Param("permission") Role permission,
+                                                                                @Param("query") String query, Pageable pageable);
 }
@@ -8,8 +8,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonId;
@@ -27,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -43,6 +47,7 @@ import static org.synyx.urlaubsverwaltung.application.application.ApplicationSta
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 
@@ -55,13 +60,18 @@ class DepartmentServiceImpl implements DepartmentService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final DepartmentRepository departmentRepository;
+    private final DepartmentVersionRepository departmentVersionRepository;
     private final ApplicationService applicationService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
+    private volatile DepartmentMembershipGraph membershipGraph;
+
     @Autowired
-    DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
+    DepartmentServiceImpl(DepartmentRepository departmentRepository, DepartmentVersionRepository departmentVersionRepository,
+                          ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
         this.departmentRepository = departmentRepository;
+        this.departmentVersionRepository = departmentVersionRepository;
         this.applicationService = applicationService;
         this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
@@ -69,12 +79,24 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public Page<Person> getManagedMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery) {
-        return getManagedMembersOfPerson(person, personPageableSearchQuery, not(Person::isInactive));
+        if (!person.hasRole(DEPARTMENT_HEAD) && !person.hasRole(SECOND_STAGE_AUTHORITY)) {
+            return Page.empty(personPageableSearchQuery.getPageable());
+        }
+
+        return departmentRepository.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(person,
+            person.hasRole(DEPARTMENT_HEAD), person.hasRole(SECOND_STAGE_AUTHORITY), INACTIVE,
+            personPageableSearchQuery.getQuery(), personPageableSearchQuery.getPageable());
     }
 
     @Override
     public Page<Person> getManagedInactiveMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery) {
-        return getManagedMembersOfPerson(person, personPageableSearchQuery, Person::isInactive);
+        if (!person.hasRole(DEPARTMENT_HEAD) && !person.hasRole(SECOND_STAGE_AUTHORITY)) {
+            return Page.empty(personPageableSearchQuery.getPageable());
+        }
+
+        return departmentRepository.findManagedMembersByPermissionsContainingAndNiceNameContaining(person,
+            person.hasRole(DEPARTMENT_HEAD), person.hasRole(SECOND_STAGE_AUTHORITY), INACTIVE,
+            personPageableSearchQuery.getQuery(), personPageableSearchQuery.getPageable());
     }
 
     @Override
@@ -89,38 +111,6 @@ class DepartmentServiceImpl implements DepartmentService {
         return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, filter);
     }
 
-    private Page<Person> getManagedMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery, Predicate<Person> predicate) {
-        final List<DepartmentEntity> departments;
-
-        if (person.hasRole(DEPARTMENT_HEAD) && person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person);
-        } else if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments = departmentRepository.findByDepartmentHeads(person);
-        } else if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findBySecondStageAuthorities(person);
-        } else {
-            departments = List.of();
-        }
-
-        final Pageable pageable = personPageableSearchQuery.getPageable();
-
-        final List<Person> managedMembers = departments.stream()
-            .map(DepartmentEntity::getMembers)
-            .flatMap(List::stream)
-            .map(DepartmentMemberEmbeddable::getPerson)
-            .distinct()
-            .filter(nameContains(personPageableSearchQuery.getQuery()).and(predicate))
-            .sorted(new SortComparator<>(Person.class, pageable.getSort()))
-            .collect(toList());
-
-        final List<Person> content = managedMembers.stream()
-            .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-            .limit(pageable.getPageSize())
-            .collect(toList());
-
-        return new PageImpl<>(content, pageable, managedMembers.size());
-    }
-
     @Override
     public boolean departmentExists(Integer departmentId) {
         return departmentRepository.existsById(departmentId);
@@ -150,6 +140,7 @@ class DepartmentServiceImpl implements DepartmentService {
         departmentEntity.setMembers(departmentMembers);
 
         final DepartmentEntity createdDepartmentEntity = departmentRepository.save(departmentEntity);
+        updateMembershipGraph(graph -> graph.with(createdDepartmentEntity));
         final Department createdDepartment = mapToDepartment(createdDepartmentEntity);
 
         LOG.info("Created department: {}", createdDepartment);
@@ -172,8 +163,10 @@ class DepartmentServiceImpl implements DepartmentService {
         departmentEntity.setMembers(departmentMembers);
 
         final DepartmentEntity updatedDepartmentEntity = departmentRepository.save(departmentEntity);
+        updateMembershipGraph(graph -> graph.with(updatedDepartmentEntity));
         final Department updatedDepartment = mapToDepartment(updatedDepartmentEntity);
         sendMemberLeftDepartmentEvent(department, currentDepartmentEntity);
+        applicationEventPublisher.publishEvent(new DepartmentUpdatedEvent(department.getId()));
 
         LOG.info("Updated department: {}", updatedDepartment);
 
@@ -234,6 +227,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
         if (this.departmentExists(departmentId)) {
             departmentRepository.deleteById(departmentId);
+            updateMembershipGraph(graph -> graph.without(departmentId));
         } else {
             LOG.info("No department found for ID = {}, deletion is not necessary.", departmentId);
         }
@@ -294,16 +288,18 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public List<Application> getApplicationsForLeaveOfMembersInDepartmentsOfPerson(Person member, LocalDate startDate, LocalDate endDate) {
-        final Predicate<Application> allowed = application -> application.hasStatus(ALLOWED);
-        final Predicate<Application> temporaryAllowed = application -> application.hasStatus(TEMPORARY_ALLOWED);
-        final Predicate<Application> waiting = application -> application.hasStatus(WAITING);
-        final Predicate<Application> allowedCancellationRequested = application -> application.hasStatus(ALLOWED_CANCELLATION_REQUESTED);
 
-        return getMembersOfAssignedDepartments(member).stream()
+        final List<Person> colleagues = getMembersOfAssignedDepartments(member).stream()
             .filter(not(isEqual(member)))
-            .map(departmentMember -> applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, departmentMember))
-            .flatMap(Collection::stream)
-            .filter(allowed.or(temporaryAllowed).or(waiting).or(allowedCancellationRequested))
+            .collect(toList());
+
+        if (colleagues.isEmpty()) {
+            return List.of();
+        }
+
+        final List<ApplicationStatus> statuses = List.of(ALLOWED, TEMPORARY_ALLOWED, WAITING, ALLOWED_CANCELLATION_REQUESTED);
+
+        return applicationService.getApplicationsForACertainPeriodAndStatus(startDate, endDate, colleagues, statuses).stream()
             .sorted(comparing(Application::getStartDate))
             .collect(toList());
     }
@@ -329,7 +325,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isDepartmentHeadAllowedToManagePerson(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getManagedMembersOfDepartmentHead(departmentHead).contains(person);
+            return membershipGraph().isManagedByDepartmentHead(departmentHead, person);
         }
 
         return false;
@@ -346,7 +342,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isSecondStageAuthorityAllowedToManagePerson(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getManagedMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return membershipGraph().isManagedBySecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -533,7 +529,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isSecondStageAuthorityAllowedToAccessPersonData(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return membershipGraph().isMemberOfSecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -541,12 +537,72 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isDepartmentHeadAllowedToAccessPersonData(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getMembersForDepartmentHead(departmentHead).contains(person);
+            return membershipGraph().isMemberOfDepartmentHead(departmentHead, person);
         }
 
         return false;
     }
 
+    /**
+     * Reloads the membership graph if the departments have been changed since it has been loaded, by this or by
+     * another application instance. This is triggered periodically in the background, so permission checks do not
+     * have to wait for the departments to be loaded.
+     */
+    void refreshMembershipGraph() {
+        final DepartmentMembershipGraph graph = membershipGraph;
+        if (graph != null && !graph.isOutdated(departmentVersionRepository.findVersion())) {
+            return;
+        }
+
+        final DepartmentMembershipGraph reloadedGraph = loadMembershipGraph();
+        synchronized (this) {
+            membershipGraph = reloadedGraph;
+        }
+    }
+
+    private DepartmentMembershipGraph membershipGraph() {
+        final DepartmentMembershipGraph graph = membershipGraph;
+        if (graph != null) {
+            return graph;
+        }
+
+        synchronized (this) {
+            if (membershipGraph == null) {
+                membershipGraph = loadMembershipGraph();
+            }
+            return membershipGraph;
+        }
+    }
+
+    private DepartmentMembershipGraph loadMembershipGraph() {
+        // the version is read first, a change while loading the departments results in another reload
+        final long version = departmentVersionRepository.findVersion();
+        return DepartmentMembershipGraph.of(departmentRepository.findAll(), version);
+    }
+
+    private void updateMembershipGraph(UnaryOperator<DepartmentMembershipGraph> update) {
+        departmentVersionRepository.incrementVersion();
+
+        // the change is applied to the graph when it has been committed, a rolled back change must not be visible
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyToMembershipGraph(update);
+                }
+            });
+        } else {
+            applyToMembershipGraph(update);
+        }
+    }
+
+    private synchronized void applyToMembershipGraph(UnaryOperator<DepartmentMembershipGraph> update) {
+        // not loaded yet, the next permission check loads the current state
+        if (membershipGraph != null) {
+            membershipGraph = update.apply(membershipGraph);
+        }
+    }
+
     private static Predicate<Person> nameContains(String query) {
         return person -> person.getNiceName().toLowerCase().contains(query.toLowerCase());
     }
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.department;
+
+/**
+ * Published after a {@link Department} has been updated, e.g. its members have been changed.
+ */
+public class DepartmentUpdatedEvent {
+
+    private final Integer departmentId;
+
+    DepartmentUpdatedEvent(Integer departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public Integer getDepartmentId() {
+        return departmentId;
+    }
+}
@@ -0,0 +1,33 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Version of all departments, incremented on every change of a department, so application instances notice
+ * changes made by other instances.
+ */
+@Entity(name = "department_version")
+class DepartmentVersionEntity {
+
+    @Id
+    private Integer id;
+
+    private long version;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+interface DepartmentVersionRepository extends CrudRepository<DepartmentVersionEntity, Integer> {
+
+    @Query("select v.version from department_version v where v.id = 1")
+    long findVersion();
+
+    @Modifying
+    @Transactional
+    @Query("update department_version v set v.version = v.version + 1 where v.id = 1")
+    void incrementVersion();
+}
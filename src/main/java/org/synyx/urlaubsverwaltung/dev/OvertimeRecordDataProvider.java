@@ -24,7 +24,7 @@ class OvertimeRecordDataProvider {
     }
 
     void activateOvertime() {
-        final Settings settings = settingsService.getSettings();
+        final Settings settings = settingsService.getSettingsForUpdate();
         settings.getOvertimeSettings().setOvertimeActive(true);
         settingsService.save(settings);
     }
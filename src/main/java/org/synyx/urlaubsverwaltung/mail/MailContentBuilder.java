@@ -6,10 +6,16 @@ import freemarker.template.TemplateException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
+import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 
 /**
@@ -20,7 +26,13 @@ class MailContentBuilder {
 
     private static final String FILE_EXTENSION = ".ftl";
 
+    private static final String RECIPIENT = "recipient";
+    private static final Pattern RECIPIENT_REFERENCE = Pattern.compile("\\brecipient\\b");
+    private static final Pattern RECIPIENT_NICE_NAME_REFERENCE = Pattern.compile("\\$\\{recipient\\.niceName}");
+    private static final String RECIPIENT_NICE_NAME_PLACEHOLDER = "\uE000recipient.niceName\uE000";
+
     private final Configuration freemarkerConfiguration;
+    private final Map<TemplateKey, AnalyzedTemplate> analyzedTemplates = new ConcurrentHashMap<>();
 
     @Autowired
     MailContentBuilder(Configuration freemarkerConfiguration) {
@@ -36,14 +48,132 @@ class MailContentBuilder {
      * @return the text representation of the filled template
      */
     String buildMailBody(String templateName, Map<String, Object> model, Locale locale) {
+        return process(templateName, getTemplate(templateName, locale), model);
+    }
+
+    /**
+     * Build the texts of the given template for any number of recipients, the recipient is put into the model as
+     * {@code recipient} for every text.
+     *
+     * <p>
+     * The template is filled only once if it does not use the recipient at all or only its nice name, which is inserted
+     * into the filled template afterwards. Other templates are filled for every recipient.
+     *
+     * @param templateName of the template to be used
+     * @param model        to fill the template, without recipient
+     * @param locale       the locale used for the email template
+     * @return function returning the text representation of the filled template for a recipient
+     */
+    Function<Person, String> buildMailBodies(String templateName, Map<String, Object> model, Locale locale) {
 
-        final String templateFilename = templateName + FILE_EXTENSION;
+        final Template template = getTemplate(templateName, locale);
+
+        switch (recipientUsage(templateName, locale, template)) {
+            case NONE:
+                final String body = process(templateName, template, model);
+                return recipient -> body;
+            case NICE_NAME:
+                final String bodyWithPlaceholder = process(templateName, template, withRecipient(model, recipientPlaceholder()));
+                return recipient -> bodyWithPlaceholder.replace(RECIPIENT_NICE_NAME_PLACEHOLDER, recipient.getNiceName());
+            default:
+                return recipient -> process(templateName, template, withRecipient(model, recipient));
+        }
+    }
 
+    private Template getTemplate(String templateName, Locale locale) {
+        try {
+            return freemarkerConfiguration.getTemplate(templateName + FILE_EXTENSION, locale);
+        } catch (IOException e) {
+            throw new MailContentBuilderException("Something went wrong processing email template=" + templateName, e);
+        }
+    }
+
+    private static String process(String templateName, Template template, Map<String, Object> model) {
         try {
-            final Template template = freemarkerConfiguration.getTemplate(templateFilename, locale);
             return FreeMarkerTemplateUtils.processTemplateIntoString(template, model);
         } catch (TemplateException | IOException e) {
             throw new MailContentBuilderException("Something went wrong processing email template=" + templateName, e);
         }
     }
+
+    private static Map<String, Object> withRecipient(Map<String, Object> model, Person recipient) {
+        final Map<String, Object> recipientModel = new HashMap<>(model);
+        recipientModel.put(RECIPIENT, recipient);
+        return recipientModel;
+    }
+
+    private static Person recipientPlaceholder() {
+        final Person placeholder = new Person();
+        placeholder.setFirstName(RECIPIENT_NICE_NAME_PLACEHOLDER);
+        return placeholder;
+    }
+
+    /**
+     * The recipient usage is analyzed once per template name and locale. A template that has been reloaded by
+     * freemarker is analyzed again, as its source may have been changed.
+     */
+    private RecipientUsage recipientUsage(String templateName, Locale locale, Template template) {
+        return analyzedTemplates.compute(new TemplateKey(templateName, locale), (key, analyzedTemplate) ->
+            analyzedTemplate != null && analyzedTemplate.template == template
+                ? analyzedTemplate
+                : new AnalyzedTemplate(template, recipientUsage(template))
+        ).recipientUsage;
+    }
+
+    private static RecipientUsage recipientUsage(Template template) {
+        final String source = template.toString();
+
+        final long recipientReferences = RECIPIENT_REFERENCE.matcher(source).results().count();
+        if (recipientReferences == 0) {
+            return RecipientUsage.NONE;
+        }
+
+        final long niceNameReferences = RECIPIENT_NICE_NAME_REFERENCE.matcher(source).results().count();
+        return recipientReferences == niceNameReferences ? RecipientUsage.NICE_NAME : RecipientUsage.OTHER;
+    }
+
+    private enum RecipientUsage {
+        NONE,
+        NICE_NAME,
+        OTHER
+    }
+
+    private static final class TemplateKey {
+
+        private final String templateName;
+        private final Locale locale;
+
+        private TemplateKey(String templateName, Locale locale) {
+            this.templateName = templateName;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final TemplateKey that = (TemplateKey) o;
+            return Objects.equals(templateName, that.templateName) && Objects.equals(locale, that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(templateName, locale);
+        }
+    }
+
+    private static final class AnalyzedTemplate {
+
+        private final Template template;
+        private final RecipientUsage recipientUsage;
+
+        private AnalyzedTemplate(Template template, RecipientUsage recipientUsage) {
+            this.template = template;
+            this.recipientUsage = recipientUsage;
+        }
+    }
 }
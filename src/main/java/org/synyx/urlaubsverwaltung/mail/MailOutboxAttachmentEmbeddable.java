@@ -0,0 +1,33 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.Lob;
+
+@Embeddable
+class MailOutboxAttachmentEmbeddable {
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Lob
+    @Column(name = "content", nullable = false)
+    private byte[] content;
+
+    protected MailOutboxAttachmentEmbeddable() {
+        // ok
+    }
+
+    MailOutboxAttachmentEmbeddable(String name, byte[] content) {
+        this.name = name;
+        this.content = content;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+}
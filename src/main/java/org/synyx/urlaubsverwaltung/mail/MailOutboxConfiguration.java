@@ -0,0 +1,36 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+import java.time.Duration;
+
+@Configuration
+class MailOutboxConfiguration implements SchedulingConfigurer {
+
+    private final MailOutboxProperties mailOutboxProperties;
+    private final MailOutboxService mailOutboxService;
+    private final ScheduleLocking scheduleLocking;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    MailOutboxConfiguration(MailOutboxProperties mailOutboxProperties, MailOutboxService mailOutboxService, ScheduleLocking scheduleLocking, ThreadPoolTaskScheduler taskScheduler) {
+        this.mailOutboxProperties = mailOutboxProperties;
+        this.mailOutboxService = mailOutboxService;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        taskRegistrar.addFixedDelayTask(
+            scheduleLocking.withLock("MailOutboxDelivery", mailOutboxService::deliverQueuedMails, Duration.ofMinutes(15), Duration.ZERO),
+            mailOutboxProperties.getDelay().toMillis()
+        );
+    }
+}
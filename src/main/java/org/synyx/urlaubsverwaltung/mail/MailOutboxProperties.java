@@ -0,0 +1,85 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.mail.outbox")
+@Validated
+public class MailOutboxProperties {
+
+    /**
+     * Mails are stored in the outbox and delivered in the background instead of
+     * being sent while the request is processed.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between two deliveries of the queued mails
+     */
+    @NotNull
+    private Duration delay = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of mails that are sent over one connection to the mail server
+     */
+    @Min(1)
+    private int batchSize = 50;
+
+    /**
+     * Number of attempts to send a mail before it is dropped
+     */
+    @Min(1)
+    private int maxAttempts = 5;
+
+    /**
+     * Wait time after the first failed attempt, doubled for every further attempt
+     */
+    @NotNull
+    private Duration backoff = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getBackoff() {
+        return backoff;
+    }
+
+    public void setBackoff(Duration backoff) {
+        this.backoff = backoff;
+    }
+}
@@ -0,0 +1,180 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Queues mails in the outbox and delivers them to the mail server in batches.
+ */
+@Service
+class MailOutboxService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String METRIC_OUTBOX_SIZE = "mail.outbox.size";
+    private static final String METRIC_OUTBOX_LATENCY = "mail.outbox.latency";
+    private static final String METRIC_OUTBOX_DROPPED = "mail.outbox.dropped";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailSenderService mailSenderService;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final Clock clock;
+    private final Timer latency;
+    private final Counter dropped;
+
+    @Autowired
+    MailOutboxService(MailOutboxRepository mailOutboxRepository, MailSenderService mailSenderService,
+                      MailOutboxProperties mailOutboxProperties, Clock clock, MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSenderService = mailSenderService;
+        this.mailOutboxProperties = mailOutboxProperties;
+        this.clock = clock;
+
+        Gauge.builder(METRIC_OUTBOX_SIZE, mailOutboxRepository, MailOutboxRepository::count)
+            .description("Number of mails waiting in the outbox")
+            .register(meterRegistry);
+        this.latency = Timer.builder(METRIC_OUTBOX_LATENCY)
+            .description("Time between queueing a mail and delivering it to the mail server")
+            .register(meterRegistry);
+        this.dropped = Counter.builder(METRIC_OUTBOX_DROPPED)
+            .description("Number of mails that could not be delivered")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue a mail with the given subject and text to the given recipient.
+     *
+     * @param from      mail address from where the mail is sent
+     * @param recipient mail address where the mail should be sent to
+     * @param subject   mail subject
+     * @param text      mail body
+     */
+    void enqueue(String from, @Nullable String recipient, String subject, String text) {
+        enqueue(from, recipient, subject, text, List.of());
+    }
+
+    /**
+     * Queue a mail with the given subject, text and attachments to the given recipient.
+     *
+     * @param from            mail address from where the mail is sent
+     * @param recipient       mail address where the mail should be sent to
+     * @param subject         mail subject
+     * @param text            mail body
+     * @param mailAttachments List of attachments to add to the mail
+     */
+    void enqueue(String from, @Nullable String recipient, String subject, String text, List<MailAttachment> mailAttachments) {
+
+        if (recipient == null || recipient.isBlank()) {
+            LOG.warn("Could not send email to empty recipients!");
+            return;
+        }
+
+        final Instant now = Instant.now(clock);
+
+        final MailOutboxEntity mail = new MailOutboxEntity();
+        mail.setSender(from);
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setBody(text);
+        mail.setAttachments(mailAttachments.stream()
+            .map(attachment -> new MailOutboxAttachmentEmbeddable(attachment.getName(), attachment.getContent().getByteArray()))
+            .collect(toList()));
+        mail.setCreatedAt(now);
+        mail.setNextAttemptAt(now);
+
+        final MailOutboxEntity savedMail = mailOutboxRepository.save(mail);
+        LOG.debug("Queued email {} to {}", savedMail.getId(), recipient);
+    }
+
+    /**
+     * Delivers all queued mails that are due, one batch per connection to the mail server.
+     * Stops after a batch with failed mails to not hammer a mail server that is not available.
+     */
+    void deliverQueuedMails() {
+
+        final int batchSize = mailOutboxProperties.getBatchSize();
+
+        List<MailOutboxEntity> mails;
+        boolean allDelivered;
+        do {
+            mails = mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(Instant.now(clock), PageRequest.of(0, batchSize));
+            allDelivered = deliver(mails);
+        } while (allDelivered && mails.size() == batchSize);
+    }
+
+    private boolean deliver(List<MailOutboxEntity> mails) {
+
+        final List<MailOutboxEntity> finishedMails = new ArrayList<>();
+        final List<MailOutboxEntity> retriedMails = new ArrayList<>();
+
+        final Map<MimeMessage, MailOutboxEntity> mailsByMessage = new LinkedHashMap<>();
+        for (MailOutboxEntity mail : mails) {
+            try {
+                mailsByMessage.put(toMimeMessage(mail), mail);
+            } catch (MessagingException e) {
+                LOG.error("Could not create email {} to {}, dropping it", mail.getId(), mail.getRecipient(), e);
+                dropped.increment();
+                finishedMails.add(mail);
+            }
+        }
+
+        final Map<MimeMessage, Exception> failedMessages = mailSenderService.sendEmails(new ArrayList<>(mailsByMessage.keySet()));
+
+        final Instant now = Instant.now(clock);
+        mailsByMessage.forEach((message, mail) -> {
+            final Exception cause = failedMessages.get(message);
+            if (cause == null) {
+                latency.record(Duration.between(mail.getCreatedAt(), now));
+                finishedMails.add(mail);
+            } else if (mail.getAttempts() + 1 >= mailOutboxProperties.getMaxAttempts()) {
+                LOG.error("Sending email {} to {} failed {} times, dropping it", mail.getId(), mail.getRecipient(), mail.getAttempts() + 1, cause);
+                dropped.increment();
+                finishedMails.add(mail);
+            } else {
+                mail.setAttempts(mail.getAttempts() + 1);
+                mail.setNextAttemptAt(now.plus(backoff(mail.getAttempts())));
+                LOG.warn("Sending email {} to {} failed, trying again at {}", mail.getId(), mail.getRecipient(), mail.getNextAttemptAt(), cause);
+                retriedMails.add(mail);
+            }
+        });
+
+        mailOutboxRepository.deleteAll(finishedMails);
+        mailOutboxRepository.saveAll(retriedMails);
+
+        return failedMessages.isEmpty();
+    }
+
+    private MimeMessage toMimeMessage(MailOutboxEntity mail) throws MessagingException {
+        final List<MailAttachment> mailAttachments = mail.getAttachments().stream()
+            .map(attachment -> new MailAttachment(attachment.getName(), new ByteArrayResource(attachment.getContent())))
+            .collect(toList());
+
+        return mailSenderService.createMimeMessage(mail.getSender(), mail.getRecipient(), mail.getSubject(), mail.getBody(), mailAttachments);
+    }
+
+    private Duration backoff(int attempts) {
+        return mailOutboxProperties.getBackoff().multipliedBy(1L << Math.min(attempts - 1, 16));
+    }
+}
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -12,7 +13,9 @@ import org.springframework.stereotype.Service;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -86,6 +89,63 @@ class MailSenderService {
         mailSender.send(mimeMessage);
     }
 
+    /**
+     * Creates a mail with the given subject, text and attachments that can be sent with {@link #sendEmails(List)}.
+     *
+     * @param from            mail address from where the mail is sent
+     * @param recipient       mail address where the mail should be sent to
+     * @param subject         mail subject
+     * @param text            mail body
+     * @param mailAttachments List of attachments to add to the mail, may be empty
+     * @return the mail
+     * @throws MessagingException if the mail could not be created, e.g. because of an invalid mail address
+     */
+    MimeMessage createMimeMessage(String from, String recipient, String subject, String text, List<MailAttachment> mailAttachments) throws MessagingException {
+
+        final MimeMessage mimeMessage = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, !mailAttachments.isEmpty());
+        helper.setTo(recipient);
+        helper.setFrom(from);
+        helper.setSubject(subject);
+        helper.setText(text);
+
+        for (MailAttachment mailAttachment : mailAttachments) {
+            helper.addAttachment(mailAttachment.getName(), mailAttachment.getContent());
+        }
+
+        return mimeMessage;
+    }
+
+    /**
+     * Sends the given mails over one connection to the mail server.
+     *
+     * @param mimeMessages mails to send
+     * @return the mails that could not be sent with the cause of the failure, empty if all mails have been sent
+     */
+    Map<MimeMessage, Exception> sendEmails(List<MimeMessage> mimeMessages) {
+
+        if (mimeMessages.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            LOG.debug("Sent {} emails", mimeMessages.size());
+            return Map.of();
+        } catch (MailSendException ex) {
+            final Map<MimeMessage, Exception> failedMessages = new HashMap<>();
+            ex.getFailedMessages().forEach((message, cause) -> failedMessages.put((MimeMessage) message, cause));
+            if (failedMessages.isEmpty()) {
+                mimeMessages.forEach(mimeMessage -> failedMessages.put(mimeMessage, ex));
+            }
+            return failedMessages;
+        } catch (MailException ex) {
+            final Map<MimeMessage, Exception> failedMessages = new HashMap<>();
+            mimeMessages.forEach(mimeMessage -> failedMessages.put(mimeMessage, ex));
+            return failedMessages;
+        }
+    }
+
     private void send(SimpleMailMessage message) {
         try {
 
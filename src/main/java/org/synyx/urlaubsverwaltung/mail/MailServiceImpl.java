@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -32,16 +33,21 @@ class MailServiceImpl implements MailService {
     private final MailSenderService mailSenderService;
     private final MailProperties mailProperties;
     private final PersonService personService;
+    private final MailOutboxService mailOutboxService;
+    private final MailOutboxProperties mailOutboxProperties;
 
     @Autowired
     MailServiceImpl(MessageSource messageSource, MailContentBuilder mailContentBuilder, MailSenderService mailSenderService,
-                    MailProperties mailProperties, PersonService personService) {
+                    MailProperties mailProperties, PersonService personService, MailOutboxService mailOutboxService,
+                    MailOutboxProperties mailOutboxProperties) {
 
         this.messageSource = messageSource;
         this.mailContentBuilder = mailContentBuilder;
         this.mailProperties = mailProperties;
         this.mailSenderService = mailSenderService;
         this.personService = personService;
+        this.mailOutboxService = mailOutboxService;
+        this.mailOutboxProperties = mailOutboxProperties;
     }
 
     @Override
@@ -53,12 +59,18 @@ class MailServiceImpl implements MailService {
         final String subject = getTranslation(mail.getSubjectMessageKey(), mail.getSubjectMessageArguments());
         final String sender = generateMailAddressAndDisplayName(mailProperties.getSender(), mailProperties.getSenderDisplayName());
 
+        final Function<Person, String> bodyForRecipient = mailContentBuilder.buildMailBodies(mail.getTemplateName(), model, LOCALE);
+
         getRecipients(mail).forEach(recipient -> {
-            model.put("recipient", recipient);
-            final String body = mailContentBuilder.buildMailBody(mail.getTemplateName(), model, LOCALE);
+            final String body = bodyForRecipient.apply(recipient);
             final String email = recipient.getEmail();
 
-            if (email != null) {
+            if (email != null && mailOutboxProperties.isEnabled()) {
+                mail.getMailAttachments().ifPresentOrElse(
+                    mailAttachments -> mailOutboxService.enqueue(sender, email, subject, body, mailAttachments),
+                    () -> mailOutboxService.enqueue(sender, email, subject, body)
+                );
+            } else if (email != null) {
                 mail.getMailAttachments().ifPresentOrElse(
                     mailAttachments -> mailSenderService.sendEmail(sender, email, subject, body, mailAttachments),
                     () -> mailSenderService.sendEmail(sender, email, subject, body)
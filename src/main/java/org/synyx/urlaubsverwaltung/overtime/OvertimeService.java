@@ -80,6 +80,17 @@ public interface OvertimeService {
      */
     Duration getLeftOvertimeForPerson(Person person);
 
+    /**
+     * Get the total overtime of the given person and year and the left overtime of the given person like
+     * {@link #getTotalOvertimeForPersonAndYear(Person, int)} and {@link #getLeftOvertimeForPerson(Person)}, but
+     * loads the overtime records of the person only once.
+     *
+     * @param person to get the total and left overtime for
+     * @param year   to get the total overtime for
+     * @return the total overtime for the given year and the left overtime, never {@code null}
+     */
+    TotalAndLeftOvertime getTotalAndLeftOvertimeForPersonAndYear(Person person, int year);
+
     /**
      * Get the left overtime hours of the given persons: the difference between the total overtime and the overtime
      * reduction.
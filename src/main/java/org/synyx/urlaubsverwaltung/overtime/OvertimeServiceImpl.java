@@ -134,6 +134,11 @@ class OvertimeServiceImpl implements OvertimeService {
         return totalOvertime.minus(overtimeReduction);
     }
 
+    @Override
+    public TotalAndLeftOvertime getTotalAndLeftOvertimeForPersonAndYear(Person person, int year) {
+        return new TotalAndLeftOvertime(getTotalOvertimeForPersonAndYear(person, year), getLeftOvertimeForPerson(person));
+    }
+
     @Override
     public Map<Person, LeftOvertime> getLeftOvertimeTotalAndDateRangeForPersons(List<Person> persons, List<Application> applications, LocalDate start, LocalDate end) {
 
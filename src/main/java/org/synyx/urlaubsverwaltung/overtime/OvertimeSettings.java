@@ -2,9 +2,10 @@ package org.synyx.urlaubsverwaltung.overtime;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import java.io.Serializable;
 
 @Embeddable
-public class OvertimeSettings {
+public class OvertimeSettings implements Serializable {
 
     /**
      * Activates or deactivates overtime settings.
@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import java.time.Duration;
+
+/**
+ * Provides information about the total overtime of a year and the left overtime of a person.
+ */
+public class TotalAndLeftOvertime {
+
+    private final Duration totalOvertimeForYear;
+    private final Duration leftOvertime;
+
+    public TotalAndLeftOvertime(Duration totalOvertimeForYear, Duration leftOvertime) {
+        this.totalOvertimeForYear = totalOvertimeForYear;
+        this.leftOvertime = leftOvertime;
+    }
+
+    public Duration getTotalOvertimeForYear() {
+        return totalOvertimeForYear;
+    }
+
+    public Duration getLeftOvertime() {
+        return leftOvertime;
+    }
+}
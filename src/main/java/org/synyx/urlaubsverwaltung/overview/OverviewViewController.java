@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.account.Account;
 import org.synyx.urlaubsverwaltung.account.AccountService;
 import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
@@ -18,6 +19,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeDto;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeViewModelService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.overtime.TotalAndLeftOvertime;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
@@ -25,14 +27,17 @@ import org.synyx.urlaubsverwaltung.person.UnknownPersonException;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparing;
@@ -58,7 +63,7 @@ public class OverviewViewController {
     private final AccountService accountService;
     private final VacationDaysService vacationDaysService;
     private final ApplicationService applicationService;
-    private final WorkDaysCountService workDaysCountService;
+    private final WorkingTimeCalendarService workingTimeCalendarService;
     private final SickNoteService sickNoteService;
     private final OvertimeService overtimeService;
     private final SettingsService settingsService;
@@ -69,7 +74,7 @@ public class OverviewViewController {
     @Autowired
     public OverviewViewController(PersonService personService, AccountService accountService,
                                   VacationDaysService vacationDaysService,
-                                  ApplicationService applicationService, WorkDaysCountService workDaysCountService,
+                                  ApplicationService applicationService, WorkingTimeCalendarService workingTimeCalendarService,
                                   SickNoteService sickNoteService, OvertimeService overtimeService,
                                   SettingsService settingsService, DepartmentService departmentService,
                                   VacationTypeViewModelService vacationTypeViewModelService, Clock clock) {
@@ -77,7 +82,7 @@ public class OverviewViewController {
         this.accountService = accountService;
         this.vacationDaysService = vacationDaysService;
         this.applicationService = applicationService;
-        this.workDaysCountService = workDaysCountService;
+        this.workingTimeCalendarService = workingTimeCalendarService;
         this.sickNoteService = sickNoteService;
         this.overtimeService = overtimeService;
         this.settingsService = settingsService;
@@ -125,9 +130,17 @@ public class OverviewViewController {
         final List<VacationTypeDto> vacationTypeColors = vacationTypeViewModelService.getVacationTypeColors();
         model.addAttribute("vacationTypeColors", vacationTypeColors);
 
-        prepareApplications(person, yearToShow, model);
-        prepareHolidayAccounts(person, yearToShow, now, model);
-        prepareSickNoteList(person, yearToShow, model);
+        final LocalDate firstDayOfYear = Year.of(yearToShow).atDay(1);
+        final LocalDate lastDayOfYear = getLastDayOfYear(yearToShow);
+        final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(firstDayOfYear, lastDayOfYear, person);
+        final List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, firstDayOfYear, lastDayOfYear);
+
+        // the working times are loaded once for all the work days shown on the overview
+        final WorkingTimeCalendar workingTimeCalendar = getWorkingTimeCalendar(person, yearToShow, applications, sickNotes);
+
+        prepareApplications(person, yearToShow, applications, workingTimeCalendar, model);
+        prepareHolidayAccounts(person, yearToShow, now, workingTimeCalendar, model);
+        prepareSickNoteList(sickNotes, workingTimeCalendar, model);
         prepareSettings(model);
 
         model.addAttribute("currentYear", now.getYear());
@@ -145,46 +158,45 @@ public class OverviewViewController {
         return "thymeleaf/person/person-overview";
     }
 
-    private void prepareSickNoteList(Person person, int year, Model model) {
+    private WorkingTimeCalendar getWorkingTimeCalendar(Person person, int year, List<Application> applications, List<SickNote> sickNotes) {
+
+        // the holiday account needs the year and the next year, the absences may start or end in another year
+        final LocalDate start = Stream.concat(applications.stream().map(Application::getStartDate), sickNotes.stream().map(SickNote::getStartDate))
+            .reduce(Year.of(year).atDay(1), (first, second) -> first.isBefore(second) ? first : second);
+        final LocalDate end = Stream.concat(applications.stream().map(Application::getEndDate), sickNotes.stream().map(SickNote::getEndDate))
+            .reduce(getLastDayOfYear(year + 1), (first, second) -> first.isAfter(second) ? first : second);
+
+        return workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), new DateRange(start, end)).get(person);
+    }
 
-        final List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, Year.of(year).atDay(1), getLastDayOfYear(year));
+    private void prepareSickNoteList(List<SickNote> sickNotes, WorkingTimeCalendar workingTimeCalendar, Model model) {
 
         final List<SickNote> sortedSickNotes = sickNotes.stream()
             .sorted(comparing(SickNote::getStartDate).reversed())
             .collect(toList());
         model.addAttribute("sickNotes", sortedSickNotes);
 
-        final SickDaysOverview sickDaysOverview = new SickDaysOverview(sickNotes, workDaysCountService);
+        final SickDaysOverview sickDaysOverview = new SickDaysOverview(sickNotes, workingTimeCalendar);
         model.addAttribute("sickDaysOverview", sickDaysOverview);
     }
 
-    private void prepareApplications(Person person, int year, Model model) {
+    private void prepareApplications(Person person, int year, List<Application> applications, WorkingTimeCalendar workingTimeCalendar, Model model) {
 
-        // get the person's applications for the given year
-        final List<Application> applications =
-            applicationService.getApplicationsForACertainPeriodAndPerson(Year.of(year).atDay(1), getLastDayOfYear(year), person);
-
-        final List<ApplicationForLeave> applicationsForLeave;
-        final UsedDaysOverview usedDaysOverview;
+        final List<ApplicationForLeave> applicationsForLeave = applications.stream()
+            .map(application -> new ApplicationForLeave(application, workingTimeCalendar.workDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate())))
+            .sorted(comparing(ApplicationForLeave::getStartDate).reversed())
+            .collect(toList());
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applicationsForLeave, year, workingTimeCalendar);
 
-        if (applications.isEmpty()) {
-            applicationsForLeave = List.of();
-            usedDaysOverview = new UsedDaysOverview(List.of(), year, workDaysCountService);
-        } else {
-            applicationsForLeave = applications.stream()
-                .map(application -> new ApplicationForLeave(application, workDaysCountService))
-                .sorted(comparing(ApplicationForLeave::getStartDate).reversed())
-                .collect(toList());
-            usedDaysOverview = new UsedDaysOverview(applications, year, workDaysCountService);
-        }
+        final TotalAndLeftOvertime totalAndLeftOvertime = overtimeService.getTotalAndLeftOvertimeForPersonAndYear(person, year);
 
         model.addAttribute("applications", applicationsForLeave);
         model.addAttribute("usedDaysOverview", usedDaysOverview);
-        model.addAttribute("overtimeTotal", overtimeService.getTotalOvertimeForPersonAndYear(person, year));
-        model.addAttribute("overtimeLeft", overtimeService.getLeftOvertimeForPerson(person));
+        model.addAttribute("overtimeTotal", totalAndLeftOvertime.getTotalOvertimeForYear());
+        model.addAttribute("overtimeLeft", totalAndLeftOvertime.getLeftOvertime());
     }
 
-    private void prepareHolidayAccounts(Person person, int year, LocalDate now, Model model) {
+    private void prepareHolidayAccounts(Person person, int year, LocalDate now, WorkingTimeCalendar workingTimeCalendar, Model model) {
 
         // get person's holidays account and entitlement for the given year
         final Optional<Account> maybeAccount = accountService.getHolidaysAccount(year, person);
@@ -192,7 +204,7 @@ public class OverviewViewController {
             final Account account = maybeAccount.get();
             final Optional<Account> accountNextYear = accountService.getHolidaysAccount(year + 1, person);
 
-            final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountNextYear);
+            final VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account, accountNextYear, Map.of(person, workingTimeCalendar));
             model.addAttribute("vacationDaysLeft", vacationDaysLeft);
 
             final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getExpiredRemainingVacationDays(now, account.getExpiryDate());
@@ -2,9 +2,8 @@ package org.synyx.urlaubsverwaltung.overview;
 
 import org.synyx.urlaubsverwaltung.sicknote.sickdays.SickDays;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import static org.synyx.urlaubsverwaltung.sicknote.sickdays.SickDays.SickDayType.TOTAL;
@@ -19,7 +18,11 @@ public class SickDaysOverview {
     private final SickDays sickDays;
     private final SickDays childSickDays;
 
-    SickDaysOverview(List<SickNote> sickNotes, WorkDaysCountService workDaysCountService) {
+    /**
+     * @param sickNotes           of the person
+     * @param workingTimeCalendar of the person, covering all the given sick notes
+     */
+    SickDaysOverview(List<SickNote> sickNotes, WorkingTimeCalendar workingTimeCalendar) {
 
         this.sickDays = new SickDays();
         this.childSickDays = new SickDays();
@@ -29,32 +32,16 @@ public class SickDaysOverview {
                 continue;
             }
 
-            if (sickNote.getSickNoteType().isOfCategory(SICK_NOTE_CHILD)) {
-                this.childSickDays.addDays(TOTAL, getTotalDays(sickNote, workDaysCountService));
+            final SickDays days = sickNote.getSickNoteType().isOfCategory(SICK_NOTE_CHILD) ? this.childSickDays : this.sickDays;
 
-                if (sickNote.isAubPresent()) {
-                    this.childSickDays.addDays(WITH_AUB, getDaysWithAUB(sickNote, workDaysCountService));
-                }
-            } else {
-                this.sickDays.addDays(TOTAL, getTotalDays(sickNote, workDaysCountService));
+            days.addDays(TOTAL, workingTimeCalendar.workDaysCount(sickNote.getDayLength(), sickNote.getStartDate(), sickNote.getEndDate()));
 
-                if (sickNote.isAubPresent()) {
-                    this.sickDays.addDays(WITH_AUB, getDaysWithAUB(sickNote, workDaysCountService));
-                }
+            if (sickNote.isAubPresent()) {
+                days.addDays(WITH_AUB, workingTimeCalendar.workDaysCount(sickNote.getDayLength(), sickNote.getAubStartDate(), sickNote.getAubEndDate()));
             }
         }
     }
 
-    private BigDecimal getTotalDays(SickNote sickNote, WorkDaysCountService workDaysCountService) {
-        return workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), sickNote.getStartDate(), sickNote.getEndDate(),
-            sickNote.getPerson());
-    }
-
-    private BigDecimal getDaysWithAUB(SickNote sickNote, WorkDaysCountService workDaysCountService) {
-        return workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), sickNote.getAubStartDate(),
-            sickNote.getAubEndDate(), sickNote.getPerson());
-    }
-
     public SickDays getSickDays() {
         return sickDays;
     }
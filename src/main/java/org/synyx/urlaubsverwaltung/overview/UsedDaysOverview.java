@@ -2,10 +2,9 @@ package org.synyx.urlaubsverwaltung.overview;
 
 import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
-import org.synyx.urlaubsverwaltung.period.DayLength;
-import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,7 +33,12 @@ public class UsedDaysOverview {
     private final UsedDays otherDays;
     private final UsedDays otherDaysAllowed;
 
-    UsedDaysOverview(List<Application> applications, int year, WorkDaysCountService calendarService) {
+    /**
+     * @param applications        of the person touching the given year, with the work days of the whole application
+     * @param year                to count the used days for
+     * @param workingTimeCalendar of the person, covering the given year
+     */
+    UsedDaysOverview(List<ApplicationForLeave> applications, int year, WorkingTimeCalendar workingTimeCalendar) {
 
         this.year = year;
         this.holidayDays = new UsedDays(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
@@ -43,23 +47,25 @@ public class UsedDaysOverview {
         this.otherDays = new UsedDays(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
         this.otherDaysAllowed = new UsedDays(ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
 
-        for (final Application application : applications) {
-            if (application.hasStatus(WAITING) || application.hasStatus(TEMPORARY_ALLOWED) || application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
-                final BigDecimal vacationDays = getVacationDays(application, calendarService);
-                final ApplicationStatus status = application.getStatus();
+        for (final ApplicationForLeave application : applications) {
+            if (!(application.hasStatus(WAITING) || application.hasStatus(TEMPORARY_ALLOWED) || application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED))) {
+                continue;
+            }
+
+            final BigDecimal vacationDays = getVacationDays(application, workingTimeCalendar);
+            final ApplicationStatus status = application.getStatus();
+
+            if (application.getVacationType().isOfCategory(HOLIDAY)) {
+                this.holidayDays.addDays(status, vacationDays);
+            } else {
+                this.otherDays.addDays(status, vacationDays);
+            }
 
+            if (application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
                 if (application.getVacationType().isOfCategory(HOLIDAY)) {
-                    this.holidayDays.addDays(status, vacationDays);
+                    this.holidayDaysAllowed.addDays(status, vacationDays);
                 } else {
-                    this.otherDays.addDays(status, vacationDays);
-                }
-
-                if (application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
-                    if (application.getVacationType().isOfCategory(HOLIDAY)) {
-                        this.holidayDaysAllowed.addDays(status, vacationDays);
-                    } else {
-                        this.otherDaysAllowed.addDays(status, vacationDays);
-                    }
+                    this.otherDaysAllowed.addDays(status, vacationDays);
                 }
             }
         }
@@ -81,7 +87,7 @@ public class UsedDaysOverview {
         return otherDaysAllowed;
     }
 
-    private BigDecimal getVacationDays(Application application, WorkDaysCountService calendarService) {
+    private BigDecimal getVacationDays(ApplicationForLeave application, WorkingTimeCalendar workingTimeCalendar) {
 
         final int yearOfStartDate = application.getStartDate().getYear();
         final int yearOfEndDate = application.getEndDate().getYear();
@@ -89,17 +95,15 @@ public class UsedDaysOverview {
         Assert.isTrue(yearOfStartDate == this.year || yearOfEndDate == this.year,
             "Either start date or end date must be in the given year.");
 
-        final DayLength dayLength = application.getDayLength();
-        final Person person = application.getPerson();
-
+        // the work days of the application cover both years, so only the part in the given year is counted
         if (yearOfStartDate != yearOfEndDate) {
             final LocalDate startDate = getStartDateForCalculation(application);
             final LocalDate endDate = getEndDateForCalculation(application);
 
-            return calendarService.getWorkDaysCount(dayLength, startDate, endDate, person);
+            return workingTimeCalendar.workDaysCount(application.getDayLength(), startDate, endDate);
         }
 
-        return calendarService.getWorkDaysCount(dayLength, application.getStartDate(), application.getEndDate(), person);
+        return application.getWorkDays();
     }
 
     private LocalDate getStartDateForCalculation(Application application) {
@@ -0,0 +1,44 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.person")
+@Validated
+public class PersonProperties {
+
+    @Valid
+    private SearchIndexRefresh searchIndexRefresh = new SearchIndexRefresh();
+
+    public SearchIndexRefresh getSearchIndexRefresh() {
+        return searchIndexRefresh;
+    }
+
+    public void setSearchIndexRefresh(SearchIndexRefresh searchIndexRefresh) {
+        this.searchIndexRefresh = searchIndexRefresh;
+    }
+
+    public static class SearchIndexRefresh {
+
+        /**
+         * Delay between two rebuilds of the person search index. Persons created or renamed
+         * by another instance may be missing in the search results for this duration.
+         */
+        @NotNull
+        private Duration delay = Duration.ofMinutes(1);
+
+        public Duration getDelay() {
+            return delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,8 @@ interface PersonRepository extends JpaRepository<Person, Integer> {
 
     Optional<Person> findByUsername(String username);
 
+    List<Person> findByUsernameIn(Collection<String> usernames);
+
     Optional<Person> findByEmail(String email);
 
     int countByPermissionsNotContaining(Role permission);
@@ -31,11 +34,18 @@ interface PersonRepository extends JpaRepository<Person, Integer> {
     @Query("select p from Person p where :permission not member of p.permissions and (p.firstName like %:query% or p.lastName like %:query%)")
     Page<Person> findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(@Param("permission") Role role, @Param("query") String query, Pageable pageable);
 
+    Page<Person> findByIdInAndPermissionsNotContaining(Collection<Integer> ids, Role permission, Pageable pageable);
+
     List<Person> findByPermissionsContainingOrderByFirstNameAscLastNameAsc(Role permission);
 
     @Query("select p from Person p where :permission member of p.permissions and (p.firstName like %:query% or p.lastName like %:query%)")
     Page<Person> findByPermissionsContainingAndNiceNameContainingIgnoreCase(@Param("permission") Role permission, @Param("query") String nameQuery, Pageable pageable);
 
+    Page<Person> findByIdInAndPermissionsContaining(Collection<Integer> ids, Role permission, Pageable pageable);
+
+    @Query("select p.id as id, p.firstName as firstName, p.lastName as lastName from Person p")
+    List<PersonSearchIndex.PersonNameProjection> findAllNames();
+
     List<Person> findByPermissionsContainingAndPermissionsNotContainingOrderByFirstNameAscLastNameAsc(Role permissionContaining, Role permissionNotContaining);
 
     List<Person> findByPermissionsNotContainingAndNotificationsContainingOrderByFirstNameAscLastNameAsc(Role permissionNotContaining, MailNotification mailNotification);
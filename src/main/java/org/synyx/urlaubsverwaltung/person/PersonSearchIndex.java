@@ -0,0 +1,211 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.Locale.ROOT;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * In-memory trigram index of the person names to find persons by a part of their first or last name
+ * without scanning the person table.
+ *
+ * <p>The index is kept up to date with the committed changes of this application instance and is rebuilt
+ * periodically in the background to pick up the changes of other instances. The rebuilt index is swapped in at once,
+ * so searches never wait for a rebuild.</p>
+ */
+@Component
+class PersonSearchIndex {
+
+    static final int MIN_QUERY_LENGTH = 3;
+
+    private final PersonRepository personRepository;
+
+    private volatile Index index;
+
+    /**
+     * Changes made while the index is rebuilt, to apply them to the rebuilt index as well.
+     */
+    private List<Consumer<Index>> changesDuringRebuild;
+
+    @Autowired
+    PersonSearchIndex(PersonRepository personRepository) {
+        this.personRepository = personRepository;
+    }
+
+    /**
+     * Finds the ids of all persons whose first name or last name contains the given query ignoring the case.
+     *
+     * @param query to search for, must have at least {@link #MIN_QUERY_LENGTH} characters
+     * @return ids of the matching persons
+     */
+    Set<Integer> search(String query) {
+        if (query.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+
+        return index().search(normalize(query));
+    }
+
+    /**
+     * Rebuilds the index from the database and replaces the current one.
+     */
+    void rebuild() {
+        final List<Consumer<Index>> changes = new ArrayList<>();
+        synchronized (this) {
+            changesDuringRebuild = changes;
+        }
+
+        final Index rebuiltIndex = loadIndex();
+
+        synchronized (this) {
+            changes.forEach(change -> change.accept(rebuiltIndex));
+            changesDuringRebuild = null;
+            index = rebuiltIndex;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonCreatedEvent event) {
+        update(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonUpdatedEvent event) {
+        update(event.getPersonId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonDeletedEvent event) {
+        final Integer personId = event.getPerson().getId();
+        apply(currentIndex -> currentIndex.remove(personId));
+    }
+
+    private void update(Integer personId) {
+        // the person is usually served from the persistence context of the change
+        personRepository.findById(personId)
+            .ifPresent(person -> apply(currentIndex -> currentIndex.put(personId, names(person.getFirstName(), person.getLastName()))));
+    }
+
+    private synchronized void apply(Consumer<Index> change) {
+        // not loaded yet, the next search loads the current state
+        if (index != null) {
+            change.accept(index);
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private Index index() {
+        final Index currentIndex = index;
+        if (currentIndex != null) {
+            return currentIndex;
+        }
+
+        synchronized (this) {
+            if (index == null) {
+                index = loadIndex();
+            }
+            return index;
+        }
+    }
+
+    private Index loadIndex() {
+        final Index newIndex = new Index();
+        personRepository.findAllNames().forEach(name -> newIndex.put(name.getId(), names(name.getFirstName(), name.getLastName())));
+        return newIndex;
+    }
+
+    private static List<String> names(String firstName, String lastName) {
+        return Stream.of(firstName, lastName)
+            .filter(Objects::nonNull)
+            .map(PersonSearchIndex::normalize)
+            .collect(toList());
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(ROOT);
+    }
+
+    private static Set<String> trigrams(String value) {
+        final Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + MIN_QUERY_LENGTH <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + MIN_QUERY_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static final class Index {
+
+        private final Map<Integer, List<String>> namesById = new HashMap<>();
+        private final Map<String, Set<Integer>> idsByTrigram = new HashMap<>();
+
+        synchronized Set<Integer> search(String query) {
+            Set<Integer> candidates = null;
+            for (String trigram : trigrams(query)) {
+                final Set<Integer> ids = idsByTrigram.getOrDefault(trigram, Set.of());
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+
+            if (candidates == null) {
+                return Set.of();
+            }
+
+            // the trigrams of the query may be spread over the names, check that a name really contains the query
+            return candidates.stream()
+                .filter(id -> namesById.get(id).stream().anyMatch(name -> name.contains(query)))
+                .collect(toSet());
+        }
+
+        synchronized void put(Integer personId, List<String> names) {
+            remove(personId);
+            namesById.put(personId, names);
+            names.stream()
+                .flatMap(name -> trigrams(name).stream())
+                .forEach(trigram -> idsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(personId));
+        }
+
+        synchronized void remove(Integer personId) {
+            final List<String> names = namesById.remove(personId);
+            if (names != null) {
+                names.stream()
+                    .flatMap(name -> trigrams(name).stream())
+                    .forEach(trigram -> {
+                        final Set<Integer> ids = idsByTrigram.get(trigram);
+                        if (ids != null) {
+                            ids.remove(personId);
+                            if (ids.isEmpty()) {
+                                idsByTrigram.remove(trigram);
+                            }
+                        }
+                    });
+            }
+        }
+    }
+
+    /**
+     * Only the name of a person, used to build the index without loading the permissions and notifications.
+     */
+    interface PersonNameProjection {
+        Integer getId();
+
+        String getFirstName();
+
+        String getLastName();
+    }
+}
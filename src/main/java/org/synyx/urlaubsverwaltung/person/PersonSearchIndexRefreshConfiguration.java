@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Every instance has to rebuild its own search index, therefore the task is not guarded by a schedule lock.
+ */
+@Configuration
+class PersonSearchIndexRefreshConfiguration implements SchedulingConfigurer {
+
+    private final PersonProperties personProperties;
+    private final PersonSearchIndex personSearchIndex;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    PersonSearchIndexRefreshConfiguration(PersonProperties personProperties, PersonSearchIndex personSearchIndex, ThreadPoolTaskScheduler taskScheduler) {
+        this.personProperties = personProperties;
+        this.personSearchIndex = personSearchIndex;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        taskRegistrar.addFixedDelayTask(personSearchIndex::rebuild, personProperties.getSearchIndexRefresh().getDelay().toMillis());
+    }
+}
@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.person;
 import org.springframework.data.domain.Page;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,6 +67,14 @@ public interface PersonService {
      */
     Optional<Person> getPersonByUsername(String username);
 
+    /**
+     * finds all {@link Person}s in the database with one of the given usernames.
+     *
+     * @param usernames of the persons
+     * @return the persons with one of the given usernames, usernames without a person are skipped
+     */
+    List<Person> getPersonsByUsernames(Collection<String> usernames);
+
     /**
      * finds a {@link Person} in the database by mail address.
      *
@@ -85,7 +94,7 @@ public interface PersonService {
      * Find all active persons matching the given query.
      *
      * @param personPageableSearchQuery search query containing pageable and an optional query for firstname/lastname
-     * @return paginated active persons matching the search query
+     * @return paginated active persons matching the search query, all of them if the pageable is unpaged
      */
     Page<Person> getActivePersons(PageableSearchQuery personPageableSearchQuery);
 
@@ -11,16 +11,21 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 
@@ -32,19 +37,27 @@ class PersonServiceImpl implements PersonService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    /**
+     * The signed in user is resolved once per request and shared by all controllers, interceptors and services.
+     */
+    private static final String SIGNED_IN_USER_ATTRIBUTE = PersonServiceImpl.class.getName() + ".SIGNED_IN_USER";
+
     private final PersonRepository personRepository;
     private final AccountInteractionService accountInteractionService;
     private final WorkingTimeWriteService workingTimeWriteService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final PersonSearchIndex personSearchIndex;
 
     @Autowired
     PersonServiceImpl(PersonRepository personRepository, AccountInteractionService accountInteractionService,
-                      WorkingTimeWriteService workingTimeWriteService, ApplicationEventPublisher applicationEventPublisher) {
+                      WorkingTimeWriteService workingTimeWriteService, ApplicationEventPublisher applicationEventPublisher,
+                      PersonSearchIndex personSearchIndex) {
 
         this.personRepository = personRepository;
         this.accountInteractionService = accountInteractionService;
         this.workingTimeWriteService = workingTimeWriteService;
         this.applicationEventPublisher = applicationEventPublisher;
+        this.personSearchIndex = personSearchIndex;
     }
 
     @Override
@@ -81,6 +94,7 @@ class PersonServiceImpl implements PersonService {
 
         final Person updatedPerson = personRepository.save(person);
         LOG.info("Updated person: {}", updatedPerson);
+        forgetSignedInUserOfRequest();
 
         if (updatedPerson.isInactive()) {
             applicationEventPublisher.publishEvent(toPersonDisabledEvent(updatedPerson));
@@ -103,6 +117,7 @@ class PersonServiceImpl implements PersonService {
         accountInteractionService.deleteAllByPerson(person);
         workingTimeWriteService.deleteAllByPerson(person);
         personRepository.delete(person);
+        forgetSignedInUserOfRequest();
 
         final String status = person.isActive() ? "active" : "inactive";
         LOG.info("person with id {} ({}) and status {} deleted by signed in user with id {}", person.getId(), person.getUsername(), status, signedInUser.getId());
@@ -118,6 +133,11 @@ class PersonServiceImpl implements PersonService {
         return personRepository.findByUsername(username);
     }
 
+    @Override
+    public List<Person> getPersonsByUsernames(Collection<String> usernames) {
+        return personRepository.findByUsernameIn(usernames);
+    }
+
     @Override
     public Optional<Person> getPersonByMailAddress(String mailAddress) {
         return personRepository.findByEmail(mailAddress);
@@ -133,7 +153,15 @@ class PersonServiceImpl implements PersonService {
         final Pageable pageable = personPageableSearchQuery.getPageable();
         final Sort implicitSort = mapToImplicitPersonSort(pageable.getSort());
         final String query = personPageableSearchQuery.getQuery();
-        final PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), implicitSort);
+        final Pageable pageRequest = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), implicitSort) : Pageable.unpaged();
+
+        if (query.length() >= PersonSearchIndex.MIN_QUERY_LENGTH) {
+            final Set<Integer> personIds = personSearchIndex.search(query);
+            return personIds.isEmpty()
+                ? Page.empty(pageRequest)
+                : personRepository.findByIdInAndPermissionsNotContaining(personIds, INACTIVE, pageRequest);
+        }
+
         return personRepository.findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(INACTIVE, query, pageRequest);
     }
 
@@ -152,7 +180,16 @@ class PersonServiceImpl implements PersonService {
         final Pageable pageable = personPageableSearchQuery.getPageable();
         final Sort implicitSort = mapToImplicitPersonSort(pageable.getSort());
         final PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), implicitSort);
-        return personRepository.findByPermissionsContainingAndNiceNameContainingIgnoreCase(INACTIVE, personPageableSearchQuery.getQuery(), pageRequest);
+        final String query = personPageableSearchQuery.getQuery();
+
+        if (query.length() >= PersonSearchIndex.MIN_QUERY_LENGTH) {
+            final Set<Integer> personIds = personSearchIndex.search(query);
+            return personIds.isEmpty()
+                ? Page.empty(pageRequest)
+                : personRepository.findByIdInAndPermissionsContaining(personIds, INACTIVE, pageRequest);
+        }
+
+        return personRepository.findByPermissionsContainingAndNiceNameContainingIgnoreCase(INACTIVE, query, pageRequest);
     }
 
     @Override
@@ -164,14 +201,34 @@ class PersonServiceImpl implements PersonService {
         }
 
         final String username = authentication.getName();
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            final Object signedInUserOfRequest = requestAttributes.getAttribute(SIGNED_IN_USER_ATTRIBUTE, SCOPE_REQUEST);
+            if (signedInUserOfRequest instanceof Person && username.equals(((Person) signedInUserOfRequest).getUsername())) {
+                return (Person) signedInUserOfRequest;
+            }
+        }
+
         final Optional<Person> person = getPersonByUsername(username);
         if (person.isEmpty()) {
             throw new IllegalStateException("Can not get the person for the signed in user with username = " + username);
         }
 
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(SIGNED_IN_USER_ATTRIBUTE, person.get(), SCOPE_REQUEST);
+        }
+
         return person.get();
     }
 
+    private static void forgetSignedInUserOfRequest() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(SIGNED_IN_USER_ATTRIBUTE, SCOPE_REQUEST);
+        }
+    }
+
     /**
      * Adds {@link Role#OFFICE} to the roles of the given person if no
      * other active user with a office role is defined.
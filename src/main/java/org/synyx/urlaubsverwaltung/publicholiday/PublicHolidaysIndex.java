@@ -0,0 +1,115 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.Holiday;
+import de.focus_shift.HolidayManager;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lazily built lookup table of the jollyday {@link Holiday}s per {@link FederalState} and year.
+ *
+ * <p>
+ * Every federal state has a fixed number of year slots, so the index is bounded in size. A slot is (re)built on the
+ * first access of a year that is not cached yet. Lookups of an already indexed year are array accesses and do not
+ * allocate.
+ * </p>
+ *
+ * <p>
+ * The index only knows about the holidays themselves. Settings dependent information like the working duration of
+ * Christmas Eve and New Year's Eve is applied by the caller, therefore the index never has to be invalidated.
+ * </p>
+ */
+class PublicHolidaysIndex {
+
+    private static final int YEARS_PER_FEDERAL_STATE = 16;
+    private static final Holiday[] NO_HOLIDAYS = new Holiday[0];
+
+    private final Map<String, HolidayManager> holidayManagers;
+    private final Map<FederalState, AtomicReferenceArray<HolidaysOfYear>> holidaysByFederalState;
+
+    PublicHolidaysIndex(Map<String, HolidayManager> holidayManagers) {
+        this.holidayManagers = holidayManagers;
+        this.holidaysByFederalState = new EnumMap<>(FederalState.class);
+        for (FederalState federalState : FederalState.values()) {
+            holidaysByFederalState.put(federalState, new AtomicReferenceArray<>(YEARS_PER_FEDERAL_STATE));
+        }
+    }
+
+    /**
+     * @param date         to check
+     * @param federalState the federal state to consider holiday settings for
+     * @return {@code true} when the date is a public holiday, {@code false} otherwise.
+     */
+    boolean isPublicHoliday(LocalDate date, FederalState federalState) {
+        return getHolidays(date, federalState).length > 0;
+    }
+
+    /**
+     * @param date         to get holidays for
+     * @param federalState the federal state to consider holiday settings for
+     * @return the holidays at the given date, an empty array if there is none. Must not be modified.
+     */
+    Holiday[] getHolidays(LocalDate date, FederalState federalState) {
+        return holidaysOfYear(federalState, date.getYear()).getHolidays(date.getDayOfYear());
+    }
+
+    private HolidaysOfYear holidaysOfYear(FederalState federalState, int year) {
+        final AtomicReferenceArray<HolidaysOfYear> slots = holidaysByFederalState.get(federalState);
+        final int slot = Math.floorMod(year, YEARS_PER_FEDERAL_STATE);
+
+        HolidaysOfYear holidaysOfYear = slots.get(slot);
+        if (holidaysOfYear == null || holidaysOfYear.year != year) {
+            holidaysOfYear = new HolidaysOfYear(year, loadHolidays(federalState, year));
+            slots.set(slot, holidaysOfYear);
+        }
+
+        return holidaysOfYear;
+    }
+
+    private Set<Holiday> loadHolidays(FederalState federalState, int year) {
+        final HolidayManager holidayManager = holidayManagers.get(federalState.getCountry());
+        if (holidayManager == null) {
+            return Set.of();
+        }
+        return holidayManager.getHolidays(year, federalState.getCodes());
+    }
+
+    private static final class HolidaysOfYear {
+
+        private final int year;
+        private final Holiday[][] holidaysByDayOfYear;
+
+        private HolidaysOfYear(int year, Set<Holiday> holidays) {
+            this.year = year;
+            this.holidaysByDayOfYear = new Holiday[Year.of(year).length()][];
+
+            final List<List<Holiday>> holidaysPerDay = new ArrayList<>(holidaysByDayOfYear.length);
+            for (int index = 0; index < holidaysByDayOfYear.length; index++) {
+                holidaysPerDay.add(new ArrayList<>(0));
+            }
+
+            for (Holiday holiday : holidays) {
+                if (holiday.getDate().getYear() == year) {
+                    holidaysPerDay.get(holiday.getDate().getDayOfYear() - 1).add(holiday);
+                }
+            }
+
+            for (int index = 0; index < holidaysByDayOfYear.length; index++) {
+                final List<Holiday> holidaysOfDay = holidaysPerDay.get(index);
+                holidaysByDayOfYear[index] = holidaysOfDay.isEmpty() ? NO_HOLIDAYS : holidaysOfDay.toArray(Holiday[]::new);
+            }
+        }
+
+        private Holiday[] getHolidays(int dayOfYear) {
+            return holidaysByDayOfYear[dayOfYear - 1];
+        }
+    }
+}
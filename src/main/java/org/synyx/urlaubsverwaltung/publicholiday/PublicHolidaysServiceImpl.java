@@ -11,13 +11,13 @@ import org.synyx.urlaubsverwaltung.workingtime.FederalState;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
-import static java.util.stream.Collectors.toUnmodifiableList;
+import static java.util.Collections.unmodifiableList;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.isChristmasEve;
@@ -26,25 +26,24 @@ import static org.synyx.urlaubsverwaltung.util.DateUtil.isNewYearsEve;
 @Service
 public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
-    private final Map<String, HolidayManager> holidayManagers;
+    private final PublicHolidaysIndex publicHolidaysIndex;
     private final SettingsService settingsService;
 
     @Autowired
     public PublicHolidaysServiceImpl(SettingsService settingsService, Map<String, HolidayManager> holidayManagers) {
         this.settingsService = settingsService;
-        this.holidayManagers = holidayManagers;
+        this.publicHolidaysIndex = new PublicHolidaysIndex(holidayManagers);
     }
 
     @Override
     public boolean isPublicHoliday(LocalDate date, FederalState federalState) {
-        return getHolidayManager(federalState)
-            .map(holidayManager -> holidayManager.isHoliday(date, federalState.getCodes()))
-            .orElse(false);
+        return publicHolidaysIndex.isPublicHoliday(date, federalState);
     }
 
     @Override
     public Optional<PublicHoliday> getPublicHoliday(LocalDate date, FederalState federalState) {
-        return getPublicHolidays(date, date, federalState).stream().findFirst();
+        final WorkingTimeSettings workingTimeSettings = getWorkingTimeSettings();
+        return getPublicHoliday(date, federalState, workingTimeSettings);
     }
 
     @Override
@@ -55,16 +54,29 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
     @Override
     public Optional<PublicHoliday> getPublicHoliday(LocalDate date, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
-        return getPublicHolidays(date, date, federalState, workingTimeSettings).stream().findFirst();
+        final Holiday[] holidays = publicHolidaysIndex.getHolidays(date, federalState);
+        if (holidays.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(toPublicHoliday(holidays[0], federalState, workingTimeSettings, LocaleContextHolder.getLocale()));
     }
 
     @Override
     public List<PublicHoliday> getPublicHolidays(LocalDate from, LocalDate to, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
         final Locale locale = LocaleContextHolder.getLocale();
 
-        return getHolidays(from, to, federalState).stream()
-            .map(holiday -> new PublicHoliday(holiday.getDate(), getHolidayDayLength(workingTimeSettings, holiday.getDate(), federalState), holiday.getDescription(locale)))
-            .collect(toUnmodifiableList());
+        final List<PublicHoliday> publicHolidays = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (Holiday holiday : publicHolidaysIndex.getHolidays(date, federalState)) {
+                publicHolidays.add(toPublicHoliday(holiday, federalState, workingTimeSettings, locale));
+            }
+        }
+
+        return unmodifiableList(publicHolidays);
+    }
+
+    private PublicHoliday toPublicHoliday(Holiday holiday, FederalState federalState, WorkingTimeSettings workingTimeSettings, Locale locale) {
+        return new PublicHoliday(holiday.getDate(), getHolidayDayLength(workingTimeSettings, holiday.getDate(), federalState), holiday.getDescription(locale));
     }
 
     private DayLength getHolidayDayLength(WorkingTimeSettings workingTimeSettings, LocalDate date, FederalState federalState) {
@@ -82,16 +94,6 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
         return workingTime.getInverse();
     }
 
-    private Set<Holiday> getHolidays(final LocalDate from, final LocalDate to, FederalState federalState) {
-        return getHolidayManager(federalState)
-            .map(holidayManager -> holidayManager.getHolidays(from, to, federalState.getCodes()))
-            .orElseGet(Set::of);
-    }
-
-    private Optional<HolidayManager> getHolidayManager(FederalState federalState) {
-        return Optional.ofNullable(holidayManagers.get(federalState.getCountry()));
-    }
-
     private WorkingTimeSettings getWorkingTimeSettings() {
         return settingsService.getSettings().getWorkingTimeSettings();
     }
@@ -5,15 +5,17 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Sort;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.nullsLast;
@@ -24,6 +26,19 @@ public class SortComparator<T> implements Comparator<T> {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final int MAX_CACHED_PROPERTY_PATHS_PER_TYPE = 64;
+
+    /**
+     * Compiled value extractors per type and property path, e.g. {@code person.firstName}.
+     * Resolving the property descriptors is done once per type and path instead of on every comparison.
+     */
+    private static final ClassValue<Map<String, Function<Object, Comparable<Object>>>> VALUE_EXTRACTORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<Object, Comparable<Object>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final Comparator<T> comparator;
 
     public SortComparator(Class<T> type, Sort sort) {
@@ -51,42 +66,81 @@ public class SortComparator<T> implements Comparator<T> {
 
     private static <T> Comparator<T> sortComparable(Class<T> type, Sort.Order order) {
 
-        final Function<? super T, Comparable<? super Comparable>> valueExtractor =
-            (T entity) -> extractComparableValue(type, entity, List.of(order.getProperty().split("\\.")));
+        final Function<Object, Comparable<Object>> valueExtractor = valueExtractor(type, order.getProperty());
 
         return order.isDescending()
             ? comparing(valueExtractor, nullsLast(reverseOrder()))
             : comparing(valueExtractor, nullsLast(naturalOrder()));
     }
 
-    private static <T> Comparable<? super Comparable> extractComparableValue(Class<T> type, T entity, List<String> properties) {
-        if (properties.isEmpty()) {
-            return null;
-        }
+    private static Function<Object, Comparable<Object>> valueExtractor(Class<?> type, String propertyPath) {
 
-        final String errorMessage = format("type=\"%s\" does not contain property=\"%s\".", type, String.join(".", properties));
+        final Map<String, Function<Object, Comparable<Object>>> valueExtractors = VALUE_EXTRACTORS.get(type);
 
-        final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(type, properties.get(0));
-        if (propertyDescriptor == null) {
-            LOG.debug(errorMessage);
-            return null;
+        Function<Object, Comparable<Object>> valueExtractor = valueExtractors.get(propertyPath);
+        if (valueExtractor == null) {
+            valueExtractor = compileValueExtractor(type, propertyPath);
+            // sort properties are given by the client, do not let arbitrary paths grow the cache
+            if (valueExtractors.size() < MAX_CACHED_PROPERTY_PATHS_PER_TYPE) {
+                valueExtractors.putIfAbsent(propertyPath, valueExtractor);
+            }
         }
 
-        final Method readMethod = propertyDescriptor.getReadMethod();
-        Object value;
-        try {
-            value = readMethod.invoke(entity);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new SortComparatorException(errorMessage, e);
+        return valueExtractor;
+    }
+
+    private static Function<Object, Comparable<Object>> compileValueExtractor(Class<?> type, String propertyPath) {
+
+        final String errorMessage = format("type=\"%s\" does not contain property=\"%s\".", type, propertyPath);
+
+        final String[] properties = propertyPath.split("\\.");
+        final MethodHandle[] readMethods = new MethodHandle[properties.length];
+
+        Class<?> currentType = type;
+        for (int i = 0; i < properties.length; i++) {
+            final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(currentType, properties[i]);
+            if (propertyDescriptor == null || propertyDescriptor.getReadMethod() == null) {
+                LOG.debug(errorMessage);
+                return entity -> null;
+            }
+
+            final Method readMethod = propertyDescriptor.getReadMethod();
+            try {
+                readMethods[i] = lookup().unreflect(readMethod).asType(methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new SortComparatorException(errorMessage, e);
+            }
+
+            currentType = readMethod.getReturnType();
         }
 
-        if (properties.size() == 1) {
-            if (value instanceof String) {
-                value = ((String) value).toLowerCase();
+        return entity -> extractComparableValue(entity, readMethods, errorMessage);
+    }
+
+    private static Comparable<Object> extractComparableValue(Object entity, MethodHandle[] readMethods, String errorMessage) {
+
+        Object value = entity;
+        for (MethodHandle readMethod : readMethods) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                value = (Object) readMethod.invokeExact(value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new SortComparatorException(errorMessage, e);
             }
-            return (Comparable<? super Comparable>) value;
         }
 
-        return extractComparableValue((Class<T>) readMethod.getReturnType(), (T) value, properties.subList(1, properties.size()));
+        if (value instanceof String) {
+            value = ((String) value).toLowerCase();
+        }
+
+        // values of sort properties are comparable to values of the same property
+        @SuppressWarnings("unchecked")
+        final Comparable<Object> comparableValue = (Comparable<Object>) value;
+        return comparableValue;
     }
 }
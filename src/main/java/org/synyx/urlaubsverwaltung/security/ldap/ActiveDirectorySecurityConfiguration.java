@@ -13,6 +13,8 @@ import org.springframework.security.ldap.authentication.ad.ActiveDirectoryLdapAu
 import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import java.time.Clock;
+
 import static org.springframework.util.StringUtils.hasText;
 
 @Configuration
@@ -76,8 +78,8 @@ public class ActiveDirectorySecurityConfiguration {
         }
 
         @Bean
-        public LdapUserDataImporter ldapUserDataImporter(LdapUserService ldapUserService, PersonService personService) {
-            return new LdapUserDataImporter(ldapUserService, personService);
+        public LdapUserDataImporter ldapUserDataImporter(LdapUserService ldapUserService, PersonService personService, Clock clock) {
+            return new LdapUserDataImporter(ldapUserService, personService, clock);
         }
 
         @Bean
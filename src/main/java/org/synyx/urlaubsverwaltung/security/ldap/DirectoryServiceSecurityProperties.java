@@ -6,6 +6,7 @@ import org.springframework.validation.annotation.Validated;
 import org.synyx.urlaubsverwaltung.validation.CronExpression;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 
 @Component
 @ConfigurationProperties("uv.security.directory-service")
@@ -100,6 +101,21 @@ public class DirectoryServiceSecurityProperties {
         @CronExpression
         private String cron = "0 0 1 * * ?";
 
+        /**
+         * Number of directory service entries that are requested per page, should not exceed the size limit
+         * of the directory service (e.g. 1000 for Active Directory)
+         */
+        @Min(1)
+        private int pageSize = 500;
+
+        /**
+         * Operational attribute holding the time of the last change of an entry, e.g. `modifyTimestamp` for LDAP
+         * or `whenChanged` for Active Directory. If set, only the entries changed since the last sync are requested,
+         * otherwise every sync requests all entries. The first sync after the start of the application always
+         * requests all entries.
+         */
+        private String changedAttribute;
+
         public String getCron() {
             return cron;
         }
@@ -107,6 +123,22 @@ public class DirectoryServiceSecurityProperties {
         public void setCron(String cron) {
             this.cron = cron;
         }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public String getChangedAttribute() {
+            return changedAttribute;
+        }
+
+        public void setChangedAttribute(String changedAttribute) {
+            this.changedAttribute = changedAttribute;
+        }
     }
 }
 
@@ -18,6 +18,8 @@ import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
 import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import java.time.Clock;
+
 @Configuration
 public class LdapSecurityConfiguration {
 
@@ -104,8 +106,8 @@ public class LdapSecurityConfiguration {
         }
 
         @Bean
-        public LdapUserDataImporter ldapUserDataImporter(LdapUserService ldapUserService, PersonService personService) {
-            return new LdapUserDataImporter(ldapUserService, personService);
+        public LdapUserDataImporter ldapUserDataImporter(LdapUserService ldapUserService, PersonService personService, Clock clock) {
+            return new LdapUserDataImporter(ldapUserService, personService, clock);
         }
 
         @Bean
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.security.ldap;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
@@ -27,4 +29,13 @@ class LdapUserDataImportConfiguration implements SchedulingConfigurer {
             directoryServiceSecurityProperties.getSync().getCron()
         );
     }
+
+    /**
+     * Syncs the users once after the start of the application in the background,
+     * so the start of the application is not blocked by the directory service.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void syncOnApplicationReady() {
+        taskScheduler.execute(scheduleLocking.withLock("LdapUserDataImporterSync", ldapUserDataImporter::sync));
+    }
 }
@@ -5,37 +5,77 @@ import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
-import javax.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_USER;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
 /**
  * Import person data from configured LDAP or Active Directory.
+ *
+ * <p>The users are fetched page by page and the persons of a page are loaded at once. Only persons whose data
+ * differs from the directory service are updated. After a successful sync only the users changed since then
+ * are fetched, if the directory service supports it (see {@link DirectoryServiceSecurityProperties.SecuritySync}).</p>
  */
 @Transactional
 public class LdapUserDataImporter {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    /**
+     * The time of the last change is set by the directory service, so changes are requested with
+     * a margin to not miss any because of differing clocks.
+     */
+    private static final Duration CHANGED_SINCE_MARGIN = Duration.ofHours(1);
+
     private final LdapUserService ldapUserService;
     private final PersonService personService;
+    private final Clock clock;
+
+    private volatile Instant lastSuccessfulSync;
 
-    LdapUserDataImporter(LdapUserService ldapUserService, PersonService personService) {
+    LdapUserDataImporter(LdapUserService ldapUserService, PersonService personService, Clock clock) {
         this.ldapUserService = ldapUserService;
         this.personService = personService;
+        this.clock = clock;
     }
 
-    @PostConstruct
     void sync() {
         LOG.info("STARTING DIRECTORY SERVICE SYNC --------------------------------------------------------------------------------");
 
-        final List<LdapUser> users = ldapUserService.getLdapUsers();
-        LOG.info("Found {} user(s)", users.size());
+        final Instant syncStartedAt = Instant.now(clock);
+        final Instant changedSince = lastSuccessfulSync == null ? null : lastSuccessfulSync.minus(CHANGED_SINCE_MARGIN);
+        if (changedSince == null) {
+            LOG.info("Syncing all users");
+        } else {
+            LOG.info("Syncing users changed since {}", changedSince);
+        }
+
+        final SyncResult result = new SyncResult();
+        final boolean completed = ldapUserService.forEachPageOfLdapUsers(changedSince, users -> syncPage(users, result));
+        if (completed) {
+            lastSuccessfulSync = syncStartedAt;
+        }
+
+        LOG.info("Found {} user(s): {} created, {} updated, {} unchanged", result.found, result.created, result.updated, result.found - result.created - result.updated);
+        LOG.info("DONE DIRECTORY SERVICE SYNC ------------------------------------------------------------------------------------");
+    }
+
+    private void syncPage(List<LdapUser> users, SyncResult result) {
+
+        final List<String> usernames = users.stream().map(LdapUser::getUsername).collect(toList());
+        final Map<String, Person> personsByUsername = usernames.isEmpty() ? Map.of() : personService.getPersonsByUsernames(usernames).stream()
+            .collect(toMap(Person::getUsername, identity()));
 
         for (LdapUser user : users) {
             final String username = user.getUsername();
@@ -43,18 +83,27 @@ public class LdapUserDataImporter {
             final String lastName = user.getLastName();
             final String email = user.getEmail();
 
-            final Optional<Person> optionalPerson = personService.getPersonByUsername(username);
-            if (optionalPerson.isPresent()) {
-                final Person person = optionalPerson.get();
+            final Person person = personsByUsername.get(username);
+            if (person == null) {
+                personService.create(username, lastName, firstName, email, List.of(NOTIFICATION_USER), List.of(USER));
+                result.created++;
+            } else if (!Objects.equals(person.getFirstName(), firstName)
+                || !Objects.equals(person.getLastName(), lastName)
+                || !Objects.equals(person.getEmail(), email)) {
                 person.setFirstName(firstName);
                 person.setLastName(lastName);
                 person.setEmail(email);
                 personService.update(person);
-            } else {
-                personService.create(username, lastName, firstName, email, List.of(NOTIFICATION_USER), List.of(USER));
+                result.updated++;
             }
         }
 
-        LOG.info("DONE DIRECTORY SERVICE SYNC ------------------------------------------------------------------------------------");
+        result.found += users.size();
+    }
+
+    private static class SyncResult {
+        private int found;
+        private int created;
+        private int updated;
     }
 }
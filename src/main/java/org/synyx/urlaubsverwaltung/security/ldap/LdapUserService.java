@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.security.ldap;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Provides fetching of LDAP users data.
@@ -8,11 +10,14 @@ import java.util.List;
 public interface LdapUserService {
 
     /**
-     * Returns all LDAP users
-     * if no error occurs while retrieving data or mapping into {@link LdapUser}
-     * otherwise returns an empty list
+     * Fetches the LDAP users page by page and hands every page to the given consumer, so the users
+     * do not have to be held in memory all at once. If an error occurs while retrieving data or mapping
+     * into {@link LdapUser} no further pages are fetched.
      *
-     * @return list of LDAP users
+     * @param changedSince if given and the attribute of the last change is configured, only the LDAP users
+     *                     changed since this instant are fetched, otherwise all LDAP users
+     * @param pageConsumer consumes one page of LDAP users
+     * @return {@code true} if all pages have been fetched, otherwise {@code false}
      */
-    List<LdapUser> getLdapUsers();
+    boolean forEachPageOfLdapUsers(Instant changedSince, Consumer<List<LdapUser>> pageConsumer);
 }
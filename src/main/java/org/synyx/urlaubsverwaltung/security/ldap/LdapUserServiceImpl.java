@@ -1,21 +1,31 @@
 package org.synyx.urlaubsverwaltung.security.ldap;
 
 import org.slf4j.Logger;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
 import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.SingleContextSource;
 import org.springframework.ldap.query.ContainerCriteria;
 
-import java.util.ArrayList;
+import javax.naming.directory.SearchControls;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.time.ZoneOffset.UTC;
+import static javax.naming.directory.SearchControls.SUBTREE_SCOPE;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.springframework.ldap.query.LdapQueryBuilder.query;
+import static org.springframework.ldap.support.LdapUtils.emptyLdapName;
 import static org.springframework.util.StringUtils.hasText;
 
 public class LdapUserServiceImpl implements LdapUserService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final DateTimeFormatter GENERALIZED_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'").withZone(UTC);
+
     private final LdapTemplate ldapTemplate;
     private final LdapUserMapper ldapUserMapper;
     private final DirectoryServiceSecurityProperties directoryServiceSecurityProperties;
@@ -28,24 +38,43 @@ public class LdapUserServiceImpl implements LdapUserService {
     }
 
     @Override
-    public List<LdapUser> getLdapUsers() {
+    public boolean forEachPageOfLdapUsers(Instant changedSince, Consumer<List<LdapUser>> pageConsumer) {
 
         final String memberOf = directoryServiceSecurityProperties.getFilter().getMemberOf();
         final String objectClass = directoryServiceSecurityProperties.getFilter().getObjectClass();
+        final String changedAttribute = directoryServiceSecurityProperties.getSync().getChangedAttribute();
 
         final ContainerCriteria criteria = query().where("objectClass").is(objectClass);
         if (hasText(memberOf)) {
             criteria.and("memberOf").is(memberOf);
         }
+        if (changedSince != null && hasText(changedAttribute)) {
+            criteria.and(changedAttribute).gte(GENERALIZED_TIME.format(changedSince));
+        }
+
+        final SearchControls searchControls = new SearchControls();
+        searchControls.setSearchScope(SUBTREE_SCOPE);
+        final PagedResultsDirContextProcessor pagedResults = new PagedResultsDirContextProcessor(directoryServiceSecurityProperties.getSync().getPageSize());
 
-        List<LdapUser> search = new ArrayList<>();
+        // the cookie of the paged results is only valid for the connection it has been issued on.
+        // A directory service without support for paged results returns all entries without a cookie.
+        final SingleContextSource singleContextSource = new SingleContextSource(ldapTemplate.getContextSource().getReadOnlyContext());
         try {
-            search = ldapTemplate.search(criteria, ldapUserMapper);
+            final LdapTemplate singleContextLdapTemplate = new LdapTemplate(singleContextSource);
+            singleContextLdapTemplate.setIgnorePartialResultException(true);
+            singleContextLdapTemplate.setIgnoreNameNotFoundException(true);
+
+            do {
+                pageConsumer.accept(singleContextLdapTemplate.search(emptyLdapName(), criteria.filter().encode(), searchControls, ldapUserMapper, pagedResults));
+            } while (pagedResults.getCookie() != null && pagedResults.hasMore());
+
+            return true;
         } catch (InvalidSecurityConfigurationException e) {
             LOG.error("Could not perform a search with parameters from the specified LdapQuery with objectClass '{}' " +
                 "and memberOf '{}' with message '{}'", objectClass, memberOf, e.getMessage());
+            return false;
+        } finally {
+            singleContextSource.destroy();
         }
-
-        return search;
     }
 }
@@ -11,6 +11,7 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import java.io.Serializable;
 import java.util.Objects;
 
 
@@ -18,7 +19,7 @@ import java.util.Objects;
  * Represents the settings / business rules for the application.
  */
 @Entity
-public class Settings {
+public class Settings implements Serializable {
 
     @Id
     @GeneratedValue
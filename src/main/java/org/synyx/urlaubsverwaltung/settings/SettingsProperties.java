@@ -0,0 +1,42 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import javax.validation.Valid;
+
+@Component
+@ConfigurationProperties("uv.settings")
+@Validated
+public class SettingsProperties {
+
+    /*
+     * Reloads the cached settings by default every minute to pick up changes of other instances
+     */
+    @Valid
+    private Refresh refresh = new Refresh();
+
+    public Refresh getRefresh() {
+        return refresh;
+    }
+
+    public void setRefresh(Refresh refresh) {
+        this.refresh = refresh;
+    }
+
+    public static class Refresh {
+
+        @CronExpression
+        private String cron = "0 * * * * *";
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+    }
+}
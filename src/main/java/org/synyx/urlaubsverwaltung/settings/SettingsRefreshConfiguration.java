@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Every instance has to refresh its own cached settings, therefore the task is not guarded by a schedule lock.
+ */
+@Configuration
+class SettingsRefreshConfiguration implements SchedulingConfigurer {
+
+    private final SettingsProperties settingsProperties;
+    private final SettingsServiceImpl settingsService;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    SettingsRefreshConfiguration(SettingsProperties settingsProperties, SettingsServiceImpl settingsService, ThreadPoolTaskScheduler taskScheduler) {
+        this.settingsProperties = settingsProperties;
+        this.settingsService = settingsService;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        taskRegistrar.addCronTask(settingsService::refreshSettings, settingsProperties.getRefresh().getCron());
+    }
+}
@@ -13,7 +13,15 @@ public interface SettingsService {
     void save(Settings settings);
 
     /**
+     * Returns the current settings of the application. These settings are shared and must not be changed, use
+     * {@link #getSettingsForUpdate()} to change and save them.
+     *
      * @return settings for the application
      */
     Settings getSettings();
+
+    /**
+     * @return a copy of the current settings of the application that can be changed and saved
+     */
+    Settings getSettingsForUpdate();
 }
@@ -2,13 +2,31 @@ package org.synyx.urlaubsverwaltung.settings;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.SerializationUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Implementation for {@link org.synyx.urlaubsverwaltung.settings.SettingsService}.
+ *
+ * <p>
+ * The settings are held in memory and only read from the database on the first access, on {@link #save(Settings)}
+ * and on {@link #refreshSettings()}. The latter is triggered periodically to pick up changes made by other instances
+ * of a multi-node deployment.
+ * </p>
+ *
+ * <p>
+ * The cached settings are a snapshot that is shared by all callers of {@link #getSettings()}. Callers that change the
+ * settings get their own copy by {@link #getSettingsForUpdate()}, so changes to it are only visible to others after
+ * they have been saved and committed successfully.
+ * </p>
  */
 @Service
 public class SettingsServiceImpl implements SettingsService {
@@ -16,21 +34,66 @@ public class SettingsServiceImpl implements SettingsService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final SettingsRepository settingsRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AtomicReference<Settings> cachedSettings = new AtomicReference<>();
 
     @Autowired
-    public SettingsServiceImpl(SettingsRepository settingsRepository) {
+    public SettingsServiceImpl(SettingsRepository settingsRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.settingsRepository = settingsRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     public void save(Settings settings) {
-        settingsRepository.save(settings);
-        LOG.info("Updated settings: {}", settings);
+        final Settings savedSettings = settingsRepository.save(settings);
+        final Settings snapshot = copy(savedSettings);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replaceCachedSettings(snapshot);
+                }
+            });
+        } else {
+            replaceCachedSettings(snapshot);
+        }
+        LOG.info("Updated settings: {}", savedSettings);
     }
 
     @Override
     public Settings getSettings() {
-        return settingsRepository.findById(1)
+        final Settings settings = cachedSettings.get();
+        if (settings != null) {
+            return settings;
+        }
+        return refreshSettings();
+    }
+
+    @Override
+    public Settings getSettingsForUpdate() {
+        return copy(getSettings());
+    }
+
+    /**
+     * Replaces the cached settings with the current state of the database.
+     *
+     * @return the reloaded settings
+     */
+    Settings refreshSettings() {
+        final Settings settings = settingsRepository.findById(1)
             .orElseThrow(() -> new IllegalStateException("No settings in database found."));
+        // the loaded settings may be managed by the current transaction, so a detached copy is cached
+        final Settings snapshot = copy(settings);
+        cachedSettings.set(snapshot);
+        return snapshot;
+    }
+
+    private void replaceCachedSettings(Settings snapshot) {
+        cachedSettings.set(snapshot);
+        applicationEventPublisher.publishEvent(new SettingsUpdatedEvent(snapshot));
+    }
+
+    private static Settings copy(Settings settings) {
+        return (Settings) SerializationUtils.deserialize(SerializationUtils.serialize(settings));
     }
 }
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+/**
+ * Published after the {@link Settings} have been persisted and committed and the cached settings have been replaced.
+ */
+public class SettingsUpdatedEvent {
+
+    private final Settings settings;
+
+    SettingsUpdatedEvent(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+}
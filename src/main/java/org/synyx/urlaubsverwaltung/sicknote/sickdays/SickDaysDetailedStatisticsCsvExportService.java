@@ -22,6 +22,7 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
 
     private static final Locale LOCALE = Locale.GERMAN;
     private static final String DATE_FORMAT = "ddMMyyyy";
+    private static final int CSV_COLUMNS = 12;
 
     private final MessageSource messageSource;
     private final DateFormatAware dateFormatAware;
@@ -39,7 +40,7 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
     }
 
     @Override
-    public void write(FilterPeriod period, List<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, CSVWriter csvWriter) {
         final String[] csvHeader = {
             getTranslation("person.account.basedata.personnelNumber"),
             getTranslation("person.data.firstName"),
@@ -59,6 +60,12 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
         final String endDateString = dateFormatAware.format(period.getEndDate());
         final String headerNote = getTranslation("absence.period") + ": " + startDateString + " - " + endDateString;
 
+        csvWriter.writeNext(new String[]{headerNote});
+        csvWriter.writeNext(csvHeader);
+    }
+
+    @Override
+    public void writeRows(FilterPeriod period, List<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
         final DecimalFormatSymbols newSymbols = new DecimalFormatSymbols(LOCALE);
         newSymbols.setDecimalSeparator(',');
         newSymbols.setGroupingSeparator('.');
@@ -66,12 +73,9 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
         final DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getInstance(LOCALE);
         decimalFormat.setDecimalFormatSymbols(newSymbols);
 
-        csvWriter.writeNext(new String[]{headerNote});
-        csvWriter.writeNext(csvHeader);
-
         allDetailedSickNotes.forEach(detailedSickNote ->
             detailedSickNote.getSickNotes().forEach(sickNote -> {
-                final String[] sickNoteCsvRow = new String[csvHeader.length];
+                final String[] sickNoteCsvRow = new String[CSV_COLUMNS];
                 sickNoteCsvRow[0] = detailedSickNote.getPersonalNumber();
                 sickNoteCsvRow[1] = detailedSickNote.getPerson().getFirstName();
                 sickNoteCsvRow[2] = detailedSickNote.getPerson().getLastName();
@@ -1,34 +1,30 @@
 package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Locale;
 
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
-import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 /**
  * Controller for statistics of sick notes resp. sick days.
@@ -57,31 +53,26 @@ class SickDaysStatisticsViewController {
 
     @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_VIEW')")
     @GetMapping("/download")
-    public ResponseEntity<ByteArrayResource> downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
-                                                         @RequestParam(value = "to", defaultValue = "") String to,
-                                                         @RequestParam(value = "query", required = false, defaultValue = "") String query,
-                                                         @SortDefault.SortDefaults({@SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC)})
-                                                         Pageable pageable, Locale locale) {
+    public void downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
+                            @RequestParam(value = "to", defaultValue = "") String to,
+                            @RequestParam(value = "query", required = false, defaultValue = "") String query,
+                            @SortDefault.SortDefaults({@SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC)})
+                            Pageable pageable, Locale locale, HttpServletResponse response) throws IOException {
 
         final FilterPeriod period = toFilterPeriod(from, to, locale);
 
         // NOTE: Not supported at the moment
         if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
-            return ResponseEntity.badRequest().build();
+            response.setStatus(BAD_REQUEST.value());
+            return;
         }
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Page<SickDaysDetailedStatistics> sickDaysStatisticsPage =
-                sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), new PageableSearchQuery(pageable, query));
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
+        final Page<SickDaysDetailedStatistics> sickDaysStatisticsPage = sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
 
-        final CSVFile csvFile = sickDaysDetailedStatisticsCsvExportService.generateCSV(period, sickDaysStatisticsPage.getContent());
-
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(new MediaType("text", "csv"));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.getFileName()).build());
-
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.getResource());
+        sickDaysDetailedStatisticsCsvExportService.writeCSV(period, sickDaysStatisticsPage.getContent(), response);
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
@@ -0,0 +1,20 @@
+package org.synyx.urlaubsverwaltung.sicknote.sicknote;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever a {@link SickNote} is created or changed.
+ */
+public class SickNoteSavedEvent extends ApplicationEvent {
+
+    private final Integer personId;
+
+    public SickNoteSavedEvent(Object source, Integer personId) {
+        super(source);
+        this.personId = personId;
+    }
+
+    public Integer getPersonId() {
+        return personId;
+    }
+}
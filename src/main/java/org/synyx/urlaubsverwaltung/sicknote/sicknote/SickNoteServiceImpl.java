@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.sicknote.sicknote;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
@@ -32,15 +33,18 @@ class SickNoteServiceImpl implements SickNoteService {
     private final SickNoteRepository sickNoteRepository;
     private final SettingsService settingsService;
     private final WorkingTimeCalendarService workingTimeCalendarService;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
     @Autowired
     SickNoteServiceImpl(SickNoteRepository sickNoteRepository, SettingsService settingsService,
-                        WorkingTimeCalendarService workingTimeCalendarService, Clock clock) {
+                        WorkingTimeCalendarService workingTimeCalendarService, ApplicationEventPublisher applicationEventPublisher,
+                        Clock clock) {
 
         this.sickNoteRepository = sickNoteRepository;
         this.settingsService = settingsService;
         this.workingTimeCalendarService = workingTimeCalendarService;
+        this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
     }
 
@@ -50,6 +54,7 @@ class SickNoteServiceImpl implements SickNoteService {
         entity.setLastEdited(LocalDate.now(clock));
 
         final SickNoteEntity saved = sickNoteRepository.save(entity);
+        applicationEventPublisher.publishEvent(new SickNoteSavedEvent(this, sickNote.getPerson().getId()));
 
         return toSickNote(saved);
     }
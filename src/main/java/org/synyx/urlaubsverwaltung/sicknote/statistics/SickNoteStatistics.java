@@ -2,13 +2,16 @@ package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
@@ -68,17 +71,21 @@ public class SickNoteStatistics {
 
     private BigDecimal calculateTotalNumberOfSickDays(WorkDaysCountService workDaysCountService, List<SickNote> sickNotes) {
 
-        BigDecimal numberOfSickDays = ZERO;
-        for (final SickNote sickNote : sickNotes) {
-
-            final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-            final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
 
+        final List<WorkDaysCountPeriod> periods = new ArrayList<>(sickNotes.size());
+        for (final SickNote sickNote : sickNotes) {
             final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
             final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
+            periods.add(new WorkDaysCountPeriod(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson()));
+        }
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCountByPeriod = workDaysCountService.getWorkDaysCount(periods);
 
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson());
-            numberOfSickDays = numberOfSickDays.add(workDays);
+        BigDecimal numberOfSickDays = ZERO;
+        for (final WorkDaysCountPeriod period : periods) {
+            numberOfSickDays = numberOfSickDays.add(workDaysCountByPeriod.get(period));
         }
 
         return numberOfSickDays;
@@ -5,6 +5,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 
@@ -13,12 +15,18 @@ import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
 @Service
 class UserSettingsService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    /**
+     * The settings of the signed in user are needed for theme and locale, so they are loaded once per request.
+     */
+    private static final String USER_SETTINGS_ATTRIBUTE = UserSettingsService.class.getName() + ".USER_SETTINGS";
+
     private final UserSettingsRepository userSettingsRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -38,11 +46,11 @@ class UserSettingsService {
     }
 
     Optional<Theme> findThemeForUsername(String username) {
-        return userSettingsRepository.findByPersonUsername(username).map(UserSettingsEntity::getTheme);
+        return findForUsername(username).map(UserSettingsEntity::getTheme);
     }
 
     Optional<Locale> findLocaleForUsername(String username) {
-        return userSettingsRepository.findByPersonUsername(username).map(UserSettingsEntity::getLocale);
+        return findForUsername(username).map(UserSettingsEntity::getLocale);
     }
 
     /**
@@ -59,11 +67,36 @@ class UserSettingsService {
         entity.setLocale(locale);
 
         final UserSettingsEntity persistedEntity = userSettingsRepository.save(entity);
+        forgetUserSettingsOfRequest();
         applicationEventPublisher.publishEvent(new UserLocaleChangedEvent(persistedEntity.getLocale()));
 
         return toUserSettings(persistedEntity);
     }
 
+    private Optional<UserSettingsEntity> findForUsername(String username) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return userSettingsRepository.findByPersonUsername(username);
+        }
+
+        final Object userSettingsOfRequest = requestAttributes.getAttribute(USER_SETTINGS_ATTRIBUTE, SCOPE_REQUEST);
+        if (userSettingsOfRequest instanceof UserSettingsOfRequest && ((UserSettingsOfRequest) userSettingsOfRequest).username.equals(username)) {
+            return ((UserSettingsOfRequest) userSettingsOfRequest).userSettings;
+        }
+
+        final Optional<UserSettingsEntity> userSettings = userSettingsRepository.findByPersonUsername(username);
+        requestAttributes.setAttribute(USER_SETTINGS_ATTRIBUTE, new UserSettingsOfRequest(username, userSettings), SCOPE_REQUEST);
+
+        return userSettings;
+    }
+
+    private static void forgetUserSettingsOfRequest() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(USER_SETTINGS_ATTRIBUTE, SCOPE_REQUEST);
+        }
+    }
+
     private UserSettingsEntity findForPersonOrGetDefault(Person person) {
         return userSettingsRepository.findById(person.getId()).orElseGet(() -> defaultUserSettingsEntity(person));
     }
@@ -81,4 +114,15 @@ class UserSettingsService {
     private static UserSettings toUserSettings(UserSettingsEntity userSettingsEntity) {
         return new UserSettings(userSettingsEntity.getTheme(), userSettingsEntity.getLocale());
     }
+
+    private static final class UserSettingsOfRequest {
+
+        private final String username;
+        private final Optional<UserSettingsEntity> userSettings;
+
+        private UserSettingsOfRequest(String username, Optional<UserSettingsEntity> userSettings) {
+            this.username = username;
+            this.userSettings = userSettings;
+        }
+    }
 }
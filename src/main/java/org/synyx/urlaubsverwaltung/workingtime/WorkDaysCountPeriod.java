@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Period of a person for which the number of workdays should be calculated,
+ * see {@link WorkDaysCountService#getWorkDaysCount(java.util.Collection)}.
+ */
+public final class WorkDaysCountPeriod {
+
+    private final DayLength dayLength;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Person person;
+
+    public WorkDaysCountPeriod(DayLength dayLength, LocalDate startDate, LocalDate endDate, Person person) {
+        this.dayLength = dayLength;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.person = person;
+    }
+
+    public DayLength getDayLength() {
+        return dayLength;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final WorkDaysCountPeriod that = (WorkDaysCountPeriod) o;
+        return dayLength == that.dayLength
+            && Objects.equals(startDate, that.startDate)
+            && Objects.equals(endDate, that.endDate)
+            && Objects.equals(person, that.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dayLength, startDate, endDate, person);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkDaysCountPeriod{" +
+            "dayLength=" + dayLength +
+            ", startDate=" + startDate +
+            ", endDate=" + endDate +
+            ", person=" + person +
+            '}';
+    }
+}
@@ -10,12 +10,18 @@ import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static java.math.RoundingMode.UNNECESSARY;
 import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
 
 @Service
@@ -48,17 +54,52 @@ public class WorkDaysCountService {
 
         final Map<DateRange, WorkingTime> workingTimes = workingTimeService.getWorkingTimesByPersonAndDateRange(person, dateRange);
         if (workingTimes.isEmpty()) {
-            throw new WorkDaysCountException("No working times found for user '" + person.getId()
-                + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
+            throw noWorkingTimesFound(person, startDate, endDate);
         }
 
         final Map<LocalDate, WorkingTime> workingTimesByDate = toLocalDateWorkingTime(workingTimes);
 
+        return workDaysCount(dayLength, startDate, endDate, workingTimesByDate::get);
+    }
+
+    /**
+     * Calculates the number of workdays for each of the given periods like
+     * {@link #getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)} does, but loads the working times of all
+     * affected persons at once instead of once per period.
+     *
+     * @param periods to calculate the workdays for
+     * @return number of workdays of every given period
+     * @throws WorkDaysCountException if a person has no working time for a day of one of the periods
+     */
+    public Map<WorkDaysCountPeriod, BigDecimal> getWorkDaysCount(Collection<WorkDaysCountPeriod> periods) {
+
+        if (periods.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Person> persons = periods.stream().map(WorkDaysCountPeriod::getPerson).distinct().collect(toList());
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeService.getByPersons(persons).stream()
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .collect(groupingBy(WorkingTime::getPerson));
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCountByPeriod = new HashMap<>();
+        for (WorkDaysCountPeriod period : periods) {
+            workDaysCountByPeriod.computeIfAbsent(period, p -> {
+                final List<WorkingTime> workingTimes = workingTimesByPerson.getOrDefault(p.getPerson(), List.of());
+                return workDaysCount(p.getDayLength(), p.getStartDate(), p.getEndDate(), day -> workingTimeOfDay(workingTimes, day, p));
+            });
+        }
+
+        return workDaysCountByPeriod;
+    }
+
+    private BigDecimal workDaysCount(DayLength dayLength, LocalDate startDate, LocalDate endDate, Function<LocalDate, WorkingTime> workingTimeOfDay) {
+
         BigDecimal vacationDays = BigDecimal.ZERO;
         LocalDate day = startDate;
         while (!day.isAfter(endDate)) {
 
-            final WorkingTime workingTime = workingTimesByDate.get(day);
+            final WorkingTime workingTime = workingTimeOfDay.apply(day);
 
             // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
             final Optional<PublicHoliday> maybePublicHoliday = publicHolidaysService.getPublicHoliday(day, workingTime.getFederalState());
@@ -81,6 +122,24 @@ public class WorkDaysCountService {
         return vacationDays.multiply(dayLength.getDuration()).setScale(1, UNNECESSARY);
     }
 
+    /**
+     * @param workingTimes of the person of the period, sorted by valid from descending
+     */
+    private static WorkingTime workingTimeOfDay(List<WorkingTime> workingTimes, LocalDate day, WorkDaysCountPeriod period) {
+        for (WorkingTime workingTime : workingTimes) {
+            if (!workingTime.getValidFrom().isAfter(day)) {
+                return workingTime;
+            }
+        }
+
+        throw noWorkingTimesFound(period.getPerson(), period.getStartDate(), period.getEndDate());
+    }
+
+    private static WorkDaysCountException noWorkingTimesFound(Person person, LocalDate startDate, LocalDate endDate) {
+        return new WorkDaysCountException("No working times found for user '" + person.getId()
+            + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
+    }
+
     private Map<LocalDate, WorkingTime> toLocalDateWorkingTime(Map<DateRange, WorkingTime> workingTimes) {
         final Map<LocalDate, WorkingTime> localDateWorkingTimeMap = new HashMap<>();
         workingTimes.forEach((key, value) -> key.iterator().forEachRemaining(localDate -> localDateWorkingTimeMap.put(localDate, value)));
@@ -1,15 +1,17 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
-import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
 
+import static java.math.RoundingMode.UNNECESSARY;
+import static java.time.format.DateTimeFormatter.ofPattern;
+import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
+
 /**
  * Provides information about the {@link DayLength} on a given {@link LocalDate} including publicHolidays.
  * For instance:
@@ -21,33 +23,72 @@ import java.util.Optional;
  *     <li>2022-01-05 - DayLength.ZERO (wednesday)</li>
  * </ul>
  *
+ * <p>
+ * The calendar is backed by a dense array indexed by the epoch day offset to the first known date. Every day is
+ * encoded in a single byte. Prefix sums of half working days and of entries are used to answer
+ * {@linkplain WorkingTimeCalendar#workingTime(LocalDate, LocalDate)} and
+ * {@linkplain WorkingTimeCalendar#workDaysCount(DayLength, LocalDate, LocalDate)} without iterating over the days.
+ * </p>
+ *
  * Should be used in combination with a {@link Map} to keep relation to a {@link org.synyx.urlaubsverwaltung.person.Person} for example.
  */
 public class WorkingTimeCalendar {
 
-    private final Map<LocalDate, DayLength> workingTimeByDate;
+    private static final byte NO_ENTRY = 0;
+    private static final DayLength[] DAY_LENGTHS = DayLength.values();
+
+    private final long firstEpochDay;
+    private final byte[] dayLengths;
+
+    /**
+     * number of half working days before the day with the given index. (length is {@code dayLengths.length + 1})
+     */
+    private final int[] halfDaysPrefixSum;
+
+    /**
+     * number of {@linkplain DayLength#isHalfDay() half day} entries before the day with the given index.
+     * Only used to keep the scale of the summed up {@link BigDecimal} values.
+     */
+    private final int[] halfDayEntriesPrefixSum;
+
+    /**
+     * number of days with an entry before the day with the given index.
+     */
+    private final int[] entriesPrefixSum;
 
     public WorkingTimeCalendar(Map<LocalDate, DayLength> workingTimeByDate) {
-        this.workingTimeByDate = workingTimeByDate;
+        this(workingTimeByDate.keySet().stream().min(LocalDate::compareTo).orElse(LocalDate.EPOCH), toDayLengthArray(workingTimeByDate));
     }
 
     /**
+     * @param firstDate date of the first array element
+     * @param dayLengths dayLength for every date beginning with firstDate. {@code null} elements mark dates without an entry.
+     */
+    WorkingTimeCalendar(LocalDate firstDate, DayLength[] dayLengths) {
+        this.firstEpochDay = firstDate.toEpochDay();
+        this.dayLengths = new byte[dayLengths.length];
+        this.halfDaysPrefixSum = new int[dayLengths.length + 1];
+        this.halfDayEntriesPrefixSum = new int[dayLengths.length + 1];
+        this.entriesPrefixSum = new int[dayLengths.length + 1];
+
+        for (int index = 0; index < dayLengths.length; index++) {
+            final DayLength dayLength = dayLengths[index];
+            this.dayLengths[index] = dayLength == null ? NO_ENTRY : (byte) (dayLength.ordinal() + 1);
+            this.halfDaysPrefixSum[index + 1] = this.halfDaysPrefixSum[index] + halfDays(dayLength);
+            this.halfDayEntriesPrefixSum[index + 1] = this.halfDayEntriesPrefixSum[index] + (dayLength != null && dayLength.isHalfDay() ? 1 : 0);
+            this.entriesPrefixSum[index + 1] = this.entriesPrefixSum[index] + (dayLength != null ? 1 : 0);
+        }
+    }
+
+    /**
+     * Counts the work days of the given application like {@link #workDaysCount(DayLength, LocalDate, LocalDate)},
+     * but dates without an entry count as no working time.
      *
      * @param application
      * @return the dayLength workingTime for the given application date range. (e.g. 1.5 days)
      */
     public BigDecimal workingTime(Application application) {
-        BigDecimal workingTimeSum = BigDecimal.ZERO;
-        final DateRange applicationDateRange = new DateRange(application.getStartDate(), application.getEndDate());
-        for (LocalDate localDate : applicationDateRange) {
-            final BigDecimal workingTime = workingTime(localDate).orElse(BigDecimal.ZERO);
-            if (application.getDayLength().isHalfDay()) {
-                workingTimeSum = workingTimeSum.add(workingTime.divide(BigDecimal.valueOf(2),1, RoundingMode.CEILING));
-            } else {
-                workingTimeSum = workingTimeSum.add(workingTime);
-            }
-        }
-        return workingTimeSum;
+        return workDays(application.getDayLength(), application.getStartDate(), application.getEndDate());
     }
 
     /**
@@ -72,10 +113,16 @@ public class WorkingTimeCalendar {
      * @return the {@linkplain DayLength} workingTime for the given date (e.g. DayLength.MORNING), or empty {@linkplain Optional} when there is no entry found.
      */
     public Optional<DayLength> workingTimeDayLength(LocalDate localDate) {
-        if (workingTimeByDate.containsKey(localDate)) {
-            return Optional.of(workingTimeByDate.get(localDate));
+        final long index = localDate.toEpochDay() - firstEpochDay;
+        if (index < 0 || index >= dayLengths.length) {
+            return Optional.empty();
         }
-        return Optional.empty();
+
+        final byte code = dayLengths[(int) index];
+        if (code == NO_ENTRY) {
+            return Optional.empty();
+        }
+        return Optional.of(DAY_LENGTHS[code - 1]);
     }
 
     /**
@@ -90,16 +137,82 @@ public class WorkingTimeCalendar {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal sum = BigDecimal.ZERO;
+        final int fromIndex = (int) Math.max(0, Math.min(dayLengths.length, from.toEpochDay() - firstEpochDay));
+        final int toIndexExclusive = (int) Math.max(0, Math.min(dayLengths.length, to.toEpochDay() - firstEpochDay + 1));
+
+        final int halfDays = halfDaysPrefixSum[toIndexExclusive] - halfDaysPrefixSum[fromIndex];
+        final int halfDayEntries = halfDayEntriesPrefixSum[toIndexExclusive] - halfDayEntriesPrefixSum[fromIndex];
+
+        // keep the scale of summing up the single durations: 1 as soon as there is a half day entry involved
+        return halfDayEntries > 0 ? BigDecimal.valueOf(halfDays * 5L, 1) : BigDecimal.valueOf(halfDays / 2);
+    }
+
+    /**
+     * Counts the work days of an absence with the given {@link DayLength} the same way as
+     * {@link WorkDaysCountService#getWorkDaysCount(DayLength, LocalDate, LocalDate, org.synyx.urlaubsverwaltung.person.Person)}:
+     * the working time is multiplied with the duration of the day length unless it is less than one day. So a half day
+     * absence on Christmas Eve counts the half working day of Christmas Eve and not a quarter of a day.
+     *
+     * @param dayLength of the absence
+     * @param from inclusive
+     * @param to inclusive
+     * @return number of work days (e.g. 0.5 days)
+     * @throws WorkDaysCountException if there is no working time for a date of the given date range
+     */
+    public BigDecimal workDaysCount(DayLength dayLength, LocalDate from, LocalDate to) {
+
+        if (!hasEntries(from, to)) {
+            throw new WorkDaysCountException("No working times found in period "
+                + from.format(ofPattern(DD_MM_YYYY)) + " - " + to.format(ofPattern(DD_MM_YYYY)));
+        }
+
+        return workDays(dayLength, from, to).setScale(1, UNNECESSARY);
+    }
+
+    private BigDecimal workDays(DayLength dayLength, LocalDate from, LocalDate to) {
 
-        for (Map.Entry<LocalDate, DayLength> entry : workingTimeByDate.entrySet()) {
-            final LocalDate localDate = entry.getKey();
-            if (!localDate.isBefore(from) && !localDate.isAfter(to)) {
-                final DayLength dayLength = entry.getValue();
-                sum = sum.add(dayLength.getDuration());
-            }
+        final BigDecimal workingTime = workingTime(from, to);
+
+        // less than one work day --> must not be divided, like a half day on Christmas Eve
+        if (workingTime.compareTo(BigDecimal.ONE) < 0) {
+            return workingTime;
         }
 
-        return sum;
+        return workingTime.multiply(dayLength.getDuration());
+    }
+
+    private boolean hasEntries(LocalDate from, LocalDate to) {
+
+        final long fromIndex = from.toEpochDay() - firstEpochDay;
+        final long toIndex = to.toEpochDay() - firstEpochDay;
+        if (fromIndex > toIndex) {
+            return true;
+        }
+        if (fromIndex < 0 || toIndex >= dayLengths.length) {
+            return false;
+        }
+
+        final int entries = entriesPrefixSum[(int) toIndex + 1] - entriesPrefixSum[(int) fromIndex];
+        return entries == toIndex - fromIndex + 1;
+    }
+
+    private static int halfDays(DayLength dayLength) {
+        if (dayLength == null || dayLength == DayLength.ZERO) {
+            return 0;
+        }
+        return dayLength.isHalfDay() ? 1 : 2;
+    }
+
+    private static DayLength[] toDayLengthArray(Map<LocalDate, DayLength> workingTimeByDate) {
+        if (workingTimeByDate.isEmpty()) {
+            return new DayLength[0];
+        }
+
+        final long min = workingTimeByDate.keySet().stream().mapToLong(LocalDate::toEpochDay).min().orElseThrow();
+        final long max = workingTimeByDate.keySet().stream().mapToLong(LocalDate::toEpochDay).max().orElseThrow();
+
+        final DayLength[] dayLengths = new DayLength[Math.toIntExact(max - min + 1)];
+        workingTimeByDate.forEach((date, dayLength) -> dayLengths[(int) (date.toEpochDay() - min)] = dayLength);
+        return dayLengths;
     }
 }
@@ -12,7 +12,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,7 +60,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 .filter(workingTime -> !workingTime.getValidFrom().isAfter(end))
                 .collect(toList());
 
-            final Map<LocalDate, DayLength> dayLengthByDate = new HashMap<>();
+            final DayLength[] dayLengths = new DayLength[Math.toIntExact(end.toEpochDay() - start.toEpochDay() + 1)];
 
             LocalDate nextEnd = end;
 
@@ -75,7 +74,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 }
 
                 for (LocalDate date : workingTimeDateRange) {
-                    dayLengthByDate.put(date, getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings));
+                    dayLengths[(int) (date.toEpochDay() - start.toEpochDay())] = getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings);
                 }
 
                 if (workingTimeDateRange.getStartDate().equals(start)) {
@@ -85,7 +84,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 nextEnd = workingTime.getValidFrom().minusDays(1);
             }
 
-            return Map.entry(person, new WorkingTimeCalendar(dayLengthByDate));
+            return Map.entry(person, new WorkingTimeCalendar(start, dayLengths));
         }).collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
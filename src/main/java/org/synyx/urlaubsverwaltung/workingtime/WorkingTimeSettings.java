@@ -4,6 +4,7 @@ import org.synyx.urlaubsverwaltung.period.DayLength;
 
 import javax.persistence.Embeddable;
 import javax.persistence.Enumerated;
+import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,7 +19,7 @@ import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN
  * Settings concerning working time of persons, like settings for public holidays.
  */
 @Embeddable
-public class WorkingTimeSettings {
+public class WorkingTimeSettings implements Serializable {
 
     @Enumerated(STRING)
     private DayLength monday = FULL;
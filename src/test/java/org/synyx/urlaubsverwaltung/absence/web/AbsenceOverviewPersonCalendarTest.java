@@ -0,0 +1,86 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static java.time.Month.AUGUST;
+import static java.time.Month.JULY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+
+class AbsenceOverviewPersonCalendarTest {
+
+    private final DateRange dateRange = new DateRange(LocalDate.of(2022, AUGUST, 1), LocalDate.of(2022, AUGUST, 31));
+
+    @Test
+    void ensureAbsenceRecordsAreIndexedByDate() {
+        final Person person = new Person();
+
+        final AbsencePeriod.Record first = new AbsencePeriod.Record(LocalDate.of(2022, AUGUST, 2), person, new AbsencePeriod.RecordMorningSick(person, 1));
+        final AbsencePeriod.Record second = new AbsencePeriod.Record(LocalDate.of(2022, AUGUST, 2), person, new AbsencePeriod.RecordNoonSick(person, 2));
+        final AbsencePeriod.Record outOfRange = new AbsencePeriod.Record(LocalDate.of(2022, JULY, 31), person, new AbsencePeriod.RecordNoonSick(person, 3));
+
+        final AbsenceOverviewPersonCalendar sut = new AbsenceOverviewPersonCalendar(dateRange, List.of(first, second, outOfRange), List.of(), List.of());
+
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, AUGUST, 1))).isEmpty();
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, AUGUST, 2))).containsExactly(first, second);
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, AUGUST, 31))).isEmpty();
+    }
+
+    @Test
+    void ensurePublicHolidaysAreIndexedByDate() {
+        final PublicHoliday publicHoliday = new PublicHoliday(LocalDate.of(2022, AUGUST, 15), FULL, "Mariä Himmelfahrt");
+
+        final AbsenceOverviewPersonCalendar sut = new AbsenceOverviewPersonCalendar(dateRange, List.of(), List.of(publicHoliday), List.of());
+
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, AUGUST, 15))).hasValue(publicHoliday);
+        assertThat(sut.getPublicHoliday(LocalDate.of(2022, AUGUST, 16))).isEmpty();
+    }
+
+    @Test
+    void ensureIsWorkdayUsesTheWorkingTimeValidAtTheDate() {
+        final Person person = new Person();
+
+        final WorkingTime fullWeek = new WorkingTime(person, LocalDate.of(2020, JULY, 1), GERMANY_BADEN_WUERTTEMBERG, false);
+        fullWeek.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
+
+        final WorkingTime mondayOnly = new WorkingTime(person, LocalDate.of(2022, AUGUST, 15), GERMANY_BADEN_WUERTTEMBERG, false);
+        mondayOnly.setWorkingDays(List.of(MONDAY), FULL);
+
+        final AbsenceOverviewPersonCalendar sut = new AbsenceOverviewPersonCalendar(dateRange, List.of(), List.of(), List.of(mondayOnly, fullWeek));
+
+        // tuesday before the change of the working time
+        assertThat(sut.isWorkday(LocalDate.of(2022, AUGUST, 9))).isTrue();
+        // sunday
+        assertThat(sut.isWorkday(LocalDate.of(2022, AUGUST, 14))).isFalse();
+        // monday and tuesday after the change of the working time
+        assertThat(sut.isWorkday(LocalDate.of(2022, AUGUST, 15))).isTrue();
+        assertThat(sut.isWorkday(LocalDate.of(2022, AUGUST, 16))).isFalse();
+    }
+
+    @Test
+    void ensureIsNoWorkdayBeforeTheFirstWorkingTime() {
+        final Person person = new Person();
+
+        final WorkingTime workingTime = new WorkingTime(person, LocalDate.of(2022, AUGUST, 10), GERMANY_BADEN_WUERTTEMBERG, false);
+        workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
+
+        final AbsenceOverviewPersonCalendar sut = new AbsenceOverviewPersonCalendar(dateRange, List.of(), List.of(), List.of(workingTime));
+
+        assertThat(sut.isWorkday(LocalDate.of(2022, AUGUST, 9))).isFalse();
+        assertThat(sut.isWorkday(LocalDate.of(2022, AUGUST, 10))).isTrue();
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.absence.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,6 +47,7 @@ import java.util.stream.Stream;
 
 import static java.time.Month.JANUARY;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -58,9 +60,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -102,7 +108,7 @@ class AbsenceOverviewViewControllerTest {
     @BeforeEach
     void setUp() {
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, clock,
-            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
     }
 
     @Test
@@ -554,7 +560,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2018-10-17T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
 
         final var person = new Person();
         person.setFirstName("boss");
@@ -564,17 +570,59 @@ class AbsenceOverviewViewControllerTest {
 
         when(departmentService.getNumberOfDepartments()).thenReturn(0L);
 
-        perform(get("/web/absences")
+        final AbsenceOverviewDto absenceOverview = (AbsenceOverviewDto) perform(get("/web/absences")
             .param("year", "2018")
             .locale(Locale.GERMANY))
             .andExpect(status().isOk())
             .andExpect(model().attribute("selectedYear", 2018))
-            .andExpect(model().attribute("absenceOverview", hasProperty("months", hasSize(1))));
+            .andExpect(model().attribute("absenceOverview", hasProperty("months", hasSize(1))))
+            .andReturn().getModelAndView().getModel().get("absenceOverview");
+
+        // months are created lazily while rendering
+        verifyNoInteractions(messageSource);
+
+        absenceOverview.getMonths().forEach(month -> assertThat(month.getDays()).hasSize(31));
 
         verify(messageSource).getMessage("month.october", new Object[]{}, Locale.GERMANY);
         verifyNoMoreInteractions(messageSource);
     }
 
+    @Test
+    void ensureOverviewAsJsonWritesEveryMonth() throws Exception {
+
+        final Settings settings = new Settings();
+        settings.setWorkingTimeSettings(new WorkingTimeSettings());
+        when(settingsService.getSettings()).thenReturn(settings);
+        final Clock fixedClock = Clock.fixed(Instant.parse("2018-10-17T00:00:00.00Z"), ZoneId.systemDefault());
+
+        sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
+
+        final var person = new Person();
+        person.setId(1);
+        person.setFirstName("boss");
+        person.setLastName("the hoss");
+        person.setEmail("boss@example.org");
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getActivePersons()).thenReturn(List.of(person));
+
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+        when(messageSource.getMessage(anyString(), any(), any(Locale.class))).thenReturn("month");
+
+        perform(get("/web/absences")
+            .param("year", "2018")
+            .param("month", "")
+            .accept(APPLICATION_JSON)
+            .locale(Locale.GERMANY))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+            .andExpect(jsonPath("$.months.length()").value(12))
+            .andExpect(jsonPath("$.months[0].days.length()").value(31))
+            .andExpect(jsonPath("$.months[1].days.length()").value(28))
+            .andExpect(jsonPath("$.months[11].persons[0].firstName").value("boss"))
+            .andExpect(jsonPath("$.months[11].persons[0].days.length()").value(31));
+    }
+
     @Test
     void ensureOverviewForGivenMonthNovember() throws Exception {
 
@@ -662,7 +710,7 @@ class AbsenceOverviewViewControllerTest {
         when(settingsService.getSettings()).thenReturn(settings);
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, clock,
-            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
 
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("awesome month text");
 
@@ -786,7 +834,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2020-10-17T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
 
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("awesome month text");
 
@@ -4153,7 +4201,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2020-12-01T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
 
         final var person = new Person();
         person.setId(1);
@@ -4215,7 +4263,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2020-12-10T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, settingsService, absenceService, workingTimeService, vacationTypeService, new ObjectMapper());
 
         final var person = new Person();
         person.setFirstName("boss");
@@ -0,0 +1,85 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.COMPLETED;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.IN_PROGRESS;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.PENDING;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.SUMMARIZED;
+
+@SpringBootTest
+@Transactional
+class AccountUpdateChunkRepositoryIT extends TestContainersBase {
+
+    @Autowired
+    private AccountUpdateChunkRepository sut;
+
+    @Test
+    void ensureClaimsPendingChunkOnlyOnce() {
+
+        final AccountUpdateChunkEntity chunk = sut.save(chunk(2022, 1, PENDING, null));
+
+        final Instant now = Instant.parse("2022-01-01T05:00:00Z");
+        assertThat(sut.claim(chunk.getId(), now, now.minusSeconds(900), PENDING, IN_PROGRESS)).isOne();
+        assertThat(sut.claim(chunk.getId(), now.plusSeconds(60), now.minusSeconds(840), PENDING, IN_PROGRESS)).isZero();
+    }
+
+    @Test
+    void ensureClaimsAbandonedChunk() {
+
+        final Instant claimedAt = Instant.parse("2022-01-01T05:00:00Z");
+        final AccountUpdateChunkEntity chunk = sut.save(chunk(2022, 1, IN_PROGRESS, claimedAt));
+
+        final Instant now = claimedAt.plusSeconds(1000);
+        assertThat(sut.claim(chunk.getId(), now, now.minusSeconds(900), PENDING, IN_PROGRESS)).isOne();
+    }
+
+    @Test
+    void ensureDoesNotClaimCompletedChunk() {
+
+        final AccountUpdateChunkEntity chunk = sut.save(chunk(2022, 1, COMPLETED, Instant.parse("2022-01-01T05:00:00Z")));
+
+        final Instant now = Instant.parse("2022-01-02T05:00:00Z");
+        assertThat(sut.claim(chunk.getId(), now, now.minusSeconds(900), PENDING, IN_PROGRESS)).isZero();
+    }
+
+    @Test
+    void ensureUpdatesStatusOfChunksOfYear() {
+
+        sut.save(chunk(2022, 1, COMPLETED, null));
+        sut.save(chunk(2022, 2, COMPLETED, null));
+        sut.save(chunk(2021, 1, COMPLETED, null));
+
+        assertThat(sut.updateStatus(2022, COMPLETED, SUMMARIZED)).isEqualTo(2);
+        assertThat(sut.updateStatus(2022, COMPLETED, SUMMARIZED)).isZero();
+    }
+
+    @Test
+    void ensureUniqueConstraintOfYearAndChunkNumber() {
+
+        sut.save(chunk(2022, 1, PENDING, null));
+
+        assertThatThrownBy(() -> sut.saveAll(List.of(chunk(2022, 1, PENDING, null))))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static AccountUpdateChunkEntity chunk(int year, int chunkNumber, AccountUpdateChunkStatus status, Instant claimedAt) {
+        final AccountUpdateChunkEntity chunk = new AccountUpdateChunkEntity();
+        chunk.setYear(year);
+        chunk.setChunkNumber(chunkNumber);
+        chunk.setStatus(status);
+        chunk.setClaimedAt(claimedAt);
+        chunk.setPersons(List.of(new AccountUpdateChunkPersonEmbeddable(1, false)));
+        return chunk;
+    }
+}
@@ -41,14 +41,20 @@ class TurnOfTheYearAccountUpdaterConfigurationTest {
         sut.configureTasks(taskRegistrar);
 
         final List<CronTask> cronTaskList = taskRegistrar.getCronTaskList();
-        assertThat(cronTaskList).hasSize(1);
+        assertThat(cronTaskList).hasSize(2);
 
         final CronTask cronTask = cronTaskList.get(0);
         assertThat(cronTask.getExpression()).isEqualTo("0 0 5 1 1 *");
 
+        final CronTask resumeCronTask = cronTaskList.get(1);
+        assertThat(resumeCronTask.getExpression()).isEqualTo("0 */15 * * * *");
+
         verifyNoInteractions(service);
 
         cronTask.getRunnable().run();
         verify(service).updateAccountsForNextPeriod();
+
+        resumeCronTask.getRunnable().run();
+        verify(service).resumeUpdateAccountsForNextPeriod();
     }
 }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -13,19 +14,26 @@ import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
-import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createHolidaysAccount;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.COMPLETED;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.IN_PROGRESS;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.PENDING;
+import static org.synyx.urlaubsverwaltung.account.AccountUpdateChunkStatus.SUMMARIZED;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_OFFICE;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,18 +55,27 @@ class TurnOfTheYearAccountUpdaterServiceTest {
     private MailService mailService;
     @Mock
     private VacationDaysReminderService vacationDaysReminderService;
+    @Mock
+    private AccountUpdateChunkRepository accountUpdateChunkRepository;
+
+    private AccountProperties accountProperties;
 
     @BeforeEach
     void setUp() {
-        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService, vacationDaysReminderService, mailService, clock);
+        accountProperties = new AccountProperties();
+        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService,
+            vacationDaysReminderService, mailService, accountUpdateChunkRepository, accountProperties, clock);
     }
 
     @Test
     void ensureUpdatesHolidaysAccountsOfAllActivePersons() {
 
-        final Person user1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person user2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person user3 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        accountProperties.getUpdate().setChunkSize(2);
+
+        final Person user1 = person(1);
+        final Person user2 = person(2);
+        final Person user3 = person(3);
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2, user3));
 
         final Account account1 = createHolidaysAccount(user1, LAST_YEAR);
         account1.setId(1);
@@ -66,29 +83,44 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         account2.setId(2);
         final Account account3 = createHolidaysAccount(user3, LAST_YEAR);
         account3.setId(3);
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user1, user2))).thenReturn(List.of(account1, account2));
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user3))).thenReturn(List.of(account3));
 
-        when(personService.getActivePersons()).thenReturn(asList(user1, user2, user3));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user1)).thenReturn(Optional.of(account1));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user2)).thenReturn(Optional.of(account2));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user3)).thenReturn(Optional.of(account3));
+        final List<Account> newAccounts = List.of(newAccount(user1), newAccount(user2), newAccount(user3));
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account1)).thenReturn(newAccounts.get(0));
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account2)).thenReturn(newAccounts.get(1));
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account3)).thenReturn(newAccounts.get(2));
+        when(accountService.getHolidaysAccount(CURRENT_YEAR, List.of(user1, user2, user3))).thenReturn(newAccounts);
 
-        final Account newAccount = mock(Account.class);
-        when(newAccount.getRemainingVacationDays()).thenReturn(BigDecimal.TEN);
-        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class)))
-            .thenReturn(newAccount);
+        final List<AccountUpdateChunkEntity> chunks = new ArrayList<>();
+        when(accountUpdateChunkRepository.existsByYear(CURRENT_YEAR)).thenReturn(false);
+        when(accountUpdateChunkRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<AccountUpdateChunkEntity> newChunks = invocation.getArgument(0);
+            newChunks.forEach(chunk -> chunk.setId((long) chunk.getChunkNumber()));
+            chunks.addAll(newChunks);
+            return newChunks;
+        });
+        when(accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS))).thenAnswer(invocation -> chunks);
+        when(accountUpdateChunkRepository.claim(any(), any(), any(), eq(PENDING), eq(IN_PROGRESS))).thenReturn(1);
+        when(accountUpdateChunkRepository.findByYearOrderByChunkNumber(CURRENT_YEAR)).thenAnswer(invocation -> chunks);
+        when(accountUpdateChunkRepository.updateStatus(CURRENT_YEAR, COMPLETED, SUMMARIZED)).thenReturn(2);
 
         sut.updateAccountsForNextPeriod();
 
-        verify(personService).getActivePersons();
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0).getChunkNumber()).isOne();
+        assertThat(chunks.get(0).getPersons()).extracting(AccountUpdateChunkPersonEmbeddable::getPersonId).containsExactly(1, 2);
+        assertThat(chunks.get(1).getChunkNumber()).isEqualTo(2);
+        assertThat(chunks.get(1).getPersons()).extracting(AccountUpdateChunkPersonEmbeddable::getPersonId).containsExactly(3);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.getYear()).isEqualTo(CURRENT_YEAR);
+            assertThat(chunk.getStatus()).isEqualTo(COMPLETED);
+            assertThat(chunk.getCompletedAt()).isNotNull();
+            assertThat(chunk.getPersons()).allMatch(AccountUpdateChunkPersonEmbeddable::isUpdated);
+        });
+        verify(accountUpdateChunkRepository).save(chunks.get(0));
+        verify(accountUpdateChunkRepository).save(chunks.get(1));
 
-        verify(accountService, times(3))
-            .getHolidaysAccount(anyInt(), any(Person.class));
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user1);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user2);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user3);
-
-        verify(accountInteractionService, times(3))
-            .autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class));
         verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account1);
         verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account2);
         verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account3);
@@ -103,10 +135,189 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         assertThat(mail0.getSubjectMessageKey()).isEqualTo("subject.account.updatedRemainingDays");
         assertThat(mail0.getTemplateName()).isEqualTo("updated_accounts");
         assertThat(mail0.getTemplateModel()).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(30));
+        assertThat(mail0.getTemplateModel()).containsEntry("accounts", newAccounts);
         final Mail mail1 = mails.get(1);
         assertThat(mail1.isSendToTechnicalMail()).isTrue();
         assertThat(mail1.getSubjectMessageKey()).isEqualTo("subject.account.updatedRemainingDays");
         assertThat(mail1.getTemplateName()).isEqualTo("updated_accounts");
         assertThat(mail1.getTemplateModel()).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(30));
     }
+
+    @Test
+    void ensureDoesNotUpdateAccountsWithoutAnnualVacationDays() {
+
+        final Person user1 = person(1);
+        when(personService.getActivePersons()).thenReturn(List.of(user1));
+
+        final Account account1 = createHolidaysAccount(user1, LAST_YEAR);
+        account1.setAnnualVacationDays(null);
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user1))).thenReturn(List.of(account1));
+
+        final AccountUpdateChunkEntity chunk = chunk(1, PENDING, 1);
+        when(accountUpdateChunkRepository.existsByYear(CURRENT_YEAR)).thenReturn(true);
+        when(accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS))).thenReturn(List.of(chunk));
+        when(accountUpdateChunkRepository.claim(eq(1L), any(), any(), eq(PENDING), eq(IN_PROGRESS))).thenReturn(1);
+        when(accountUpdateChunkRepository.findByYearOrderByChunkNumber(CURRENT_YEAR)).thenReturn(List.of(chunk));
+        when(accountUpdateChunkRepository.updateStatus(CURRENT_YEAR, COMPLETED, SUMMARIZED)).thenReturn(1);
+
+        sut.updateAccountsForNextPeriod();
+
+        verifyNoInteractions(accountInteractionService);
+        assertThat(chunk.getStatus()).isEqualTo(COMPLETED);
+        assertThat(chunk.getPersons()).noneMatch(AccountUpdateChunkPersonEmbeddable::isUpdated);
+
+        final ArgumentCaptor<Mail> argument = ArgumentCaptor.forClass(Mail.class);
+        verify(mailService, times(2)).send(argument.capture());
+        assertThat(argument.getValue().getTemplateModel()).containsEntry("accounts", List.of());
+    }
+
+    @Test
+    void ensureCreatesOneChunkWithoutActivePersons() {
+
+        when(personService.getActivePersons()).thenReturn(List.of());
+
+        final List<AccountUpdateChunkEntity> chunks = new ArrayList<>();
+        when(accountUpdateChunkRepository.existsByYear(CURRENT_YEAR)).thenReturn(false);
+        when(accountUpdateChunkRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            chunks.addAll(invocation.getArgument(0));
+            return chunks;
+        });
+
+        sut.updateAccountsForNextPeriod();
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).getPersons()).isEmpty();
+        assertThat(chunks.get(0).getStatus()).isEqualTo(PENDING);
+    }
+
+    @Test
+    void ensureDoesNotCreateChunksIfUpdateHasAlreadyBeenStarted() {
+
+        when(accountUpdateChunkRepository.existsByYear(CURRENT_YEAR)).thenReturn(true);
+
+        sut.updateAccountsForNextPeriod();
+
+        verify(accountUpdateChunkRepository, never()).saveAll(anyList());
+        verify(accountUpdateChunkRepository).findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS));
+    }
+
+    @Test
+    void ensureProcessesChunksIfAnotherInstanceCreatedThemConcurrently() {
+
+        when(personService.getActivePersons()).thenReturn(List.of(person(1)));
+        when(accountUpdateChunkRepository.existsByYear(CURRENT_YEAR)).thenReturn(false);
+        when(accountUpdateChunkRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        sut.updateAccountsForNextPeriod();
+
+        verify(accountUpdateChunkRepository).findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS));
+    }
+
+    @Test
+    void ensureSkipsChunkClaimedByAnotherInstance() {
+
+        final AccountUpdateChunkEntity chunk = chunk(1, IN_PROGRESS, 1);
+        when(personService.getActivePersons()).thenReturn(List.of(person(1)));
+        when(accountUpdateChunkRepository.existsByYearAndStatusNot(CURRENT_YEAR, SUMMARIZED)).thenReturn(true);
+        when(accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS))).thenReturn(List.of(chunk));
+        when(accountUpdateChunkRepository.claim(eq(1L), any(Instant.class), any(Instant.class), eq(PENDING), eq(IN_PROGRESS))).thenReturn(0);
+        when(accountUpdateChunkRepository.findByYearOrderByChunkNumber(CURRENT_YEAR)).thenReturn(List.of(chunk));
+
+        sut.resumeUpdateAccountsForNextPeriod();
+
+        verifyNoInteractions(accountService);
+        verifyNoInteractions(accountInteractionService);
+        verify(accountUpdateChunkRepository, never()).save(any());
+        verify(accountUpdateChunkRepository, never()).updateStatus(CURRENT_YEAR, COMPLETED, SUMMARIZED);
+        verifyNoInteractions(mailService);
+    }
+
+    @Test
+    void ensureClaimsChunksThatAreClaimedForLongerThanTheClaimTimeout() {
+
+        final AccountUpdateChunkEntity chunk = chunk(1, IN_PROGRESS, 1);
+        when(personService.getActivePersons()).thenReturn(List.of(person(1)));
+        when(accountUpdateChunkRepository.existsByYearAndStatusNot(CURRENT_YEAR, SUMMARIZED)).thenReturn(true);
+        when(accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS))).thenReturn(List.of(chunk));
+
+        final ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        final ArgumentCaptor<Instant> claimedBefore = ArgumentCaptor.forClass(Instant.class);
+        when(accountUpdateChunkRepository.claim(eq(1L), now.capture(), claimedBefore.capture(), eq(PENDING), eq(IN_PROGRESS))).thenReturn(0);
+
+        sut.resumeUpdateAccountsForNextPeriod();
+
+        assertThat(claimedBefore.getValue()).isEqualTo(now.getValue().minusSeconds(15 * 60));
+    }
+
+    @Test
+    void ensureClaimsChunksWithConfiguredClaimTimeout() {
+
+        accountProperties.getUpdate().setClaimTimeout(Duration.ofHours(1));
+
+        final AccountUpdateChunkEntity chunk = chunk(1, IN_PROGRESS, 1);
+        when(personService.getActivePersons()).thenReturn(List.of(person(1)));
+        when(accountUpdateChunkRepository.existsByYearAndStatusNot(CURRENT_YEAR, SUMMARIZED)).thenReturn(true);
+        when(accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS))).thenReturn(List.of(chunk));
+
+        final ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        final ArgumentCaptor<Instant> claimedBefore = ArgumentCaptor.forClass(Instant.class);
+        when(accountUpdateChunkRepository.claim(eq(1L), now.capture(), claimedBefore.capture(), eq(PENDING), eq(IN_PROGRESS))).thenReturn(0);
+
+        sut.resumeUpdateAccountsForNextPeriod();
+
+        assertThat(claimedBefore.getValue()).isEqualTo(now.getValue().minus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void ensureResumeDoesNothingIfUpdateIsSummarized() {
+
+        when(accountUpdateChunkRepository.existsByYearAndStatusNot(CURRENT_YEAR, SUMMARIZED)).thenReturn(false);
+
+        sut.resumeUpdateAccountsForNextPeriod();
+
+        verify(accountUpdateChunkRepository, never()).findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS));
+        verifyNoInteractions(personService);
+        verifyNoInteractions(mailService);
+    }
+
+    @Test
+    void ensureSendsNoSummaryIfAnotherInstanceSummarizedTheChunks() {
+
+        final AccountUpdateChunkEntity chunk = chunk(1, COMPLETED, 1);
+        when(accountUpdateChunkRepository.existsByYearAndStatusNot(CURRENT_YEAR, SUMMARIZED)).thenReturn(true);
+        when(accountUpdateChunkRepository.findByYearAndStatusInOrderByChunkNumber(CURRENT_YEAR, List.of(PENDING, IN_PROGRESS))).thenReturn(List.of());
+        when(accountUpdateChunkRepository.findByYearOrderByChunkNumber(CURRENT_YEAR)).thenReturn(List.of(chunk));
+        when(accountUpdateChunkRepository.updateStatus(CURRENT_YEAR, COMPLETED, SUMMARIZED)).thenReturn(0);
+
+        sut.resumeUpdateAccountsForNextPeriod();
+
+        verifyNoInteractions(mailService);
+        verifyNoInteractions(vacationDaysReminderService);
+    }
+
+    private static Person person(int id) {
+        final Person person = new Person("muster" + id, "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static Account newAccount(Person person) {
+        final Account account = createHolidaysAccount(person, CURRENT_YEAR, BigDecimal.valueOf(30), BigDecimal.TEN, BigDecimal.ZERO, "comment");
+        account.setId(person.getId() + 10);
+        return account;
+    }
+
+    private static AccountUpdateChunkEntity chunk(long id, AccountUpdateChunkStatus status, Integer... personIds) {
+        final AccountUpdateChunkEntity chunk = new AccountUpdateChunkEntity();
+        chunk.setId(id);
+        chunk.setYear(CURRENT_YEAR);
+        chunk.setChunkNumber((int) id);
+        chunk.setStatus(status);
+        final List<AccountUpdateChunkPersonEmbeddable> persons = new ArrayList<>();
+        for (Integer personId : personIds) {
+            persons.add(new AccountUpdateChunkPersonEmbeddable(personId, false));
+        }
+        chunk.setPersons(persons);
+        return chunk;
+    }
 }
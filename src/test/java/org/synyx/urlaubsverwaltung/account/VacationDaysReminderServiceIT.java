@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
 import com.icegreen.greenmail.junit5.GreenMailExtension;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,9 +9,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import javax.mail.Message;
 import javax.mail.MessagingException;
@@ -20,9 +24,10 @@ import java.io.IOException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static com.icegreen.greenmail.util.ServerSetupTest.SMTP_IMAP;
 import static java.math.BigDecimal.TEN;
@@ -45,25 +50,35 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     private AccountService accountService;
     @MockBean
     private VacationDaysService vacationDaysService;
+    @MockBean
+    private WorkingTimeCalendarService workingTimeCalendarService;
 
     @Autowired
     private MailService mailService;
+    @Autowired
+    private AccountProperties accountProperties;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Test
     void ensureReminderForLeftVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, accountProperties, clock, meterRegistry);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42);
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account = new Account();
+        final Account account = account(person);
         account.setExpiryDate(LocalDate.of(2022, 4, 1));
         account.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
-        when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(TEN);
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
+        mockVacationDaysOfYear(account, VacationDaysLeft.builder()
+            .withAnnualVacation(TEN)
+            .withRemainingVacation(ZERO)
+            .notExpiring(ZERO)
+            .build());
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -88,21 +103,16 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     void ensureReminderForRemainingVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, accountProperties, clock, meterRegistry);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42);
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(person);
         account2022.setExpiryDate(LocalDate.of(2022,4,1));
         account2022.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
-
-        final Account account2023 = new Account();
-        account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        account2023.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
@@ -111,7 +121,7 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        mockVacationDaysOfYear(account2022, vacationDaysLeft);
 
         sut.remindForRemainingVacationDays();
 
@@ -138,31 +148,25 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
     void ensureReminderForExpiredRemainingVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService, mailService, accountProperties, clock, meterRegistry);
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
         person.setId(1);
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(person);
         account2022.setExpiryDate(LocalDate.of(2022,4,1));
         account2022.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
-
-        final Account account2023 = new Account();
-        account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        account2023.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
-            .withAnnualVacation(ZERO)
+            .withAnnualVacation(TEN)
             .withRemainingVacation(TEN)
             .notExpiring(ZERO)
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
-        when(vacationDaysService.calculateTotalLeftVacationDays(account2022)).thenReturn(TEN);
+        mockVacationDaysOfYear(account2022, vacationDaysLeft);
 
         sut.notifyForExpiredRemainingVacationDays();
 
@@ -184,4 +188,21 @@ class VacationDaysReminderServiceIT extends TestContainersBase {
             "" + EMAIL_LINE_BREAK +
             "Mehr Informationen zu deinem Urlaubsanspruch findest du hier: https://localhost:8080/web/person/1/overview");
     }
+
+    private void mockVacationDaysOfYear(Account account, VacationDaysLeft vacationDaysLeft) {
+        final Person person = account.getPerson();
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendars = Map.of(person, new WorkingTimeCalendar(Map.of()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), Year.of(2022))).thenReturn(workingTimeCalendars);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), workingTimeCalendars, new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31))))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft)));
+    }
+
+    private static Account account(Person person) {
+        final Account account = new Account();
+        account.setId(1);
+        account.setPerson(person);
+        account.setValidFrom(LocalDate.of(2022, 1, 1));
+        account.setValidTo(LocalDate.of(2022, 12, 31));
+        return account;
+    }
 }
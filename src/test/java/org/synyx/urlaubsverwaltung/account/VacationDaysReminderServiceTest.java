@@ -1,21 +1,28 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.math.BigDecimal.ONE;
@@ -23,6 +30,8 @@ import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -37,22 +46,35 @@ class VacationDaysReminderServiceTest {
     @Mock
     private VacationDaysService vacationDaysService;
     @Mock
+    private WorkingTimeCalendarService workingTimeCalendarService;
+    @Mock
     private MailService mailService;
 
+    private AccountProperties accountProperties;
+    private SimpleMeterRegistry meterRegistry;
+
     final ArgumentCaptor<Mail> mailArgumentCaptor = ArgumentCaptor.forClass(Mail.class);
 
+    @BeforeEach
+    void setUp() {
+        accountProperties = new AccountProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
     @Test
     void ensureNoReminderForZeroLeftVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account = new Account();
+        final Account account = account(1, person, 2022);
+        account.setDoRemainingVacationDaysExpireGlobally(true);
         account.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
+        mockVacationDaysOfYear(account, VacationDaysLeft.builder().build());
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -63,18 +85,18 @@ class VacationDaysReminderServiceTest {
     void ensureNoReminderIfRemainingVacationDaysToNotExpire() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account = new Account();
-        account.setDoRemainingVacationDaysExpireGlobally(true);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
-        when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(ZERO);
+        final Account account = account(1, person, 2022);
+        account.setDoRemainingVacationDaysExpireGlobally(false);
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
 
         sut.remindForCurrentlyLeftVacationDays();
 
+        verifyNoInteractions(vacationDaysService);
         verifyNoInteractions(mailService);
     }
 
@@ -82,15 +104,30 @@ class VacationDaysReminderServiceTest {
     void ensureNoReminderIfAccountIsEmpty() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.empty());
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of());
 
         sut.remindForCurrentlyLeftVacationDays();
 
+        verifyNoInteractions(vacationDaysService);
+        verifyNoInteractions(mailService);
+    }
+
+    @Test
+    void ensureNoReminderWithoutActivePersons() {
+
+        final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
+        final VacationDaysReminderService sut = sut(clock);
+
+        when(personService.getActivePersons()).thenReturn(List.of());
+
+        sut.remindForCurrentlyLeftVacationDays();
+
+        verifyNoInteractions(accountService);
         verifyNoInteractions(mailService);
     }
 
@@ -98,16 +135,20 @@ class VacationDaysReminderServiceTest {
     void ensureReminderForLeftVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account = new Account();
+        final Account account = account(1, person, 2022);
         account.setDoRemainingVacationDaysExpireGlobally(true);
         account.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account));
-        when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(TEN);
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
+        mockVacationDaysOfYear(account, VacationDaysLeft.builder()
+            .withAnnualVacation(TEN)
+            .withRemainingVacation(ONE)
+            .notExpiring(ZERO)
+            .build());
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -125,24 +166,93 @@ class VacationDaysReminderServiceTest {
         );
     }
 
+    @Test
+    void ensureReminderForLeftVacationDaysProcessesPersonsInChunks() {
+
+        accountProperties.getVacationDaysReminder().setChunkSize(2);
+        accountProperties.getVacationDaysReminder().setThreads(2);
+
+        final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
+        final VacationDaysReminderService sut = sut(clock);
+
+        final Person marlene = person(1, "Marlene");
+        final Person bruce = person(2, "Bruce");
+        final Person clark = person(3, "Clark");
+        when(personService.getActivePersons()).thenReturn(List.of(marlene, bruce, clark));
+
+        final Account accountMarlene = account(1, marlene, 2022);
+        accountMarlene.setDoRemainingVacationDaysExpireGlobally(true);
+        accountMarlene.setExpiryDate(LocalDate.of(2022, 4, 1));
+        final Account accountBruce = account(2, bruce, 2022);
+        accountBruce.setDoRemainingVacationDaysExpireGlobally(true);
+        accountBruce.setExpiryDate(LocalDate.of(2022, 4, 1));
+        when(accountService.getHolidaysAccount(2022, List.of(marlene, bruce))).thenReturn(List.of(accountMarlene, accountBruce));
+
+        final Account accountClark = account(3, clark, 2022);
+        accountClark.setDoRemainingVacationDaysExpireGlobally(true);
+        accountClark.setExpiryDate(LocalDate.of(2022, 4, 1));
+        when(accountService.getHolidaysAccount(2022, List.of(clark))).thenReturn(List.of(accountClark));
+
+        final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder().withAnnualVacation(TEN).build();
+        final Map<Person, WorkingTimeCalendar> chunkOneCalendars = Map.of(marlene, new WorkingTimeCalendar(Map.of()), bruce, new WorkingTimeCalendar(Map.of()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(marlene, bruce), Year.of(2022))).thenReturn(chunkOneCalendars);
+        when(vacationDaysService.getVacationDaysLeft(List.of(accountMarlene, accountBruce), chunkOneCalendars, yearOf(2022))).thenReturn(Map.of(
+            accountMarlene, new HolidayAccountVacationDays(accountMarlene, vacationDaysLeft, vacationDaysLeft),
+            accountBruce, new HolidayAccountVacationDays(accountBruce, vacationDaysLeft, vacationDaysLeft)
+        ));
+        mockVacationDaysOfYear(accountClark, vacationDaysLeft);
+
+        sut.remindForCurrentlyLeftVacationDays();
+
+        verify(mailService, times(3)).send(mailArgumentCaptor.capture());
+        assertThat(mailArgumentCaptor.getAllValues())
+            .extracting(Mail::getMailAddressRecipients)
+            .containsExactlyInAnyOrder(Optional.of(List.of(marlene)), Optional.of(List.of(bruce)), Optional.of(List.of(clark)));
+
+        assertThat(meterRegistry.get("vacation.days.reminder.chunk.duration").tag("job", "currently_left_vacation_days").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("vacation.days.reminder.persons").tag("job", "currently_left_vacation_days").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void ensureReminderForLeftVacationDaysContinuesAfterFailingChunk() {
+
+        accountProperties.getVacationDaysReminder().setChunkSize(1);
+        accountProperties.getVacationDaysReminder().setThreads(1);
+
+        final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
+        final VacationDaysReminderService sut = sut(clock);
+
+        final Person marlene = person(1, "Marlene");
+        final Person bruce = person(2, "Bruce");
+        when(personService.getActivePersons()).thenReturn(List.of(marlene, bruce));
+
+        when(accountService.getHolidaysAccount(2022, List.of(marlene))).thenThrow(new IllegalStateException());
+
+        final Account accountBruce = account(2, bruce, 2022);
+        accountBruce.setDoRemainingVacationDaysExpireGlobally(true);
+        accountBruce.setExpiryDate(LocalDate.of(2022, 4, 1));
+        when(accountService.getHolidaysAccount(2022, List.of(bruce))).thenReturn(List.of(accountBruce));
+        mockVacationDaysOfYear(accountBruce, VacationDaysLeft.builder().withAnnualVacation(TEN).build());
+
+        sut.remindForCurrentlyLeftVacationDays();
+
+        verify(mailService).send(mailArgumentCaptor.capture());
+        assertThat(mailArgumentCaptor.getValue().getMailAddressRecipients()).contains(List.of(bruce));
+    }
+
     @Test
     void ensureNoReminderWithoutRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(1, person, 2022);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
-
-        final Account account2023 = new Account();
-        account2023.setDoRemainingVacationDaysExpireLocally(true);
-        account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
@@ -150,7 +260,7 @@ class VacationDaysReminderServiceTest {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        mockVacationDaysOfYear(account2022, vacationDaysLeft);
 
         sut.remindForRemainingVacationDays();
 
@@ -161,20 +271,15 @@ class VacationDaysReminderServiceTest {
     void ensureReminderForRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(1, person, 2022);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
-
-        final Account account2023 = new Account();
-        account2023.setDoRemainingVacationDaysExpireLocally(true);
-        account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
@@ -183,7 +288,7 @@ class VacationDaysReminderServiceTest {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        mockVacationDaysOfYear(account2022, vacationDaysLeft);
 
         sut.remindForRemainingVacationDays();
 
@@ -205,17 +310,19 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWhenExpireDateNotEqualOfAfter() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-03-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
-        account2022.setPerson(person);
+        final Account account2022 = account(1, person, 2022);
+        account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         sut.notifyForExpiredRemainingVacationDays();
+
+        verifyNoInteractions(vacationDaysService);
         verifyNoInteractions(mailService);
     }
 
@@ -223,19 +330,20 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWhenNotificationWasAlreadySent() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-02T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
-        account2022.setPerson(person);
+        final Account account2022 = account(1, person, 2022);
+        account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 2));
         account2022.setExpiryNotificationSentDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         sut.notifyForExpiredRemainingVacationDays();
 
+        verifyNoInteractions(vacationDaysService);
         verifyNoInteractions(mailService);
     }
 
@@ -243,20 +351,15 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWithoutExpiredRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(1, person, 2022);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
-
-        final Account account2023 = new Account();
-        account2023.setDoRemainingVacationDaysExpireLocally(true);
-        account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(ZERO)
@@ -265,28 +368,30 @@ class VacationDaysReminderServiceTest {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
+        mockVacationDaysOfYear(account2022, vacationDaysLeft);
 
         sut.notifyForExpiredRemainingVacationDays();
 
         verifyNoInteractions(mailService);
+        verify(accountService, never()).save(account2022);
     }
 
     @Test
     void ensureNoNotificationWhenExpireIsDisabled() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(1, person, 2022);
         account2022.setDoRemainingVacationDaysExpireLocally(false);
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         sut.notifyForExpiredRemainingVacationDays();
 
+        verifyNoInteractions(vacationDaysService);
         verifyNoInteractions(mailService);
     }
 
@@ -294,20 +399,15 @@ class VacationDaysReminderServiceTest {
     void ensureNotificationForExpiredRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = sut(clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
 
-        final Account account2022 = new Account();
+        final Account account2022 = account(1, person, 2022);
         account2022.setDoRemainingVacationDaysExpireLocally(true);
         account2022.setExpiryDate(LocalDate.of(2022, 4, 1));
-        when(accountService.getHolidaysAccount(2022, person)).thenReturn(Optional.of(account2022));
-
-        final Account account2023 = new Account();
-        account2023.setDoRemainingVacationDaysExpireLocally(true);
-        account2023.setExpiryDate(LocalDate.of(2023, 4, 1));
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
+        when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account2022));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
             .withAnnualVacation(TEN)
@@ -316,8 +416,7 @@ class VacationDaysReminderServiceTest {
             .forUsedVacationDaysBeforeExpiry(ZERO)
             .forUsedVacationDaysAfterExpiry(ZERO)
             .build();
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023))).thenReturn(vacationDaysLeft);
-        when(vacationDaysService.calculateTotalLeftVacationDays(account2022)).thenReturn(BigDecimal.valueOf(11L));
+        mockVacationDaysOfYear(account2022, vacationDaysLeft);
 
         sut.notifyForExpiredRemainingVacationDays();
 
@@ -335,6 +434,35 @@ class VacationDaysReminderServiceTest {
             entry("remainingVacationDaysNotExpiring", ONE),
             entry("expiryDate", LocalDate.of(2022, 4, 1))
         );
+
+        assertThat(account2022.getExpiryNotificationSentDate()).isEqualTo(LocalDate.of(2022, 4, 1));
+        verify(accountService).save(account2022);
+    }
+
+    private VacationDaysReminderService sut(Clock clock) {
+        return new VacationDaysReminderService(personService, accountService, vacationDaysService, workingTimeCalendarService,
+            mailService, accountProperties, clock, meterRegistry);
+    }
+
+    private void mockVacationDaysOfYear(Account account, VacationDaysLeft vacationDaysLeft) {
+        final Person person = account.getPerson();
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendars = Map.of(person, new WorkingTimeCalendar(Map.of()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), Year.of(account.getYear()))).thenReturn(workingTimeCalendars);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), workingTimeCalendars, yearOf(account.getYear())))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft)));
+    }
+
+    private static DateRange yearOf(int year) {
+        return new DateRange(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    private static Account account(int id, Person person, int year) {
+        final Account account = new Account();
+        account.setId(id);
+        account.setPerson(person);
+        account.setValidFrom(LocalDate.of(year, 1, 1));
+        account.setValidTo(LocalDate.of(year, 12, 31));
+        return account;
     }
 
     private Person person() {
@@ -344,4 +472,12 @@ class VacationDaysReminderServiceTest {
         person.setId(42);
         return person;
     }
+
+    private static Person person(int id, String firstName) {
+        final Person person = new Person();
+        person.setFirstName(firstName);
+        person.setLastName("Muster");
+        person.setId(id);
+        return person;
+    }
 }
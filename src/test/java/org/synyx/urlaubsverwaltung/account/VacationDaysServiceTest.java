@@ -700,6 +700,119 @@ class VacationDaysServiceTest {
         });
     }
 
+    @Test
+    void ensureGetVacationDaysLeftOfAccountWithWorkingTimeCalendar() {
+        final Person person = anyPerson();
+
+        final LocalDate firstDayOfYear = LocalDate.of(2022, 1, 1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        account.setDoRemainingVacationDaysExpireLocally(true);
+
+        final Application applicationBeforeExpiryDate = anyApplication(person);
+        applicationBeforeExpiryDate.setStartDate(LocalDate.of(2022, JANUARY, 3));
+        applicationBeforeExpiryDate.setEndDate(LocalDate.of(2022, JANUARY, 7));
+
+        final Application applicationAfterExpiryDate = anyApplication(person);
+        applicationAfterExpiryDate.setStartDate(LocalDate.of(2022, APRIL, 4));
+        applicationAfterExpiryDate.setEndDate(LocalDate.of(2022, APRIL, 8));
+
+        final List<ApplicationStatus> applicationStatus = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        when(applicationService.getForStatesAndPerson(applicationStatus, List.of(person), firstDayOfYear, lastDayOfYear))
+            .thenReturn(List.of(applicationBeforeExpiryDate, applicationAfterExpiryDate));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeMondayToFriday(firstDayOfYear, LocalDate.of(2023, DECEMBER, 31)));
+
+        final VacationDaysLeft actual = sut.getVacationDaysLeft(account, Optional.empty(), Map.of(person, workingTimeCalendar));
+
+        final VacationDaysLeft expectedDaysLeft = VacationDaysLeft.builder()
+            .withAnnualVacation(BigDecimal.valueOf(30))
+            .withRemainingVacation(new BigDecimal("6"))
+            .notExpiring(new BigDecimal("2"))
+            .forUsedVacationDaysBeforeExpiry(BigDecimal.valueOf(5))
+            .forUsedVacationDaysAfterExpiry(BigDecimal.valueOf(5))
+            .withVacationDaysUsedNextYear(ZERO)
+            .build();
+        assertThat(actual).isEqualTo(expectedDaysLeft);
+        assertThat(actual.getVacationDays()).isEqualByComparingTo(BigDecimal.valueOf(26));
+    }
+
+    @Test
+    void ensureGetVacationDaysLeftOfAccountWithWorkingTimeCalendarWithoutExpire() {
+        final Person person = anyPerson();
+
+        final LocalDate firstDayOfYear = LocalDate.of(2022, 1, 1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        account.setDoRemainingVacationDaysExpireLocally(false);
+
+        final Application applicationBeforeExpiryDate = anyApplication(person);
+        applicationBeforeExpiryDate.setStartDate(LocalDate.of(2022, JANUARY, 3));
+        applicationBeforeExpiryDate.setEndDate(LocalDate.of(2022, JANUARY, 7));
+
+        final Application applicationAfterExpiryDate = anyApplication(person);
+        applicationAfterExpiryDate.setStartDate(LocalDate.of(2022, APRIL, 4));
+        applicationAfterExpiryDate.setEndDate(LocalDate.of(2022, APRIL, 8));
+
+        final List<ApplicationStatus> applicationStatus = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        when(applicationService.getForStatesAndPerson(applicationStatus, List.of(person), firstDayOfYear, lastDayOfYear))
+            .thenReturn(List.of(applicationBeforeExpiryDate, applicationAfterExpiryDate));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeMondayToFriday(firstDayOfYear, LocalDate.of(2023, DECEMBER, 31)));
+
+        final VacationDaysLeft actual = sut.getVacationDaysLeft(account, Optional.empty(), Map.of(person, workingTimeCalendar));
+
+        // remaining vacation days do not expire, so all days are used before the expiry date
+        final VacationDaysLeft expectedDaysLeft = VacationDaysLeft.builder()
+            .withAnnualVacation(BigDecimal.valueOf(30))
+            .withRemainingVacation(new BigDecimal("6"))
+            .notExpiring(new BigDecimal("2"))
+            .forUsedVacationDaysBeforeExpiry(BigDecimal.valueOf(10))
+            .forUsedVacationDaysAfterExpiry(ZERO)
+            .withVacationDaysUsedNextYear(ZERO)
+            .build();
+        assertThat(actual).isEqualTo(expectedDaysLeft);
+    }
+
+    @Test
+    void ensureGetVacationDaysLeftOfAccountWithWorkingTimeCalendarWithRemainingUsedNextYear() {
+        final Person person = anyPerson();
+
+        final Account account = anyAccount(person, Year.of(2022));
+
+        final Account accountNextYear = anyAccount(person, Year.of(2023));
+        accountNextYear.setAnnualVacationDays(new BigDecimal("12"));
+        accountNextYear.setActualVacationDays(new BigDecimal("12"));
+        accountNextYear.setRemainingVacationDays(new BigDecimal("20"));
+        accountNextYear.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        accountNextYear.setDoRemainingVacationDaysExpireLocally(true);
+
+        // 20 days before and 10 days after the expiry date
+        final Application application20DaysIn2023 = anyApplication(person);
+        application20DaysIn2023.setStartDate(LocalDate.of(2023, JANUARY, 2));
+        application20DaysIn2023.setEndDate(LocalDate.of(2023, JANUARY, 27));
+        final Application application10DaysIn2023 = anyApplication(person);
+        application10DaysIn2023.setStartDate(LocalDate.of(2023, APRIL, 3));
+        application10DaysIn2023.setEndDate(LocalDate.of(2023, APRIL, 14));
+        final List<ApplicationStatus> applicationStatus = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+        when(applicationService.getForStatesAndPerson(applicationStatus, List.of(person), LocalDate.of(2022, 1, 1), LocalDate.of(2023, 12, 31)))
+            .thenReturn(List.of(application20DaysIn2023, application10DaysIn2023));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeMondayToFriday(LocalDate.of(2022, 1, 1), LocalDate.of(2023, DECEMBER, 31)));
+
+        final VacationDaysLeft actual = sut.getVacationDaysLeft(account, Optional.of(accountNextYear), Map.of(person, workingTimeCalendar));
+
+        // next year has 12 new and 20 remaining days and uses 30, so 18 of this year
+        assertThat(actual.getVacationDaysUsedNextYear()).isEqualByComparingTo(BigDecimal.valueOf(18));
+        assertThat(actual.getVacationDays()).isEqualByComparingTo(BigDecimal.valueOf(12));
+    }
+
     @Test
     void ensureUsesRemainingVacationDaysWithNegativeRemainingUsedReturnsZero() {
         final Person person = anyPerson();
@@ -3,8 +3,10 @@ package org.synyx.urlaubsverwaltung.application.application;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeEntity;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
@@ -35,10 +37,12 @@ class ApplicationServiceImplTest {
 
     @Mock
     private ApplicationRepository applicationRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @BeforeEach
     void setUp() {
-        sut = new ApplicationServiceImpl(applicationRepository);
+        sut = new ApplicationServiceImpl(applicationRepository, applicationEventPublisher);
     }
 
     // Get application by ID -------------------------------------------------------------------------------------------
@@ -58,9 +62,16 @@ class ApplicationServiceImplTest {
     @Test
     void ensureSaveCallsCorrectDaoMethod() {
 
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1);
         final Application application = new Application();
+        application.setPerson(person);
         sut.save(application);
         verify(applicationRepository).save(application);
+
+        final ArgumentCaptor<ApplicationSavedEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationSavedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getPersonId()).isEqualTo(1);
     }
 
     // Get total overtime reduction ------------------------------------------------------------------------------------
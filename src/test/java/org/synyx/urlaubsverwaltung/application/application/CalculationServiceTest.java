@@ -15,19 +15,23 @@ import org.synyx.urlaubsverwaltung.account.AccountService;
 import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
 import org.synyx.urlaubsverwaltung.account.VacationDaysService;
 import org.synyx.urlaubsverwaltung.overlap.OverlapService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysServiceImpl;
 import org.synyx.urlaubsverwaltung.settings.Settings;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountException;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
 import java.math.BigDecimal;
 import java.net.URL;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,10 +51,20 @@ import static java.time.Month.FEBRUARY;
 import static java.time.Month.JANUARY;
 import static java.time.Month.MARCH;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.getLastDayOfYear;
 import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
 
@@ -71,17 +85,18 @@ class CalculationServiceTest {
     @Mock
     private SettingsService settingsService;
     @Mock
-    private WorkingTimeService workingTimeService;
+    private WorkingTimeCalendarService workingTimeCalendarService;
     @Mock
     private ApplicationService applicationService;
 
+    private PublicHolidaysService publicHolidaysService;
+
     @BeforeEach
     void setUp() {
 
-        final PublicHolidaysService publicHolidaysService = new PublicHolidaysServiceImpl(settingsService, Map.of("de", getHolidayManager()));
-        final WorkDaysCountService workDaysCountService = new WorkDaysCountService(publicHolidaysService, workingTimeService);
+        publicHolidaysService = new PublicHolidaysServiceImpl(settingsService, Map.of("de", getHolidayManager()));
 
-        sut = new CalculationService(vacationDaysService, accountService, accountInteractionService, workDaysCountService,
+        sut = new CalculationService(vacationDaysService, accountService, accountInteractionService, workingTimeCalendarService,
             new OverlapService(null, null), applicationService);
     }
 
@@ -96,7 +111,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10);
@@ -129,7 +144,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10);
@@ -162,7 +177,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10);
@@ -186,7 +201,7 @@ class CalculationServiceTest {
         final Account account = new Account(person, validFrom, validTo, true, expiryDate, TEN, TEN, TEN, "comment");
         when(accountService.getHolidaysAccount(2012, person)).thenReturn(Optional.of(account));
 
-        when(vacationDaysService.getVacationDaysLeft(any(), any())).thenReturn(
+        when(vacationDaysService.getVacationDaysLeft(any(), any(), anyList(), anyMap())).thenReturn(
             VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(BigDecimal.valueOf(20))
@@ -210,7 +225,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10);
@@ -243,7 +258,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10);
@@ -276,7 +291,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheckSaved = new Application();
         applicationForLeaveToCheckSaved.setId(10);
@@ -306,8 +321,7 @@ class CalculationServiceTest {
         final Account accountNextYear = new Account(person, validFromNextYear, validToNextYear, true, expiryDateNextYear, TEN, TEN, TEN, "comment");
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.of(accountNextYear));
 
-        when(vacationDaysService.getUsedRemainingVacationDays(accountNextYear)).thenReturn(ZERO);
-        when(vacationDaysService.getVacationDaysLeft(account.get(), Optional.of(accountNextYear)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account.get()), eq(Optional.of(accountNextYear)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(BigDecimal.valueOf(20))
@@ -316,7 +330,7 @@ class CalculationServiceTest {
                 .forUsedVacationDaysAfterExpiry(TEN)
                 .build());
 
-        when(vacationDaysService.getVacationDaysLeft(accountNextYear, Optional.empty()))
+        when(vacationDaysService.getVacationDaysLeft(eq(accountNextYear), eq(Optional.empty()), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(BigDecimal.valueOf(20))
@@ -338,7 +352,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -355,7 +369,7 @@ class CalculationServiceTest {
         final Optional<Account> account2013 = Optional.empty();
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(account2013);
 
-        when(vacationDaysService.getVacationDaysLeft(account, account2013))
+        when(vacationDaysService.getVacationDaysLeft(eq(account), eq(account2013), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(new BigDecimal("2"))
                 .withRemainingVacation(ZERO)
@@ -368,6 +382,58 @@ class CalculationServiceTest {
         assertThat(enoughDaysLeft).isTrue();
     }
 
+    @Test
+    void ensureHalfDayOnChristmasEveCountsHalfDay() {
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final LocalDate christmasEve = LocalDate.of(2012, DECEMBER, 24);
+
+        final WorkingTime workingTime = new WorkingTime(person, LocalDate.of(2012, JANUARY, 1), GERMANY_BADEN_WUERTTEMBERG, false);
+        workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
+        mockWorkingTimeCalendar(workingTime);
+
+        final Application applicationForLeaveToCheck = new Application();
+        applicationForLeaveToCheck.setStartDate(christmasEve);
+        applicationForLeaveToCheck.setEndDate(christmasEve);
+        applicationForLeaveToCheck.setPerson(person);
+        applicationForLeaveToCheck.setDayLength(MORNING);
+
+        final Account account = new Account(person, LocalDate.of(2012, JANUARY, 1), LocalDate.of(2012, DECEMBER, 31), true, LocalDate.of(2012, APRIL, 1), TEN, TEN, TEN, "comment");
+        when(accountService.getHolidaysAccount(2012, person)).thenReturn(Optional.of(account));
+        when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.empty());
+
+        // less than the half day of Christmas Eve, but more than a quarter of a day
+        when(vacationDaysService.getVacationDaysLeft(eq(account), eq(Optional.empty()), anyList(), anyMap()))
+            .thenReturn(VacationDaysLeft.builder()
+                .withAnnualVacation(new BigDecimal("0.4"))
+                .withRemainingVacation(ZERO)
+                .notExpiring(ZERO)
+                .forUsedVacationDaysBeforeExpiry(ZERO)
+                .forUsedVacationDaysAfterExpiry(ZERO)
+                .build());
+
+        final boolean enoughDaysLeft = sut.checkApplication(applicationForLeaveToCheck);
+        assertThat(enoughDaysLeft).isFalse();
+    }
+
+    @Test
+    void ensureCheckApplicationThrowsWithoutWorkingTime() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final LocalDate date = LocalDate.of(2012, AUGUST, 20);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(eq(List.of(person)), any(DateRange.class)))
+            .thenReturn(Map.of(person, new WorkingTimeCalendar(Map.of())));
+
+        final Application applicationForLeaveToCheck = new Application();
+        applicationForLeaveToCheck.setStartDate(date);
+        applicationForLeaveToCheck.setEndDate(date);
+        applicationForLeaveToCheck.setPerson(person);
+        applicationForLeaveToCheck.setDayLength(FULL);
+
+        assertThatThrownBy(() -> sut.checkApplication(applicationForLeaveToCheck)).isInstanceOf(WorkDaysCountException.class);
+    }
+
     @Test
     void testCheckApplicationSameYearAndNotEnoughDaysLeft() {
         when(settingsService.getSettings()).thenReturn(new Settings());
@@ -377,7 +443,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -393,7 +459,7 @@ class CalculationServiceTest {
 
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.empty());
 
-        when(vacationDaysService.getVacationDaysLeft(account, Optional.empty()))
+        when(vacationDaysService.getVacationDaysLeft(eq(account), eq(Optional.empty()), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(ZERO)
                 .withRemainingVacation(ZERO)
@@ -415,7 +481,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -431,7 +497,7 @@ class CalculationServiceTest {
 
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.empty());
 
-        when(vacationDaysService.getVacationDaysLeft(account, Optional.empty()))
+        when(vacationDaysService.getVacationDaysLeft(eq(account), eq(Optional.empty()), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(ONE)
                 .withRemainingVacation(ZERO)
@@ -453,7 +519,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(date);
@@ -472,7 +538,7 @@ class CalculationServiceTest {
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.of(account2013));
 
         // vacation days would be left after this application for leave
-        when(vacationDaysService.getVacationDaysLeft(account2012.get(), Optional.of(account2013)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2012.get()), eq(Optional.of(account2013)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ZERO)
@@ -495,7 +561,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, endDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(startDate);
@@ -512,7 +578,7 @@ class CalculationServiceTest {
         final Optional<Account> account2013 = Optional.empty();
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(account2013);
 
-        when(vacationDaysService.getVacationDaysLeft(account, account2013))
+        when(vacationDaysService.getVacationDaysLeft(eq(account), eq(account2013), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ONE)
@@ -534,7 +600,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(date);
@@ -552,7 +618,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(date);
@@ -572,7 +638,7 @@ class CalculationServiceTest {
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.of(account2013));
 
         // vacation days would be left after this application for leave
-        when(vacationDaysService.getVacationDaysLeft(account2012.get(), Optional.of(account2013)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2012.get()), eq(Optional.of(account2013)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ZERO)
@@ -594,7 +660,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = new Application();
         applicationForLeaveToCheck.setStartDate(date);
@@ -611,7 +677,7 @@ class CalculationServiceTest {
         when(accountService.getHolidaysAccount(2011, person)).thenReturn(Optional.of(account));
         when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account)).thenReturn(account);
 
-        when(vacationDaysService.getVacationDaysLeft(any(), any()))
+        when(vacationDaysService.getVacationDaysLeft(any(), any(), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(ONE)
                 .withRemainingVacation(ZERO)
@@ -634,7 +700,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(startDate);
@@ -655,7 +721,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         applicationForLeaveToCheck.setStartDate(startDate);
@@ -674,7 +740,7 @@ class CalculationServiceTest {
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.of(account2013));
 
         // vacation days would be left after this application for leave
-        when(vacationDaysService.getVacationDaysLeft(account2012.get(), Optional.of(account2013)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2012.get()), eq(Optional.of(account2013)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ZERO)
@@ -686,6 +752,37 @@ class CalculationServiceTest {
         assertThat(sut.checkApplication(applicationForLeaveToCheck)).isFalse();
     }
 
+    @Test
+    void ensureLoadsApplicationsAndWorkingTimesOfAffectedYearsAtOnce() {
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final LocalDate startDate = LocalDate.of(2012, DECEMBER, 30);
+        final LocalDate endDate = LocalDate.of(2013, JANUARY, 2);
+
+        final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
+        workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
+        mockWorkingTimeCalendar(workingTime);
+
+        final Application applicationForLeaveToCheck = createApplicationStub(person);
+        applicationForLeaveToCheck.setStartDate(startDate);
+        applicationForLeaveToCheck.setEndDate(endDate);
+
+        final Application application = createApplicationStub(person);
+        application.setStartDate(LocalDate.of(2013, AUGUST, 5));
+        application.setEndDate(LocalDate.of(2013, AUGUST, 9));
+        final List<Application> applications = List.of(application);
+        when(applicationService.getForStatesAndPerson(List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(person), LocalDate.of(2012, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31)))
+            .thenReturn(applications);
+
+        prepareSetupWith10DayAnnualVacation(person, 5, 4);
+
+        assertThat(sut.checkApplication(applicationForLeaveToCheck)).isTrue();
+
+        verify(workingTimeCalendarService).getWorkingTimesByPersons(List.of(person), new DateRange(LocalDate.of(2012, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31)));
+        verify(vacationDaysService, times(2)).getVacationDaysLeft(any(), any(), eq(applications), anyMap());
+    }
+
     /**
      * https://github.com/urlaubsverwaltung/urlaubsverwaltung/issues/447
      */
@@ -699,7 +796,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, startDate, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(startDate, endDate), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
         // nine days
@@ -721,19 +818,17 @@ class CalculationServiceTest {
         account2013.setActualVacationDays(account2013.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2013, person)).thenReturn(Optional.of(account2013));
 
-        // this year still has all ten days (but 3 of them used up next year, see above)
-        when(vacationDaysService.getVacationDaysLeft(account2012.get(), Optional.of(account2013)))
+        // this year has ten days, but all of them are used up next year, see above
+        when(vacationDaysService.getVacationDaysLeft(eq(account2012.get()), eq(Optional.of(account2013)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ZERO)
                 .notExpiring(ZERO)
                 .forUsedVacationDaysBeforeExpiry(ZERO)
                 .forUsedVacationDaysAfterExpiry(ZERO)
-                .withVacationDaysUsedNextYear(BigDecimal.valueOf(3))
+                .withVacationDaysUsedNextYear(TEN)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2013)).thenReturn(TEN);
-
         final boolean enoughDaysLeft = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(enoughDaysLeft).isFalse();
     }
@@ -748,7 +843,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -769,7 +864,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(TEN)
@@ -779,7 +874,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isTrue();
@@ -796,7 +890,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -817,7 +911,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ONE)
@@ -827,7 +921,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isTrue();
@@ -843,7 +936,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -864,7 +957,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(TEN)
@@ -874,7 +967,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isFalse();
@@ -890,7 +982,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, date, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(date, date), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -911,7 +1003,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ONE)
@@ -921,7 +1013,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isTrue();
@@ -938,7 +1029,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -959,7 +1050,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(TEN)
@@ -969,7 +1060,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isTrue();
@@ -986,7 +1076,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -1007,7 +1097,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(TEN)
@@ -1017,7 +1107,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isFalse();
@@ -1034,7 +1123,7 @@ class CalculationServiceTest {
 
         final WorkingTime workingTime = new WorkingTime(person, start, GERMANY_BADEN_WUERTTEMBERG, false);
         workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
-        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class))).thenReturn(Map.of(new DateRange(start, end), workingTime));
+        mockWorkingTimeCalendar(workingTime);
 
         final Application applicationForLeaveToCheck = createApplicationStub(person);
 
@@ -1055,7 +1144,7 @@ class CalculationServiceTest {
         account2023.setActualVacationDays(account2023.getAnnualVacationDays());
         when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(account2023));
 
-        when(vacationDaysService.getVacationDaysLeft(account2022, Optional.of(account2023)))
+        when(vacationDaysService.getVacationDaysLeft(eq(account2022), eq(Optional.of(account2023)), anyList(), anyMap()))
             .thenReturn(VacationDaysLeft.builder()
                 .withAnnualVacation(ZERO)
                 .withRemainingVacation(TEN)
@@ -1065,7 +1154,6 @@ class CalculationServiceTest {
                 .withVacationDaysUsedNextYear(ZERO)
                 .build());
 
-        when(vacationDaysService.getUsedRemainingVacationDays(account2023)).thenReturn(ZERO);
 
         final boolean actual = sut.checkApplication(applicationForLeaveToCheck);
         assertThat(actual).isFalse();
@@ -1100,7 +1188,7 @@ class CalculationServiceTest {
         when(accountService.getHolidaysAccount(2014, person)).thenReturn(Optional.of(account2014));
 
         // vacation days would be left after this application for leave
-        when(vacationDaysService.getVacationDaysLeft(account2012.get(), Optional.of(account2013))).thenReturn(
+        when(vacationDaysService.getVacationDaysLeft(eq(account2012.get()), eq(Optional.of(account2013)), anyList(), anyMap())).thenReturn(
             VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ZERO)
@@ -1108,7 +1196,7 @@ class CalculationServiceTest {
                 .forUsedVacationDaysBeforeExpiry(BigDecimal.valueOf(usedDaysbeforeExpiryDate))
                 .forUsedVacationDaysAfterExpiry(BigDecimal.valueOf(usedDaysAfterApril))
                 .build());
-        when(vacationDaysService.getVacationDaysLeft(account2013, Optional.of(account2014))).thenReturn(
+        when(vacationDaysService.getVacationDaysLeft(eq(account2013), eq(Optional.of(account2014)), anyList(), anyMap())).thenReturn(
             VacationDaysLeft.builder()
                 .withAnnualVacation(TEN)
                 .withRemainingVacation(ZERO)
@@ -1116,8 +1204,25 @@ class CalculationServiceTest {
                 .forUsedVacationDaysBeforeExpiry(BigDecimal.valueOf(usedDaysbeforeExpiryDate))
                 .forUsedVacationDaysAfterExpiry(BigDecimal.valueOf(usedDaysAfterApril))
                 .build());
-        when(vacationDaysService.getUsedRemainingVacationDays(account2013)).thenReturn(ZERO);
-        when(vacationDaysService.getUsedRemainingVacationDays(account2014)).thenReturn(ZERO);
+    }
+
+    private void mockWorkingTimeCalendar(WorkingTime workingTime) {
+        when(workingTimeCalendarService.getWorkingTimesByPersons(eq(List.of(workingTime.getPerson())), any(DateRange.class))).thenAnswer(invocation -> {
+            final DateRange dateRange = invocation.getArgument(1);
+            final WorkingTimeSettings workingTimeSettings = settingsService.getSettings().getWorkingTimeSettings();
+
+            final Map<LocalDate, DayLength> dayLengthByDate = new HashMap<>();
+            for (LocalDate date : dateRange) {
+                final DayLength dayLength = workingTime.getDayLengthForWeekDay(date.getDayOfWeek());
+                final DayLength workDayLength = publicHolidaysService.getPublicHoliday(date, workingTime.getFederalState(), workingTimeSettings)
+                    .filter(publicHoliday -> dayLength.isFull())
+                    .map(publicHoliday -> publicHoliday.getDayLength().getInverse())
+                    .orElse(dayLength);
+                dayLengthByDate.put(date, workDayLength);
+            }
+
+            return Map.of(workingTime.getPerson(), new WorkingTimeCalendar(dayLengthByDate));
+        });
     }
 
     private HolidayManager getHolidayManager() {
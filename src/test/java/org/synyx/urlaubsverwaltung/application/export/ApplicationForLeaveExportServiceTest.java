@@ -10,7 +10,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -22,12 +24,15 @@ import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import static java.math.BigDecimal.ONE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -35,6 +40,10 @@ import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
+import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
@@ -50,14 +59,14 @@ class ApplicationForLeaveExportServiceTest {
     @Mock
     private PersonService personService;
     @Mock
-    private WorkDaysCountService workDaysCountService;
+    private WorkingTimeCalendarService workingTimeCalendarService;
 
 
     private ApplicationForLeaveExportService sut;
 
     @BeforeEach
     void setUp() {
-        sut = new ApplicationForLeaveExportService(applicationService, departmentService, personBasedataService, personService, workDaysCountService);
+        sut = new ApplicationForLeaveExportService(applicationService, departmentService, personBasedataService, personService, workingTimeCalendarService);
     }
 
     @ParameterizedTest
@@ -83,9 +92,14 @@ class ApplicationForLeaveExportServiceTest {
 
         final LocalDate from = LocalDate.of(2023, 1, 1);
         final LocalDate to = LocalDate.of(2023, 1, 31);
-        final ApplicationForLeave app = new ApplicationForLeave(new Application(), workDaysCountService);
+        final ApplicationForLeave app = new ApplicationForLeave(new Application(), ONE);
         app.setId(1);
         app.setPerson(user);
+        app.setStartDate(from);
+        app.setEndDate(from);
+        app.setDayLength(FULL);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(personsForExport, new DateRange(from, to)))
+            .thenReturn(Map.of(user, new WorkingTimeCalendar(Map.of(from, FULL))));
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
 
         final PersonBasedata personBasedata = new PersonBasedata(userId, "personnelNumber", "");
@@ -128,9 +142,14 @@ class ApplicationForLeaveExportServiceTest {
 
         final LocalDate from = LocalDate.of(2023, 1, 1);
         final LocalDate to = LocalDate.of(2023, 1, 31);
-        final ApplicationForLeave app = new ApplicationForLeave(new Application(), workDaysCountService);
+        final ApplicationForLeave app = new ApplicationForLeave(new Application(), ONE);
         app.setId(1);
         app.setPerson(departmentMember);
+        app.setStartDate(from);
+        app.setEndDate(from);
+        app.setDayLength(FULL);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(personsForExport, new DateRange(from, to)))
+            .thenReturn(Map.of(departmentMember, new WorkingTimeCalendar(Map.of(from, FULL))));
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
 
         final PersonBasedata personBasedata = new PersonBasedata(departmentMemberId, "personnelNumber", "");
@@ -148,6 +167,100 @@ class ApplicationForLeaveExportServiceTest {
         assertThat(applicationForLeaveExport.getApplicationForLeaves()).containsExactly(app);
     }
 
+    @Test
+    void ensureCalculatesWorkDaysWithWorkingTimeCalendarCoveringAllApplications() {
+
+        final Person office = new Person();
+        office.setId(1);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person user = new Person();
+        user.setId(2);
+        user.setPermissions(List.of(USER));
+        final List<Person> personsForExport = List.of(user);
+
+        final PageRequest personPageRequest = PageRequest.of(0, 10, Sort.unsorted());
+        final PageableSearchQuery personSearchQuery = new PageableSearchQuery(personPageRequest, "");
+        when(personService.getActivePersons(personSearchQuery)).thenReturn(new PageImpl<>(personsForExport));
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+
+        final Application applicationStartingBefore = new Application();
+        applicationStartingBefore.setId(1);
+        applicationStartingBefore.setPerson(user);
+        applicationStartingBefore.setStartDate(LocalDate.of(2022, 12, 30));
+        applicationStartingBefore.setEndDate(LocalDate.of(2023, 1, 2));
+        applicationStartingBefore.setDayLength(FULL);
+
+        final Application halfDayApplication = new Application();
+        halfDayApplication.setId(2);
+        halfDayApplication.setPerson(user);
+        halfDayApplication.setStartDate(LocalDate.of(2023, 1, 3));
+        halfDayApplication.setEndDate(LocalDate.of(2023, 1, 3));
+        halfDayApplication.setDayLength(MORNING);
+
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to))
+            .thenReturn(List.of(applicationStartingBefore, halfDayApplication));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(Map.of(
+            LocalDate.of(2022, 12, 30), FULL,
+            LocalDate.of(2022, 12, 31), ZERO,
+            LocalDate.of(2023, 1, 1), ZERO,
+            LocalDate.of(2023, 1, 2), FULL,
+            LocalDate.of(2023, 1, 3), FULL
+        ));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(personsForExport, new DateRange(LocalDate.of(2022, 12, 30), to)))
+            .thenReturn(Map.of(user, workingTimeCalendar));
+
+        final Page<ApplicationForLeaveExport> export = sut.getAll(office, from, to, personSearchQuery);
+
+        assertThat(export.getContent()).hasSize(1);
+        assertThat(export.getContent().get(0).getApplicationForLeaves())
+            .extracting(ApplicationForLeave::getWorkDays)
+            .containsExactlyInAnyOrder(new BigDecimal("2"), new BigDecimal("0.5"));
+    }
+
+    @Test
+    void ensureCountsHalfDayOnHalfDayPublicHolidayAsHalfDay() {
+
+        final Person office = new Person();
+        office.setId(1);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person user = new Person();
+        user.setId(2);
+        user.setPermissions(List.of(USER));
+        final List<Person> personsForExport = List.of(user);
+
+        final PageRequest personPageRequest = PageRequest.of(0, 10, Sort.unsorted());
+        final PageableSearchQuery personSearchQuery = new PageableSearchQuery(personPageRequest, "");
+        when(personService.getActivePersons(personSearchQuery)).thenReturn(new PageImpl<>(personsForExport));
+
+        final LocalDate christmasEve = LocalDate.of(2022, 12, 24);
+
+        final Application halfDayApplication = new Application();
+        halfDayApplication.setId(1);
+        halfDayApplication.setPerson(user);
+        halfDayApplication.setStartDate(christmasEve);
+        halfDayApplication.setEndDate(christmasEve);
+        halfDayApplication.setDayLength(MORNING);
+
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, christmasEve, christmasEve))
+            .thenReturn(List.of(halfDayApplication));
+
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(Map.of(christmasEve, MORNING));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(personsForExport, new DateRange(christmasEve, christmasEve)))
+            .thenReturn(Map.of(user, workingTimeCalendar));
+
+        final Page<ApplicationForLeaveExport> export = sut.getAll(office, christmasEve, christmasEve, personSearchQuery);
+
+        assertThat(export.getContent()).hasSize(1);
+        assertThat(export.getContent().get(0).getApplicationForLeaves())
+            .extracting(ApplicationForLeave::getWorkDays)
+            .containsExactly(new BigDecimal("0.5"));
+    }
+
     @Test
     void getAllNotAllowed() {
 
@@ -193,9 +306,14 @@ class ApplicationForLeaveExportServiceTest {
 
         final LocalDate from = LocalDate.of(2023, 1, 1);
         final LocalDate to = LocalDate.of(2023, 1, 31);
-        final ApplicationForLeave app = new ApplicationForLeave(new Application(), workDaysCountService);
+        final ApplicationForLeave app = new ApplicationForLeave(new Application(), ONE);
         app.setId(1);
         app.setPerson(user);
+        app.setStartDate(from);
+        app.setEndDate(from);
+        app.setDayLength(FULL);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(personsForExport, new DateRange(from, to)))
+            .thenReturn(Map.of(user, new WorkingTimeCalendar(Map.of(from, FULL))));
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
 
         final PersonBasedata personBasedata = new PersonBasedata(userId, "personnelNumber", "");
@@ -240,9 +358,14 @@ class ApplicationForLeaveExportServiceTest {
 
         final LocalDate from = LocalDate.of(2023, 1, 1);
         final LocalDate to = LocalDate.of(2023, 1, 31);
-        final ApplicationForLeave app = new ApplicationForLeave(new Application(), workDaysCountService);
+        final ApplicationForLeave app = new ApplicationForLeave(new Application(), ONE);
         app.setId(1);
         app.setPerson(user);
+        app.setStartDate(from);
+        app.setEndDate(from);
+        app.setDayLength(FULL);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(personsForExport, new DateRange(from, to)))
+            .thenReturn(Map.of(user, new WorkingTimeCalendar(Map.of(from, FULL))));
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
 
         final PersonBasedata personBasedata = new PersonBasedata(userId, "personnelNumber", "");
@@ -261,4 +384,36 @@ class ApplicationForLeaveExportServiceTest {
         assertThat(applicationForLeaveExport.getDepartments()).containsExactly("department");
         assertThat(applicationForLeaveExport.getApplicationForLeaves()).containsExactly(app);
     }
+
+    @Test
+    void ensureSortsByNonPersonQueryBeforeAllMembersAreCutDownToPage() {
+
+        final Person departmentHead = new Person();
+        departmentHead.setId(1);
+        departmentHead.setPermissions(List.of(DEPARTMENT_HEAD));
+
+        final Person anton = new Person();
+        anton.setId(2);
+        anton.setFirstName("Anton");
+        final Person bernd = new Person();
+        bernd.setId(3);
+        bernd.setFirstName("Bernd");
+        final Person clara = new Person();
+        clara.setId(4);
+        clara.setFirstName("Clara");
+        final List<Person> members = List.of(bernd, clara, anton);
+
+        when(departmentService.getManagedMembersOfPerson(departmentHead, new PageableSearchQuery(Pageable.unpaged(), ""))).thenReturn(new PageImpl<>(members));
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), members, from, to)).thenReturn(List.of());
+        when(personBasedataService.getBasedataByPersonId(List.of(3, 4, 2))).thenReturn(Map.of());
+        when(departmentService.getDepartmentNamesByMembers(members)).thenReturn(Map.of());
+
+        final PageRequest exportPageRequest = PageRequest.of(1, 2, Sort.Direction.DESC, "firstName");
+        final Page<ApplicationForLeaveExport> export = sut.getAll(departmentHead, from, to, new PageableSearchQuery(exportPageRequest, ""));
+
+        assertThat(export.getContent()).extracting(ApplicationForLeaveExport::getFirstName).containsExactly("Anton");
+    }
 }
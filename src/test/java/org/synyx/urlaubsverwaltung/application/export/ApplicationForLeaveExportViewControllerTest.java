@@ -1,11 +1,11 @@
 package org.synyx.urlaubsverwaltung.application.export;
 
+import com.opencsv.CSVWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,7 +16,6 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeEntity;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -25,14 +24,24 @@ import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 
 import static java.math.BigDecimal.TEN;
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -100,14 +109,21 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, defaultPersonSearchQuery())).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod)).thenReturn("csv-file-name");
+        callRealWriteCSV();
+        doAnswer(invocation -> {
+            final CSVWriter csvWriter = invocation.getArgument(2);
+            csvWriter.writeNext(new String[]{"csv-resource"});
+            return null;
+        }).when(applicationForLeaveCsvExportService).writeRows(eq(filterPeriod), eq(List.of(applicationForLeaveExport)), any(CSVWriter.class));
 
         perform(get("/web/application/export")
             .param("from", "01.01.2019")
             .param("to", "01.08.2019"))
             .andExpect(status().isOk())
-            .andExpect(content().string("csv-resource"));
+            .andExpect(header().string("Content-disposition", "attachment; filename=\"csv-file-name\""))
+            .andExpect(header().string("Content-Type", "text/csv"))
+            .andExpect(content().string(endsWith("csv-resource\n")));
     }
 
     private static PageableSearchQuery defaultPersonSearchQuery() {
@@ -118,6 +134,14 @@ class ApplicationForLeaveExportViewControllerTest {
         return PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName"));
     }
 
+    private void callRealWriteCSV() throws IOException {
+        doCallRealMethod().when(applicationForLeaveCsvExportService).writeCSV(any(FilterPeriod.class), anyList(), any(HttpServletResponse.class));
+        doCallRealMethod().when(applicationForLeaveCsvExportService).writeCSV(any(FilterPeriod.class), anyList(), any(OutputStream.class));
+        doCallRealMethod().when(applicationForLeaveCsvExportService).write(any(FilterPeriod.class), anyList(), any(CSVWriter.class));
+        doCallRealMethod().when(applicationForLeaveCsvExportService).bom();
+        doCallRealMethod().when(applicationForLeaveCsvExportService).separator();
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut)
             .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
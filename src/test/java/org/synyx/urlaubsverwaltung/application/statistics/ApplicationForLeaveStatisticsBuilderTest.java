@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.account.Account;
 import org.synyx.urlaubsverwaltung.account.AccountService;
@@ -42,8 +43,10 @@ import static java.time.Month.JANUARY;
 import static java.time.Month.OCTOBER;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationTypesEntities;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -506,6 +509,94 @@ class ApplicationForLeaveStatisticsBuilderTest {
         assertThat(statistics.getLeftOvertimeForPeriod()).isEqualTo(Duration.ofHours(3));
     }
 
+    @Test
+    void ensureBuildSortableOnlyCalculatesLeftVacationDaysWhenSortedByThem() {
+        final ApplicationForLeaveStatisticsBuilder sut = new ApplicationForLeaveStatisticsBuilder(accountService, applicationService,
+            workingTimeCalendarService, vacationDaysService, overtimeService, Clock.fixed(Instant.parse("2014-06-24T16:02:42.00Z"), ZoneOffset.UTC));
+
+        final Person person = new Person();
+
+        final LocalDate from = of(2014, JANUARY, 1);
+        final LocalDate to = of(2014, DECEMBER, 31);
+        final DateRange dateRange = new DateRange(from, to);
+
+        final Account account = new Account(person, from, to, false, of(2014, APRIL, 1), TEN, TEN, TEN, null);
+
+        final List<Person> persons = List.of(person);
+        when(accountService.getHolidaysAccount(2014, persons)).thenReturn(List.of(account));
+
+        final WorkingTimeCalendar personWorkingTimeCalendar = new WorkingTimeCalendar(buildWorkingTimeByDate(from, to, date -> FULL));
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson = Map.of(person, personWorkingTimeCalendar);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(persons, Year.of(2014))).thenReturn(workingTimeCalendarByPerson);
+
+        final VacationDaysLeft personVacationDaysLeftYear = VacationDaysLeft.builder().withAnnualVacation(BigDecimal.valueOf(10)).build();
+        final VacationDaysLeft personVacationDaysLeftPeriod = VacationDaysLeft.builder().withAnnualVacation(BigDecimal.valueOf(5)).build();
+        final HolidayAccountVacationDays personVacationDays = new HolidayAccountVacationDays(account, personVacationDaysLeftYear, personVacationDaysLeftPeriod);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), workingTimeCalendarByPerson, dateRange)).thenReturn(Map.of(account, personVacationDays));
+
+        final VacationType type = new VacationType(1, true, HOLIDAY, "application.data.vacationType.holiday", true, YELLOW, false);
+
+        final Map<Person, ApplicationForLeaveStatistics> actual = sut.buildSortable(persons, from, to, List.of(type), Sort.by("person.firstName", "leftVacationDaysForYear"));
+        assertThat(actual)
+            .hasSize(1)
+            .containsKey(person);
+        assertThat(actual.get(person).getLeftVacationDaysForYear()).isEqualTo(BigDecimal.valueOf(10));
+
+        verifyNoInteractions(applicationService, overtimeService);
+    }
+
+    @Test
+    void ensureBuildSortableOnlyCalculatesLeftOvertimeWhenSortedByIt() {
+        final Person person = new Person();
+
+        final LocalDate from = of(2014, JANUARY, 1);
+        final LocalDate to = of(2014, DECEMBER, 31);
+
+        final Account account = new Account(person, from, to, false, of(2014, APRIL, 1), TEN, TEN, TEN, null);
+
+        final List<Person> persons = List.of(person);
+        when(accountService.getHolidaysAccount(2014, persons)).thenReturn(List.of(account));
+
+        final List<Application> applications = List.of();
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(from, to, persons, List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED))).thenReturn(applications);
+        when(overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(persons, applications, from, to))
+            .thenReturn(Map.of(person, new LeftOvertime(Duration.ofHours(9), Duration.ofHours(3))));
+
+        final VacationType type = new VacationType(1, true, HOLIDAY, "application.data.vacationType.holiday", true, YELLOW, false);
+
+        final Map<Person, ApplicationForLeaveStatistics> actual = sut.buildSortable(persons, from, to, List.of(type), Sort.by(DESC, "leftOvertimeForYear"));
+        assertThat(actual.get(person).getLeftOvertimeForYear()).isEqualTo(Duration.ofHours(9));
+
+        verifyNoInteractions(workingTimeCalendarService, vacationDaysService);
+    }
+
+    @Test
+    void ensureBuildSortableCalculatesEverythingForUnknownSortProperty() {
+        final Person person = new Person();
+
+        final LocalDate from = of(2014, JANUARY, 1);
+        final LocalDate to = of(2014, DECEMBER, 31);
+        final DateRange dateRange = new DateRange(from, to);
+
+        final Account account = new Account(person, from, to, false, of(2014, APRIL, 1), TEN, TEN, TEN, null);
+
+        final List<Person> persons = List.of(person);
+        when(accountService.getHolidaysAccount(2014, persons)).thenReturn(List.of(account));
+
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson = Map.of(person, new WorkingTimeCalendar(buildWorkingTimeByDate(from, to, date -> FULL)));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(persons, Year.of(2014))).thenReturn(workingTimeCalendarByPerson);
+
+        final List<Application> applications = List.of();
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(from, to, persons, List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED))).thenReturn(applications);
+        when(overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(persons, applications, from, to)).thenReturn(Map.of());
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), workingTimeCalendarByPerson, dateRange)).thenReturn(Map.of());
+
+        final VacationType type = new VacationType(1, true, HOLIDAY, "application.data.vacationType.holiday", true, YELLOW, false);
+
+        final Map<Person, ApplicationForLeaveStatistics> actual = sut.buildSortable(persons, from, to, List.of(type), Sort.by("unknown"));
+        assertThat(actual).containsOnlyKeys(person);
+    }
+
     private Map<LocalDate, DayLength> buildWorkingTimeByDate(LocalDate from, LocalDate to, Function<LocalDate, DayLength> dayLengthProvider) {
         Map<LocalDate, DayLength> map = new HashMap<>();
         for (LocalDate date : new DateRange(from, to)) {
@@ -24,6 +24,7 @@ import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -185,19 +186,20 @@ class ApplicationForLeaveStatisticsServiceTest {
         anyPerson.setId(2);
         anyPerson.setPermissions(List.of(USER));
 
-        // unsorted PageRequest for persons expected since sut is called with sorting attribute for statistics.
-        final PageRequest activePersonsPageRequest = PageRequest.of(0, 10);
-        final PageableSearchQuery activePersonsPageableSearchQuery = new PageableSearchQuery(activePersonsPageRequest, "");
+        // all persons expected since sut is called with sorting attribute for statistics.
+        final PageableSearchQuery activePersonsPageableSearchQuery = new PageableSearchQuery(Pageable.unpaged(), "");
         when(personService.getActivePersons(activePersonsPageableSearchQuery)).thenReturn(new PageImpl<>(List.of(anyPerson)));
 
         final VacationType vacationType = new VacationType(1, true, HOLIDAY, "message_key", true, YELLOW, false);
         final List<VacationType> vacationTypes = List.of(vacationType);
         when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
 
+        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
+        when(applicationForLeaveStatisticsBuilder.buildSortable(List.of(anyPerson), startDate, endDate, vacationTypes, pageRequest.getSort()))
+            .thenReturn(Map.of(anyPerson, new ApplicationForLeaveStatistics(anyPerson, vacationTypes)));
         when(applicationForLeaveStatisticsBuilder.build(List.of(anyPerson), startDate, endDate, vacationTypes))
             .thenReturn(Map.of(anyPerson, new ApplicationForLeaveStatistics(anyPerson, vacationTypes)));
 
-        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
         final PageableSearchQuery statisticsPageableSearchQuery = new PageableSearchQuery(pageRequest, "");
 
         final Page<ApplicationForLeaveStatistics> statisticsPage = sut.getStatistics(personWithRole, filterPeriod, statisticsPageableSearchQuery);
@@ -233,13 +235,18 @@ class ApplicationForLeaveStatisticsServiceTest {
         final List<VacationType> vacationTypes = List.of(vacationType);
         when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
 
+        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
+        when(applicationForLeaveStatisticsBuilder.buildSortable(List.of(departmentMember, departmentMemberTwo), startDate, endDate, vacationTypes, pageRequest.getSort()))
+            .thenReturn(Map.of(
+                departmentMember, new ApplicationForLeaveStatistics(departmentMember, vacationTypes),
+                departmentMemberTwo, new ApplicationForLeaveStatistics(departmentMemberTwo, vacationTypes)
+            ));
         when(applicationForLeaveStatisticsBuilder.build(List.of(departmentMember, departmentMemberTwo), startDate, endDate, vacationTypes))
             .thenReturn(Map.of(
                 departmentMember, new ApplicationForLeaveStatistics(departmentMember, vacationTypes),
                 departmentMemberTwo, new ApplicationForLeaveStatistics(departmentMemberTwo, vacationTypes)
             ));
 
-        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "person.firstName", "leftVacationDaysForYear");
         final PageableSearchQuery statisticsPageableSearchQuery = new PageableSearchQuery(pageRequest, "");
 
         final Page<ApplicationForLeaveStatistics> statisticsPage = sut.getStatistics(notBossOrOfficePerson, filterPeriod, statisticsPageableSearchQuery);
@@ -248,4 +255,54 @@ class ApplicationForLeaveStatisticsServiceTest {
         assertThat(statisticsPage.getContent().get(0).getPerson()).isEqualTo(departmentMember);
         assertThat(statisticsPage.getContent().get(1).getPerson()).isEqualTo(departmentMemberTwo);
     }
+
+    @Test
+    void ensureStatisticsAreSortedBeforeTheyArePaged() {
+
+        final LocalDate startDate = LocalDate.parse("2018-01-01");
+        final LocalDate endDate = LocalDate.parse("2018-12-31");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final Person office = new Person();
+        office.setId(1);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        final Person personWithFewDays = new Person();
+        personWithFewDays.setId(2);
+        final Person personWithManyDays = new Person();
+        personWithManyDays.setId(3);
+        final Person personWithSomeDays = new Person();
+        personWithSomeDays.setId(4);
+
+        final List<Person> persons = List.of(personWithFewDays, personWithManyDays, personWithSomeDays);
+        when(personService.getActivePersons(new PageableSearchQuery(Pageable.unpaged(), ""))).thenReturn(new PageImpl<>(persons));
+
+        final VacationType vacationType = new VacationType(1, true, HOLIDAY, "message_key", true, YELLOW, false);
+        final List<VacationType> vacationTypes = List.of(vacationType);
+        when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
+
+        final ApplicationForLeaveStatistics fewDays = new ApplicationForLeaveStatistics(personWithFewDays, vacationTypes);
+        fewDays.setLeftVacationDaysForYear(BigDecimal.ONE);
+        final ApplicationForLeaveStatistics manyDays = new ApplicationForLeaveStatistics(personWithManyDays, vacationTypes);
+        manyDays.setLeftVacationDaysForYear(BigDecimal.TEN);
+        final ApplicationForLeaveStatistics someDays = new ApplicationForLeaveStatistics(personWithSomeDays, vacationTypes);
+        someDays.setLeftVacationDaysForYear(BigDecimal.valueOf(5));
+        final PageRequest pageRequest = PageRequest.of(1, 1, Sort.Direction.DESC, "leftVacationDaysForYear");
+        when(applicationForLeaveStatisticsBuilder.buildSortable(persons, startDate, endDate, vacationTypes, pageRequest.getSort()))
+            .thenReturn(Map.of(personWithFewDays, fewDays, personWithManyDays, manyDays, personWithSomeDays, someDays));
+
+        // complete statistics are only built for the persons of the requested page
+        final ApplicationForLeaveStatistics someDaysComplete = new ApplicationForLeaveStatistics(personWithSomeDays, vacationTypes);
+        someDaysComplete.setLeftVacationDaysForYear(BigDecimal.valueOf(5));
+        someDaysComplete.addAllowedVacationDays(vacationType, BigDecimal.ONE);
+        when(applicationForLeaveStatisticsBuilder.build(List.of(personWithSomeDays), startDate, endDate, vacationTypes))
+            .thenReturn(Map.of(personWithSomeDays, someDaysComplete));
+
+        when(personBasedataService.getBasedataByPersonId(List.of(4))).thenReturn(Map.of());
+
+        final Page<ApplicationForLeaveStatistics> statisticsPage = sut.getStatistics(office, filterPeriod, new PageableSearchQuery(pageRequest, ""));
+
+        assertThat(statisticsPage.getContent()).containsExactly(someDaysComplete);
+        assertThat(statisticsPage.getTotalElements()).isEqualTo(3);
+    }
 }
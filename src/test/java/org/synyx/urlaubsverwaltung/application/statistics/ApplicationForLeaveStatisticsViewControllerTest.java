@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.application.statistics;
 
+import com.opencsv.CSVWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +10,6 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +19,6 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -28,6 +27,9 @@ import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Duration;
@@ -42,8 +44,12 @@ import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.endsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -322,7 +328,8 @@ class ApplicationForLeaveStatisticsViewControllerTest {
     @ParameterizedTest
     @ValueSource(strings = {"25.03.2022", "25.03.22", "25.3.2022", "25.3.22", "1.4.22"})
     void downloadCSVSetsDownloadHeaders(String givenDate) throws Exception {
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(any(FilterPeriod.class), any())).thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(applicationForLeaveStatisticsCsvExportService.fileName(any(FilterPeriod.class))).thenReturn("filename.csv");
+        callRealWriteCSV();
 
         final Person signedInUser = new Person();
         signedInUser.setId(1);
@@ -355,14 +362,20 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         when(applicationForLeaveStatisticsService.getStatistics(eq(signedInUser), any(FilterPeriod.class), eq(defaultPersonSearchQuery())))
             .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, List.of(statistics))).thenReturn(csvFile);
+        when(applicationForLeaveStatisticsCsvExportService.fileName(filterPeriod)).thenReturn("csv-file-name");
+        callRealWriteCSV();
+        doAnswer(invocation -> {
+            final CSVWriter csvWriter = invocation.getArgument(2);
+            csvWriter.writeNext(new String[]{"csv-resource"});
+            return null;
+        }).when(applicationForLeaveStatisticsCsvExportService).writeRows(eq(filterPeriod), eq(List.of(statistics)), any(CSVWriter.class));
 
         perform(get("/web/application/statistics/download")
             .param("from", "01.01.2019")
             .param("to", "01.08.2019"))
             .andExpect(status().isOk())
-            .andExpect(content().string("csv-resource"));
+            .andExpect(header().string("Content-disposition", "attachment; filename=\"csv-file-name\""))
+            .andExpect(content().string(endsWith("csv-resource\n")));
     }
 
     private static PageableSearchQuery defaultPersonSearchQuery() {
@@ -373,6 +386,14 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         return PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName"));
     }
 
+    private void callRealWriteCSV() throws IOException {
+        doCallRealMethod().when(applicationForLeaveStatisticsCsvExportService).writeCSV(any(FilterPeriod.class), anyList(), any(HttpServletResponse.class));
+        doCallRealMethod().when(applicationForLeaveStatisticsCsvExportService).writeCSV(any(FilterPeriod.class), anyList(), any(OutputStream.class));
+        doCallRealMethod().when(applicationForLeaveStatisticsCsvExportService).write(any(FilterPeriod.class), anyList(), any(CSVWriter.class));
+        doCallRealMethod().when(applicationForLeaveStatisticsCsvExportService).bom();
+        doCallRealMethod().when(applicationForLeaveStatisticsCsvExportService).separator();
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut)
             .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
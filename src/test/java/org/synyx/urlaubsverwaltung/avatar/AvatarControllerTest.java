@@ -11,8 +11,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.util.Locale;
-import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -26,11 +26,11 @@ class AvatarControllerTest {
     private AvatarController sut;
 
     @Mock
-    private SvgService svgService;
+    private AvatarRenderer avatarRenderer;
 
     @BeforeEach
     void setUp() {
-        sut = new AvatarController(svgService);
+        sut = new AvatarController(avatarRenderer);
     }
 
     @ParameterizedTest
@@ -44,18 +44,34 @@ class AvatarControllerTest {
     }, ignoreLeadingAndTrailingWhitespace = false)
     void ensureGeneratesAvatarWithInitials(String name, String expectedInitials) throws Exception {
 
-        when(svgService.createSvg("thymeleaf/svg/avatar", Locale.GERMAN, Map.of("initials", expectedInitials)))
-            .thenReturn("<svg></svg>");
+        when(avatarRenderer.render(expectedInitials, Locale.GERMAN))
+            .thenReturn(new Avatar("<svg></svg>".getBytes(UTF_8), "\"etag\""));
 
         perform(get("/web/avatar")
             .locale(Locale.GERMAN)
             .param("name", name))
             .andExpect(status().isOk())
             .andExpect(content().contentType("image/svg+xml"))
-            .andExpect(header().string("Cache-Control", "max-age=3600"))
+            .andExpect(header().string("Cache-Control", "max-age=3600, immutable"))
+            .andExpect(header().string("ETag", "\"etag\""))
             .andExpect(content().string("<svg></svg>"));
     }
 
+    @Test
+    void ensuresNotModifiedIfETagMatches() throws Exception {
+
+        when(avatarRenderer.render("TB", Locale.GERMAN))
+            .thenReturn(new Avatar("<svg></svg>".getBytes(UTF_8), "\"etag\""));
+
+        perform(get("/web/avatar")
+            .locale(Locale.GERMAN)
+            .param("name", "The Batman")
+            .header("If-None-Match", "\"etag\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"etag\""))
+            .andExpect(content().string(""));
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
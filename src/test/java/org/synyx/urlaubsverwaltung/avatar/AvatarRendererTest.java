@@ -0,0 +1,80 @@
+package org.synyx.urlaubsverwaltung.avatar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AvatarRendererTest {
+
+    @Mock
+    private SvgService svgService;
+
+    @Test
+    void ensureRendersAvatarWithETag() {
+
+        when(svgService.createSvg("thymeleaf/svg/avatar", GERMAN, Map.of("initials", "TB"))).thenReturn("avatar");
+
+        final Avatar avatar = new AvatarRenderer(svgService).render("TB", GERMAN);
+
+        assertThat(avatar.getContent()).isEqualTo("avatar".getBytes(UTF_8));
+        assertThat(avatar.getETag()).isEqualTo("\"aaca0f5eb4d2d98a6ce6dffa99f8254b\"");
+    }
+
+    @Test
+    void ensureServesCachedAvatar() {
+
+        when(svgService.createSvg(eq("thymeleaf/svg/avatar"), any(), anyMap())).thenReturn("avatar");
+
+        final AvatarRenderer sut = new AvatarRenderer(svgService);
+        final Avatar avatar = sut.render("TB", GERMAN);
+        final Avatar cachedAvatar = sut.render("TB", GERMAN);
+
+        assertThat(cachedAvatar).isSameAs(avatar);
+        verify(svgService).createSvg(eq("thymeleaf/svg/avatar"), any(), anyMap());
+    }
+
+    @Test
+    void ensureCachesByInitialsAndLocale() {
+
+        when(svgService.createSvg(eq("thymeleaf/svg/avatar"), any(), anyMap())).thenReturn("avatar");
+
+        final AvatarRenderer sut = new AvatarRenderer(svgService);
+        sut.render("TB", GERMAN);
+        sut.render("B", GERMAN);
+        sut.render("TB", ENGLISH);
+
+        verify(svgService, times(3)).createSvg(eq("thymeleaf/svg/avatar"), any(), anyMap());
+    }
+
+    @Test
+    void ensureRemovesLeastRecentlyRequestedAvatar() {
+
+        when(svgService.createSvg(eq("thymeleaf/svg/avatar"), any(), anyMap())).thenReturn("avatar");
+
+        final AvatarRenderer sut = new AvatarRenderer(svgService, 2);
+        sut.render("A", GERMAN);
+        sut.render("B", GERMAN);
+        sut.render("A", GERMAN);
+        sut.render("C", GERMAN);
+
+        sut.render("A", GERMAN);
+        sut.render("B", GERMAN);
+
+        verify(svgService, times(4)).createSvg(eq("thymeleaf/svg/avatar"), any(), anyMap());
+    }
+}
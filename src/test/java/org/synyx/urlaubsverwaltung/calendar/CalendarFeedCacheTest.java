@@ -0,0 +1,324 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.unit.DataSize;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationSavedEvent;
+import org.synyx.urlaubsverwaltung.department.DepartmentUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteSavedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Period;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarFeedCacheTest {
+
+    private static final Period P1Y = Period.ofYears(1);
+
+    private CalendarFeedCache sut;
+
+    @Mock
+    private Clock clock;
+    @Mock
+    private Supplier<ByteArrayResource> calendar;
+    @Mock
+    private Supplier<SharedCalendar> sharedCalendar;
+
+    private final CalendarProperties calendarProperties = new CalendarProperties();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.getZone()).thenReturn(UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-01T10:00:00.123Z"));
+
+        sut = new CalendarFeedCache(calendarProperties, clock);
+    }
+
+    @Test
+    void ensureGeneratesFeedWithETagAndLastModified() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        final CalendarFeed feed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        assertThat(feed.getContent()).isEqualTo("calendar".getBytes(UTF_8));
+        assertThat(feed.getETag()).isEqualTo("\"a0e7b2a565119c0a7ec3126a16016113\"");
+        assertThat(feed.getLastModified()).isEqualTo(Instant.parse("2022-06-01T10:00:00Z"));
+    }
+
+    @Test
+    void ensureServesCachedFeed() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        final CalendarFeed feed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+        final CalendarFeed cachedFeed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        assertThat(cachedFeed.getContent()).isSameAs(feed.getContent());
+        assertThat(cachedFeed.getETag()).isEqualTo(feed.getETag());
+        verify(calendar).get();
+    }
+
+    @Test
+    void ensureCachesByPersonPeriodAndLocale() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(2, P1Y, GERMAN, calendar);
+        sut.getForPerson(1, Period.ofMonths(6), GERMAN, calendar);
+        sut.getForPerson(1, P1Y, ENGLISH, calendar);
+
+        verify(calendar, times(4)).get();
+    }
+
+    @Test
+    void ensureSharesCompanyFeedBetweenSubscribers() {
+
+        final Person person = person(1);
+        final Person subscriber = person(2);
+        final Person otherSubscriber = person(3);
+        when(sharedCalendar.get()).thenReturn(new SharedCalendar(bytes("begin;"), List.of(
+            new SharedCalendar.Event(person, bytes("own;"), bytes("other;"))
+        ), bytes("end")));
+
+        final CalendarFeed feedOfPerson = sut.getForCompany(P1Y, GERMAN, person, sharedCalendar);
+        final CalendarFeed feedOfSubscriber = sut.getForCompany(P1Y, GERMAN, subscriber, sharedCalendar);
+        final CalendarFeed feedOfOtherSubscriber = sut.getForCompany(P1Y, GERMAN, otherSubscriber, sharedCalendar);
+
+        verify(sharedCalendar).get();
+        assertThat(feedOfPerson.getContent()).isEqualTo(bytes("begin;own;end"));
+        assertThat(feedOfSubscriber.getContent()).isEqualTo(bytes("begin;other;end"));
+        assertThat(feedOfOtherSubscriber.getContent()).isEqualTo(bytes("begin;other;end"));
+        assertThat(feedOfPerson.getETag()).isNotEqualTo(feedOfSubscriber.getETag());
+        assertThat(feedOfSubscriber.getETag()).isEqualTo(feedOfOtherSubscriber.getETag());
+    }
+
+    @Test
+    void ensureSharesDepartmentFeedBetweenSubscribersOfSameDepartment() {
+
+        when(sharedCalendar.get()).thenReturn(new SharedCalendar(bytes("calendar"), List.of(), bytes("")));
+
+        sut.getForDepartment(1, P1Y, GERMAN, person(1), sharedCalendar);
+        sut.getForDepartment(1, P1Y, GERMAN, person(2), sharedCalendar);
+        sut.getForDepartment(2, P1Y, GERMAN, person(1), sharedCalendar);
+
+        verify(sharedCalendar, times(2)).get();
+    }
+
+    @Test
+    void ensureRegeneratesFeedAfterMaxAge() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+        calendarProperties.setFeedCacheMaxAge(Duration.ofMinutes(10));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-01T10:10:00Z"));
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-01T10:10:01Z"));
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    @Test
+    void ensureRegeneratesFeedOnNextDay() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-01T23:59:00Z"));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-02T00:01:00Z"));
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    @Test
+    void ensureKeepsLastModifiedIfRegeneratedFeedIsUnchanged() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        final CalendarFeed feed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-01T11:00:00Z"));
+        final CalendarFeed regeneratedFeed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        assertThat(regeneratedFeed).isNotSameAs(feed);
+        assertThat(regeneratedFeed.getETag()).isEqualTo(feed.getETag());
+        assertThat(regeneratedFeed.getLastModified()).isEqualTo(Instant.parse("2022-06-01T10:00:00Z"));
+    }
+
+    @Test
+    void ensureChangesETagAndLastModifiedIfRegeneratedFeedChanged() {
+
+        when(calendar.get()).thenReturn(resource("calendar"), resource("changed calendar"));
+
+        final CalendarFeed feed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+        when(clock.instant()).thenReturn(Instant.parse("2022-06-01T11:00:00Z"));
+        final CalendarFeed regeneratedFeed = sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        assertThat(regeneratedFeed.getETag()).isNotEqualTo(feed.getETag());
+        assertThat(regeneratedFeed.getLastModified()).isEqualTo(Instant.parse("2022-06-01T11:00:00Z"));
+    }
+
+    @Test
+    void ensureEvictsFeedsContainingAbsencesOfPerson() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+        when(sharedCalendar.get()).thenReturn(new SharedCalendar(bytes("calendar"), List.of(), bytes("")));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(2, P1Y, GERMAN, calendar);
+        sut.getForDepartment(3, P1Y, GERMAN, person(2), sharedCalendar);
+        sut.getForCompany(P1Y, GERMAN, person(2), sharedCalendar);
+
+        sut.evict(1);
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(2, P1Y, GERMAN, calendar);
+        sut.getForDepartment(3, P1Y, GERMAN, person(2), sharedCalendar);
+        sut.getForCompany(P1Y, GERMAN, person(2), sharedCalendar);
+
+        // person 2 is served from the cache
+        verify(calendar, times(3)).get();
+        verify(sharedCalendar, times(4)).get();
+    }
+
+    @Test
+    void ensureEvictsFeedsOfDepartment() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+        when(sharedCalendar.get()).thenReturn(new SharedCalendar(bytes("calendar"), List.of(), bytes("")));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForDepartment(1, P1Y, GERMAN, person(1), sharedCalendar);
+        sut.getForDepartment(2, P1Y, GERMAN, person(1), sharedCalendar);
+        sut.getForCompany(P1Y, GERMAN, person(1), sharedCalendar);
+
+        final DepartmentUpdatedEvent event = mock(DepartmentUpdatedEvent.class);
+        when(event.getDepartmentId()).thenReturn(1);
+        sut.on(event);
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForDepartment(1, P1Y, GERMAN, person(1), sharedCalendar);
+        sut.getForDepartment(2, P1Y, GERMAN, person(1), sharedCalendar);
+        sut.getForCompany(P1Y, GERMAN, person(1), sharedCalendar);
+
+        // only the feed of department 1 is regenerated
+        verify(calendar).get();
+        verify(sharedCalendar, times(4)).get();
+    }
+
+    @Test
+    void ensureDoesNotCacheFeedGeneratedDuringEviction() {
+
+        when(calendar.get()).thenAnswer(invocation -> {
+            sut.evict(1);
+            return resource("calendar");
+        });
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    @Test
+    void ensureRemovesLeastRecentlyRequestedFeedsExceedingMaxSize() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+        calendarProperties.setFeedCacheMaxSize(DataSize.ofBytes(16));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(2, P1Y, GERMAN, calendar);
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(3, P1Y, GERMAN, calendar);
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(2, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(4)).get();
+    }
+
+    @Test
+    void ensureDoesNotCacheFeedExceedingMaxSize() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+        calendarProperties.setFeedCacheMaxSize(DataSize.ofBytes(7));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    @Test
+    void ensureEvictsOnSavedApplication() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.on(new ApplicationSavedEvent(this, 1));
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    @Test
+    void ensureEvictsOnSavedSickNote() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.on(new SickNoteSavedEvent(this, 1));
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    @Test
+    void ensureEvictsAllOnUpdatedSettings() {
+
+        when(calendar.get()).thenReturn(resource("calendar"));
+
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+        sut.on(mock(SettingsUpdatedEvent.class));
+        sut.getForPerson(1, P1Y, GERMAN, calendar);
+
+        verify(calendar, times(2)).get();
+    }
+
+    private static ByteArrayResource resource(String content) {
+        return new ByteArrayResource(bytes(content));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(UTF_8);
+    }
+
+    private static Person person(int id) {
+        final Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+}
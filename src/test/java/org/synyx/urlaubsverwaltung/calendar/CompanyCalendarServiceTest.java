@@ -6,7 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
-import org.springframework.core.io.ByteArrayResource;
 import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
@@ -22,6 +21,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Locale.GERMAN;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,7 +61,7 @@ class CompanyCalendarServiceTest {
     @BeforeEach
     void setUp() {
 
-        sut = new CompanyCalendarService(absenceService, companyCalendarRepository, iCalService, personService, messageSource, Clock.systemUTC());
+        sut = new CompanyCalendarService(absenceService, companyCalendarRepository, iCalService, personService, messageSource, new CalendarFeedCache(new CalendarProperties(), Clock.systemUTC()), Clock.systemUTC());
     }
 
     @Test
@@ -80,11 +80,11 @@ class CompanyCalendarServiceTest {
         when(companyCalendarRepository.findBySecretAndPerson("secret", person)).thenReturn(Optional.of(companyCalendar));
 
         when(messageSource.getMessage(eq("calendar.company.title"), any(), eq(GERMAN))).thenReturn("Abwesenheitskalender der Firma");
-        final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar.ics");
-        when(iCalService.getCalendar("Abwesenheitskalender der Firma", absences, person)).thenReturn(iCal);
+        final SharedCalendar iCal = new SharedCalendar("calendar".getBytes(UTF_8), List.of(), new byte[]{});
+        when(iCalService.getSharedCalendar("Abwesenheitskalender der Firma", absences)).thenReturn(iCal);
 
-        final ByteArrayResource calendar = sut.getCalendarForAll(10, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendar = sut.getCalendarForAll(10, "secret", GERMAN);
+        assertThat(calendar.getContent()).isEqualTo("calendar".getBytes(UTF_8));
     }
 
     @Test
@@ -151,6 +151,7 @@ class CompanyCalendarServiceTest {
 
         final Person office = createPerson("office", OFFICE);
         final Person user = createPerson("user", USER);
+        user.setId(2);
 
         when(personService.getActivePersons()).thenReturn(List.of(office, user));
 
@@ -6,7 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
-import org.springframework.core.io.ByteArrayResource;
 import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
@@ -26,6 +25,7 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.LocalDate.parse;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Locale.GERMAN;
@@ -63,7 +63,7 @@ class DepartmentCalendarServiceTest {
     void setUp() {
 
         sut = new DepartmentCalendarService(absenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, Clock.systemUTC());
+            departmentCalendarRepository, iCalService, messageSource, new CalendarFeedCache(new CalendarProperties(), Clock.systemUTC()), Clock.systemUTC());
     }
 
     @Test
@@ -116,11 +116,11 @@ class DepartmentCalendarServiceTest {
         when(absenceService.getOpenAbsencesSince(eq(List.of(person)), any(LocalDate.class))).thenReturn(fullDayAbsences);
 
         when(messageSource.getMessage(eq("calendar.department.title"), any(), eq(GERMAN))).thenReturn("Abwesenheitskalender der Abteilung DepartmentName");
-        final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar");
-        when(iCalService.getCalendar("Abwesenheitskalender der Abteilung DepartmentName", fullDayAbsences, person)).thenReturn(iCal);
+        final SharedCalendar iCal = new SharedCalendar("calendar".getBytes(UTF_8), List.of(), new byte[]{});
+        when(iCalService.getSharedCalendar("Abwesenheitskalender der Abteilung DepartmentName", fullDayAbsences)).thenReturn(iCal);
 
-        final ByteArrayResource calendar = sut.getCalendarForDepartment(1, 10, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendar = sut.getCalendarForDepartment(1, 10, "secret", GERMAN);
+        assertThat(calendar.getContent()).isEqualTo("calendar".getBytes(UTF_8));
     }
 
     @Test
@@ -132,7 +132,10 @@ class DepartmentCalendarServiceTest {
         person.setId(10);
         when(personService.getPersonByID(10)).thenReturn(Optional.of(person));
 
-        when(departmentCalendarRepository.findBySecretAndPerson("secret", person)).thenReturn(Optional.of(new DepartmentCalendar()));
+        final DepartmentCalendar departmentCalendar = new DepartmentCalendar();
+        departmentCalendar.setDepartmentId(1);
+        departmentCalendar.setCalendarPeriod(java.time.Period.parse("P12M"));
+        when(departmentCalendarRepository.findBySecretAndPerson("secret", person)).thenReturn(Optional.of(departmentCalendar));
 
         assertThatIllegalArgumentException()
             .isThrownBy(() -> sut.getCalendarForDepartment(1, 10, "secret", GERMAN));
@@ -170,8 +173,6 @@ class DepartmentCalendarServiceTest {
     @Test
     void getCalendarForDepartmentButSecretDoesNotMatchTheGivenPerson() {
 
-        when(departmentService.getDepartmentById(1)).thenReturn(Optional.of(new Department()));
-
         final Person person = new Person();
         when(personService.getPersonByID(10)).thenReturn(Optional.of(person));
 
@@ -272,7 +273,7 @@ class DepartmentCalendarServiceTest {
 
         final Clock clock = Clock.fixed(Instant.parse("2019-04-15T10:00:00.00Z"), ZoneId.of("UTC"));
         final DepartmentCalendarService sut = new DepartmentCalendarService(absenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, clock);
+            departmentCalendarRepository, iCalService, messageSource, new CalendarFeedCache(new CalendarProperties(), clock), clock);
 
         final Department department = createDepartment("DepartmentName");
         department.setId(1);
@@ -294,6 +295,7 @@ class DepartmentCalendarServiceTest {
 
         final List<Absence> fullDayAbsences = List.of(absence(person, parse("2018-03-26", ofPattern("yyyy-MM-dd")), parse("2018-03-26", ofPattern("yyyy-MM-dd")), FULL));
         when(absenceService.getOpenAbsencesSince(List.of(person), createdAt)).thenReturn(fullDayAbsences);
+        when(iCalService.getSharedCalendar(any(), eq(fullDayAbsences))).thenReturn(new SharedCalendar(new byte[]{}, List.of(), new byte[]{}));
 
         sut.getCalendarForDepartment(1, 10, "secret", GERMAN);
         verify(absenceService).getOpenAbsencesSince(List.of(person), createdAt);
@@ -304,7 +306,7 @@ class DepartmentCalendarServiceTest {
 
         final Clock clock = Clock.fixed(Instant.parse("2019-06-15T10:00:00.00Z"), ZoneId.of("UTC"));
         final DepartmentCalendarService sut = new DepartmentCalendarService(absenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, clock);
+            departmentCalendarRepository, iCalService, messageSource, new CalendarFeedCache(new CalendarProperties(), clock), clock);
 
         final Department department = createDepartment("DepartmentName");
         department.setId(1);
@@ -326,6 +328,7 @@ class DepartmentCalendarServiceTest {
 
         final List<Absence> fullDayAbsences = List.of(absence(person, parse("2018-03-26", ofPattern("yyyy-MM-dd")), parse("2018-03-26", ofPattern("yyyy-MM-dd")), FULL));
         when(absenceService.getOpenAbsencesSince(List.of(person), LocalDate.of(2018, 6, 15))).thenReturn(fullDayAbsences);
+        when(iCalService.getSharedCalendar(any(), eq(fullDayAbsences))).thenReturn(new SharedCalendar(new byte[]{}, List.of(), new byte[]{}));
 
         sut.getCalendarForDepartment(1, 10, "secret", GERMAN);
         verify(absenceService).getOpenAbsencesSince(List.of(person), LocalDate.of(2018, 6, 15));
@@ -1,5 +1,8 @@
 package org.synyx.urlaubsverwaltung.calendar;
 
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.data.CalendarOutputter;
+import net.fortuna.ical4j.model.Calendar;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ByteArrayResource;
@@ -11,6 +14,8 @@ import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.period.Period;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
@@ -343,6 +348,68 @@ class ICalServiceTest {
                 .contains("ATTENDEE;ROLE=REQ-PARTICIPANT;CN=Marlene Muster:mailto:muster@example.org");
     }
 
+    @Test
+    void ensureWritesCalendarLikeCalendarOutputter() throws Exception {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1);
+        final Person other = new Person("other", "Mustermann-Langname, von und zu", "Maximilian Alexander", null);
+        other.setId(2);
+
+        final List<Absence> absences = List.of(
+            absence(person, toDateTime("2019-03-26"), toDateTime("2019-03-26"), FULL),
+            absence(person, toDateTime("2019-04-01"), toDateTime("2019-04-05"), FULL),
+            absence(other, toDateTime("2019-04-26"), toDateTime("2019-04-26"), MORNING),
+            holidayReplacement(other, toDateTime("2019-05-26"), toDateTime("2019-05-26"), NOON)
+        );
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.writeCalendar("Abwesenheitskalender der Abteilung mit einem sehr langen Namen, der gefaltet wird", absences, person, outputStream);
+
+        final Calendar calendar = new CalendarBuilder().build(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(calendar.getComponents()).hasSize(4);
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        new CalendarOutputter().output(calendar, expected);
+        assertThat(outputStream.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void ensureSharedCalendarIsAssembledLikeCalendarOfRecipient() throws Exception {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1);
+        final Person other = new Person("other", "Mustermann-Langname, von und zu", "Maximilian Alexander", null);
+        other.setId(2);
+        final Person subscriber = new Person("subscriber", "Subscriber", "Sam", "subscriber@example.org");
+        subscriber.setId(3);
+
+        final List<Absence> absences = List.of(
+            absence(person, toDateTime("2019-03-26"), toDateTime("2019-03-26"), FULL),
+            absence(other, toDateTime("2019-04-26"), toDateTime("2019-04-26"), MORNING),
+            holidayReplacement(other, toDateTime("2019-05-26"), toDateTime("2019-05-26"), NOON)
+        );
+
+        final SharedCalendar sharedCalendar = sut.getSharedCalendar("Abwesenheitskalender der Abteilung mit einem sehr langen Namen, der gefaltet wird", absences);
+
+        assertThat(sharedCalendar.containsAbsencesOf(person)).isTrue();
+        assertThat(sharedCalendar.containsAbsencesOf(subscriber)).isFalse();
+
+        final Calendar calendarOfPerson = new CalendarBuilder().build(new ByteArrayInputStream(sharedCalendar.getContent(person)));
+        assertThat(calendarOfPerson.getComponents()).hasSize(3);
+        assertThat(calendarOfPerson.getComponents().get(0).toString()).doesNotContain("TRANSP:TRANSPARENT");
+        assertThat(calendarOfPerson.getComponents().get(1).toString()).contains("TRANSP:TRANSPARENT");
+        assertThat(calendarOfPerson.getComponents().get(2).toString()).contains("TRANSP:TRANSPARENT");
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        new CalendarOutputter().output(calendarOfPerson, expected);
+        assertThat(sharedCalendar.getContent(person)).isEqualTo(expected.toByteArray());
+
+        final Calendar calendarOfSubscriber = new CalendarBuilder().build(new ByteArrayInputStream(sharedCalendar.getContent(subscriber)));
+        assertThat(calendarOfSubscriber.getComponents()).hasSize(3);
+        assertThat(calendarOfSubscriber.getComponents().get(0).toString()).contains("TRANSP:TRANSPARENT");
+    }
+
     private Absence absence(Person person, LocalDate start, LocalDate end, DayLength length) {
         return absence(person, start, end, length, AbsenceType.DEFAULT);
     }
@@ -6,7 +6,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
@@ -15,6 +14,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
@@ -48,7 +48,7 @@ class ICalViewControllerTest {
     @Test
     void getCalendarForPerson() throws Exception {
 
-        when(personCalendarService.getCalendarForPerson(1, "secret", GERMAN)).thenReturn(new ByteArrayResource("iCal string".getBytes()));
+        when(personCalendarService.getCalendarForPerson(1, "secret", GERMAN)).thenReturn(feed("iCal string"));
 
         perform(get("/web/persons/1/calendar")
             .locale(GERMAN)
@@ -59,6 +59,58 @@ class ICalViewControllerTest {
             .andExpect(content().string(containsString("iCal string")));
     }
 
+    @Test
+    void getCalendarForPersonWithETagAndLastModified() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1, "secret", GERMAN)).thenReturn(feed("iCal string"));
+
+        perform(get("/web/persons/1/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"etag\""))
+            .andExpect(header().string("Last-Modified", "Wed, 01 Jun 2022 10:00:00 GMT"))
+            .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    void getCalendarForPersonNotModifiedWithMatchingETag() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1, "secret", GERMAN)).thenReturn(feed("iCal string"));
+
+        perform(get("/web/persons/1/calendar")
+            .locale(GERMAN)
+            .header("If-None-Match", "\"etag\"")
+            .param("secret", "secret"))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void getCalendarForPersonNotModifiedSinceLastModified() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1, "secret", GERMAN)).thenReturn(feed("iCal string"));
+
+        perform(get("/web/persons/1/calendar")
+            .locale(GERMAN)
+            .header("If-Modified-Since", "Wed, 01 Jun 2022 10:00:00 GMT")
+            .param("secret", "secret"))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getCalendarForPersonWithChangedETag() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1, "secret", GERMAN)).thenReturn(feed("iCal string"));
+
+        perform(get("/web/persons/1/calendar")
+            .locale(GERMAN)
+            .header("If-None-Match", "\"other\"")
+            .param("secret", "secret"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("iCal string")));
+    }
+
     @Test
     void getCalendarForPersonWithBadRequest() throws Exception {
 
@@ -84,7 +136,7 @@ class ICalViewControllerTest {
     @Test
     void getCalendarForDepartment() throws Exception {
 
-        when(departmentCalendarService.getCalendarForDepartment(1, 2, "secret", GERMAN)).thenReturn(new ByteArrayResource("calendar department".getBytes()));
+        when(departmentCalendarService.getCalendarForDepartment(1, 2, "secret", GERMAN)).thenReturn(feed("calendar department"));
 
         perform(get("/web/departments/1/persons/2/calendar")
             .locale(GERMAN)
@@ -120,7 +172,7 @@ class ICalViewControllerTest {
     @Test
     void getCalendarForAll() throws Exception {
 
-        when(companyCalendarService.getCalendarForAll(2, "secret", GERMAN)).thenReturn(new ByteArrayResource("calendar all".getBytes()));
+        when(companyCalendarService.getCalendarForAll(2, "secret", GERMAN)).thenReturn(feed("calendar all"));
 
         perform(get("/web/company/persons/2/calendar")
             .locale(GERMAN)
@@ -153,6 +205,10 @@ class ICalViewControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    private static CalendarFeed feed(String content) {
+        return new CalendarFeed(content.getBytes(UTF_8), "\"etag\"", Instant.parse("2022-06-01T10:00:00Z"));
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
@@ -59,7 +59,7 @@ class PersonCalendarServiceTest {
     @BeforeEach
     void setUp() {
 
-        sut = new PersonCalendarService(absenceService, personService, personCalendarRepository, iCalService, messageSource, Clock.systemUTC());
+        sut = new PersonCalendarService(absenceService, personService, personCalendarRepository, iCalService, messageSource, new CalendarFeedCache(new CalendarProperties(), Clock.systemUTC()), Clock.systemUTC());
     }
 
     @Test
@@ -81,8 +81,8 @@ class PersonCalendarServiceTest {
         final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar.ics");
         when(iCalService.getCalendar("Abwesenheitskalender von Marlene Muster", fullDayAbsences, person)).thenReturn(iCal);
 
-        final ByteArrayResource calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
+        assertThat(calendar.getContent()).isEqualTo(iCal.getByteArray());
     }
 
     @Test
@@ -104,8 +104,8 @@ class PersonCalendarServiceTest {
         final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar.ics");
         when(iCalService.getCalendar("Abwesenheitskalender von Marlene Muster", morningAbsences, person)).thenReturn(iCal);
 
-        final ByteArrayResource calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
+        assertThat(calendar.getContent()).isEqualTo(iCal.getByteArray());
     }
 
     @Test
@@ -127,8 +127,8 @@ class PersonCalendarServiceTest {
         final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar.ics");
         when(iCalService.getCalendar("Abwesenheitskalender von Marlene Muster", manyFullDayAbsences, person)).thenReturn(iCal);
 
-        final ByteArrayResource calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
+        assertThat(calendar.getContent()).isEqualTo(iCal.getByteArray());
     }
 
     @Test
@@ -150,8 +150,8 @@ class PersonCalendarServiceTest {
         final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar.ics");
         when(iCalService.getCalendar("Abwesenheitskalender von Marlene Muster", noonAbsences, person)).thenReturn(iCal);
 
-        final ByteArrayResource calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendar = sut.getCalendarForPerson(1, "secret", GERMAN);
+        assertThat(calendar.getContent()).isEqualTo(iCal.getByteArray());
     }
 
     @Test
@@ -5,14 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class CsvExportServiceTest {
@@ -26,13 +30,6 @@ class CsvExportServiceTest {
         assertThat(bom).isEqualTo(new byte[]{(byte) 239, (byte) 187, (byte) 191});
     }
 
-    @Test
-    void ensureBomIsUsedAsDefault() {
-        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
-        final ByteArrayResource aLotOfData = sut.resource(period, List.of());
-        assertThat(aLotOfData.getByteArray()).startsWith((byte) 239, (byte) 187, (byte) 191);
-    }
-
     @Test
     void separator() {
         final char separator = sut.separator();
@@ -40,46 +37,64 @@ class CsvExportServiceTest {
     }
 
     @Test
-    void ensureSeparatorIsUsedAsDefault() {
+    void ensureWriteCSVWritesBomHeaderAndRowsWithSeparatorIntoOutputStream() {
 
-        final CsvExportService<String> sut = new CsvExportService<>() {
-            @Override
-            public void write(FilterPeriod period, List<String> data, CSVWriter csvWriter) {
-                final String[] row = new String[data.size()];
-                row[0] = data.get(0);
-                row[1] = data.get(1);
-                csvWriter.writeNext(row);
-            }
-
-            @Override
-            public String fileName(FilterPeriod period) {
-                return "someFileName.csv";
-            }
-        };
+        final CsvExportService<String> sut = new TestCsvExportService();
 
         final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
-        final ByteArrayResource aLotOfData = sut.resource(period, List.of("A lot of data", "Next data"));
-        assertThat(new String(aLotOfData.getByteArray(), UTF_8)).contains("A lot of data;Next data");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.writeCSV(period, List.of("A lot of data", "Next data"), outputStream);
+
+        assertThat(outputStream.toByteArray()).startsWith((byte) 239, (byte) 187, (byte) 191);
+        assertThat(outputStream.toString(UTF_8)).endsWith("header;2022-10-02\nA lot of data\nNext data\n");
     }
 
     @Test
-    void ensureResourceWillBeWrittenWithCorrectContent() {
+    void ensureWriteCSVWritesCsvFileIntoResponse() throws IOException {
 
-        final CsvExportService<String> sut = new CsvExportService<>() {
-            @Override
-            public void write(FilterPeriod period, List<String> data, CSVWriter csvWriter) {
-                csvWriter.writeNext(new String[]{data.get(0)});
+        final CsvExportService<String> sut = new TestCsvExportService();
 
-            }
+        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.writeCSV(period, List.of("A lot of data"), response);
+
+        assertThat(response.getContentType()).isEqualTo("text/csv");
+        assertThat(response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"someFileName.csv\"");
+        assertThat(response.getContentAsString(UTF_8)).isEqualTo("\uFEFFheader;2022-10-02\nA lot of data\n");
+    }
 
+    @Test
+    void ensureWriteCSVThrowsIfOutputStreamCanNotBeWritten() {
+
+        final CsvExportService<String> sut = new TestCsvExportService();
+
+        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+        final OutputStream outputStream = new OutputStream() {
             @Override
-            public String fileName(FilterPeriod period) {
-                return "someFileName.csv";
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
             }
         };
 
-        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
-        final ByteArrayResource aLotOfData = sut.resource(period, List.of("A lot of data"));
-        assertThat(new String(aLotOfData.getByteArray(), UTF_8)).contains("A lot of data");
+        assertThatThrownBy(() -> sut.writeCSV(period, List.of("A lot of data"), outputStream))
+            .isInstanceOf(CsvExportException.class);
+    }
+
+    private static class TestCsvExportService implements CsvExportService<String> {
+
+        @Override
+        public void writeHeader(FilterPeriod period, CSVWriter csvWriter) {
+            csvWriter.writeNext(new String[]{"header", period.getStartDateIsoValue()});
+        }
+
+        @Override
+        public void writeRows(FilterPeriod period, List<String> data, CSVWriter csvWriter) {
+            data.forEach(row -> csvWriter.writeNext(new String[]{row}));
+        }
+
+        @Override
+        public String fileName(FilterPeriod period) {
+            return "someFileName.csv";
+        }
     }
 }
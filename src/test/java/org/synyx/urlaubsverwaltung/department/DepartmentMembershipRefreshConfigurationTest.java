@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentMembershipRefreshConfigurationTest {
+
+    @Mock
+    private DepartmentServiceImpl departmentService;
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Test
+    void refreshesMembershipGraphWithGivenDelay() {
+
+        final DepartmentProperties properties = new DepartmentProperties();
+        final DepartmentMembershipRefreshConfiguration sut = new DepartmentMembershipRefreshConfiguration(properties, departmentService, taskScheduler);
+
+        final ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        sut.configureTasks(taskRegistrar);
+
+        final List<IntervalTask> fixedDelayTaskList = taskRegistrar.getFixedDelayTaskList();
+        assertThat(fixedDelayTaskList).hasSize(1);
+
+        verifyNoInteractions(departmentService);
+
+        final IntervalTask intervalTask = fixedDelayTaskList.get(0);
+        assertThat(intervalTask.getInterval()).isEqualTo(5000);
+
+        intervalTask.getRunnable().run();
+        verify(departmentService).refreshMembershipGraph();
+    }
+}
@@ -3,10 +3,14 @@ package org.synyx.urlaubsverwaltung.department;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.TestContainersBase;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.Role;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -14,6 +18,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
@@ -67,4 +72,72 @@ class DepartmentRepositoryIT extends TestContainersBase {
         final List<DepartmentEntity> departments = sut.findByDepartmentHeadsOrSecondStageAuthorities(savedPerson, savedPerson);
         assertThat(departments).containsExactly(savedDepartmentB, savedDepartmentA);
     }
+
+    @Test
+    void ensuresThatManagedMembersOfPersonAreFoundPagedAndFilteredByNameAndPermission() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setPermissions(List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
+        final Person savedPerson = personService.create(person);
+
+        final Person bruce = createPerson("bruce", "Bruce", "Wayne", List.of(USER));
+        final Person clark = createPerson("clark", "Clark", "Kent", List.of(USER));
+        final Person diana = createPerson("diana", "Diana", "Prince", List.of(USER));
+        final Person barry = createPerson("barry", "Barry", "Allen", List.of(USER, INACTIVE));
+        final Person notManaged = createPerson("joker", "Joker", "Unknown", List.of(USER));
+
+        final DepartmentEntity departmentA = new DepartmentEntity();
+        departmentA.setName("departmentA");
+        departmentA.setCreatedAt(LocalDate.of(2022, 10, 2));
+        departmentA.setMembers(List.of(departmentMember(bruce), departmentMember(clark), departmentMember(barry)));
+        departmentA.setDepartmentHeads(List.of(savedPerson));
+        sut.save(departmentA);
+
+        final DepartmentEntity departmentB = new DepartmentEntity();
+        departmentB.setName("departmentB");
+        departmentB.setCreatedAt(LocalDate.of(2022, 10, 2));
+        departmentB.setMembers(List.of(departmentMember(clark), departmentMember(diana)));
+        departmentB.setSecondStageAuthorities(List.of(savedPerson));
+        sut.save(departmentB);
+
+        final DepartmentEntity departmentC = new DepartmentEntity();
+        departmentC.setName("departmentC");
+        departmentC.setCreatedAt(LocalDate.of(2022, 10, 2));
+        departmentC.setMembers(List.of(departmentMember(notManaged)));
+        sut.save(departmentC);
+
+        final PageRequest firstPage = PageRequest.of(0, 2, Sort.by("firstName"));
+        final Page<Person> activeMembers = sut.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(savedPerson, true, true, INACTIVE, "", firstPage);
+        assertThat(activeMembers.getContent()).containsExactly(bruce, clark);
+        assertThat(activeMembers.getTotalElements()).isEqualTo(3);
+
+        final Page<Person> departmentHeadMembers = sut.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(savedPerson, true, false, INACTIVE, "", firstPage);
+        assertThat(departmentHeadMembers.getContent()).containsExactly(bruce, clark);
+        assertThat(departmentHeadMembers.getTotalElements()).isEqualTo(2);
+
+        final Page<Person> secondStageAuthorityMembers = sut.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(savedPerson, false, true, INACTIVE, "", firstPage);
+        assertThat(secondStageAuthorityMembers.getContent()).containsExactly(clark, diana);
+
+        final Page<Person> queriedMembers = sut.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(savedPerson, true, true, INACTIVE, "a Prin", firstPage);
+        assertThat(queriedMembers.getContent()).containsExactly(diana);
+
+        final Page<Person> queriedMembersIgnoringCase = sut.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(savedPerson, true, true, INACTIVE, "DIANA p", firstPage);
+        assertThat(queriedMembersIgnoringCase.getContent()).containsExactly(diana);
+
+        final Page<Person> inactiveMembers = sut.findManagedMembersByPermissionsContainingAndNiceNameContaining(savedPerson, true, true, INACTIVE, "", firstPage);
+        assertThat(inactiveMembers.getContent()).containsExactly(barry);
+    }
+
+    private Person createPerson(String username, String firstName, String lastName, List<Role> permissions) {
+        final Person person = new Person(username, lastName, firstName, username + "@example.org");
+        person.setPermissions(permissions);
+        return personService.create(person);
+    }
+
+    private static DepartmentMemberEmbeddable departmentMember(Person person) {
+        final DepartmentMemberEmbeddable departmentMember = new DepartmentMemberEmbeddable();
+        departmentMember.setAccessionDate(Instant.now());
+        departmentMember.setPerson(person);
+        return departmentMember;
+    }
 }
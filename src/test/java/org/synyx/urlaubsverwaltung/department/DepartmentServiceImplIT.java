@@ -0,0 +1,213 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.Role;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
+import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+/**
+ * The managed members are filtered, sorted and paged by the database, so these cases are tested against it.
+ */
+@SpringBootTest
+@Transactional
+class DepartmentServiceImplIT extends TestContainersBase {
+
+    @Autowired
+    private DepartmentServiceImpl sut;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private PersonService personService;
+
+    @Test
+    void ensureGetManagedMembersOfPersonReturnsDistinctActivePersonsForDepartmentHeadAndSecondStageAuthority() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(USER));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+
+        createDepartment("admins", List.of(max, jane), List.of(person), List.of());
+        createDepartment("developers", List.of(jane), List.of(), List.of(person));
+
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+
+        assertThat(actual.getContent()).containsExactly(jane, max);
+    }
+
+    @Test
+    void ensureGetManagedMembersOfPersonReturnsDistinctActivePersonsForDepartmentHead() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(USER));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+
+        createDepartment("admins", List.of(max, jane), List.of(person), List.of());
+        createDepartment("developers", List.of(jane), List.of(person), List.of());
+
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+
+        assertThat(actual.getContent()).containsExactly(jane, max);
+    }
+
+    @Test
+    void ensureGetManagedMembersOfPersonReturnsDistinctActivePersonsForSecondStageAuthority() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, SECOND_STAGE_AUTHORITY));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(USER));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+
+        createDepartment("admins", List.of(max, jane), List.of(), List.of(person));
+        createDepartment("developers", List.of(jane), List.of(), List.of(person));
+
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+
+        assertThat(actual.getContent()).containsExactly(jane, max);
+    }
+
+    @Test
+    void ensureGetManagedMembersOfPersonFiltersByNameIgnoringCase() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(USER));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+
+        createDepartment("admins", List.of(max, jane), List.of(person), List.of());
+
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, new PageableSearchQuery(defaultPageRequest(), "DOE"));
+
+        assertThat(actual.getContent()).containsExactly(jane);
+    }
+
+    @Test
+    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForDepartmentHeadAndSecondStageAuthority() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(INACTIVE));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+        final Person john = createPerson("john", "John", "Doe", List.of(INACTIVE));
+
+        createDepartment("admins", List.of(max, jane, john), List.of(person), List.of());
+        createDepartment("developers", List.of(jane, john), List.of(), List.of(person));
+
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+
+        assertThat(actual.getContent()).containsExactly(john, max);
+    }
+
+    @Test
+    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForDepartmentHead() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(INACTIVE));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+        final Person john = createPerson("john", "John", "Doe", List.of(INACTIVE));
+
+        createDepartment("admins", List.of(max, jane, john), List.of(person), List.of());
+        createDepartment("developers", List.of(jane, john), List.of(person), List.of());
+
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+
+        assertThat(actual.getContent()).containsExactly(john, max);
+    }
+
+    @Test
+    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForSecondStageAuthority() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, SECOND_STAGE_AUTHORITY));
+        final Person max = createPerson("max", "Max", "Mustermann", List.of(INACTIVE));
+        final Person jane = createPerson("jane", "Jane", "Doe", List.of(USER));
+        final Person john = createPerson("john", "John", "Doe", List.of(INACTIVE));
+
+        createDepartment("admins", List.of(max, jane, john), List.of(), List.of(person));
+        createDepartment("developers", List.of(jane, john), List.of(), List.of(person));
+
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
+
+        assertThat(actual.getContent()).containsExactly(john, max);
+    }
+
+    @Test
+    void ensureGetManagedActiveMembersOfPersonReturnsPageSecond() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD));
+        createDepartment("admins", createPersons(14, List.of(USER)), List.of(person), List.of());
+
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(1, 10), "");
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, pageableSearchQuery);
+
+        assertThat(actual.getTotalPages()).isEqualTo(2);
+        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
+        assertThat(actual.getContent()).hasSize(4);
+    }
+
+    @Test
+    void ensureGetManagedInactiveMembersOfPersonReturnsPageSecond() {
+
+        final Person person = createPerson("muster", "Marlene", "Muster", List.of(USER, DEPARTMENT_HEAD));
+        createDepartment("admins", createPersons(14, List.of(INACTIVE)), List.of(person), List.of());
+
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(1, 10), "");
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, pageableSearchQuery);
+
+        assertThat(actual.getTotalPages()).isEqualTo(2);
+        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
+        assertThat(actual.getContent()).hasSize(4);
+    }
+
+    private Person createPerson(String username, String firstName, String lastName, List<Role> permissions) {
+        final Person person = new Person(username, lastName, firstName, username + "@example.org");
+        person.setPermissions(permissions);
+        return personService.create(person);
+    }
+
+    private List<Person> createPersons(int size, List<Role> permissions) {
+        return IntStream.range(0, size)
+            .mapToObj(index -> createPerson("person" + index, "Person", "Number" + index, permissions))
+            .collect(toList());
+    }
+
+    private void createDepartment(String name, List<Person> members, List<Person> departmentHeads, List<Person> secondStageAuthorities) {
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName(name);
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setMembers(members.stream().map(DepartmentServiceImplIT::departmentMember).collect(toList()));
+        department.setDepartmentHeads(departmentHeads);
+        department.setSecondStageAuthorities(secondStageAuthorities);
+        departmentRepository.save(department);
+    }
+
+    private static DepartmentMemberEmbeddable departmentMember(Person person) {
+        final DepartmentMemberEmbeddable departmentMember = new DepartmentMemberEmbeddable();
+        departmentMember.setAccessionDate(Instant.now());
+        departmentMember.setPerson(person);
+        return departmentMember;
+    }
+
+    private static PageableSearchQuery defaultPersonSearchQuery() {
+        return new PageableSearchQuery(defaultPageRequest(), "");
+    }
+
+    private static PageRequest defaultPageRequest() {
+        return PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "firstName"));
+    }
+}
@@ -10,8 +10,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -42,14 +45,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createDepartment;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
-import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.REJECTED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
@@ -65,6 +70,8 @@ class DepartmentServiceImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
     @Mock
+    private DepartmentVersionRepository departmentVersionRepository;
+    @Mock
     private ApplicationService applicationService;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
@@ -73,115 +80,53 @@ class DepartmentServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher, clock);
+        sut = new DepartmentServiceImpl(departmentRepository, departmentVersionRepository, applicationService, applicationEventPublisher, clock);
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonReturnsDistinctActivePersonsForDepartmentHeadAndSecondStageAuthority() {
+    void ensureGetManagedMembersOfPersonReturnsActivePersonsForDepartmentHeadAndSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1);
         person.setPermissions(List.of(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        final Person max = new Person();
-        max.setId(2);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember));
-
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(defaultPageRequest(), "doe");
+        final Page<Person> page = new PageImpl<>(List.of(anyPerson(2), anyPerson(3)));
+        when(departmentRepository.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(person, true, true, INACTIVE, "doe", defaultPageRequest()))
+            .thenReturn(page);
 
-        assertThat(actual.getContent()).containsExactly(jane, max);
+        final Page<Person> actual = sut.getManagedMembersOfPerson(person, pageableSearchQuery);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonReturnsDistinctActivePersonsForDepartmentHead() {
+    void ensureGetManagedMembersOfPersonReturnsActivePersonsForDepartmentHead() {
 
         final Person person = new Person();
         person.setId(1);
         person.setPermissions(List.of(DEPARTMENT_HEAD));
 
-        final Person max = new Person();
-        max.setId(2);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember));
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        final Page<Person> page = new PageImpl<>(List.of(anyPerson(2), anyPerson(3)));
+        when(departmentRepository.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(person, true, false, INACTIVE, "", defaultPageRequest()))
+            .thenReturn(page);
 
         final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(jane, max);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedMembersOfPersonReturnsDistinctActivePersonsForSecondStageAuthority() {
+    void ensureGetManagedMembersOfPersonReturnsActivePersonsForSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1);
         person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
 
-        final Person max = new Person();
-        max.setId(2);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember));
-
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        final Page<Person> page = new PageImpl<>(List.of(anyPerson(2), anyPerson(3)));
+        when(departmentRepository.findManagedMembersByPermissionsNotContainingAndNiceNameContaining(person, false, true, INACTIVE, "", defaultPageRequest()))
+            .thenReturn(page);
 
         final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(jane, max);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
@@ -198,138 +143,49 @@ class DepartmentServiceImplTest {
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForDepartmentHeadAndSecondStageAuthority() {
+    void ensureGetManagedInactiveMembersOfPersonReturnsInactivePersonsForDepartmentHeadAndSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1);
         person.setPermissions(List.of(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        final Person max = new Person();
-        max.setId(2);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        max.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final Person john = new Person();
-        john.setId(4);
-        john.setFirstName("John");
-        john.setLastName("Doe");
-        john.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable johnMember = new DepartmentMemberEmbeddable();
-        johnMember.setPerson(john);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(defaultPageRequest(), "doe");
+        final Page<Person> page = new PageImpl<>(List.of(anyPerson(2), anyPerson(3)));
+        when(departmentRepository.findManagedMembersByPermissionsContainingAndNiceNameContaining(person, true, true, INACTIVE, "doe", defaultPageRequest()))
+            .thenReturn(page);
 
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember, johnMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember, johnMember));
-
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(john, max);
+        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, pageableSearchQuery);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForDepartmentHead() {
+    void ensureGetManagedInactiveMembersOfPersonReturnsInactivePersonsForDepartmentHead() {
 
         final Person person = new Person();
         person.setId(1);
         person.setPermissions(List.of(DEPARTMENT_HEAD));
 
-        final Person max = new Person();
-        max.setId(2);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        max.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final Person john = new Person();
-        john.setId(4);
-        john.setFirstName("John");
-        john.setLastName("Doe");
-        john.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable johnMember = new DepartmentMemberEmbeddable();
-        johnMember.setPerson(john);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember, johnMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember, johnMember));
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        final Page<Person> page = new PageImpl<>(List.of(anyPerson(2), anyPerson(3)));
+        when(departmentRepository.findManagedMembersByPermissionsContainingAndNiceNameContaining(person, true, false, INACTIVE, "", defaultPageRequest()))
+            .thenReturn(page);
 
         final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(john, max);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsDistinctInactivePersonsForSecondStageAuthority() {
+    void ensureGetManagedInactiveMembersOfPersonReturnsInactivePersonsForSecondStageAuthority() {
 
         final Person person = new Person();
         person.setId(1);
         person.setPermissions(List.of(SECOND_STAGE_AUTHORITY));
 
-        final Person max = new Person();
-        max.setId(2);
-        max.setFirstName("Max");
-        max.setLastName("Mustermann");
-        max.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable maxMember = new DepartmentMemberEmbeddable();
-        maxMember.setPerson(max);
-
-        final Person jane = new Person();
-        jane.setId(3);
-        jane.setFirstName("Jane");
-        jane.setLastName("Doe");
-        final DepartmentMemberEmbeddable janeMember = new DepartmentMemberEmbeddable();
-        janeMember.setPerson(jane);
-
-        final Person john = new Person();
-        john.setId(4);
-        john.setFirstName("John");
-        john.setLastName("Doe");
-        john.setPermissions(List.of(INACTIVE));
-        final DepartmentMemberEmbeddable johnMember = new DepartmentMemberEmbeddable();
-        johnMember.setPerson(john);
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(maxMember, janeMember, johnMember));
-
-        final DepartmentEntity developers = new DepartmentEntity();
-        developers.setName("developers");
-        developers.setMembers(List.of(janeMember, johnMember));
-
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        final Page<Person> page = new PageImpl<>(List.of(anyPerson(2), anyPerson(3)));
+        when(departmentRepository.findManagedMembersByPermissionsContainingAndNiceNameContaining(person, false, true, INACTIVE, "", defaultPageRequest()))
+            .thenReturn(page);
 
         final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
-
-        assertThat(actual.getContent()).containsExactly(john, max);
+        assertThat(actual).isSameAs(page);
     }
 
     @Test
@@ -345,58 +201,6 @@ class DepartmentServiceImplTest {
         verifyNoInteractions(departmentRepository);
     }
 
-    @Test
-    void ensureGetManagedActiveMembersOfPersonReturnsPageSecond() {
-
-        final Person person = new Person();
-        person.setId(1);
-        person.setPermissions(List.of(DEPARTMENT_HEAD));
-
-        final List<DepartmentMemberEmbeddable> activeMembers =
-            anyDepartmentMembers(14, 1, p -> p.setPermissions(List.of(USER)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1);
-        departmentEntity.setMembers(activeMembers);
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
-
-        final Page<Person> actual = sut.getManagedMembersOfPerson(person, pageableSearchQuery);
-
-        assertThat(actual.getTotalPages()).isEqualTo(2);
-        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
-        assertThat(actual.getContent()).hasSize(4);
-    }
-
-    @Test
-    void ensureGetManagedInactiveMembersOfPersonReturnsPageSecond() {
-
-        final Person person = new Person();
-        person.setId(1);
-        person.setPermissions(List.of(DEPARTMENT_HEAD));
-
-        final List<DepartmentMemberEmbeddable> inactiveMembers =
-            anyDepartmentMembers(14, 1, p -> p.setPermissions(List.of(INACTIVE)));
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setId(1);
-        departmentEntity.setMembers(inactiveMembers);
-
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntity));
-
-        final PageRequest pageRequest = PageRequest.of(1, 10);
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
-
-        final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, pageableSearchQuery);
-
-        assertThat(actual.getTotalPages()).isEqualTo(2);
-        assertThat(actual.getPageable().getPageNumber()).isEqualTo(1);
-        assertThat(actual.getContent()).hasSize(4);
-    }
-
     @ParameterizedTest
     @EnumSource(value = Role.class, names = {"BOSS", "OFFICE"})
     void ensureGetManagedMembersOfPersonAndDepartmentForRole(Role role) {
@@ -957,6 +761,32 @@ class DepartmentServiceImplTest {
         assertThat(savedDepartmentEntity.getMembers().get(1).getAccessionDate()).isEqualTo(Instant.now(clock));
     }
 
+    @Test
+    void ensureUpdateSendsDepartmentUpdatedEvent() {
+        final Person person = new Person("batman", "Wayne", "Bruce", "wayne@example.org");
+        person.setId(1);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(42);
+        departmentEntity.setCreatedAt(LocalDate.of(2020, DECEMBER, 4));
+        departmentEntity.setLastModification(LocalDate.of(2020, DECEMBER, 4));
+        departmentEntity.setMembers(List.of());
+
+        when(departmentRepository.findById(42)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.save(any())).then(returnsFirstArg());
+
+        final Department department = new Department();
+        department.setId(42);
+        department.setName("department");
+        department.setMembers(List.of(person));
+
+        sut.update(department);
+
+        final ArgumentCaptor<DepartmentUpdatedEvent> departmentUpdatedEventCaptor = ArgumentCaptor.forClass(DepartmentUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(departmentUpdatedEventCaptor.capture());
+        assertThat(departmentUpdatedEventCaptor.getValue().getDepartmentId()).isEqualTo(42);
+    }
+
     @Test
     void ensureRemovingMembersInDepartmentAlsoSentDepartmentLeftEvent() {
         final Person existingPerson = new Person("pennyworth", "Pennyworth", "Alfred", "pennyworth@example.org");
@@ -1205,19 +1035,23 @@ class DepartmentServiceImplTest {
     void ensureReturnsTrueIfIsDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final Person marlenePerson = new Person("muster", "Muster", "Marlene", "marlene.muster@example.org");
+        marlenePerson.setId(2);
         final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable(marlenePerson);
         final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1);
         admins.setName("admins");
         admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
+        admins.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(admins));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marlenePerson);
         assertThat(isDepartmentHead).isTrue();
@@ -1227,25 +1061,252 @@ class DepartmentServiceImplTest {
     void ensureReturnsFalseIfIsNotDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable("admin1", "Muster", "Marlene", "marlene.muster@example.org");
+        marleneMember.getPerson().setId(2);
         final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
+        maxMember.getPerson().setId(3);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(1);
         admins.setName("admins");
         admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
+        admins.setDepartmentHeads(List.of(departmentHead));
 
         Person marketing1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        marketing1.setId(4);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(admins));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marketing1);
         assertThat(isDepartmentHead).isFalse();
     }
 
+    @Test
+    void ensureDepartmentHeadIsNotAllowedToManageSecondStageAuthorityOfDepartment() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person secondStageAuthority = anyPerson(2);
+        secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(secondStageAuthority)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+        departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, secondStageAuthority)).isFalse();
+        assertThat(sut.isSecondStageAuthorityAllowedToManagePerson(secondStageAuthority, departmentHead)).isTrue();
+        assertThat(sut.isSecondStageAuthorityAllowedToManagePerson(secondStageAuthority, secondStageAuthority)).isFalse();
+    }
+
+    @Test
+    void ensurePermissionChecksLoadDepartmentsOnlyOnce() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+        final Person otherPerson = anyPerson(3);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, otherPerson)).isFalse();
+        assertThat(sut.isSignedInUserAllowedToAccessPersonData(departmentHead, member)).isTrue();
+        assertThat(sut.isSignedInUserAllowedToAccessPersonData(departmentHead, otherPerson)).isFalse();
+
+        verify(departmentRepository).findAll();
+    }
+
+    @Test
+    void ensurePermissionChecksRespectUpdatedDepartment() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+        final Department department = new Department();
+        department.setId(1);
+        department.setMembers(List.of(departmentHead));
+        department.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findById(1)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.save(any())).then(returnsFirstArg());
+        sut.update(department);
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isFalse();
+        verify(departmentRepository).findAll();
+        verify(departmentVersionRepository).incrementVersion();
+    }
+
+    @Test
+    void ensurePermissionChecksRespectUpdatedDepartmentAfterCommit() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+        final Department department = new Department();
+        department.setId(1);
+        department.setMembers(List.of(departmentHead));
+        department.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findById(1)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.save(any())).then(returnsFirstArg());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.update(department);
+            assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isFalse();
+        verify(departmentRepository).findAll();
+    }
+
+    @Test
+    void ensurePermissionChecksIgnoreRolledBackDepartmentUpdate() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentVersionRepository.findVersion()).thenReturn(1L);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+        final Department department = new Department();
+        department.setId(1);
+        department.setMembers(List.of(departmentHead));
+        department.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findById(1)).thenReturn(Optional.of(departmentEntity));
+        when(departmentRepository.save(any())).then(returnsFirstArg());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.update(department);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // the version increment has been rolled back as well, so the graph is not reloaded
+        sut.refreshMembershipGraph();
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+        verify(departmentRepository).findAll();
+    }
+
+    @Test
+    void ensureRefreshMembershipGraphReloadsDepartmentsChangedByOtherInstance() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        final DepartmentEntity changedDepartmentEntity = new DepartmentEntity();
+        changedDepartmentEntity.setId(1);
+        changedDepartmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead)));
+        changedDepartmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentVersionRepository.findVersion()).thenReturn(1L, 2L, 2L);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity), List.of(changedDepartmentEntity));
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+        sut.refreshMembershipGraph();
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isFalse();
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureRefreshMembershipGraphKeepsGraphOfUnchangedDepartments() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentVersionRepository.findVersion()).thenReturn(1L);
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+        sut.refreshMembershipGraph();
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+        verify(departmentRepository).findAll();
+    }
+
+    @Test
+    void ensurePermissionChecksRespectDeletedDepartment() {
+
+        final Person departmentHead = anyPerson(1);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        final Person member = anyPerson(2);
+
+        final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
+        departmentEntity.setMembers(List.of(departmentMemberEmbeddable(departmentHead), departmentMemberEmbeddable(member)));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isTrue();
+
+        when(departmentRepository.existsById(1)).thenReturn(true);
+        sut.delete(1);
+
+        assertThat(sut.isDepartmentHeadAllowedToManagePerson(departmentHead, member)).isFalse();
+        verify(departmentRepository).findAll();
+    }
+
     @Test
     void ensureReturnsFalseIfIsInTheSameDepartmentButHasNotDepartmentHeadRole() {
 
@@ -1312,7 +1373,7 @@ class DepartmentServiceImplTest {
         marketing.setMembers(List.of(marketing1Member, marketing2Member, marketing3Member, personMember));
 
         when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(admins, marketing));
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), any(), any()))
             .thenReturn(emptyList());
 
         final List<Application> applications = sut.getApplicationsForLeaveOfMembersInDepartmentsOfPerson(person, date, date);
@@ -1321,15 +1382,29 @@ class DepartmentServiceImplTest {
         // Ensure fetches departments of person
         verify(departmentRepository).findByMembersPerson(person);
 
-        // Ensure fetches applications for leave for every department member
-        verify(applicationService).getApplicationsForACertainPeriodAndPerson(date, date, admin1);
-        verify(applicationService).getApplicationsForACertainPeriodAndPerson(date, date, admin2);
-        verify(applicationService).getApplicationsForACertainPeriodAndPerson(date, date, marketing1Person);
-        verify(applicationService).getApplicationsForACertainPeriodAndPerson(date, date, marketing2Person);
-        verify(applicationService).getApplicationsForACertainPeriodAndPerson(date, date, marketing3Person);
+        // Ensure fetches applications for leave of all department members except the given person with one query
+        verify(applicationService).getApplicationsForACertainPeriodAndStatus(date, date,
+            List.of(admin1, admin2, marketing1Person, marketing2Person, marketing3Person),
+            List.of(ALLOWED, TEMPORARY_ALLOWED, WAITING, ALLOWED_CANCELLATION_REQUESTED));
+    }
+
+    @Test
+    void ensureReturnsEmptyListOfDepartmentApplicationsIfPersonIsTheOnlyMember() {
 
-        // Ensure does not fetch applications for leave for the given person
-        verify(applicationService, never()).getApplicationsForACertainPeriodAndPerson(date, date, person);
+        final Person person = new Person();
+        person.setPermissions(List.of(USER));
+
+        final DepartmentEntity admins = new DepartmentEntity();
+        admins.setName("admins");
+        admins.setMembers(List.of(departmentMemberEmbeddable(person)));
+
+        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(admins));
+
+        final LocalDate date = LocalDate.now(UTC);
+        final List<Application> applications = sut.getApplicationsForLeaveOfMembersInDepartmentsOfPerson(person, date, date);
+        assertThat(applications).isEmpty();
+
+        verifyNoInteractions(applicationService);
     }
 
 
@@ -1369,23 +1444,15 @@ class DepartmentServiceImplTest {
         cancellationRequestApplication.setStatus(ALLOWED_CANCELLATION_REQUESTED);
         cancellationRequestApplication.setStartDate(LocalDate.of(2022, 9, 12));
 
-        final Application otherApplication = new Application();
-        otherApplication.setStatus(REJECTED);
-        otherApplication.setStartDate(LocalDate.of(2022, 9, 10));
-
         when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(admins, marketing));
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), eq(admin1)))
-            .thenReturn(List.of(waitingApplication, otherApplication));
-
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), eq(marketing1)))
-            .thenReturn(List.of(allowedApplication, cancellationRequestApplication));
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(date, date, List.of(admin1, marketing1), List.of(ALLOWED, TEMPORARY_ALLOWED, WAITING, ALLOWED_CANCELLATION_REQUESTED)))
+            .thenReturn(List.of(waitingApplication, allowedApplication, cancellationRequestApplication));
 
         final List<Application> applications = sut.getApplicationsForLeaveOfMembersInDepartmentsOfPerson(person, date, date);
         assertThat(applications)
             .hasSize(3)
-            .contains(waitingApplication, allowedApplication, cancellationRequestApplication)
-            .doesNotContain(otherApplication);
+            .contains(waitingApplication, allowedApplication, cancellationRequestApplication);
     }
 
     @Test
@@ -1416,7 +1483,7 @@ class DepartmentServiceImplTest {
         cancellationRequestApplication.setStartDate(LocalDate.of(2022, 9, 12));
 
         when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(marketing));
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), eq(marketing1)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), eq(List.of(marketing1)), any()))
             .thenReturn(List.of(waitingApplication, allowedApplication, cancellationRequestApplication));
 
         final List<Application> applications = sut.getApplicationsForLeaveOfMembersInDepartmentsOfPerson(person, date, date);
@@ -1558,11 +1625,12 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(personMember, departmentHeadMember));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isTrue();
@@ -1582,11 +1650,12 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(departmentHeadMember));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isFalse();
@@ -1608,11 +1677,13 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity departmentEntity = new DepartmentEntity();
+        departmentEntity.setId(1);
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
         departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, secondStageAuthority);
         assertThat(isAllowed).isTrue();
@@ -1634,13 +1705,13 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
         final DepartmentEntity dep = new DepartmentEntity();
+        dep.setId(1);
         dep.setName("dep");
         dep.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
         dep.setSecondStageAuthorities(List.of(secondStageAuthority));
         dep.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority))
-            .thenReturn(List.of(dep));
+        when(departmentRepository.findAll()).thenReturn(List.of(dep));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(secondStageAuthority, departmentHead);
         assertThat(isAllowed).isTrue();
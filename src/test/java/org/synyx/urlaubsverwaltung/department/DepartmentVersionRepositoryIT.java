@@ -0,0 +1,28 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class DepartmentVersionRepositoryIT extends TestContainersBase {
+
+    @Autowired
+    private DepartmentVersionRepository sut;
+
+    @Test
+    void ensureIncrementsVersion() {
+
+        final long version = sut.findVersion();
+
+        sut.incrementVersion();
+        sut.incrementVersion();
+
+        assertThat(sut.findVersion()).isEqualTo(version + 2);
+    }
+}
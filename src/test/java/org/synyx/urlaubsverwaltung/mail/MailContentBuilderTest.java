@@ -0,0 +1,99 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailContentBuilderTest {
+
+    private MailContentBuilder sut;
+
+    private StringTemplateLoader templateLoader;
+    private Configuration configuration;
+
+    @BeforeEach
+    void setUp() {
+        templateLoader = new StringTemplateLoader();
+
+        configuration = new Configuration(Configuration.VERSION_2_3_30);
+        configuration.setTemplateLoader(templateLoader);
+
+        sut = new MailContentBuilder(configuration);
+    }
+
+    @Test
+    void ensureBuildMailBody() {
+        templateLoader.putTemplate("template.ftl", "Hallo ${recipient.niceName}, ${text}");
+
+        final Map<String, Object> model = new HashMap<>();
+        model.put("recipient", new Person("marlene", "Muster", "Marlene", "muster@example.org"));
+        model.put("text", "Text");
+
+        assertThat(sut.buildMailBody("template", model, GERMAN)).isEqualTo("Hallo Marlene Muster, Text");
+    }
+
+    @Test
+    void ensureBuildMailBodiesWithoutRecipient() {
+        templateLoader.putTemplate("template.ftl", "Hallo ${text}");
+
+        final Function<Person, String> bodies = sut.buildMailBodies("template", Map.of("text", "Text"), GERMAN);
+
+        assertThat(bodies.apply(new Person("marlene", "Muster", "Marlene", "muster@example.org"))).isEqualTo("Hallo Text");
+        assertThat(bodies.apply(new Person("bruce", "Wayne", "Bruce", "wayne@example.org"))).isEqualTo("Hallo Text");
+    }
+
+    @Test
+    void ensureBuildMailBodiesWithRecipientNiceName() {
+        templateLoader.putTemplate("template.ftl", "Hallo ${recipient.niceName}, ${text}\nViele Grüße ${recipient.niceName}");
+
+        final Function<Person, String> bodies = sut.buildMailBodies("template", Map.of("text", "Text"), GERMAN);
+
+        assertThat(bodies.apply(new Person("marlene", "Muster", "Marlene", "muster@example.org")))
+            .isEqualTo("Hallo Marlene Muster, Text\nViele Grüße Marlene Muster");
+        assertThat(bodies.apply(new Person("bruce", "Wayne", "Bruce", "wayne@example.org")))
+            .isEqualTo("Hallo Bruce Wayne, Text\nViele Grüße Bruce Wayne");
+        assertThat(bodies.apply(new Person(null, null, "Administrator", "admin@example.org")))
+            .isEqualTo("Hallo Administrator, Text\nViele Grüße Administrator");
+    }
+
+    @Test
+    void ensureBuildMailBodiesWithOtherRecipientAttributes() {
+        templateLoader.putTemplate("template.ftl", "Hallo ${recipient.niceName} <#if recipient.email??>${recipient.email}</#if>");
+
+        final Function<Person, String> bodies = sut.buildMailBodies("template", Map.of(), GERMAN);
+
+        assertThat(bodies.apply(new Person("marlene", "Muster", "Marlene", "muster@example.org")))
+            .isEqualTo("Hallo Marlene Muster muster@example.org");
+        assertThat(bodies.apply(new Person("bruce", "Wayne", "Bruce", null)))
+            .isEqualTo("Hallo Bruce Wayne ");
+    }
+
+    @Test
+    void ensureBuildMailBodiesAnalyzesReloadedTemplateAgain() {
+        templateLoader.putTemplate("template.ftl", "Hallo ${text}");
+
+        final Person person = new Person("marlene", "Muster", "Marlene", "muster@example.org");
+        assertThat(sut.buildMailBodies("template", Map.of("text", "Text"), GERMAN).apply(person)).isEqualTo("Hallo Text");
+
+        templateLoader.putTemplate("template.ftl", "Hallo ${recipient.email}, ${text}");
+        configuration.clearTemplateCache();
+
+        assertThat(sut.buildMailBodies("template", Map.of("text", "Text"), GERMAN).apply(person)).isEqualTo("Hallo muster@example.org, Text");
+    }
+
+    @Test
+    void ensureBuildMailBodiesThrowsOnMissingTemplate() {
+        assertThatThrownBy(() -> sut.buildMailBodies("missing", Map.of(), GERMAN))
+            .isInstanceOf(MailContentBuilderException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+
+import javax.mail.internet.MimeMessage;
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The outbox is enabled here, in contrast to the other integration tests that assert the sent mails directly.
+ * Queued mails are not committed, so they are not delivered by the scheduled delivery in the background.
+ */
+@SpringBootTest(properties = {"spring.mail.port=3025", "spring.mail.host=localhost", "uv.mail.outbox.enabled=true"})
+@Transactional
+class MailOutboxServiceIT extends TestContainersBase {
+
+    @RegisterExtension
+    public final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP_IMAP);
+
+    @Autowired
+    private MailOutboxService sut;
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void ensureQueuesMailWithAttachments() {
+
+        sut.enqueue("sender@example.org", "recipient@example.org", "subject", "body",
+            List.of(new MailAttachment("calendar.ics", new ByteArrayResource("calendar".getBytes(UTF_8)))));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final List<MailOutboxEntity> queuedMails = mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(Instant.now().plusSeconds(1), PageRequest.of(0, 10));
+        assertThat(queuedMails).hasSize(1);
+
+        final MailOutboxEntity queuedMail = queuedMails.get(0);
+        assertThat(queuedMail.getSender()).isEqualTo("sender@example.org");
+        assertThat(queuedMail.getRecipient()).isEqualTo("recipient@example.org");
+        assertThat(queuedMail.getSubject()).isEqualTo("subject");
+        assertThat(queuedMail.getBody()).isEqualTo("body");
+        assertThat(queuedMail.getAttempts()).isZero();
+        assertThat(queuedMail.getAttachments()).hasSize(1);
+        assertThat(queuedMail.getAttachments().get(0).getName()).isEqualTo("calendar.ics");
+        assertThat(queuedMail.getAttachments().get(0).getContent()).isEqualTo("calendar".getBytes(UTF_8));
+    }
+
+    @Test
+    void ensureFindsOnlyDueMailsOrderedById() {
+
+        final Instant now = Instant.parse("2022-06-01T10:00:00Z");
+        final MailOutboxEntity dueMail = mailOutboxRepository.save(mail("due@example.org", now.minusSeconds(60)));
+        final MailOutboxEntity mailDueNow = mailOutboxRepository.save(mail("now@example.org", now));
+        mailOutboxRepository.save(mail("later@example.org", now.plusSeconds(60)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final List<MailOutboxEntity> dueMails = mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(now, PageRequest.of(0, 10));
+        assertThat(dueMails).extracting(MailOutboxEntity::getId).containsExactly(dueMail.getId(), mailDueNow.getId());
+
+        final List<MailOutboxEntity> firstDueMail = mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(now, PageRequest.of(0, 1));
+        assertThat(firstDueMail).extracting(MailOutboxEntity::getId).containsExactly(dueMail.getId());
+    }
+
+    @Test
+    void ensureDeliversQueuedMailsAndRemovesThemFromOutbox() throws Exception {
+
+        sut.enqueue("sender@example.org", "first@example.org", "first subject", "first body");
+        sut.enqueue("sender@example.org", "second@example.org", "second subject", "second body");
+
+        sut.deliverQueuedMails();
+
+        final MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertThat(receivedMessages).hasSize(2);
+        assertThat(receivedMessages[0].getSubject()).isEqualTo("first subject");
+        assertThat(receivedMessages[1].getSubject()).isEqualTo("second subject");
+
+        entityManager.flush();
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    private static MailOutboxEntity mail(String recipient, Instant nextAttemptAt) {
+        final MailOutboxEntity mail = new MailOutboxEntity();
+        mail.setSender("sender@example.org");
+        mail.setRecipient(recipient);
+        mail.setSubject("subject");
+        mail.setBody("body");
+        mail.setCreatedAt(nextAttemptAt);
+        mail.setNextAttemptAt(nextAttemptAt);
+        return mail;
+    }
+}
@@ -0,0 +1,176 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.time.ZoneOffset.UTC;
+import static javax.mail.Session.getInstance;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    private static final Instant NOW = Instant.parse("2022-10-17T10:00:00Z");
+
+    private MailOutboxService sut;
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+    @Mock
+    private MailSenderService mailSenderService;
+
+    private MailOutboxProperties mailOutboxProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxProperties = new MailOutboxProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new MailOutboxService(mailOutboxRepository, mailSenderService, mailOutboxProperties, Clock.fixed(NOW, UTC), meterRegistry);
+    }
+
+    @Test
+    void ensureEnqueueStoresMail() {
+        when(mailOutboxRepository.save(any(MailOutboxEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        sut.enqueue("from@example.org", "hans@example.org", "subject", "text", List.of(new MailAttachment("calendar.ics", new ByteArrayResource(new byte[]{1, 2}))));
+
+        final ArgumentCaptor<MailOutboxEntity> captor = ArgumentCaptor.forClass(MailOutboxEntity.class);
+        verify(mailOutboxRepository).save(captor.capture());
+        final MailOutboxEntity mail = captor.getValue();
+        assertThat(mail.getSender()).isEqualTo("from@example.org");
+        assertThat(mail.getRecipient()).isEqualTo("hans@example.org");
+        assertThat(mail.getSubject()).isEqualTo("subject");
+        assertThat(mail.getBody()).isEqualTo("text");
+        assertThat(mail.getCreatedAt()).isEqualTo(NOW);
+        assertThat(mail.getNextAttemptAt()).isEqualTo(NOW);
+        assertThat(mail.getAttempts()).isZero();
+        assertThat(mail.getAttachments()).hasSize(1);
+        assertThat(mail.getAttachments().get(0).getName()).isEqualTo("calendar.ics");
+        assertThat(mail.getAttachments().get(0).getContent()).containsExactly(1, 2);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", " "})
+    void ensureEnqueueIgnoresEmptyRecipients(String recipient) {
+        sut.enqueue("from@example.org", recipient, "subject", "text");
+        verifyNoInteractions(mailOutboxRepository);
+    }
+
+    @Test
+    void ensureDeliverQueuedMailsDeletesDeliveredMails() throws MessagingException {
+        final MailOutboxEntity mail = mail(1L, NOW.minus(Duration.ofSeconds(3)), 0);
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(NOW, PageRequest.of(0, 50))).thenReturn(List.of(mail));
+
+        final MimeMessage message = mimeMessage();
+        when(mailSenderService.createMimeMessage("from@example.org", "hans@example.org", "subject", "text", List.of())).thenReturn(message);
+        when(mailSenderService.sendEmails(List.of(message))).thenReturn(Map.of());
+
+        sut.deliverQueuedMails();
+
+        verify(mailOutboxRepository).deleteAll(List.of(mail));
+        verify(mailOutboxRepository).saveAll(List.of());
+        assertThat(meterRegistry.timer("mail.outbox.latency").count()).isOne();
+    }
+
+    @Test
+    void ensureDeliverQueuedMailsDeliversAllBatches() throws MessagingException {
+        mailOutboxProperties.setBatchSize(1);
+
+        final MailOutboxEntity first = mail(1L, NOW, 0);
+        final MailOutboxEntity second = mail(2L, NOW, 0);
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(NOW, PageRequest.of(0, 1)))
+            .thenReturn(List.of(first), List.of(second), List.of());
+
+        final MimeMessage message = mimeMessage();
+        when(mailSenderService.createMimeMessage(any(), any(), any(), any(), any())).thenReturn(message);
+        when(mailSenderService.sendEmails(List.of(message))).thenReturn(Map.of());
+
+        sut.deliverQueuedMails();
+
+        verify(mailOutboxRepository).deleteAll(List.of(first));
+        verify(mailOutboxRepository).deleteAll(List.of(second));
+    }
+
+    @Test
+    void ensureDeliverQueuedMailsRetriesFailedMailsWithBackoff() throws MessagingException {
+        mailOutboxProperties.setBatchSize(1);
+
+        final MailOutboxEntity mail = mail(1L, NOW, 1);
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(NOW, PageRequest.of(0, 1))).thenReturn(List.of(mail));
+
+        final MimeMessage message = mimeMessage();
+        when(mailSenderService.createMimeMessage(any(), any(), any(), any(), any())).thenReturn(message);
+        when(mailSenderService.sendEmails(List.of(message))).thenReturn(Map.of(message, new IllegalStateException()));
+
+        sut.deliverQueuedMails();
+
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        assertThat(mail.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(2)));
+        verify(mailOutboxRepository).deleteAll(List.of());
+        verify(mailOutboxRepository).saveAll(List.of(mail));
+    }
+
+    @Test
+    void ensureDeliverQueuedMailsDropsMailAfterMaxAttempts() throws MessagingException {
+        final MailOutboxEntity mail = mail(1L, NOW, 4);
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderById(eq(NOW), any())).thenReturn(List.of(mail));
+
+        final MimeMessage message = mimeMessage();
+        when(mailSenderService.createMimeMessage(any(), any(), any(), any(), any())).thenReturn(message);
+        when(mailSenderService.sendEmails(List.of(message))).thenReturn(Map.of(message, new IllegalStateException()));
+
+        sut.deliverQueuedMails();
+
+        verify(mailOutboxRepository).deleteAll(List.of(mail));
+        assertThat(meterRegistry.counter("mail.outbox.dropped").count()).isOne();
+    }
+
+    @Test
+    void ensureOutboxSizeMetric() {
+        when(mailOutboxRepository.count()).thenReturn(42L);
+        assertThat(meterRegistry.get("mail.outbox.size").gauge().value()).isEqualTo(42);
+    }
+
+    private static MailOutboxEntity mail(Long id, Instant createdAt, int attempts) {
+        final MailOutboxEntity mail = new MailOutboxEntity();
+        mail.setId(id);
+        mail.setSender("from@example.org");
+        mail.setRecipient("hans@example.org");
+        mail.setSubject("subject");
+        mail.setBody("text");
+        mail.setCreatedAt(createdAt);
+        mail.setNextAttemptAt(createdAt);
+        mail.setAttempts(attempts);
+        return mail;
+    }
+
+    private static MimeMessage mimeMessage() {
+        return new MimeMessage(getInstance(new Properties(), null));
+    }
+}
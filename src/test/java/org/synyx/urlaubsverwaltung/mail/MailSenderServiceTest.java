@@ -12,17 +12,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static javax.mail.Session.getInstance;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -97,6 +102,61 @@ class MailSenderServiceTest {
         verifyNoInteractions(javaMailSender);
     }
 
+    @Test
+    void ensuresCreateMimeMessageWithAttachment() throws Exception {
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(getInstance(new Properties(), null)));
+
+        final MimeMessage mailMessage = sut.createMimeMessage("from@example.org", "hans@dampf.com", "subject", "text",
+            List.of(new MailAttachment("name", new ByteArrayResource(new byte[]{}))));
+
+        assertThat(mailMessage.getFrom()).contains(new InternetAddress("from@example.org"));
+        assertThat(mailMessage.getAllRecipients()).containsExactly(new InternetAddress("hans@dampf.com"));
+        assertThat(mailMessage.getSubject()).isEqualTo("subject");
+        assertThat(readPlainContent(mailMessage)).hasToString("text");
+        assertThat(new MimeMessageParser(mailMessage).parse().getAttachmentList()).hasSize(1);
+    }
+
+    @Test
+    void ensuresSendEmailsSendsAllMailsAtOnce() {
+        final MimeMessage first = new MimeMessage(getInstance(new Properties(), null));
+        final MimeMessage second = new MimeMessage(getInstance(new Properties(), null));
+
+        final Map<MimeMessage, Exception> failedMessages = sut.sendEmails(List.of(first, second));
+
+        assertThat(failedMessages).isEmpty();
+        verify(javaMailSender).send(first, second);
+    }
+
+    @Test
+    void ensuresSendEmailsReturnsFailedMails() {
+        final MimeMessage first = new MimeMessage(getInstance(new Properties(), null));
+        final MimeMessage second = new MimeMessage(getInstance(new Properties(), null));
+
+        final Exception cause = new IllegalStateException();
+        doThrow(new MailSendException(Map.of(second, cause))).when(javaMailSender).send(first, second);
+
+        final Map<MimeMessage, Exception> failedMessages = sut.sendEmails(List.of(first, second));
+        assertThat(failedMessages).containsOnly(entry(second, cause));
+    }
+
+    @Test
+    void ensuresSendEmailsReturnsAllMailsIfMailServerIsNotAvailable() {
+        final MimeMessage first = new MimeMessage(getInstance(new Properties(), null));
+        final MimeMessage second = new MimeMessage(getInstance(new Properties(), null));
+
+        final MailAuthenticationException exception = new MailAuthenticationException("authentication failed");
+        doThrow(exception).when(javaMailSender).send(first, second);
+
+        final Map<MimeMessage, Exception> failedMessages = sut.sendEmails(List.of(first, second));
+        assertThat(failedMessages).containsOnly(entry(first, exception), entry(second, exception));
+    }
+
+    @Test
+    void ensuresSendEmailsDoesNothingWithoutMails() {
+        assertThat(sut.sendEmails(List.of())).isEmpty();
+        verifyNoInteractions(javaMailSender);
+    }
+
     private String readPlainContent(MimeMessage message) throws Exception {
         return new MimeMessageParser(message).parse().getPlainContent();
     }
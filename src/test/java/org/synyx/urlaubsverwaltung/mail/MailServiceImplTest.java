@@ -20,6 +20,7 @@ import java.util.Map;
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_USER;
@@ -40,17 +41,23 @@ class MailServiceImplTest {
     private MailProperties mailProperties;
     @Mock
     private PersonService personService;
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    private MailOutboxProperties mailOutboxProperties;
 
     @BeforeEach
     void setUp() {
 
         when(messageSource.getMessage(any(), any(), any())).thenReturn("subject");
-        when(mailContentBuilder.buildMailBody(any(), any(), any())).thenReturn("emailBody");
+        when(mailContentBuilder.buildMailBodies(any(), any(), any())).thenReturn(recipient -> "emailBody");
         when(mailProperties.getSender()).thenReturn("no-reply@example.org");
         when(mailProperties.getSenderDisplayName()).thenReturn("Urlaubsverwaltung");
         when(mailProperties.getApplicationUrl()).thenReturn("http://localhost:8080");
 
-        sut = new MailServiceImpl(messageSource, mailContentBuilder, mailSenderService, mailProperties, personService);
+        mailOutboxProperties = new MailOutboxProperties();
+
+        sut = new MailServiceImpl(messageSource, mailContentBuilder, mailSenderService, mailProperties, personService, mailOutboxService, mailOutboxProperties);
     }
 
     @Test
@@ -76,7 +83,29 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "mail@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "mail@example.org", "subject", "emailBody");
+    }
+
+    @Test
+    void sendMailDirectlyIfOutboxIsDisabled() {
+
+        setupMockServletRequest();
+
+        mailOutboxProperties.setEnabled(false);
+
+        final Person hans = new Person();
+        hans.setEmail("hans@example.org");
+
+        final Mail mail = Mail.builder()
+            .withRecipient(hans)
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", new HashMap<>())
+            .build();
+
+        sut.send(mail);
+
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verifyNoInteractions(mailOutboxService);
     }
 
     @Test
@@ -98,7 +127,7 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
     }
 
     @Test
@@ -124,8 +153,8 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
     }
 
     @Test
@@ -154,8 +183,8 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
     }
 
     @Test
@@ -184,8 +213,8 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
     }
 
     @Test
@@ -205,7 +234,7 @@ class MailServiceImplTest {
             .build();
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", to, "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", to, "subject", "emailBody");
     }
 
     @Test
@@ -235,9 +264,9 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "admin@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "admin@example.org", "subject", "emailBody");
     }
 
     @Test
@@ -259,8 +288,8 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
-        verifyNoMoreInteractions(mailSenderService);
+        verify(mailOutboxService).enqueue("Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verifyNoMoreInteractions(mailOutboxService);
     }
 
     private void setupMockServletRequest() {
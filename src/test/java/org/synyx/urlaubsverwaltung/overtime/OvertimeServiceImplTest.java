@@ -309,6 +309,26 @@ class OvertimeServiceImplTest {
         verify(applicationService).getTotalOvertimeReductionOfPerson(person);
     }
 
+    @Test
+    void ensureGetTotalAndLeftOvertimeForPersonAndYearEqualsSeparateCalculations() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final Overtime overtime = new Overtime(person, LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 1), Duration.ofMinutes(10));
+        final Overtime overtime2 = new Overtime(person, LocalDate.of(2016, 12, 31), LocalDate.of(2016, 12, 31), Duration.ofHours(4));
+        when(overtimeRepository.findByPersonAndStartDateBetweenOrderByStartDateDesc(person, LocalDate.of(2016, 1, 1), LocalDate.of(2016, 12, 31)))
+            .thenReturn(List.of(overtime, overtime2));
+        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.of(20.333));
+        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ofHours(3));
+
+        final TotalAndLeftOvertime totalAndLeftOvertime = sut.getTotalAndLeftOvertimeForPersonAndYear(person, 2016);
+        assertThat(totalAndLeftOvertime.getTotalOvertimeForYear()).isEqualTo(Duration.ofMinutes(250));
+        assertThat(totalAndLeftOvertime.getLeftOvertime()).isEqualTo(Duration.ofMinutes(1040));
+
+        assertThat(totalAndLeftOvertime.getTotalOvertimeForYear()).isEqualTo(sut.getTotalOvertimeForPersonAndYear(person, 2016));
+        assertThat(totalAndLeftOvertime.getLeftOvertime()).isEqualTo(sut.getLeftOvertimeForPerson(person));
+    }
+
     @Test
     void ensureTheLeftOvertimeIsZeroIfPersonHasNeitherOvertimeRecordsNorOvertimeReduction() {
 
@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.account.Account;
 import org.synyx.urlaubsverwaltung.account.AccountService;
 import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
@@ -23,6 +24,8 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeViewMode
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.overtime.TotalAndLeftOvertime;
+import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
@@ -30,26 +33,32 @@ import org.synyx.urlaubsverwaltung.person.UnknownPersonException;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
+import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static java.time.Month.APRIL;
 import static java.time.temporal.TemporalAdjusters.firstDayOfMonth;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -66,6 +75,7 @@ import static org.synyx.urlaubsverwaltung.application.application.ApplicationSta
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeColor.ORANGE;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
@@ -92,7 +102,7 @@ class OverviewViewControllerTest {
     @Mock
     private ApplicationService applicationService;
     @Mock
-    private WorkDaysCountService workDaysCountService;
+    private WorkingTimeCalendarService workingTimeCalendarService;
     @Mock
     private SickNoteService sickNoteService;
     @Mock
@@ -107,7 +117,7 @@ class OverviewViewControllerTest {
     @BeforeEach
     void setUp() {
         sut = new OverviewViewController(personService, accountService, vacationDaysService,
-            applicationService, workDaysCountService, sickNoteService, overtimeService, settingsService,
+            applicationService, workingTimeCalendarService, sickNoteService, overtimeService, settingsService,
             departmentService, vacationTypeViewModelService, clock);
     }
 
@@ -148,7 +158,7 @@ class OverviewViewControllerTest {
         verify(personService).getPersonByID(SOME_PERSON_ID);
         verify(departmentService).isSignedInUserAllowedToAccessPersonData(signedInUser, person);
         verify(departmentService).getAssignedDepartmentsOfMember(person);
-        verifyNoMoreInteractions(personService, accountService, vacationDaysService, applicationService, workDaysCountService, sickNoteService, overtimeService, settingsService, departmentService, vacationTypeViewModelService);
+        verifyNoMoreInteractions(personService, accountService, vacationDaysService, applicationService, workingTimeCalendarService, sickNoteService, overtimeService, settingsService, departmentService, vacationTypeViewModelService);
     }
 
     @Test
@@ -163,6 +173,8 @@ class OverviewViewControllerTest {
 
         final int currentYear = Year.now(clock).getValue();
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"));
 
         verify(accountService).getHolidaysAccount(currentYear, person);
@@ -180,6 +192,8 @@ class OverviewViewControllerTest {
 
         final int expectedYear = 1987;
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview")
             .param("year", Integer.toString(expectedYear)));
 
@@ -201,8 +215,15 @@ class OverviewViewControllerTest {
         when(accountService.getHolidaysAccount(Year.now(clock).getValue(), person)).thenReturn(Optional.of(account));
         when(accountService.getHolidaysAccount(Year.now(clock).getValue() + 1, person)).thenReturn(Optional.of(nextYearAccount));
 
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(Map.of());
+        final int currentYear = Year.now(clock).getValue();
+        final DateRange currentAndNextYear = new DateRange(Year.of(currentYear).atDay(1), Year.of(currentYear + 1).atDay(1).with(lastDayOfYear()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), currentAndNextYear)).thenReturn(Map.of(person, workingTimeCalendar));
+
         final VacationDaysLeft vacationDaysLeft = someVacationDaysLeft();
-        when(vacationDaysService.getVacationDaysLeft(account, Optional.of(nextYearAccount))).thenReturn(vacationDaysLeft);
+        when(vacationDaysService.getVacationDaysLeft(account, Optional.of(nextYearAccount), Map.of(person, workingTimeCalendar))).thenReturn(vacationDaysLeft);
+
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
 
         perform(get("/web/person/1/overview"))
             .andExpect(model().attribute("vacationDaysLeft", vacationDaysLeft))
@@ -220,6 +241,8 @@ class OverviewViewControllerTest {
 
         when(accountService.getHolidaysAccount(1984, person)).thenReturn(Optional.empty());
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/1/overview").param("year", "1984"))
             .andExpect(model().attribute("showExpiredVacationDays", false))
             .andExpect(model().attributeDoesNotExist("vacationDaysLeft"))
@@ -239,6 +262,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAccessAbsenceOverview", true));
     }
@@ -254,6 +279,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAccessCalendarShare", true));
     }
@@ -268,6 +295,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAccessCalendarShare", true));
     }
@@ -282,6 +311,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAccessCalendarShare", true));
     }
@@ -296,6 +327,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAddApplicationForLeaveForAnotherUser", true));
     }
@@ -311,6 +344,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(new Person()));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAddSickNoteAnotherUser", true));
     }
@@ -327,6 +362,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(departmentService.isDepartmentHeadAllowedToManagePerson(departmentHead, person)).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAddSickNoteAnotherUser", true));
     }
@@ -343,6 +380,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(departmentService.isSecondStageAuthorityAllowedToManagePerson(ssa, person)).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canAddSickNoteAnotherUser", true));
     }
@@ -357,6 +396,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(new Person()));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", true));
     }
@@ -371,6 +412,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(new Person()));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", true));
     }
@@ -385,6 +428,8 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(SOME_PERSON_ID)).thenReturn(Optional.of(new Person()));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", false));
     }
@@ -401,6 +446,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(departmentService.isDepartmentHeadAllowedToManagePerson(departmentHead, person)).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", true));
     }
@@ -417,6 +464,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(departmentService.isDepartmentHeadAllowedToManagePerson(departmentHead, person)).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", true));
     }
@@ -434,6 +483,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(departmentService.isSecondStageAuthorityAllowedToManagePerson(ssa, person)).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", true));
     }
@@ -450,6 +501,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(departmentService.isSecondStageAuthorityAllowedToManagePerson(ssa, person)).thenReturn(true);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("canViewSickNoteAnotherUser", true));
     }
@@ -465,6 +518,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(any(), any())).thenReturn(true);
         when(applicationService.getApplicationsForACertainPeriodAndPerson(any(), any(), any())).thenReturn(Collections.emptyList());
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         perform(get("/web/person/" + SOME_PERSON_ID + "/overview"))
             .andExpect(model().attribute("applications", equalTo(List.of())))
             .andExpect(model().attribute("usedDaysOverview",
@@ -507,8 +562,6 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(1)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(person, person)).thenReturn(true);
         when(overtimeService.isUserIsAllowedToWriteOvertime(person, person)).thenReturn(true);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), eq(person))).thenReturn(ONE);
-
         when(vacationTypeViewModelService.getVacationTypeColors()).thenReturn(List.of(new VacationTypeDto(1, ORANGE)));
 
         final VacationTypeEntity vacationType = new VacationTypeEntity();
@@ -519,12 +572,14 @@ class OverviewViewControllerTest {
         final Application revokedApplication = new Application();
         revokedApplication.setStatus(REVOKED);
         revokedApplication.setVacationType(vacationType);
+        revokedApplication.setDayLength(FULL);
         revokedApplication.setPerson(person);
         revokedApplication.setStartDate(localDate.plusDays(1L));
         revokedApplication.setEndDate(localDate.plusDays(2L));
 
         final Application waitingApplication = new Application();
         waitingApplication.setVacationType(vacationType);
+        waitingApplication.setDayLength(FULL);
         waitingApplication.setPerson(person);
         waitingApplication.setStatus(WAITING);
         waitingApplication.setStartDate(localDate.plusDays(3L));
@@ -532,6 +587,7 @@ class OverviewViewControllerTest {
 
         final Application allowedApplication = new Application();
         allowedApplication.setVacationType(vacationType);
+        allowedApplication.setDayLength(FULL);
         allowedApplication.setPerson(person);
         allowedApplication.setStatus(ALLOWED);
         allowedApplication.setStartDate(localDate.plusDays(5L));
@@ -552,15 +608,26 @@ class OverviewViewControllerTest {
 
         when(sickNoteService.getByPersonAndPeriod(eq(person), any(), any())).thenReturn(asList(sickNote, sickNote2));
 
+        final Map<LocalDate, DayLength> workingTimeByDate = new HashMap<>();
+        new DateRange(localDate.minusDays(10L), localDate.plusDays(10L)).forEach(date -> workingTimeByDate.put(date, FULL));
+        final DateRange yearAndNextYear = new DateRange(LocalDate.of(2021, 1, 1), LocalDate.of(2022, 12, 31));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), yearAndNextYear))
+            .thenReturn(Map.of(person, new WorkingTimeCalendar(workingTimeByDate)));
+
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         final ResultActions resultActions = perform(get("/web/person/1/overview").param("year", "2021"));
 
         resultActions
             .andExpect(status().isOk())
             .andExpect(view().name("thymeleaf/person/person-overview"))
             .andExpect(model().attribute("applications", hasSize(3)))
+            .andExpect(model().attribute("usedDaysOverview", hasProperty("holidayDays", hasProperty("sum", equalTo(new BigDecimal("8.0"))))))
             .andExpect(model().attribute("sickNotes", hasSize(2)))
             .andExpect(model().attribute("signedInUser", person))
             .andExpect(model().attribute("userIsAllowedToWriteOvertime", true))
+            .andExpect(model().attribute("overtimeTotal", Duration.ofHours(10)))
+            .andExpect(model().attribute("overtimeLeft", Duration.ofHours(4)))
             .andExpect(model().attribute("vacationTypeColors", equalTo(List.of(new VacationTypeDto(1, ORANGE)))));
     }
 
@@ -577,6 +644,8 @@ class OverviewViewControllerTest {
         when(departmentService.isSignedInUserAllowedToAccessPersonData(person, person)).thenReturn(true);
         when(overtimeService.isUserIsAllowedToWriteOvertime(person, person)).thenReturn(false);
 
+        when(overtimeService.getTotalAndLeftOvertimeForPersonAndYear(any(), anyInt())).thenReturn(someTotalAndLeftOvertime());
+
         MockHttpServletRequestBuilder builder = get("/web/person/1/overview");
         final ResultActions resultActions = perform(builder);
         resultActions.andExpect(status().isOk());
@@ -594,6 +663,10 @@ class OverviewViewControllerTest {
         return new Account(somePerson(), validFrom, validTo, true, expiryDate, TEN, TEN, TEN, "comment");
     }
 
+    private TotalAndLeftOvertime someTotalAndLeftOvertime() {
+        return new TotalAndLeftOvertime(Duration.ofHours(10), Duration.ofHours(4));
+    }
+
     private VacationDaysLeft someVacationDaysLeft() {
 
         return VacationDaysLeft.builder()
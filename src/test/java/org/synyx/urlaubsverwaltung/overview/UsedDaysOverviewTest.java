@@ -1,27 +1,24 @@
 package org.synyx.urlaubsverwaltung.overview;
 
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.TestDataCreator;
 import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
-import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.anyApplication;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationTypeEntity;
@@ -35,12 +32,8 @@ import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCateg
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.UNPAIDLEAVE;
 
 
-@ExtendWith(MockitoExtension.class)
 class UsedDaysOverviewTest {
 
-    @Mock
-    private WorkDaysCountService workDaysCountService;
-
     @Test
     void ensureThrowsIfOneOfTheGivenApplicationsDoesNotMatchTheGivenYear() {
 
@@ -51,7 +44,7 @@ class UsedDaysOverviewTest {
         application.setStatus(WAITING);
 
         assertThatIllegalArgumentException()
-            .isThrownBy(() -> new UsedDaysOverview(singletonList(application), 2015, workDaysCountService));
+            .isThrownBy(() -> new UsedDaysOverview(List.of(new ApplicationForLeave(application, ONE)), 2015, new WorkingTimeCalendar(Map.of())));
     }
 
     @Test
@@ -121,12 +114,12 @@ class UsedDaysOverviewTest {
             specialLeave, specialLeaveAllowed, unpaidLeave, unpaidLeaveAllowed, overtimeLeave, overtimeLeaveAllowed,
             overtimeLeaveRequestCancellation);
 
-        // just return 1 day for each application for leave
-        when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
-            .thenReturn(ONE);
+        // just 1 day for each application for leave
+        final List<ApplicationForLeave> applicationsForLeave = applications.stream()
+            .map(application -> new ApplicationForLeave(application, ONE))
+            .collect(toList());
 
-        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCountService);
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applicationsForLeave, 2014, new WorkingTimeCalendar(Map.of()));
 
         final UsedDays holidayDays = usedDaysOverview.getHolidayDays();
         assertThat(holidayDays.getDays())
@@ -161,14 +154,20 @@ class UsedDaysOverviewTest {
         // 3 days in 2013, 2 days in 2014
         Application holiday = createApplication(person, createVacationTypeEntity(HOLIDAY), startDate, endDate, DayLength.FULL);
 
-        when(workDaysCountService.getWorkDaysCount(DayLength.FULL, LocalDate.of(2014, 1, 1), endDate, person))
-            .thenReturn(BigDecimal.valueOf(2));
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(Map.of(
+            LocalDate.of(2014, 1, 1), DayLength.ZERO,
+            LocalDate.of(2014, 1, 2), DayLength.FULL,
+            LocalDate.of(2014, 1, 3), DayLength.FULL,
+            LocalDate.of(2014, 1, 4), DayLength.ZERO,
+            LocalDate.of(2014, 1, 5), DayLength.ZERO,
+            LocalDate.of(2014, 1, 6), DayLength.ZERO
+        ));
 
-        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(singletonList(holiday), 2014, workDaysCountService);
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(List.of(new ApplicationForLeave(holiday, BigDecimal.valueOf(5))), 2014, workingTimeCalendar);
 
         final UsedDays holidayDays = usedDaysOverview.getHolidayDays();
         assertThat(holidayDays.getDays())
-            .containsEntry("WAITING", BigDecimal.valueOf(2))
+            .containsEntry("WAITING", new BigDecimal("2.0"))
             .containsEntry("ALLOWED", ZERO);
 
         final UsedDays otherDays = usedDaysOverview.getOtherDays();
@@ -200,11 +199,12 @@ class UsedDaysOverviewTest {
 
         List<Application> applications = Arrays.asList(holiday, holidayTemporaryAllowed, holidayAllowed);
 
-        // just return 1 day for each application for leave
-        when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
-            any(LocalDate.class), any(Person.class))).thenReturn(ONE);
+        // just 1 day for each application for leave
+        final List<ApplicationForLeave> applicationsForLeave = applications.stream()
+            .map(application -> new ApplicationForLeave(application, ONE))
+            .collect(toList());
 
-        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCountService);
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applicationsForLeave, 2014, new WorkingTimeCalendar(Map.of()));
         assertThat(usedDaysOverview.getHolidayDays().getDays())
             .containsEntry("WAITING", ONE)
             .containsEntry("TEMPORARY_ALLOWED", ONE)
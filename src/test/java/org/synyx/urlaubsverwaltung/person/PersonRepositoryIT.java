@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.TestContainersBase;
 
@@ -277,7 +278,44 @@ class PersonRepositoryIT extends TestContainersBase {
 
         assertThat(actual.getContent()).containsExactly(mustafa);
     }
-}
 
+    @Test
+    void ensureFindByIdInAndPermissionsNotContaining() {
+
+        final Person xenia = new Person("username_1", "Basta", "xenia", "xenia@example.org");
+        xenia.setPermissions(List.of(USER));
+        final Person savedXenia = personService.create(xenia);
+
+        final Person peter = new Person("username_2", "Muster", "Peter", "peter@example.org");
+        peter.setPermissions(List.of(USER));
+        final Person savedPeter = personService.create(peter);
 
+        final Person mustafa = new Person("username_3", "Tunichtgut", "Mustafa", "mustafa@example.org");
+        mustafa.setPermissions(List.of(INACTIVE));
+        final Person savedMustafa = personService.create(mustafa);
 
+        final PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("firstName"));
+        final List<Integer> ids = List.of(savedPeter.getId(), savedMustafa.getId());
+
+        assertThat(sut.findByIdInAndPermissionsNotContaining(ids, INACTIVE, pageRequest).getContent()).containsExactly(savedPeter);
+        assertThat(sut.findByIdInAndPermissionsContaining(ids, INACTIVE, pageRequest).getContent()).containsExactly(savedMustafa);
+        assertThat(sut.findByIdInAndPermissionsNotContaining(List.of(savedXenia.getId()), INACTIVE, pageRequest).getContent()).containsExactly(savedXenia);
+    }
+
+    @Test
+    void ensureFindAllNames() {
+
+        final Person peter = new Person("username_2", "Muster", "Peter", "peter@example.org");
+        peter.setPermissions(List.of(USER));
+        final Person savedPeter = personService.create(peter);
+
+        final List<PersonSearchIndex.PersonNameProjection> names = sut.findAllNames();
+        assertThat(names)
+            .filteredOn(name -> name.getId().equals(savedPeter.getId()))
+            .singleElement()
+            .satisfies(name -> {
+                assertThat(name.getFirstName()).isEqualTo("Peter");
+                assertThat(name.getLastName()).isEqualTo("Muster");
+            });
+    }
+}
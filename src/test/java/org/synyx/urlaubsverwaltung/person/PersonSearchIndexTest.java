@@ -0,0 +1,155 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PersonSearchIndexTest {
+
+    private PersonSearchIndex sut;
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PersonSearchIndex(personRepository);
+    }
+
+    @Test
+    void ensureSearchFindsPersonsWithFirstOrLastNameContainingQueryIgnoringCase() {
+        when(personRepository.findAllNames()).thenReturn(List.of(
+            personName(1, "Marlene", "Muster"),
+            personName(2, "Max", "Mustermann"),
+            personName(3, "Bruce", "Wayne")
+        ));
+
+        assertThat(sut.search("MUSTER")).containsExactlyInAnyOrder(1, 2);
+        assertThat(sut.search("marl")).containsExactly(1);
+        assertThat(sut.search("ene mus")).isEmpty();
+        assertThat(sut.search("wayne")).containsExactly(3);
+        assertThat(sut.search("unknown")).isEmpty();
+    }
+
+    @Test
+    void ensureSearchDoesNotFindPersonsContainingOnlyTheTrigramsOfTheQuery() {
+        when(personRepository.findAllNames()).thenReturn(List.of(personName(1, "abcd", "bcde")));
+
+        assertThat(sut.search("abcde")).isEmpty();
+        assertThat(sut.search("bcd")).containsExactly(1);
+    }
+
+    @Test
+    void ensureSearchThrowsForShortQuery() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.search("mu"));
+    }
+
+    @Test
+    void ensureSearchLoadsNamesOnlyOnce() {
+        when(personRepository.findAllNames()).thenReturn(List.of(personName(1, "Marlene", "Muster")));
+
+        sut.search("muster");
+        sut.search("marlene");
+
+        verify(personRepository).findAllNames();
+    }
+
+    @Test
+    void ensureRebuildReplacesIndex() {
+        when(personRepository.findAllNames())
+            .thenReturn(List.of(personName(1, "Marlene", "Muster")))
+            .thenReturn(List.of(personName(1, "Marlene", "Muster"), personName(2, "Max", "Mustermann")));
+
+        assertThat(sut.search("muster")).containsExactly(1);
+
+        sut.rebuild();
+
+        assertThat(sut.search("muster")).containsExactlyInAnyOrder(1, 2);
+        verify(personRepository, times(2)).findAllNames();
+    }
+
+    @Test
+    void ensureRebuildKeepsChangesMadeDuringRebuild() {
+        when(personRepository.findById(2)).thenReturn(Optional.of(person(2, "Max", "Mustermann")));
+        when(personRepository.findAllNames())
+            .thenReturn(List.of(personName(1, "Marlene", "Muster")))
+            .thenAnswer(invocation -> {
+                sut.on(new PersonCreatedEvent(this, 2, "Max Mustermann", "max", "max@example.org", true));
+                return List.of(personName(1, "Marlene", "Muster"));
+            });
+
+        assertThat(sut.search("muster")).containsExactly(1);
+
+        sut.rebuild();
+
+        assertThat(sut.search("muster")).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void ensureIndexIsUpdatedOnPersonEvents() {
+        when(personRepository.findAllNames()).thenReturn(List.of(personName(1, "Marlene", "Muster")));
+        assertThat(sut.search("muster")).containsExactly(1);
+
+        when(personRepository.findById(2)).thenReturn(Optional.of(person(2, "Max", "Mustermann")));
+        sut.on(new PersonCreatedEvent(this, 2, "Max Mustermann", "max", "max@example.org", true));
+        assertThat(sut.search("muster")).containsExactlyInAnyOrder(1, 2);
+
+        when(personRepository.findById(1)).thenReturn(Optional.of(person(1, "Marlene", "Schmidt")));
+        sut.on(new PersonUpdatedEvent(this, 1, "Marlene Schmidt", "marlene", "marlene@example.org", true));
+        assertThat(sut.search("muster")).containsExactly(2);
+        assertThat(sut.search("schmidt")).containsExactly(1);
+
+        final Person max = new Person();
+        max.setId(2);
+        sut.on(new PersonDeletedEvent(max));
+        assertThat(sut.search("muster")).isEmpty();
+
+        verify(personRepository).findAllNames();
+    }
+
+    @Test
+    void ensureEventsBeforeFirstSearchAreIgnored() {
+        when(personRepository.findById(2)).thenReturn(Optional.of(person(2, "Max", "Mustermann")));
+        sut.on(new PersonCreatedEvent(this, 2, "Max Mustermann", "max", "max@example.org", true));
+
+        when(personRepository.findAllNames()).thenReturn(List.of(personName(1, "Marlene", "Muster")));
+        assertThat(sut.search("muster")).containsExactly(1);
+    }
+
+    private static Person person(Integer id, String firstName, String lastName) {
+        final Person person = new Person(firstName.toLowerCase(), lastName, firstName, firstName.toLowerCase() + "@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static PersonSearchIndex.PersonNameProjection personName(Integer id, String firstName, String lastName) {
+        return new PersonSearchIndex.PersonNameProjection() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+        };
+    }
+}
@@ -12,16 +12,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -34,7 +39,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createPerson;
@@ -61,6 +68,8 @@ class PersonServiceImplTest {
     private SecurityContext securityContext;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private PersonSearchIndex personSearchIndex;
 
     @Captor
     private ArgumentCaptor<PersonDisabledEvent> personDisabledEventArgumentCaptor;
@@ -70,12 +79,13 @@ class PersonServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new PersonServiceImpl(personRepository, accountInteractionService, workingTimeWriteService, applicationEventPublisher);
+        sut = new PersonServiceImpl(personRepository, accountInteractionService, workingTimeWriteService, applicationEventPublisher, personSearchIndex);
     }
 
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
@@ -201,6 +211,14 @@ class PersonServiceImplTest {
         verify(personRepository).findByUsername(username);
     }
 
+    @Test
+    void ensureGetPersonsByUsernamesDelegatesToRepository() {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(personRepository.findByUsernameIn(List.of("muster", "other"))).thenReturn(List.of(person));
+
+        assertThat(sut.getPersonsByUsernames(List.of("muster", "other"))).containsExactly(person);
+    }
+
     @Test
     void ensureGetPersonByMailAddressDelegatesToRepository() {
         final String mailAddress = "foo@bar.test";
@@ -238,7 +256,47 @@ class PersonServiceImplTest {
         final PageRequest pageRequest = PageRequest.of(1, 100);
         final PageableSearchQuery personPageableSearchQuery = new PageableSearchQuery(pageRequest, "name-query");
 
-        when(personRepository.findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(INACTIVE, "name-query", pageRequest)).thenReturn(expected);
+        when(personSearchIndex.search("name-query")).thenReturn(Set.of(1, 2));
+        when(personRepository.findByIdInAndPermissionsNotContaining(Set.of(1, 2), INACTIVE, pageRequest)).thenReturn(expected);
+
+        final Page<Person> actual = sut.getActivePersons(personPageableSearchQuery);
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void ensureGetActivePersonsPageWithShortQuery() {
+
+        final Page<Person> expected = Page.empty();
+        final PageRequest pageRequest = PageRequest.of(1, 100);
+        final PageableSearchQuery personPageableSearchQuery = new PageableSearchQuery(pageRequest, "mu");
+
+        when(personRepository.findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(INACTIVE, "mu", pageRequest)).thenReturn(expected);
+
+        final Page<Person> actual = sut.getActivePersons(personPageableSearchQuery);
+        assertThat(actual).isSameAs(expected);
+        verifyNoInteractions(personSearchIndex);
+    }
+
+    @Test
+    void ensureGetActivePersonsPageWithoutMatchingPersons() {
+
+        final PageRequest pageRequest = PageRequest.of(1, 100);
+        final PageableSearchQuery personPageableSearchQuery = new PageableSearchQuery(pageRequest, "name-query");
+
+        when(personSearchIndex.search("name-query")).thenReturn(Set.of());
+
+        final Page<Person> actual = sut.getActivePersons(personPageableSearchQuery);
+        assertThat(actual.getContent()).isEmpty();
+        verify(personRepository, never()).findByIdInAndPermissionsNotContaining(any(), any(), any());
+    }
+
+    @Test
+    void ensureGetActivePersonsUnpaged() {
+
+        final Page<Person> expected = Page.empty();
+        final PageableSearchQuery personPageableSearchQuery = new PageableSearchQuery(Pageable.unpaged(), "");
+
+        when(personRepository.findByPermissionsNotContainingAndByNiceNameContainingIgnoreCase(INACTIVE, "", Pageable.unpaged())).thenReturn(expected);
 
         final Page<Person> actual = sut.getActivePersons(personPageableSearchQuery);
         assertThat(actual).isSameAs(expected);
@@ -253,10 +311,26 @@ class PersonServiceImplTest {
 
         // currently a hard coded pageRequest is used in implementation
         final PageRequest pageRequestInternal = PageRequest.of(1, 100, Sort.Direction.ASC, "firstName", "lastName");
-        when(personRepository.findByPermissionsContainingAndNiceNameContainingIgnoreCase(INACTIVE, "name-query", pageRequestInternal)).thenReturn(expected);
+        when(personSearchIndex.search("name-query")).thenReturn(Set.of(1, 2));
+        when(personRepository.findByIdInAndPermissionsContaining(Set.of(1, 2), INACTIVE, pageRequestInternal)).thenReturn(expected);
+
+        final Page<Person> actual = sut.getInactivePersons(personPageableSearchQuery);
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void ensureGetInactivePersonsPageWithShortQuery() {
+
+        final Page<Person> expected = Page.empty();
+        final PageRequest pageRequest = PageRequest.of(1, 100, Sort.by(Sort.Direction.ASC, "firstName"));
+        final PageableSearchQuery personPageableSearchQuery = new PageableSearchQuery(pageRequest, "mu");
+
+        final PageRequest pageRequestInternal = PageRequest.of(1, 100, Sort.Direction.ASC, "firstName", "lastName");
+        when(personRepository.findByPermissionsContainingAndNiceNameContainingIgnoreCase(INACTIVE, "mu", pageRequestInternal)).thenReturn(expected);
 
         final Page<Person> actual = sut.getInactivePersons(personPageableSearchQuery);
         assertThat(actual).isSameAs(expected);
+        verifyNoInteractions(personSearchIndex);
     }
 
     @Test
@@ -318,6 +392,48 @@ class PersonServiceImplTest {
         assertThat(signedInUser).isEqualTo(person);
     }
 
+    @Test
+    void ensureSignedInUserIsLoadedOncePerRequest() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(personRepository.findByUsername("muster")).thenReturn(Optional.of(person));
+
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(person.getUsername());
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(sut.getSignedInUser()).isSameAs(person);
+        assertThat(sut.getSignedInUser()).isSameAs(person);
+        verify(personRepository).findByUsername("muster");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(sut.getSignedInUser()).isSameAs(person);
+        verify(personRepository, times(2)).findByUsername("muster");
+    }
+
+    @Test
+    void ensureSignedInUserIsLoadedAgainAfterUpdateInSameRequest() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1);
+        when(personRepository.findByUsername("muster")).thenReturn(Optional.of(person));
+        when(personRepository.save(person)).thenReturn(person);
+
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(person.getUsername());
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        sut.getSignedInUser();
+        sut.update(person);
+        sut.getSignedInUser();
+
+        verify(personRepository, times(2)).findByUsername("muster");
+    }
+
     @Test
     void ensureThrowsIllegalOnNullAuthentication() {
         assertThatIllegalStateException()
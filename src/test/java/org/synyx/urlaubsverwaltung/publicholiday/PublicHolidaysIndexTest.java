@@ -0,0 +1,81 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.Holiday;
+import de.focus_shift.HolidayManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.util.Map;
+
+import static de.focus_shift.ManagerParameters.create;
+import static java.time.LocalDate.of;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.NOVEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.NONE;
+
+class PublicHolidaysIndexTest {
+
+    private PublicHolidaysIndex sut;
+    private HolidayManager holidayManager;
+
+    @BeforeEach
+    void setUp() {
+        holidayManager = spy(getHolidayManager());
+        sut = new PublicHolidaysIndex(Map.of("de", holidayManager));
+    }
+
+    @Test
+    void ensureIsPublicHoliday() {
+        assertThat(sut.isPublicHoliday(of(2013, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG)).isTrue();
+        assertThat(sut.isPublicHoliday(of(2013, JANUARY, 6), GERMANY_BADEN_WUERTTEMBERG)).isTrue();
+        assertThat(sut.isPublicHoliday(of(2013, JANUARY, 6), GERMANY_BERLIN)).isFalse();
+        assertThat(sut.isPublicHoliday(of(2013, NOVEMBER, 27), GERMANY_BADEN_WUERTTEMBERG)).isFalse();
+    }
+
+    @Test
+    void ensureGetHolidays() {
+        final Holiday[] holidays = sut.getHolidays(of(2013, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG);
+        assertThat(holidays).extracting(Holiday::getDate).containsExactly(of(2013, DECEMBER, 25));
+
+        assertThat(sut.getHolidays(of(2013, NOVEMBER, 27), GERMANY_BADEN_WUERTTEMBERG)).isEmpty();
+    }
+
+    @Test
+    void ensureGetHolidaysForFederalStateWithoutHolidayManager() {
+        assertThat(sut.getHolidays(of(2013, DECEMBER, 25), NONE)).isEmpty();
+        assertThat(sut.isPublicHoliday(of(2013, DECEMBER, 25), NONE)).isFalse();
+    }
+
+    @Test
+    void ensureHolidaysOfYearAreLoadedOnlyOnce() {
+        sut.isPublicHoliday(of(2013, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG);
+        sut.isPublicHoliday(of(2013, NOVEMBER, 27), GERMANY_BADEN_WUERTTEMBERG);
+        sut.getHolidays(of(2013, JANUARY, 1), GERMANY_BADEN_WUERTTEMBERG);
+
+        verify(holidayManager, times(1)).getHolidays(2013, GERMANY_BADEN_WUERTTEMBERG.getCodes());
+    }
+
+    @Test
+    void ensureYearsSharingTheSameSlotAreReloaded() {
+        assertThat(sut.isPublicHoliday(of(2013, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG)).isTrue();
+        assertThat(sut.isPublicHoliday(of(2029, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG)).isTrue();
+        assertThat(sut.isPublicHoliday(of(2013, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG)).isTrue();
+
+        verify(holidayManager, times(2)).getHolidays(2013, GERMANY_BADEN_WUERTTEMBERG.getCodes());
+        verify(holidayManager, times(1)).getHolidays(2029, GERMANY_BADEN_WUERTTEMBERG.getCodes());
+    }
+
+    private HolidayManager getHolidayManager() {
+        final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        final URL url = cl.getResource("Holidays_de.xml");
+        return HolidayManager.getInstance(create(url));
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Objects;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SortComparatorTest {
 
@@ -177,6 +178,55 @@ class SortComparatorTest {
         );
     }
 
+    @Test
+    void ensureNullValuesOfNestedPropertiesAreBasedAtTheEnd() {
+        final Sort sort = Sort.by(Sort.Direction.ASC, "innerClass.bigDecimal");
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort);
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, "bbb", new InnerClass(BigDecimal.valueOf(2))),
+            new SomeClassToSort(3, "ccc", new InnerClass(BigDecimal.valueOf(1)))
+        );
+
+        final List<SomeClassToSort> sorted = list.stream().sorted(sut).collect(toList());
+        assertThat(sorted).containsExactly(
+            new SomeClassToSort(3, "ccc", new InnerClass(BigDecimal.valueOf(1))),
+            new SomeClassToSort(2, "bbb", new InnerClass(BigDecimal.valueOf(2))),
+            new SomeClassToSort(1, "aaa")
+        );
+    }
+
+    @Test
+    void ensureSortingWithSamePropertyPathTwice() {
+        final Sort sort = Sort.by(Sort.Direction.ASC, "integer");
+        final SortComparator<SomeClassToSort> first = new SortComparator<>(SomeClassToSort.class, sort);
+        final SortComparator<SomeClassToSort> second = new SortComparator<>(SomeClassToSort.class, sort.descending());
+
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(2, "aaa"),
+            new SomeClassToSort(1, "bbb"),
+            new SomeClassToSort(3, "ccc")
+        );
+
+        assertThat(list.stream().sorted(first).collect(toList())).extracting(SomeClassToSort::getInteger).containsExactly(1, 2, 3);
+        assertThat(list.stream().sorted(second).collect(toList())).extracting(SomeClassToSort::getInteger).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void ensureExceptionOfPropertyIsWrapped() {
+        final SortComparator<ThrowingBox> sut = new SortComparator<>(ThrowingBox.class, Sort.by("value"));
+
+        assertThatThrownBy(() -> sut.compare(new ThrowingBox(), new ThrowingBox()))
+            .isInstanceOf(SortComparatorException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    static class ThrowingBox {
+        public String getValue() {
+            throw new IllegalStateException();
+        }
+    }
+
     static class StringBox {
         private final String value;
 
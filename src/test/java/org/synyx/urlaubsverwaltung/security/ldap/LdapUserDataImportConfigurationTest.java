@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.security.ldap;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -51,4 +52,23 @@ class LdapUserDataImportConfigurationTest {
         cronTask.getRunnable().run();
         verify(importer).sync();
     }
+
+    @Test
+    void importsLdapUserDataInBackgroundOnApplicationReady() {
+
+        when(scheduleLocking.withLock(eq("LdapUserDataImporterSync"), any(Runnable.class))).thenAnswer(returnsSecondArg());
+
+        final DirectoryServiceSecurityProperties properties = new DirectoryServiceSecurityProperties();
+        final LdapUserDataImporter importer = mock(LdapUserDataImporter.class);
+        final LdapUserDataImportConfiguration sut = new LdapUserDataImportConfiguration(properties, importer, scheduleLocking, taskScheduler);
+
+        sut.syncOnApplicationReady();
+
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).execute(runnableCaptor.capture());
+        verifyNoInteractions(importer);
+
+        runnableCaptor.getValue().run();
+        verify(importer).sync();
+    }
 }
@@ -8,11 +8,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
 
+import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_USER;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
@@ -27,25 +35,50 @@ class LdapUserDataImporterTest {
     @Mock
     private PersonService personService;
 
+    private final Clock clock = Clock.fixed(Instant.parse("2022-06-01T01:00:00Z"), UTC);
+
     @BeforeEach
     void setUp() {
-        sut = new LdapUserDataImporter(ldapUserService, personService);
+        sut = new LdapUserDataImporter(ldapUserService, personService, clock);
     }
 
     @Test
-    void ensureFetchesLdapUsers() {
+    void ensureFetchesAllLdapUsersOnFirstSync() {
+
+        sut.sync();
+
+        verify(ldapUserService).forEachPageOfLdapUsers(isNull(), any());
+        verifyNoInteractions(personService);
+    }
+
+    @Test
+    void ensureFetchesLdapUsersChangedSinceLastSuccessfulSync() {
+
+        when(ldapUserService.forEachPageOfLdapUsers(isNull(), any())).thenReturn(true);
+        sut.sync();
+
+        sut.sync();
+
+        verify(ldapUserService).forEachPageOfLdapUsers(eq(Instant.parse("2022-06-01T00:00:00Z")), any());
+    }
+
+    @Test
+    void ensureFetchesAllLdapUsersAgainIfLastSyncFailed() {
+
+        when(ldapUserService.forEachPageOfLdapUsers(isNull(), any())).thenReturn(false);
+        sut.sync();
 
         sut.sync();
 
-        verify(ldapUserService).getLdapUsers();
+        verify(ldapUserService, never()).forEachPageOfLdapUsers(eq(Instant.parse("2022-06-01T00:00:00Z")), any());
     }
 
     @Test
     void ensurecreatePersonIfLdapUserNotYetExists() {
 
         final LdapUser ldapUser = new LdapUser("muster", null, null, null, List.of());
-        when(personService.getPersonByUsername(ldapUser.getUsername())).thenReturn(Optional.empty());
-        when(ldapUserService.getLdapUsers()).thenReturn(List.of(ldapUser));
+        when(personService.getPersonsByUsernames(List.of("muster"))).thenReturn(List.of());
+        mockLdapUsers(List.of(ldapUser));
 
         sut.sync();
 
@@ -57,8 +90,8 @@ class LdapUserDataImporterTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
         final LdapUser ldapUser = new LdapUser(person.getUsername(), "Vorname", "Nachname", "Email", List.of());
-        when(personService.getPersonByUsername(ldapUser.getUsername())).thenReturn(Optional.of(person));
-        when(ldapUserService.getLdapUsers()).thenReturn(List.of(ldapUser));
+        when(personService.getPersonsByUsernames(List.of("muster"))).thenReturn(List.of(person));
+        mockLdapUsers(List.of(ldapUser));
 
         sut.sync();
 
@@ -67,4 +100,48 @@ class LdapUserDataImporterTest {
         assertThat(person.getLastName()).isEqualTo("Nachname");
         verify(personService).update(person);
     }
+
+    @Test
+    void ensureDoesNotUpdatePersonIfLdapUserIsUnchanged() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final LdapUser ldapUser = new LdapUser("muster", "Marlene", "Muster", "muster@example.org", List.of());
+        when(personService.getPersonsByUsernames(List.of("muster"))).thenReturn(List.of(person));
+        mockLdapUsers(List.of(ldapUser));
+
+        sut.sync();
+
+        verify(personService, never()).update(any());
+        verify(personService, never()).create(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void ensureLoadsPersonsPerPage() {
+
+        final Person muster = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Person other = new Person("other", "Other", "Olaf", "other@example.org");
+        when(personService.getPersonsByUsernames(List.of("muster"))).thenReturn(List.of(muster));
+        when(personService.getPersonsByUsernames(List.of("other"))).thenReturn(List.of(other));
+        mockLdapUsers(
+            List.of(new LdapUser("muster", "Marlene", "Muster", "muster@example.org", List.of())),
+            List.of(new LdapUser("other", "Olaf", "Other", "olaf@example.org", List.of()))
+        );
+
+        sut.sync();
+
+        verify(personService, never()).update(muster);
+        verify(personService).update(other);
+        assertThat(other.getEmail()).isEqualTo("olaf@example.org");
+    }
+
+    @SafeVarargs
+    private void mockLdapUsers(List<LdapUser>... pages) {
+        when(ldapUserService.forEachPageOfLdapUsers(isNull(), any())).thenAnswer(invocation -> {
+            final Consumer<List<LdapUser>> pageConsumer = invocation.getArgument(1);
+            for (List<LdapUser> page : pages) {
+                pageConsumer.accept(page);
+            }
+            return true;
+        });
+    }
 }
@@ -1,19 +1,30 @@
 package org.synyx.urlaubsverwaltung.security.ldap;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ldap.core.ContextSource;
 import org.springframework.ldap.core.LdapTemplate;
-import org.springframework.ldap.query.ContainerCriteria;
 import org.synyx.urlaubsverwaltung.security.ldap.DirectoryServiceSecurityProperties.SecurityFilter;
 
+import javax.naming.Name;
+import javax.naming.NamingEnumeration;
+import javax.naming.directory.BasicAttributes;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,56 +35,115 @@ class LdapUserServiceImplTest {
     private LdapTemplate ldapTemplate;
     @Mock
     private LdapUserMapper ldapUserMapper;
+    @Mock
+    private ContextSource contextSource;
+    @Mock
+    private LdapContext ldapContext;
+
+    @BeforeEach
+    void setUp() {
+        when(ldapTemplate.getContextSource()).thenReturn(contextSource);
+        when(contextSource.getReadOnlyContext()).thenReturn(ldapContext);
+    }
 
     @Test
-    void getLdapUsersWithoutMembersOf() {
-        final SecurityFilter securityFilter = new SecurityFilter();
-        securityFilter.setMemberOf("");
-        securityFilter.setObjectClass("objectClass");
+    void getLdapUsersWithoutMembersOf() throws Exception {
+        final DirectoryServiceSecurityProperties properties = properties("");
+        mockSearchResults();
 
-        final DirectoryServiceSecurityProperties properties = new DirectoryServiceSecurityProperties();
-        properties.setFilter(securityFilter);
+        final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
+        sut.forEachPageOfLdapUsers(null, users -> {});
 
-        ArgumentCaptor<ContainerCriteria> captor = ArgumentCaptor.forClass(ContainerCriteria.class);
+        verify(ldapContext).search(any(Name.class), eq("(objectClass=objectClass)"), any(SearchControls.class));
+    }
+
+    @Test
+    void getLdapUsersWithMembersOf() throws Exception {
+        final DirectoryServiceSecurityProperties properties = properties("membersOf");
+        mockSearchResults();
 
         final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
-        sut.getLdapUsers();
+        sut.forEachPageOfLdapUsers(null, users -> {});
 
-        verify(ldapTemplate).search(captor.capture(), eq(ldapUserMapper));
-        assertThat(captor.getValue().filter().encode()).isEqualTo("(objectClass=objectClass)");
+        verify(ldapContext).search(any(Name.class), eq("(&(objectClass=objectClass)(memberOf=membersOf))"), any(SearchControls.class));
     }
 
     @Test
-    void getLdapUsersWithMembersOf() {
-        final SecurityFilter securityFilter = new SecurityFilter();
-        securityFilter.setMemberOf("membersOf");
-        securityFilter.setObjectClass("objectClass");
+    void getLdapUsersChangedSinceWithChangedAttribute() throws Exception {
+        final DirectoryServiceSecurityProperties properties = properties("membersOf");
+        properties.getSync().setChangedAttribute("modifyTimestamp");
+        mockSearchResults();
 
-        final DirectoryServiceSecurityProperties properties = new DirectoryServiceSecurityProperties();
-        properties.setFilter(securityFilter);
+        final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
+        sut.forEachPageOfLdapUsers(Instant.parse("2022-06-01T01:02:03Z"), users -> {});
+
+        verify(ldapContext).search(any(Name.class), eq("(&(objectClass=objectClass)(memberOf=membersOf)(modifyTimestamp>=20220601010203Z))"), any(SearchControls.class));
+    }
+
+    @Test
+    void getLdapUsersChangedSinceWithoutChangedAttribute() throws Exception {
+        final DirectoryServiceSecurityProperties properties = properties("");
+        mockSearchResults();
+
+        final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
+        sut.forEachPageOfLdapUsers(Instant.parse("2022-06-01T01:02:03Z"), users -> {});
+
+        verify(ldapContext).search(any(Name.class), eq("(objectClass=objectClass)"), any(SearchControls.class));
+    }
+
+    @Test
+    void ensureRequestsPagedResults() throws Exception {
+        final DirectoryServiceSecurityProperties properties = properties("");
+        properties.getSync().setPageSize(42);
+        final BasicAttributes attributes = new BasicAttributes();
+        mockSearchResults(new SearchResult("uid=muster", null, attributes));
 
-        ArgumentCaptor<ContainerCriteria> captor = ArgumentCaptor.forClass(ContainerCriteria.class);
+        final LdapUser ldapUser = new LdapUser("muster", "Marlene", "Muster", "muster@example.org", List.of());
+        when(ldapUserMapper.mapFromAttributes(attributes)).thenReturn(ldapUser);
 
+        final List<List<LdapUser>> pages = new ArrayList<>();
         final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
-        sut.getLdapUsers();
+        final boolean completed = sut.forEachPageOfLdapUsers(null, pages::add);
 
-        verify(ldapTemplate).search(captor.capture(), eq(ldapUserMapper));
-        assertThat(captor.getValue().filter().encode()).isEqualTo("(&(objectClass=objectClass)(memberOf=membersOf))");
+        assertThat(completed).isTrue();
+        assertThat(pages).containsExactly(List.of(ldapUser));
+        verify(ldapContext).setRequestControls(any());
     }
 
     @Test
-    void ensureGetLdapUsersReturnsEmptyListOnMappingError() {
+    void ensureGetLdapUsersReturnsFalseOnMappingError() throws Exception {
+        final DirectoryServiceSecurityProperties properties = properties("membersOf");
+        final BasicAttributes attributes = new BasicAttributes();
+        mockSearchResults(new SearchResult("uid=muster", null, attributes));
+
+        when(ldapUserMapper.mapFromAttributes(attributes)).thenThrow(InvalidSecurityConfigurationException.class);
+
+        final List<List<LdapUser>> pages = new ArrayList<>();
+        final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
+        final boolean completed = sut.forEachPageOfLdapUsers(null, pages::add);
+
+        assertThat(completed).isFalse();
+        assertThat(pages).isEmpty();
+    }
+
+    private static DirectoryServiceSecurityProperties properties(String memberOf) {
         final SecurityFilter securityFilter = new SecurityFilter();
-        securityFilter.setMemberOf("membersOf");
+        securityFilter.setMemberOf(memberOf);
         securityFilter.setObjectClass("objectClass");
 
         final DirectoryServiceSecurityProperties properties = new DirectoryServiceSecurityProperties();
         properties.setFilter(securityFilter);
+        return properties;
+    }
 
-        when(ldapTemplate.search(any(ContainerCriteria.class), eq(ldapUserMapper))).thenThrow(InvalidSecurityConfigurationException.class);
-
-        final LdapUserService sut = new LdapUserServiceImpl(ldapTemplate, ldapUserMapper, properties);
-        final List<LdapUser> ldapUsers = sut.getLdapUsers();
-        assertThat(ldapUsers).isEmpty();
+    @SuppressWarnings("unchecked")
+    private void mockSearchResults(SearchResult... searchResults) throws Exception {
+        final Iterator<SearchResult> iterator = List.of(searchResults).iterator();
+        final NamingEnumeration<SearchResult> results = mock(NamingEnumeration.class);
+        when(results.hasMore()).thenAnswer(invocation -> iterator.hasNext());
+        when(ldapContext.search(any(Name.class), anyString(), any(SearchControls.class))).thenReturn(results);
+        if (searchResults.length > 0) {
+            when(results.next()).thenAnswer(invocation -> iterator.next());
+        }
     }
 }
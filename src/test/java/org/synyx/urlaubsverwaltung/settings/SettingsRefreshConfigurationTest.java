@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SettingsRefreshConfigurationTest {
+
+    @Mock
+    private SettingsServiceImpl settingsService;
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Test
+    void refreshesSettingsWithGivenCronJobInterval() {
+
+        final SettingsProperties properties = new SettingsProperties();
+        final SettingsRefreshConfiguration sut = new SettingsRefreshConfiguration(properties, settingsService, taskScheduler);
+
+        final ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        sut.configureTasks(taskRegistrar);
+
+        final List<CronTask> cronTaskList = taskRegistrar.getCronTaskList();
+        assertThat(cronTaskList).hasSize(1);
+
+        verifyNoInteractions(settingsService);
+
+        final CronTask cronTask = cronTaskList.get(0);
+        assertThat(cronTask.getExpression()).isEqualTo("0 * * * * *");
+
+        cronTask.getRunnable().run();
+        verify(settingsService).refreshSettings();
+    }
+}
@@ -0,0 +1,179 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+@ExtendWith(MockitoExtension.class)
+class SettingsServiceImplTest {
+
+    private SettingsServiceImpl sut;
+
+    @Mock
+    private SettingsRepository settingsRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SettingsServiceImpl(settingsRepository, applicationEventPublisher);
+    }
+
+    @Test
+    void ensureGetSettingsLoadsSettingsOnlyOnce() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        when(settingsRepository.findById(1)).thenReturn(Optional.of(settings));
+
+        assertThat(sut.getSettings()).isEqualTo(settings);
+        assertThat(sut.getSettings()).isEqualTo(settings);
+
+        verify(settingsRepository, times(1)).findById(1);
+    }
+
+    @Test
+    void ensureGetSettingsReturnsCachedSettings() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        when(settingsRepository.findById(1)).thenReturn(Optional.of(settings));
+
+        assertThat(sut.getSettings()).isSameAs(sut.getSettings());
+    }
+
+    @Test
+    void ensureGetSettingsForUpdateReturnsCopyOfCachedSettings() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        settings.getAccountSettings().setDefaultVacationDays(20);
+        when(settingsRepository.findById(1)).thenReturn(Optional.of(settings));
+
+        final Settings changedSettings = sut.getSettingsForUpdate();
+        changedSettings.getAccountSettings().setDefaultVacationDays(30);
+        settings.getAccountSettings().setDefaultVacationDays(30);
+
+        final Settings cachedSettings = sut.getSettings();
+        assertThat(cachedSettings).isNotSameAs(changedSettings);
+        assertThat(cachedSettings.getAccountSettings().getDefaultVacationDays()).isEqualTo(20);
+        verify(settingsRepository, times(1)).findById(1);
+    }
+
+    @Test
+    void ensureGetSettingsThrowsWhenThereAreNoSettings() {
+        when(settingsRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sut.getSettings()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void ensureSaveReplacesCachedSettingsAndPublishesEvent() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        final Settings savedSettings = new Settings();
+        savedSettings.setId(1);
+        savedSettings.getAccountSettings().setDefaultVacationDays(20);
+        when(settingsRepository.save(settings)).thenReturn(savedSettings);
+
+        sut.save(settings);
+        savedSettings.getAccountSettings().setDefaultVacationDays(30);
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(20);
+        verify(settingsRepository, times(0)).findById(1);
+
+        final ArgumentCaptor<SettingsUpdatedEvent> captor = ArgumentCaptor.forClass(SettingsUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getSettings()).isSameAs(sut.getSettings());
+    }
+
+    @Test
+    void ensureSaveReplacesCachedSettingsAndPublishesEventAfterCommit() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        settings.getAccountSettings().setDefaultVacationDays(20);
+        final Settings savedSettings = new Settings();
+        savedSettings.setId(1);
+        savedSettings.getAccountSettings().setDefaultVacationDays(30);
+        when(settingsRepository.findById(1)).thenReturn(Optional.of(settings));
+        when(settingsRepository.save(savedSettings)).thenReturn(savedSettings);
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(20);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.save(savedSettings);
+
+            assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(20);
+            verifyNoInteractions(applicationEventPublisher);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(30);
+
+        final ArgumentCaptor<SettingsUpdatedEvent> captor = ArgumentCaptor.forClass(SettingsUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getSettings()).isSameAs(sut.getSettings());
+    }
+
+    @Test
+    void ensureSaveKeepsCachedSettingsAndPublishesNoEventOnRollback() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        settings.getAccountSettings().setDefaultVacationDays(20);
+        final Settings savedSettings = new Settings();
+        savedSettings.setId(1);
+        savedSettings.getAccountSettings().setDefaultVacationDays(30);
+        when(settingsRepository.findById(1)).thenReturn(Optional.of(settings));
+        when(settingsRepository.save(savedSettings)).thenReturn(savedSettings);
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(20);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.save(savedSettings);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(20);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void ensureRefreshSettingsReplacesCachedSettings() {
+        final Settings settings = new Settings();
+        settings.setId(1);
+        final Settings changedSettings = new Settings();
+        changedSettings.setId(1);
+        when(settingsRepository.findById(1)).thenReturn(Optional.of(settings), Optional.of(changedSettings));
+
+        changedSettings.getAccountSettings().setDefaultVacationDays(30);
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(24);
+
+        sut.refreshSettings();
+
+        assertThat(sut.getSettings().getAccountSettings().getDefaultVacationDays()).isEqualTo(30);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+}
@@ -1,32 +1,41 @@
 package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 
+import com.opencsv.CSVWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import static java.util.Locale.GERMAN;
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
@@ -90,8 +99,8 @@ class SickDaysStatisticsViewControllerTest {
         when(sickDaysStatisticsService.getAll(signedInUser, date, date, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod)).thenReturn("filename.csv");
+        callRealWriteCSV();
 
         perform(get("/web/sickdays/statistics/download")
             .locale(GERMAN)
@@ -127,8 +136,13 @@ class SickDaysStatisticsViewControllerTest {
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod)).thenReturn("filename.csv");
+        callRealWriteCSV();
+        doAnswer(invocation -> {
+            final CSVWriter csvWriter = invocation.getArgument(2);
+            csvWriter.writeNext(new String[]{"csv-resource"});
+            return null;
+        }).when(sickDaysDetailedStatisticsCsvExportService).writeRows(eq(filterPeriod), eq(List.of()), any(CSVWriter.class));
 
         perform(get("/web/sickdays/statistics/download")
             .locale(GERMAN)
@@ -137,7 +151,16 @@ class SickDaysStatisticsViewControllerTest {
             .param("page", "2")
             .param("size", "50")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(content().string(endsWith("csv-resource\n")));
+    }
+
+    private void callRealWriteCSV() throws IOException {
+        doCallRealMethod().when(sickDaysDetailedStatisticsCsvExportService).writeCSV(any(FilterPeriod.class), anyList(), any(HttpServletResponse.class));
+        doCallRealMethod().when(sickDaysDetailedStatisticsCsvExportService).writeCSV(any(FilterPeriod.class), anyList(), any(OutputStream.class));
+        doCallRealMethod().when(sickDaysDetailedStatisticsCsvExportService).write(any(FilterPeriod.class), anyList(), any(CSVWriter.class));
+        doCallRealMethod().when(sickDaysDetailedStatisticsCsvExportService).bom();
+        doCallRealMethod().when(sickDaysDetailedStatisticsCsvExportService).separator();
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -47,18 +48,21 @@ class SickNoteServiceImplTest {
     private SettingsService settingsService;
     @Mock
     private WorkingTimeCalendarService workingTimeCalendarService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     private final Clock fixedClock = Clock.fixed(Instant.parse("2021-06-28T00:00:00.00Z"), UTC);
 
     @BeforeEach
     void setUp() {
-        sut = new SickNoteServiceImpl(sickNoteRepository, settingsService, workingTimeCalendarService, fixedClock);
+        sut = new SickNoteServiceImpl(sickNoteRepository, settingsService, workingTimeCalendarService, applicationEventPublisher, fixedClock);
     }
 
     @Test
     void save() {
 
         final Person person = new Person();
+        person.setId(1);
         final Person applier = new Person();
         final SickNoteType sickNoteType = new SickNoteType();
         final LocalDate startDate = LocalDate.of(2022, 12, 5);
@@ -84,6 +88,10 @@ class SickNoteServiceImplTest {
 
         final SickNote actualSavedSickNote = sut.save(sickNote);
 
+        final ArgumentCaptor<SickNoteSavedEvent> eventCaptor = ArgumentCaptor.forClass(SickNoteSavedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getPersonId()).isEqualTo(1);
+
         final ArgumentCaptor<SickNoteEntity> captor = ArgumentCaptor.forClass(SickNoteEntity.class);
         verify(sickNoteRepository).save(captor.capture());
         assertThat(captor.getValue()).satisfies(entityToSave -> {
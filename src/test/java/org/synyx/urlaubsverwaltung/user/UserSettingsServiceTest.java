@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.user;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,6 +9,9 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 
@@ -15,6 +19,7 @@ import java.util.Locale;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +42,11 @@ class UserSettingsServiceTest {
         sut = new UserSettingsService(userSettingsRepository, applicationEventPublisher);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void ensureUserSettingsForPerson() {
 
@@ -186,6 +196,44 @@ class UserSettingsServiceTest {
         assertThat(actual).hasValue(Theme.DARK);
     }
 
+    @Test
+    void ensureUserSettingsForUsernameAreLoadedOncePerRequest() {
+
+        final UserSettingsEntity entity = new UserSettingsEntity();
+        entity.setTheme(Theme.DARK);
+        entity.setLocale(Locale.GERMAN);
+        when(userSettingsRepository.findByPersonUsername("username")).thenReturn(Optional.of(entity));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(sut.findThemeForUsername("username")).hasValue(Theme.DARK);
+        assertThat(sut.findLocaleForUsername("username")).hasValue(Locale.GERMAN);
+        verify(userSettingsRepository).findByPersonUsername("username");
+
+        when(userSettingsRepository.findByPersonUsername("other")).thenReturn(Optional.empty());
+        assertThat(sut.findThemeForUsername("other")).isEmpty();
+        verify(userSettingsRepository).findByPersonUsername("other");
+    }
+
+    @Test
+    void ensureUserSettingsForUsernameAreLoadedAgainAfterUpdateInSameRequest() {
+
+        final Person person = new Person();
+        person.setId(42);
+
+        final UserSettingsEntity entity = new UserSettingsEntity();
+        entity.setTheme(Theme.DARK);
+        when(userSettingsRepository.findByPersonUsername("username")).thenReturn(Optional.of(entity));
+        when(userSettingsRepository.findById(42)).thenReturn(Optional.of(entity));
+        when(userSettingsRepository.save(entity)).thenReturn(entity);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        sut.findThemeForUsername("username");
+        sut.updateUserThemePreference(person, Theme.LIGHT, null);
+        sut.findThemeForUsername("username");
+
+        verify(userSettingsRepository, times(2)).findByPersonUsername("username");
+    }
+
     @Test
     void ensureDeletionOnPersonDeletionEvent() {
         final Person person = new Person();
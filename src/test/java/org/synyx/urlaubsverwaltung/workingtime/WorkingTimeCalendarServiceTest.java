@@ -31,8 +31,10 @@ import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
@@ -415,6 +417,54 @@ class WorkingTimeCalendarServiceTest {
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(2.5));
     }
 
+    @Test
+    void getWorkDaysCountForMultiplePeriodsWithMultipleWorkingTimes() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1);
+        final Person otherPerson = new Person("other", "Other", "Otto", "other@example.org");
+        otherPerson.setId(2);
+
+        final WorkingTime workingTimeFullWeek = createWorkingTime(person, LocalDate.of(2022, 1, 1), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        final WorkingTime workingTimeHalfWeek = createWorkingTime(person, LocalDate.of(2022, 1, 17), MONDAY, TUESDAY, WEDNESDAY);
+        final WorkingTime otherWorkingTime = createWorkingTime(otherPerson, LocalDate.of(2022, 1, 1), MONDAY);
+        when(workingTimeService.getByPersons(List.of(person, otherPerson))).thenReturn(List.of(workingTimeFullWeek, workingTimeHalfWeek, otherWorkingTime));
+
+        final WorkDaysCountPeriod overBothWorkingTimes = new WorkDaysCountPeriod(FULL, LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 23), person);
+        final WorkDaysCountPeriod morning = new WorkDaysCountPeriod(MORNING, LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 10), person);
+        final WorkDaysCountPeriod otherPersonsPeriod = new WorkDaysCountPeriod(FULL, LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 23), otherPerson);
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCount = sut.getWorkDaysCount(List.of(overBothWorkingTimes, morning, otherPersonsPeriod));
+        assertThat(workDaysCount)
+            .hasSize(3)
+            .containsEntry(overBothWorkingTimes, new BigDecimal("8.0"))
+            .containsEntry(morning, new BigDecimal("0.5"))
+            .containsEntry(otherPersonsPeriod, new BigDecimal("2.0"));
+    }
+
+    @Test
+    void getWorkDaysCountForMultiplePeriodsThrowsIfWorkingTimeIsMissing() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1);
+
+        final WorkingTime workingTime = createWorkingTime(person, LocalDate.of(2022, 1, 17), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getByPersons(List.of(person))).thenReturn(List.of(workingTime));
+
+        final List<WorkDaysCountPeriod> periods = List.of(new WorkDaysCountPeriod(FULL, LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 23), person));
+        assertThatThrownBy(() -> sut.getWorkDaysCount(periods))
+            .isInstanceOf(WorkDaysCountException.class)
+            .hasMessage("No working times found for user '1' in period 10.01.2022 - 23.01.2022");
+    }
+
+    @Test
+    void getWorkDaysCountForNoPeriods() {
+        assertThat(sut.getWorkDaysCount(List.of())).isEmpty();
+        verifyNoInteractions(workingTimeService);
+    }
+
 
     private HolidayManager getHolidayManager() {
         final ClassLoader cl = Thread.currentThread().getContextClassLoader();
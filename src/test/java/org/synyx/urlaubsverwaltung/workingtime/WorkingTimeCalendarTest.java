@@ -15,6 +15,7 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class WorkingTimeCalendarTest {
 
@@ -74,6 +75,21 @@ class WorkingTimeCalendarTest {
         assertThat(sut.workingTime(application)).isEqualTo(BigDecimal.valueOf(0.5));
     }
 
+    @ParameterizedTest
+    @EnumSource(value = DayLength.class, names = {"MORNING", "NOON"})
+    void ensureWorkingTimeForApplicationHalfDayWhenWorkingHalfDay(DayLength dayLength) {
+
+        final LocalDate date = LocalDate.of(2022, 12, 24);
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of(date, DayLength.MORNING));
+
+        final Application application = new Application();
+        application.setStartDate(date);
+        application.setEndDate(date);
+        application.setDayLength(dayLength);
+
+        assertThat(sut.workingTime(application)).isEqualTo(new BigDecimal("0.5"));
+    }
+
     @Test
     void ensureWorkingTimeForLocalDateWhenWorkingFull() {
         final LocalDate from = LocalDate.of(2022, 8, 1);
@@ -99,6 +115,45 @@ class WorkingTimeCalendarTest {
         assertThat(sut.workingTime(LocalDate.of(2022, 9, 1))).isEmpty();
     }
 
+    @ParameterizedTest
+    @EnumSource(value = DayLength.class, names = {"FULL", "MORNING", "NOON"})
+    void ensureWorkDaysCountOfHalfWorkingDayIsNotDividedAgain(DayLength dayLength) {
+        final LocalDate christmasEve = LocalDate.of(2022, 12, 23);
+
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of(christmasEve, DayLength.MORNING));
+
+        assertThat(sut.workDaysCount(dayLength, christmasEve, christmasEve)).isEqualTo(new BigDecimal("0.5"));
+    }
+
+    @Test
+    void ensureWorkDaysCountOfHalfDayOnFullWorkingDay() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+        final LocalDate to = LocalDate.of(2022, 8, 31);
+
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(buildWorkingTimeByDate(from, to, date -> DayLength.FULL));
+
+        assertThat(sut.workDaysCount(DayLength.MORNING, from, from)).isEqualTo(new BigDecimal("0.5"));
+        assertThat(sut.workDaysCount(DayLength.FULL, from, from.plusDays(1))).isEqualTo(new BigDecimal("2.0"));
+        assertThat(sut.workDaysCount(DayLength.FULL, to, from)).isEqualTo(new BigDecimal("0.0"));
+    }
+
+    @Test
+    void ensureWorkDaysCountThrowsWithoutWorkingTime() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+        final LocalDate to = LocalDate.of(2022, 8, 31);
+
+        final Map<LocalDate, DayLength> workingTimeByDate = buildWorkingTimeByDate(from, to, date -> DayLength.FULL);
+        workingTimeByDate.remove(from.plusDays(5));
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThatThrownBy(() -> sut.workDaysCount(DayLength.FULL, from, from.plusDays(10))).isInstanceOf(WorkDaysCountException.class);
+        assertThatThrownBy(() -> sut.workDaysCount(DayLength.FULL, to, to.plusDays(1))).isInstanceOf(WorkDaysCountException.class);
+        assertThatThrownBy(() -> sut.workDaysCount(DayLength.FULL, from.minusDays(1), from)).isInstanceOf(WorkDaysCountException.class);
+        assertThatThrownBy(() -> sut.workDaysCount(DayLength.FULL, from.plusDays(5), from.plusDays(5))).isInstanceOf(WorkDaysCountException.class);
+        assertThat(sut.workDaysCount(DayLength.FULL, from, from.plusDays(4))).isEqualTo(new BigDecimal("5.0"));
+        assertThat(sut.workDaysCount(DayLength.FULL, from.plusDays(6), to)).isEqualTo(new BigDecimal("25.0"));
+    }
+
     @Test
     void ensureWorkingTimeForDateRangeWhenWorkingFull() {
         final LocalDate from = LocalDate.of(2022, 8, 1);
@@ -147,6 +202,62 @@ class WorkingTimeCalendarTest {
         assertThat(sut.workingTime(to, from)).isEqualTo(BigDecimal.ZERO);
     }
 
+    @Test
+    void ensureWorkingTimeForDateRangeWithMixedDayLengths() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+        final LocalDate to = LocalDate.of(2022, 8, 7);
+
+        final Map<LocalDate, DayLength> workingTimeByDate = buildWorkingTimeByDate(from, to, date -> {
+            switch (date.getDayOfWeek()) {
+                case MONDAY:
+                    return DayLength.MORNING;
+                case SATURDAY:
+                case SUNDAY:
+                    return DayLength.ZERO;
+                default:
+                    return DayLength.FULL;
+            }
+        });
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThat(sut.workingTime(from, to)).isEqualTo(new BigDecimal("4.5"));
+        assertThat(sut.workingTime(from.plusDays(1), to)).isEqualTo(BigDecimal.valueOf(4));
+        assertThat(sut.workingTimeDayLength(from)).hasValue(DayLength.MORNING);
+        assertThat(sut.workingTimeDayLength(to)).hasValue(DayLength.ZERO);
+    }
+
+    @Test
+    void ensureWorkingTimeForDateRangeExceedingTheCalendar() {
+        final LocalDate from = LocalDate.of(2022, 8, 1);
+        final LocalDate to = LocalDate.of(2022, 8, 31);
+
+        final Map<LocalDate, DayLength> workingTimeByDate = buildWorkingTimeByDate(from, to, date -> DayLength.FULL);
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThat(sut.workingTime(LocalDate.of(2022, 7, 1), LocalDate.of(2022, 8, 10))).isEqualTo(BigDecimal.valueOf(10));
+        assertThat(sut.workingTime(LocalDate.of(2022, 8, 22), LocalDate.of(2022, 12, 31))).isEqualTo(BigDecimal.valueOf(10));
+        assertThat(sut.workingTime(LocalDate.of(2022, 9, 1), LocalDate.of(2022, 9, 30))).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void ensureWorkingTimeForDatesWithoutEntry() {
+        final Map<LocalDate, DayLength> workingTimeByDate = new HashMap<>();
+        workingTimeByDate.put(LocalDate.of(2022, 8, 1), DayLength.FULL);
+        workingTimeByDate.put(LocalDate.of(2022, 8, 5), DayLength.NOON);
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+        assertThat(sut.workingTimeDayLength(LocalDate.of(2022, 8, 3))).isEmpty();
+        assertThat(sut.workingTime(LocalDate.of(2022, 8, 1), LocalDate.of(2022, 8, 5))).isEqualTo(new BigDecimal("1.5"));
+    }
+
+    @Test
+    void ensureWorkingTimeForEmptyCalendar() {
+        final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of());
+
+        assertThat(sut.workingTimeDayLength(LocalDate.of(2022, 8, 3))).isEmpty();
+        assertThat(sut.workingTime(LocalDate.of(2022, 8, 1), LocalDate.of(2022, 8, 5))).isEqualTo(BigDecimal.ZERO);
+    }
+
     private Map<LocalDate, DayLength> buildWorkingTimeByDate(LocalDate from, LocalDate to, Function<LocalDate, DayLength> dayLengthProvider) {
         Map<LocalDate, DayLength> map = new HashMap<>();
         for (LocalDate date : new DateRange(from, to)) {